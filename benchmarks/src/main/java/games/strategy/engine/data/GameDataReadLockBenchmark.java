@@ -0,0 +1,86 @@
+package games.strategy.engine.data;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Group;
+import org.openjdk.jmh.annotations.GroupThreads;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+import games.strategy.triplea.xml.BenchmarkMapGameData;
+
+/**
+ * Measures the throughput of short reads of the game data by three threads while a fourth thread repeatedly takes the
+ * write lock, with the readers taking the read lock ({@code locked}) or reading optimistically ({@code optimistic}).
+ */
+@State(Scope.Group)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class GameDataReadLockBenchmark {
+  // the work of a typical write, like performing a change
+  private static final long TOKENS_WHILE_WRITING = 500;
+  // the pause between writes
+  private static final long TOKENS_BETWEEN_WRITES = 5_000;
+
+  private GameData gameData;
+  private Territory territory;
+
+  @Setup
+  public void setUp() throws Exception {
+    gameData = BenchmarkMapGameData.REVISED.getGameData();
+    territory = gameData.getMap().getTerritory("Germany");
+  }
+
+  private int read() {
+    return territory.getUnits().getUnitCount() + gameData.getPlayerList().size();
+  }
+
+  private void write() {
+    gameData.acquireWriteLock();
+    try {
+      Blackhole.consumeCPU(TOKENS_WHILE_WRITING);
+    } finally {
+      gameData.releaseWriteLock();
+    }
+    Blackhole.consumeCPU(TOKENS_BETWEEN_WRITES);
+  }
+
+  @Benchmark
+  @Group("locked")
+  @GroupThreads(3)
+  public int lockedRead() {
+    gameData.acquireReadLock();
+    try {
+      return read();
+    } finally {
+      gameData.releaseReadLock();
+    }
+  }
+
+  @Benchmark
+  @Group("locked")
+  @GroupThreads(1)
+  public void lockedWrite() {
+    write();
+  }
+
+  @Benchmark
+  @Group("optimistic")
+  @GroupThreads(3)
+  public int optimisticRead() {
+    return gameData.readOptimistically(this::read);
+  }
+
+  @Benchmark
+  @Group("optimistic")
+  @GroupThreads(1)
+  public void optimisticWrite() {
+    write();
+  }
+}
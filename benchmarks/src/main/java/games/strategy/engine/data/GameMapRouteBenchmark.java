@@ -0,0 +1,66 @@
+package games.strategy.engine.data;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import games.strategy.triplea.delegate.Matches;
+import games.strategy.triplea.xml.BenchmarkMapGameData;
+import games.strategy.util.CollectionUtils;
+import games.strategy.util.IntegerMap;
+
+/**
+ * Measures the route and distance searches of {@link GameMap} between the first land territory of the map with a land
+ * neighbor and the land territory farthest from it over land, with and without a condition on the territories crossed.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class GameMapRouteBenchmark {
+  @Param({"REVISED", "BIG_WORLD_1942", "GLOBAL1940"})
+  public BenchmarkMapGameData map;
+
+  private GameMap gameMap;
+  private Territory start;
+  private Territory end;
+
+  @Setup
+  public void setUp() throws Exception {
+    gameMap = map.getGameData().getMap();
+    final List<Territory> landTerritories = CollectionUtils.getMatches(gameMap.getTerritories(),
+        Matches.territoryIsLand());
+    start = landTerritories.stream()
+        .filter(t -> !gameMap.getNeighbors(t, Matches.territoryIsLand()).isEmpty())
+        .findFirst()
+        .orElseThrow(() -> new IllegalStateException("no land territory with a land neighbor"));
+    final IntegerMap<Territory> distances = gameMap.getDistance(start, landTerritories, Matches.territoryIsLand());
+    end = landTerritories.stream()
+        .filter(t -> distances.getInt(t) > 0)
+        .max(Comparator.comparingInt(distances::getInt))
+        .orElseThrow(() -> new IllegalStateException("no land route from " + start));
+  }
+
+  @Benchmark
+  public Route getRoute() {
+    return gameMap.getRoute(start, end);
+  }
+
+  @Benchmark
+  public Route getLandRoute() {
+    return gameMap.getRoute(start, end, Matches.territoryIsLand());
+  }
+
+  @Benchmark
+  public int getDistance() {
+    return gameMap.getDistance(start, end);
+  }
+}
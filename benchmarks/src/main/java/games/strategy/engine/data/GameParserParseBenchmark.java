@@ -0,0 +1,85 @@
+package games.strategy.engine.data;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import com.google.common.io.ByteStreams;
+
+/**
+ * Compares the streaming parser used by {@link GameParser#parse(String, java.io.InputStream)} with the DOM parser
+ * over every game XML in the {@code game-core} test resources. The map is read into memory first so only parsing is
+ * measured; run with {@code -prof gc} to also compare the heap each parser allocates.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class GameParserParseBenchmark {
+  @Param({
+      "DelegateTest.xml",
+      "GameExample.xml",
+      "Test.xml",
+      "Total_World_War_Dec1941.xml",
+      "big_world_1942_test.xml",
+      "iron_blitz_test.xml",
+      "lhtr_test.xml",
+      "pacific_incomplete_test.xml",
+      "pact_of_steel_2_test.xml",
+      "revised_test.xml",
+      "victory_test.xml",
+      "ww2_g40_balanced.xml",
+      "ww2v3_1941_test.xml",
+      "ww2v3_1942_test.xml"})
+  public String map;
+
+  @Param({"STREAMING", "DOM"})
+  public Parser parser;
+
+  private byte[] bytes;
+
+  /**
+   * A way of parsing game XML.
+   */
+  public enum Parser {
+    STREAMING {
+      @Override
+      GameData parse(final String mapName, final InputStream stream) throws Exception {
+        return GameParser.parse(mapName, stream);
+      }
+    },
+
+    DOM {
+      @Override
+      GameData parse(final String mapName, final InputStream stream) throws Exception {
+        return GameParser.parseWithDom(mapName, stream);
+      }
+    };
+
+    abstract GameData parse(String mapName, InputStream stream) throws Exception;
+  }
+
+  @Setup
+  public void setUp() throws Exception {
+    try (InputStream is = GameParserParseBenchmark.class.getResourceAsStream("/" + map)) {
+      if (is == null) {
+        throw new IOException("map not found on the classpath: " + map);
+      }
+      bytes = ByteStreams.toByteArray(is);
+    }
+  }
+
+  @Benchmark
+  public GameData parse() throws Exception {
+    return parser.parse(map, new ByteArrayInputStream(bytes));
+  }
+}
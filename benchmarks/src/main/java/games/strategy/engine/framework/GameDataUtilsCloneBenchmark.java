@@ -0,0 +1,44 @@
+package games.strategy.engine.framework;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import games.strategy.engine.data.GameData;
+import games.strategy.triplea.xml.BenchmarkMapGameData;
+
+/**
+ * Measures {@link GameDataUtils#cloneGameData(GameData)}, which the AI and the battle calculator use to copy the game
+ * before simulating moves and battles.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class GameDataUtilsCloneBenchmark {
+  @Param({"REVISED", "BIG_WORLD_1942"})
+  public BenchmarkMapGameData map;
+
+  private GameData gameData;
+
+  @Setup
+  public void setUp() throws Exception {
+    gameData = map.getGameData();
+  }
+
+  @Benchmark
+  public GameData cloneGameData() {
+    return GameDataUtils.cloneGameData(gameData);
+  }
+
+  @Benchmark
+  public GameData cloneGameDataWithDelegates() {
+    return GameDataUtils.cloneGameData(gameData, true);
+  }
+}
@@ -0,0 +1,214 @@
+package games.strategy.engine.message;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.ObjectInput;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutput;
+import java.io.ObjectOutputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import games.strategy.engine.data.Change;
+import games.strategy.engine.data.CompositeChange;
+import games.strategy.engine.data.GameData;
+import games.strategy.engine.data.PlayerID;
+import games.strategy.engine.data.Territory;
+import games.strategy.engine.data.Unit;
+import games.strategy.engine.data.changefactory.ChangeFactory;
+import games.strategy.engine.framework.GameObjectStreamFactory;
+import games.strategy.triplea.Constants;
+import games.strategy.triplea.TripleAUnit;
+import games.strategy.triplea.xml.BenchmarkMapGameData;
+
+/**
+ * Compares the arguments of representative remote method calls written with {@link ArgumentCodec} and with Java
+ * serialization, the encoding used before the codec. The benchmark measures a round trip of the arguments of a call
+ * through a new game object stream, as each message is written, in calls per second; {@link #main(String[])} prints
+ * the size of each encoded call in bytes.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class ArgumentCodecBenchmark {
+  @Param({"CHAT_MESSAGE", "PLAYER_AND_PRIMITIVES", "TERRITORY_AND_NEIGHBORS", "UNITS", "MOVE_CHANGE",
+      "PURCHASE_CHANGE"})
+  public Call call;
+
+  @Param({"JAVA_SERIALIZATION", "ARGUMENT_CODEC"})
+  public Encoding encoding;
+
+  private GameObjectStreamFactory objectStreamFactory;
+  private Object[] arguments;
+
+  /**
+   * The arguments of a representative remote method call.
+   */
+  public enum Call {
+    CHAT_MESSAGE {
+      @Override
+      Object[] getArguments(final GameData data) {
+        return new Object[] {"a typical chat message from a player"};
+      }
+    },
+
+    PLAYER_AND_PRIMITIVES {
+      @Override
+      Object[] getArguments(final GameData data) {
+        return new Object[] {getGermans(data), Boolean.TRUE, 42};
+      }
+    },
+
+    TERRITORY_AND_NEIGHBORS {
+      @Override
+      Object[] getArguments(final GameData data) {
+        final Territory germany = getGermany(data);
+        return new Object[] {germany, new ArrayList<>(data.getMap().getNeighbors(germany))};
+      }
+    },
+
+    UNITS {
+      @Override
+      Object[] getArguments(final GameData data) {
+        return new Object[] {getInfantry(data)};
+      }
+    },
+
+    MOVE_CHANGE {
+      @Override
+      Object[] getArguments(final GameData data) {
+        final Territory germany = getGermany(data);
+        final List<Unit> infantry = getInfantry(data);
+        final CompositeChange change = new CompositeChange(
+            ChangeFactory.removeUnits(germany, infantry),
+            ChangeFactory.addUnits(data.getMap().getTerritory("Eastern Europe"), infantry));
+        for (final Unit unit : infantry) {
+          change.add(ChangeFactory.unitPropertyChange(unit, 1, TripleAUnit.ALREADY_MOVED));
+        }
+        return new Object[] {change};
+      }
+    },
+
+    PURCHASE_CHANGE {
+      @Override
+      Object[] getArguments(final GameData data) {
+        final PlayerID germans = getGermans(data);
+        final Change change = new CompositeChange(
+            ChangeFactory.changeResourcesChange(germans, data.getResourceList().getResource(Constants.PUS), -12),
+            ChangeFactory.addUnits(germans, data.getUnitTypeList().getUnitType("infantry").create(4, germans)));
+        return new Object[] {change};
+      }
+    };
+
+    abstract Object[] getArguments(GameData data);
+
+    private static PlayerID getGermans(final GameData data) {
+      return data.getPlayerList().getPlayerId("Germans");
+    }
+
+    private static Territory getGermany(final GameData data) {
+      return data.getMap().getTerritory("Germany");
+    }
+
+    private static List<Unit> getInfantry(final GameData data) {
+      return getGermany(data).getUnits().getUnits().stream()
+          .filter(unit -> unit.getType().getName().equals("infantry"))
+          .collect(Collectors.toCollection(ArrayList::new));
+    }
+  }
+
+  /**
+   * An encoding of remote method call arguments.
+   */
+  public enum Encoding {
+    JAVA_SERIALIZATION {
+      @Override
+      void write(final ObjectOutput out, final Object value) throws IOException {
+        out.writeObject(value);
+      }
+
+      @Override
+      Object read(final ObjectInput in) throws IOException, ClassNotFoundException {
+        return in.readObject();
+      }
+    },
+
+    ARGUMENT_CODEC {
+      @Override
+      void write(final ObjectOutput out, final Object value) throws IOException {
+        ArgumentCodec.write(out, value);
+      }
+
+      @Override
+      Object read(final ObjectInput in) throws IOException, ClassNotFoundException {
+        return ArgumentCodec.read(in);
+      }
+    };
+
+    abstract void write(ObjectOutput out, Object value) throws IOException;
+
+    abstract Object read(ObjectInput in) throws IOException, ClassNotFoundException;
+  }
+
+  @Setup
+  public void setUp() throws Exception {
+    final GameData gameData = BenchmarkMapGameData.REVISED.getGameData();
+    objectStreamFactory = new GameObjectStreamFactory(gameData);
+    arguments = call.getArguments(gameData);
+  }
+
+  @Benchmark
+  public Object[] roundTrip() throws IOException, ClassNotFoundException {
+    return decode(objectStreamFactory, encoding, encode(objectStreamFactory, encoding, arguments), arguments.length);
+  }
+
+  private static byte[] encode(final GameObjectStreamFactory objectStreamFactory, final Encoding encoding,
+      final Object[] arguments) throws IOException {
+    final ByteArrayOutputStream os = new ByteArrayOutputStream();
+    try (ObjectOutputStream out = objectStreamFactory.create(os)) {
+      for (final Object argument : arguments) {
+        encoding.write(out, argument);
+      }
+    }
+    return os.toByteArray();
+  }
+
+  private static Object[] decode(final GameObjectStreamFactory objectStreamFactory, final Encoding encoding,
+      final byte[] bytes, final int argumentCount) throws IOException, ClassNotFoundException {
+    try (ObjectInputStream in = objectStreamFactory.create(new ByteArrayInputStream(bytes))) {
+      final Object[] arguments = new Object[argumentCount];
+      for (int i = 0; i < argumentCount; i++) {
+        arguments[i] = encoding.read(in);
+      }
+      return arguments;
+    }
+  }
+
+  /**
+   * Prints the size in bytes of the arguments of each call written with each encoding.
+   */
+  public static void main(final String[] args) throws Exception {
+    final GameData gameData = BenchmarkMapGameData.REVISED.getGameData();
+    final GameObjectStreamFactory objectStreamFactory = new GameObjectStreamFactory(gameData);
+    System.out.println(String.format(Locale.ROOT, "%-24s %20s %20s", "call", "java (bytes)", "codec (bytes)"));
+    for (final Call call : Call.values()) {
+      final Object[] arguments = call.getArguments(gameData);
+      System.out.println(String.format(Locale.ROOT, "%-24s %20d %20d", call,
+          encode(objectStreamFactory, Encoding.JAVA_SERIALIZATION, arguments).length,
+          encode(objectStreamFactory, Encoding.ARGUMENT_CODEC, arguments).length));
+    }
+  }
+}
@@ -0,0 +1,85 @@
+package games.strategy.net.nio;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.Externalizable;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.net.InetAddress;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import games.strategy.engine.data.Change;
+import games.strategy.engine.data.GameData;
+import games.strategy.engine.data.Territory;
+import games.strategy.engine.data.changefactory.ChangeFactory;
+import games.strategy.engine.framework.GameObjectStreamFactory;
+import games.strategy.engine.framework.IGame;
+import games.strategy.engine.message.HubInvoke;
+import games.strategy.engine.message.RemoteMethodCall;
+import games.strategy.net.Node;
+import games.strategy.triplea.xml.BenchmarkMapGameData;
+
+/**
+ * Measures a round trip of a game change broadcast, the most frequent message of a network game, through the wire
+ * format {@link Encoder} writes and {@link Decoder} reads: the sending node, the message type and the externalized
+ * message, written with the game object streams.
+ *
+ * <p>
+ * The encoder and decoder themselves are bound to the sockets they serve, so the benchmark writes the same format
+ * directly rather than through them.
+ * </p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class MessageCodecBenchmark {
+  private GameObjectStreamFactory objectStreamFactory;
+  private Node from;
+  private HubInvoke message;
+  private byte[] encoded;
+
+  @Setup
+  public void setUp() throws Exception {
+    final GameData gameData = BenchmarkMapGameData.REVISED.getGameData();
+    objectStreamFactory = new GameObjectStreamFactory(gameData);
+    from = new Node("host", InetAddress.getLoopbackAddress(), 3300);
+    final Territory germany = gameData.getMap().getTerritory("Germany");
+    final Change change = ChangeFactory.addUnits(germany,
+        gameData.getUnitTypeList().getUnitType("infantry").create(3, gameData.getPlayerList().getPlayerId("Germans")));
+    message = new HubInvoke(null, false,
+        new RemoteMethodCall(IGame.GAME_MODIFICATION_CHANNEL.getName(), "gameDataChanged", new Object[] {change},
+            new Class<?>[] {Change.class}, IGame.GAME_MODIFICATION_CHANNEL.getClazz()));
+    encoded = encode();
+  }
+
+  @Benchmark
+  public byte[] encode() throws IOException {
+    final ByteArrayOutputStream os = new ByteArrayOutputStream();
+    try (ObjectOutputStream out = objectStreamFactory.create(os)) {
+      from.writeExternal(out);
+      out.write(Decoder.getType(message));
+      message.writeExternal(out);
+    }
+    return os.toByteArray();
+  }
+
+  @Benchmark
+  public Externalizable decode() throws IOException, ClassNotFoundException {
+    try (ObjectInputStream in = objectStreamFactory.create(new ByteArrayInputStream(encoded))) {
+      new Node().readExternal(in);
+      in.read();
+      final HubInvoke decoded = new HubInvoke();
+      decoded.readExternal(in);
+      return decoded;
+    }
+  }
+}
@@ -0,0 +1,79 @@
+package games.strategy.thread;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Measures the throughput of taking and releasing a shared read lock through {@link LockUtil}, the way threads take
+ * the game data read lock, with 1 to 8 threads and each lock order checking mode. With no global lock on the way to
+ * the read lock, the total throughput should grow with the number of threads unless every acquisition is checked.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class LockUtilContentionBenchmark {
+  // a little work while holding the lock, like reading a value from the game data
+  private static final long TOKENS_WHILE_HELD = 20;
+
+  @Param({"OFF", "SAMPLED", "ALWAYS"})
+  public String orderChecking;
+
+  private final Lock readLock = new ReentrantReadWriteLock().readLock();
+  private LockUtil.OrderChecking oldOrderChecking;
+
+  @Setup
+  public void setUp() {
+    oldOrderChecking = LockUtil.INSTANCE.setOrderChecking(LockUtil.OrderChecking.valueOf(orderChecking));
+  }
+
+  @TearDown
+  public void tearDown() {
+    LockUtil.INSTANCE.setOrderChecking(oldOrderChecking);
+  }
+
+  private void readLocked() {
+    LockUtil.INSTANCE.acquireLock(readLock);
+    try {
+      Blackhole.consumeCPU(TOKENS_WHILE_HELD);
+    } finally {
+      LockUtil.INSTANCE.releaseLock(readLock);
+    }
+  }
+
+  @Benchmark
+  @Threads(1)
+  public void readLock1Thread() {
+    readLocked();
+  }
+
+  @Benchmark
+  @Threads(2)
+  public void readLock2Threads() {
+    readLocked();
+  }
+
+  @Benchmark
+  @Threads(4)
+  public void readLock4Threads() {
+    readLocked();
+  }
+
+  @Benchmark
+  @Threads(8)
+  public void readLock8Threads() {
+    readLocked();
+  }
+}
@@ -0,0 +1,77 @@
+package games.strategy.triplea.ai.pro;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import games.strategy.engine.data.GameData;
+import games.strategy.engine.data.GameStep;
+import games.strategy.engine.data.PlayerID;
+import games.strategy.engine.data.Territory;
+import games.strategy.engine.framework.GameDataUtils;
+import games.strategy.triplea.TripleA;
+import games.strategy.triplea.ai.pro.data.ProTerritory;
+import games.strategy.triplea.ai.pro.simulate.ProDummyDelegateBridge;
+import games.strategy.triplea.delegate.AbstractMoveDelegate;
+import games.strategy.triplea.delegate.DelegateFinder;
+import games.strategy.triplea.xml.BenchmarkMapGameData;
+
+/**
+ * Measures the combat and non-combat move phases of the hard AI for the Germans in the first round of a revised game.
+ * The phases are run the way the AI simulates them while purchasing: against a copy of the game with a dummy delegate
+ * bridge, so no player bridge or game is needed. Each invocation starts from a fresh copy, as a phase changes it.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+public class ProAiMoveBenchmark {
+  @Param({"CombatMove", "NonCombatMove"})
+  public String phase;
+
+  private GameData gameData;
+  private ProAi proAi;
+  private AbstractMoveDelegate moveDelegate;
+
+  @Setup(Level.Trial)
+  public void setUpTrial() throws Exception {
+    gameData = BenchmarkMapGameData.REVISED.getGameData();
+    proAi = new ProAi("Germans", TripleA.PRO_COMPUTER_PLAYER_TYPE);
+  }
+
+  @Setup(Level.Invocation)
+  public void setUpInvocation() {
+    final GameData dataCopy = GameDataUtils.cloneGameDataWithoutHistory(gameData, true);
+    final PlayerID player = dataCopy.getPlayerList().getPlayerId("Germans");
+    for (final GameStep step : dataCopy.getSequence()) {
+      if (player.equals(step.getPlayerId()) && step.getName().endsWith(phase)
+          && (phase.equals("NonCombatMove") || !step.getName().endsWith("NonCombatMove"))) {
+        dataCopy.getSequence().setRoundAndStep(1, step.getDisplayName(), player);
+        break;
+      }
+    }
+    moveDelegate = DelegateFinder.moveDelegate(dataCopy);
+    moveDelegate.setDelegateBridgeAndPlayer(new ProDummyDelegateBridge(proAi, player, dataCopy));
+    proAi.getCalc().setData(dataCopy);
+    ProData.initializeSimulation(proAi, dataCopy, player);
+  }
+
+  @Benchmark
+  public Map<Territory, ProTerritory> move() {
+    return phase.equals("NonCombatMove")
+        ? new ProNonCombatMoveAi(proAi).simulateNonCombatMove(moveDelegate)
+        : new ProCombatMoveAi(proAi).doCombatMove(moveDelegate);
+  }
+}
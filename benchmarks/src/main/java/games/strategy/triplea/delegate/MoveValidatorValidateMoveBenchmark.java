@@ -0,0 +1,67 @@
+package games.strategy.triplea.delegate;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import games.strategy.engine.data.GameData;
+import games.strategy.engine.data.PlayerID;
+import games.strategy.engine.data.Route;
+import games.strategy.engine.data.Territory;
+import games.strategy.engine.data.Unit;
+import games.strategy.triplea.delegate.dataObjects.MoveValidationResult;
+import games.strategy.triplea.xml.BenchmarkMapGameData;
+
+/**
+ * Measures {@link MoveValidator#validateMove} for German combat moves from Germany into Karelia at the start of a
+ * revised game: a blitzing armour move over land and a fighter move, which must also check where the fighter can land.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class MoveValidatorValidateMoveBenchmark {
+  private GameData gameData;
+  private PlayerID germans;
+  private Route landRoute;
+  private Route airRoute;
+  private Collection<Unit> armour;
+  private Collection<Unit> fighters;
+  private final List<UndoableMove> undoableMoves = new ArrayList<>();
+
+  @Setup
+  public void setUp() throws Exception {
+    gameData = BenchmarkMapGameData.REVISED.getGameData();
+    germans = gameData.getPlayerList().getPlayerId("Germans");
+    final Territory germany = gameData.getMap().getTerritory("Germany");
+    final Territory karelia = gameData.getMap().getTerritory("Karelia S.S.R.");
+    landRoute = gameData.getMap().getRoute(germany, karelia, Matches.territoryIsLand());
+    airRoute = gameData.getMap().getRoute(germany, karelia);
+    armour = germany.getUnits().getMatches(Matches.unitIsOwnedBy(germans).and(Matches.unitIsLand())
+        .and(Matches.unitCanBlitz()));
+    fighters = germany.getUnits().getMatches(Matches.unitIsOwnedBy(germans).and(Matches.unitIsAir())
+        .and(Matches.unitCanLandOnCarrier()));
+  }
+
+  @Benchmark
+  public MoveValidationResult validateLandMove() {
+    return MoveValidator.validateMove(armour, landRoute, germans, Collections.emptyList(), new HashMap<>(), false,
+        undoableMoves, gameData);
+  }
+
+  @Benchmark
+  public MoveValidationResult validateAirMove() {
+    return MoveValidator.validateMove(fighters, airRoute, germans, Collections.emptyList(), new HashMap<>(), false,
+        undoableMoves, gameData);
+  }
+}
@@ -0,0 +1,62 @@
+package games.strategy.triplea.oddsCalculator.ta;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import games.strategy.engine.data.GameData;
+import games.strategy.engine.data.PlayerID;
+import games.strategy.engine.data.Territory;
+import games.strategy.engine.data.Unit;
+import games.strategy.triplea.delegate.TerritoryEffectHelper;
+import games.strategy.triplea.xml.BenchmarkMapGameData;
+
+/**
+ * Measures {@link OddsCalculator#calculate()} for a Russian attack on Germany at the start of a revised game, which
+ * is the kind of battle the AI evaluates many times a turn.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class OddsCalculatorCalculateBenchmark {
+  @Param({"100", "1000"})
+  public int runCount;
+
+  private OddsCalculator calculator;
+
+  @Setup
+  public void setUp() throws Exception {
+    final GameData gameData = BenchmarkMapGameData.REVISED.getGameData();
+    final PlayerID russians = gameData.getPlayerList().getPlayerId("Russians");
+    final PlayerID germans = gameData.getPlayerList().getPlayerId("Germans");
+    final Territory germany = gameData.getMap().getTerritory("Germany");
+    final List<Unit> attackingUnits = new ArrayList<>();
+    attackingUnits.addAll(gameData.getUnitTypeList().getUnitType("infantry").create(8, russians));
+    attackingUnits.addAll(gameData.getUnitTypeList().getUnitType("armour").create(4, russians));
+    attackingUnits.addAll(gameData.getUnitTypeList().getUnitType("fighter").create(2, russians));
+    calculator = new OddsCalculator(gameData);
+    calculator.setCalculateData(russians, germans, germany, attackingUnits, germany.getUnits().getUnits(),
+        Collections.emptyList(), TerritoryEffectHelper.getEffects(germany), runCount);
+  }
+
+  @TearDown
+  public void tearDown() {
+    calculator.shutdown();
+  }
+
+  @Benchmark
+  public AggregateResults calculate() {
+    return calculator.calculate();
+  }
+}
@@ -0,0 +1,52 @@
+package games.strategy.triplea.xml;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+
+import com.google.common.io.ByteStreams;
+
+import games.strategy.engine.data.GameData;
+import games.strategy.engine.data.GameParser;
+
+/**
+ * The maps the benchmarks are run against, from the smallest to the largest. They are the maps bundled for the
+ * {@code game-core} tests, which the build adds to the benchmark resources.
+ */
+public enum BenchmarkMapGameData {
+  REVISED("revised_test.xml"),
+
+  BIG_WORLD_1942("big_world_1942_test.xml"),
+
+  GLOBAL1940("ww2_g40_balanced.xml");
+
+  private final String fileName;
+
+  BenchmarkMapGameData(final String fileName) {
+    this.fileName = fileName;
+  }
+
+  @Override
+  public String toString() {
+    return fileName;
+  }
+
+  /**
+   * Reads the XML of the map.
+   */
+  public byte[] getBytes() throws IOException {
+    try (InputStream is = BenchmarkMapGameData.class.getResourceAsStream("/" + fileName)) {
+      if (is == null) {
+        throw new IOException("map not found on the classpath: " + fileName);
+      }
+      return ByteStreams.toByteArray(is);
+    }
+  }
+
+  /**
+   * Parses the game data of the map.
+   */
+  public GameData getGameData() throws Exception {
+    return GameParser.parse(fileName, new ByteArrayInputStream(getBytes()));
+  }
+}
@@ -15,6 +15,7 @@ import javax.swing.SwingUtilities;
 import javax.swing.WindowConstants;
 
 import games.strategy.engine.framework.lookandfeel.LookAndFeelSwingFrameListener;
+import games.strategy.performance.LockProfiler;
 import games.strategy.triplea.settings.ClientSetting;
 import games.strategy.ui.SwingAction;
 
@@ -42,6 +43,7 @@ public abstract class GenericConsole extends JFrame {
     actions.add(threadDiagnoseAction);
     actions.add(SwingAction.of("Memory", e -> append(DebugUtils.getMemory())));
     actions.add(SwingAction.of("Properties", e -> append(DebugUtils.getProperties())));
+    actions.add(SwingAction.of("Lock Profile", e -> append(LockProfiler.getInstance().getReport())));
     actions.add(SwingAction.of("Copy to clipboard", e -> {
       final String text = textArea.getText();
       final StringSelection select = new StringSelection(text);
@@ -48,7 +48,7 @@ public class ChatController implements IChatController {
     }
   };
 
-  static RemoteName getChatControlerRemoteName(final String chatName) {
+  public static RemoteName getChatControlerRemoteName(final String chatName) {
     return new RemoteName(CHAT_REMOTE + chatName, IChatController.class);
   }
 
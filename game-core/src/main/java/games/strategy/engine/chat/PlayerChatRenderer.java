@@ -15,6 +15,7 @@ import javax.swing.SwingConstants;
 
 import com.google.common.base.Joiner;
 
+import games.strategy.engine.data.GameData;
 import games.strategy.engine.data.PlayerList;
 import games.strategy.engine.data.PlayerManager;
 import games.strategy.engine.framework.IGame;
@@ -58,13 +59,8 @@ public class PlayerChatRenderer extends DefaultListCellRenderer {
 
   private void setIconMap() {
     final PlayerManager playerManager = game.getPlayerManager();
-    PlayerList playerList;
-    game.getData().acquireReadLock();
-    try {
-      playerList = game.getData().getPlayerList();
-    } finally {
-      game.getData().releaseReadLock();
-    }
+    final GameData data = game.getData();
+    final PlayerList playerList = data.readOptimistically(data::getPlayerList);
     // new HashSet removes duplicates
     for (final INode playerNode : new HashSet<>(playerManager.getPlayerMapping().values())) {
       final Set<String> players = playerManager.getPlayedBy(playerNode);
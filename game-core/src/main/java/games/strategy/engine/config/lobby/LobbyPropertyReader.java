@@ -26,6 +26,21 @@ public final class LobbyPropertyReader {
     this.propertyReader = propertyReader;
   }
 
+  /**
+   * Returns a reader for a lobby configuration that sets no property, e.g. for a lobby run by a load test, so every
+   * property has its default value.
+   */
+  public static LobbyPropertyReader withDefaults() {
+    return new LobbyPropertyReader(key -> "");
+  }
+
+  /**
+   * Returns the port of the loopback interface on which the lobby serves its metrics, or 0 if it does not.
+   */
+  public int getMetricsPort() {
+    return propertyReader.readIntegerPropertyOrDefault(PropertyKeys.METRICS_PORT, DefaultValues.METRICS_PORT);
+  }
+
   public int getPort() {
     return propertyReader.readIntegerPropertyOrDefault(PropertyKeys.PORT, DefaultValues.PORT);
   }
@@ -60,6 +75,7 @@ public final class LobbyPropertyReader {
   @VisibleForTesting
   public interface PropertyKeys {
     String MAINTENANCE_MODE = "maintenance_mode";
+    String METRICS_PORT = "metrics_port";
     String PORT = "port";
     String POSTGRES_DATABASE = "postgres_database";
     String POSTGRES_HOST = "postgres_host";
@@ -71,6 +87,7 @@ public final class LobbyPropertyReader {
   @VisibleForTesting
   interface DefaultValues {
     boolean MAINTENANCE_MODE = false;
+    int METRICS_PORT = 0;
     int PORT = 3304;
     String POSTGRES_DATABASE = "ta_users";
     String POSTGRES_HOST = "localhost";
@@ -3,12 +3,16 @@ package games.strategy.engine.data;
 import java.util.Collection;
 import java.util.Set;
 
+import com.google.common.collect.Sets;
+
+import games.strategy.engine.data.ChangeTracker.Aspect;
 import games.strategy.triplea.TripleAUnit;
 import games.strategy.util.CollectionUtils;
 import games.strategy.util.IntegerMap;
 
 public class BombingUnitDamageChange extends Change {
   private static final long serialVersionUID = -6425858423179501847L;
+  private static final Set<Aspect> TOUCHED_ASPECTS = Sets.immutableEnumSet(Aspect.UNITS);
   private final IntegerMap<Unit> hits;
   private final IntegerMap<Unit> undoHits;
 
@@ -47,6 +51,11 @@ public class BombingUnitDamageChange extends Change {
     }
   }
 
+  @Override
+  protected Set<Aspect> getTouchedAspects() {
+    return TOUCHED_ASPECTS;
+  }
+
   @Override
   public Change invert() {
     return new BombingUnitDamageChange(undoHits, hits);
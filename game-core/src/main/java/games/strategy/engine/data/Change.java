@@ -1,6 +1,14 @@
 package games.strategy.engine.data;
 
 import java.io.Serializable;
+import java.util.EnumSet;
+import java.util.Set;
+
+import javax.annotation.Nullable;
+
+import com.google.common.collect.Sets;
+
+import games.strategy.engine.data.ChangeTracker.Aspect;
 
 /**
  * Not an interface because we want the perform() method to be protected.
@@ -14,9 +22,26 @@ import java.io.Serializable;
  */
 public abstract class Change implements Serializable {
   private static final long serialVersionUID = -5563487769423328606L;
+  private static final Set<Aspect> ALL_ASPECTS = Sets.immutableEnumSet(EnumSet.allOf(Aspect.class));
 
   protected abstract void perform(GameData data);
 
+  /**
+   * Returns the aspects of the game data touched by this change, used to maintain the {@link ChangeTracker} of the
+   * game data. The default implementation conservatively reports every aspect.
+   */
+  protected Set<Aspect> getTouchedAspects() {
+    return ALL_ASPECTS;
+  }
+
+  /**
+   * Returns the name of the attachment property changed by this change, or {@code null} if this change does not
+   * change an attachment property.
+   */
+  protected @Nullable String getTouchedAttachmentProperty() {
+    return null;
+  }
+
   public abstract Change invert();
 
   public boolean isEmpty() {
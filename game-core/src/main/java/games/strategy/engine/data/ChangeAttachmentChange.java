@@ -1,12 +1,21 @@
 package games.strategy.engine.data;
 
+import java.util.Set;
+
+import com.google.common.collect.Sets;
+
+import games.strategy.engine.data.ChangeTracker.Aspect;
+
 public class ChangeAttachmentChange extends Change {
   private static final long serialVersionUID = -6447264150952218283L;
+  private static final Set<Aspect> TOUCHED_ASPECTS = Sets.immutableEnumSet(Aspect.ATTACHMENTS);
   private final Attachable attachedTo;
   private final String attachmentName;
   private final Object newValue;
   private final Object oldValue;
   private final String property;
+  // identifies the property without a lookup by name; stale if recorded by another engine version
+  private final int propertyOrdinal;
   private boolean clearFirst = false;
 
   public Attachable getAttachedTo() {
@@ -17,6 +26,10 @@ public class ChangeAttachmentChange extends Change {
     return attachmentName;
   }
 
+  public String getProperty() {
+    return property;
+  }
+
   /**
    * @param attachment An attachment object which we will update via reflexion
    * @param newValue The new value for the property
@@ -28,7 +41,8 @@ public class ChangeAttachmentChange extends Change {
     }
     attachedTo = attachment.getAttachedTo();
     attachmentName = attachment.getName();
-    oldValue = attachment.getPropertyOrThrow(property).getValue();
+    propertyOrdinal = getPropertyOrdinal(attachment, property);
+    oldValue = attachment.getPropertyOrThrow(propertyOrdinal, property).getValue();
     this.newValue = newValue;
     this.property = property;
   }
@@ -46,7 +60,8 @@ public class ChangeAttachmentChange extends Change {
     attachedTo = attachment.getAttachedTo();
     clearFirst = resetFirst;
     attachmentName = attachment.getName();
-    oldValue = attachment.getPropertyOrThrow(property).getValue();
+    propertyOrdinal = getPropertyOrdinal(attachment, property);
+    oldValue = attachment.getPropertyOrThrow(propertyOrdinal, property).getValue();
     this.newValue = newValue;
     this.property = property;
   }
@@ -63,13 +78,29 @@ public class ChangeAttachmentChange extends Change {
     this.newValue = newValue;
     this.oldValue = oldValue;
     this.property = property;
+    propertyOrdinal = getPropertyOrdinal(attachTo.getAttachment(attachmentName), property);
     clearFirst = resetFirst;
   }
 
+  private ChangeAttachmentChange(final Attachable attachTo, final String attachmentName, final Object newValue,
+      final Object oldValue, final String property, final int propertyOrdinal, final boolean resetFirst) {
+    this.attachmentName = attachmentName;
+    attachedTo = attachTo;
+    this.newValue = newValue;
+    this.oldValue = oldValue;
+    this.property = property;
+    this.propertyOrdinal = propertyOrdinal;
+    clearFirst = resetFirst;
+  }
+
+  private static int getPropertyOrdinal(final IAttachment attachment, final String property) {
+    return (attachment != null) ? attachment.getPropertyTable().getOrdinal(property) : PropertyTable.UNKNOWN_ORDINAL;
+  }
+
   @Override
   public void perform(final GameData data) {
     final IAttachment attachment = attachedTo.getAttachment(attachmentName);
-    final MutableProperty<?> attachmentProperty = attachment.getPropertyOrThrow(property);
+    final MutableProperty<?> attachmentProperty = attachment.getPropertyOrThrow(propertyOrdinal, property);
     if (clearFirst) {
       attachmentProperty.resetValue();
     }
@@ -84,9 +115,20 @@ public class ChangeAttachmentChange extends Change {
     }
   }
 
+  @Override
+  protected Set<Aspect> getTouchedAspects() {
+    return TOUCHED_ASPECTS;
+  }
+
+  @Override
+  protected String getTouchedAttachmentProperty() {
+    return property;
+  }
+
   @Override
   public Change invert() {
-    return new ChangeAttachmentChange(attachedTo, attachmentName, oldValue, newValue, property, clearFirst);
+    return new ChangeAttachmentChange(
+        attachedTo, attachmentName, oldValue, newValue, property, propertyOrdinal, clearFirst);
   }
 
   @Override
@@ -0,0 +1,106 @@
+package games.strategy.engine.data;
+
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+import javax.annotation.Nullable;
+import javax.annotation.concurrent.ThreadSafe;
+
+/**
+ * Keeps a version counter per {@link Aspect} of the game data, incremented every time a change touching that aspect
+ * is performed, and every time the game data is modified directly (e.g. by {@link Territory#setOwner(PlayerID)}).
+ *
+ * <p>
+ * Callers that derive values from the game data (e.g. the result of testing a condition) can remember the versions of
+ * the aspects they read and reuse the derived value for as long as those versions are unchanged.
+ * </p>
+ */
+@ThreadSafe
+public final class ChangeTracker {
+  /**
+   * The parts of the game data that a change may touch.
+   */
+  public enum Aspect {
+    TERRITORY_OWNERSHIP, UNITS, RESOURCES, RELATIONSHIPS, TECHNOLOGY, BATTLE_RECORDS, GAME_PROPERTIES,
+    /** Any attachment property, or the set of attachments attached to an attachable. */
+    ATTACHMENTS,
+    /** The set of attachments attached to an attachable. */
+    ATTACHMENT_STRUCTURE,
+    /** Anything not covered by another aspect (e.g. production frontiers). */
+    OTHER
+  }
+
+  private final AtomicLongArray versions = new AtomicLongArray(Aspect.values().length);
+  private final Map<String, AtomicLong> attachmentPropertyVersions = new ConcurrentHashMap<>();
+  private volatile @Nullable Thread changingThread;
+
+  /**
+   * Returns the current version of the specified aspect.
+   */
+  public long getVersion(final Aspect aspect) {
+    return versions.get(aspect.ordinal());
+  }
+
+  /**
+   * Returns the sum of the current versions of the specified aspects. Because versions never decrease, the sum changes
+   * if and only if at least one of the aspects has changed.
+   */
+  public long getVersion(final Set<Aspect> aspects) {
+    long version = 0;
+    for (final Aspect aspect : aspects) {
+      version += getVersion(aspect);
+    }
+    return version;
+  }
+
+  /**
+   * Returns the number of times an attachment property with the specified name has been changed or reset.
+   */
+  public long getAttachmentPropertyVersion(final String property) {
+    final AtomicLong version = attachmentPropertyVersions.get(property);
+    return (version == null) ? 0 : version.get();
+  }
+
+  /**
+   * Records a direct modification of the specified aspect, i.e. one made without performing a {@link Change}. The
+   * modifications made by a change while it is performed are not recorded; the change records the aspects it touches.
+   */
+  public void recordModification(final Aspect aspect) {
+    if (changingThread != Thread.currentThread()) {
+      increment(aspect);
+    }
+  }
+
+  /**
+   * Performs the specified change on the specified game data and records it. Must be called while holding the write
+   * lock of the game data.
+   */
+  void performChange(final Change change, final GameData data) {
+    changingThread = Thread.currentThread();
+    try {
+      change.perform(data);
+    } finally {
+      changingThread = null;
+    }
+    recordChange(change);
+  }
+
+  private void recordChange(final Change change) {
+    if (change instanceof CompositeChange) {
+      ((CompositeChange) change).getChanges().forEach(this::recordChange);
+      return;
+    }
+    final String attachmentProperty = change.getTouchedAttachmentProperty();
+    if (attachmentProperty != null) {
+      attachmentPropertyVersions.computeIfAbsent(attachmentProperty, k -> new AtomicLong()).incrementAndGet();
+    }
+    change.getTouchedAspects().forEach(this::increment);
+  }
+
+  private void increment(final Aspect aspect) {
+    versions.incrementAndGet(aspect.ordinal());
+  }
+}
@@ -0,0 +1,71 @@
+package games.strategy.engine.data;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import javax.annotation.concurrent.ThreadSafe;
+
+/**
+ * Tracks the territories of a map that hold units of a player other than the territory owner, so the territories where
+ * a battle may have to be fought are found without testing every territory of the map.
+ *
+ * <p>
+ * The index does not depend on the relationships between players, which may change during a game without any change
+ * to units or territories. It is therefore a superset of the territories where hostile units meet or units sit in
+ * enemy territory, and callers must still test each territory it returns.
+ * </p>
+ */
+@ThreadSafe
+final class ContestedTerritoryIndex {
+  private final List<Territory> territories;
+  private final Map<Territory, Integer> positions;
+  private final BitSet contested;
+
+  ContestedTerritoryIndex(final List<Territory> territories) {
+    this.territories = new ArrayList<>(territories);
+    positions = new HashMap<>(territories.size() * 4 / 3 + 1);
+    contested = new BitSet(territories.size());
+    for (int i = 0; i < territories.size(); i++) {
+      final Territory territory = territories.get(i);
+      positions.put(territory, i);
+      contested.set(i, isContested(territory));
+    }
+  }
+
+  private static boolean isContested(final Territory territory) {
+    final PlayerID territoryOwner = territory.getOwner();
+    return territory.getUnits().anyMatch(owner -> !owner.equals(territoryOwner), unitType -> true);
+  }
+
+  /**
+   * Indicates whether this index was built for the specified territories; it must be rebuilt after territories are
+   * added to the map.
+   */
+  boolean isFor(final List<Territory> territories) {
+    return this.territories.size() == territories.size();
+  }
+
+  /**
+   * Must be called after the units or the owner of the specified territory have changed.
+   */
+  synchronized void update(final Territory territory) {
+    final Integer position = positions.get(territory);
+    if (position != null) {
+      contested.set(position, isContested(territory));
+    }
+  }
+
+  /**
+   * Returns the contested territories in the order they appear on the map.
+   */
+  synchronized List<Territory> getContestedTerritories() {
+    final List<Territory> result = new ArrayList<>(contested.cardinality());
+    for (int i = contested.nextSetBit(0); i >= 0; i = contested.nextSetBit(i + 1)) {
+      result.add(territories.get(i));
+    }
+    return result;
+  }
+}
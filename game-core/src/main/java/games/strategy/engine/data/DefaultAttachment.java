@@ -1,5 +1,6 @@
 package games.strategy.engine.data;
 
+import static com.google.common.base.Preconditions.checkElementIndex;
 import static com.google.common.base.Preconditions.checkNotNull;
 
 import java.util.Objects;
@@ -27,6 +28,10 @@ public abstract class DefaultAttachment extends GameDataComponent implements IAt
   private Attachable m_attachedTo;
   @InternalDoNotExport
   private String m_name;
+  // the properties returned by getPropertyMap(), in ordinal order; built on first use because they are bound to this
+  // attachment and building them for every access is costly for attachments with many properties
+  @InternalDoNotExport
+  private transient volatile MutableProperty<?>[] properties;
 
   protected DefaultAttachment(final String name, final Attachable attachable, final GameData gameData) {
     super(gameData);
@@ -96,6 +101,31 @@ public abstract class DefaultAttachment extends GameDataComponent implements IAt
         .orElse(null);
   }
 
+  private MutableProperty<?>[] getProperties() {
+    MutableProperty<?>[] result = properties;
+    if (result == null) {
+      result = getPropertyMap().values().toArray(new MutableProperty<?>[0]);
+      properties = result;
+    }
+    return result;
+  }
+
+  @Override
+  public Optional<MutableProperty<?>> getProperty(final String name) {
+    checkNotNull(name);
+
+    final int ordinal = getPropertyTable().getOrdinal(name);
+    return (ordinal == PropertyTable.UNKNOWN_ORDINAL) ? Optional.empty() : Optional.of(getProperties()[ordinal]);
+  }
+
+  @Override
+  public MutableProperty<?> getPropertyOrThrow(final int ordinal) {
+    final MutableProperty<?>[] properties = getProperties();
+    checkElementIndex(ordinal, properties.length);
+
+    return properties[ordinal];
+  }
+
   @Override
   public Attachable getAttachedTo() {
     return m_attachedTo;
@@ -1,10 +1,13 @@
 package games.strategy.engine.data;
 
+import static com.google.common.base.Preconditions.checkElementIndex;
 import static com.google.common.base.Preconditions.checkNotNull;
 
 import java.util.Map;
 import java.util.Optional;
 
+import com.google.common.collect.Iterables;
+
 /**
  * An interface to implement by objects that are dynamically being modified.
  * This will most likely be related to XML-specific options.
@@ -50,4 +53,45 @@ public interface DynamicallyModifiable {
     return getProperty(name)
         .orElseThrow(() -> new IllegalArgumentException("unknown property named '" + name + "'"));
   }
+
+  /**
+   * Gets the table assigning an ordinal to each property supported by this object. The table is shared by all
+   * instances of the same class.
+   */
+  default PropertyTable getPropertyTable() {
+    return PropertyTable.of(this);
+  }
+
+  /**
+   * Gets the property with the specified ordinal.
+   *
+   * @param ordinal The property ordinal; see {@link #getPropertyTable()}.
+   *
+   * @return The property with the specified ordinal.
+   *
+   * @throws IndexOutOfBoundsException If the property doesn't exist.
+   */
+  default MutableProperty<?> getPropertyOrThrow(final int ordinal) {
+    checkElementIndex(ordinal, getPropertyTable().size());
+
+    return Iterables.get(getPropertyMap().values(), ordinal);
+  }
+
+  /**
+   * Gets the property with the specified ordinal, falling back to looking up the property by name if the ordinal does
+   * not identify a property with the specified name (e.g. because the ordinal was recorded by another version of the
+   * engine), or throws an exception if it does not exist.
+   *
+   * @param ordinal The property ordinal or {@link PropertyTable#UNKNOWN_ORDINAL}.
+   * @param name The property name.
+   *
+   * @return The requested property.
+   *
+   * @throws IllegalArgumentException If the property doesn't exist.
+   */
+  default MutableProperty<?> getPropertyOrThrow(final int ordinal, final String name) {
+    checkNotNull(name);
+
+    return getPropertyTable().matches(ordinal, name) ? getPropertyOrThrow(ordinal) : getPropertyOrThrow(name);
+  }
 }
@@ -1,5 +1,7 @@
 package games.strategy.engine.data;
 
+import static com.google.common.base.Preconditions.checkNotNull;
+
 import java.io.IOException;
 import java.io.ObjectInputStream;
 import java.io.Serializable;
@@ -14,7 +16,10 @@ import java.util.UUID;
 import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.locks.ReadWriteLock;
 import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.concurrent.locks.StampedLock;
+import java.util.function.Supplier;
 
+import javax.annotation.Nullable;
 import javax.swing.SwingUtilities;
 
 import com.google.common.base.MoreObjects;
@@ -28,6 +33,7 @@ import games.strategy.engine.framework.IGameLoader;
 import games.strategy.engine.framework.message.PlayerListing;
 import games.strategy.engine.history.History;
 import games.strategy.io.IoUtils;
+import games.strategy.performance.LockProfiler;
 import games.strategy.thread.LockUtil;
 import games.strategy.triplea.ResourceLoader;
 import games.strategy.util.Tuple;
@@ -73,8 +79,14 @@ import games.strategy.util.Version;
 public class GameData implements Serializable {
   private static final long serialVersionUID = -2612710634080125728L;
   public static final String GAME_UUID = "GAME_UUID";
+  private static final LockProfiler lockProfiler = LockProfiler.getInstance();
   private final ReadWriteLock readWriteLock = new ReentrantReadWriteLock();
   private transient LockUtil lockUtil = LockUtil.INSTANCE;
+  // write locked whenever the write lock is held, so optimistic readers can tell whether a write happened
+  private transient StampedLock writeStamps = new StampedLock();
+  // only accessed by the thread holding the write lock
+  private transient int writeLockHoldCount;
+  private transient long writeStamp;
   private transient volatile boolean forceInSwingEventThread = false;
   private String gameName;
   private Version gameVersion;
@@ -105,6 +117,8 @@ public class GameData implements Serializable {
   private IGameLoader loader;
   private History gameHistory = new History(this);
   private transient volatile boolean testLockIsHeld = false;
+  private transient volatile ChangeTracker changeTracker;
+  private transient volatile @Nullable ContestedTerritoryIndex contestedTerritoryIndex;
   private final List<Tuple<IAttachment, ArrayList<Tuple<String, String>>>> attachmentOrderAndValues =
       new ArrayList<>();
   // TODO: change to Map/HashMap upon next incompatible release
@@ -121,6 +135,7 @@ public class GameData implements Serializable {
   private void readObject(final ObjectInputStream in) throws IOException, ClassNotFoundException {
     in.defaultReadObject();
     lockUtil = LockUtil.INSTANCE;
+    writeStamps = new StampedLock();
   }
 
   /**
@@ -302,17 +317,48 @@ public class GameData implements Serializable {
   }
 
   void notifyTerritoryUnitsChanged(final Territory t) {
+    updateContestedTerritoryIndex(t);
     territoryListeners.forEach(territoryListener -> territoryListener.unitsChanged(t));
   }
 
   void notifyTerritoryAttachmentChanged(final Territory t) {
+    getChangeTracker().recordModification(ChangeTracker.Aspect.ATTACHMENTS);
     territoryListeners.forEach(territoryListener -> territoryListener.attachmentChanged(t));
   }
 
   void notifyTerritoryOwnerChanged(final Territory t) {
+    getChangeTracker().recordModification(ChangeTracker.Aspect.TERRITORY_OWNERSHIP);
+    updateContestedTerritoryIndex(t);
     territoryListeners.forEach(territoryListener -> territoryListener.ownerChanged(t));
   }
 
+  private void updateContestedTerritoryIndex(final Territory t) {
+    final @Nullable ContestedTerritoryIndex index = contestedTerritoryIndex;
+    if (index != null) {
+      index.update(t);
+    }
+  }
+
+  /**
+   * Returns, in map order, the territories that hold units of a player other than the territory owner. Every territory
+   * with hostile units in it, or with units in enemy territory, is among them; as they are found without regard to the
+   * relationships between players, callers must still test the territories returned.
+   *
+   * <p>
+   * The territories are tracked as units move and territories change hands, so this costs time proportional to the
+   * number of contested territories rather than to the size of the map.
+   * </p>
+   */
+  public List<Territory> getContestedTerritories() {
+    final List<Territory> territories = map.getTerritories();
+    @Nullable ContestedTerritoryIndex index = contestedTerritoryIndex;
+    if (index == null || !index.isFor(territories)) {
+      index = new ContestedTerritoryIndex(territories);
+      contestedTerritoryIndex = index;
+    }
+    return index.getContestedTerritories();
+  }
+
   void notifyGameDataChanged(final Change change) {
     dataChangeListeners.forEach(dataChangelistener -> dataChangelistener.gameDataChanged(change));
   }
@@ -390,7 +436,13 @@ public class GameData implements Serializable {
     if (readWriteLockMissing()) {
       return;
     }
+    // only read the clock while profiling; the AI and the battle calculator take these locks very often
+    final boolean profiled = lockProfiler.isEnabled();
+    final long startNanos = profiled ? System.nanoTime() : 0;
     lockUtil.acquireLock(readWriteLock.readLock());
+    if (profiled) {
+      lockProfiler.acquired("game_data_read", readWriteLock.readLock(), System.nanoTime() - startNanos);
+    }
   }
 
   public void releaseReadLock() {
@@ -398,6 +450,7 @@ public class GameData implements Serializable {
       return;
     }
     lockUtil.releaseLock(readWriteLock.readLock());
+    lockProfiler.released(readWriteLock.readLock());
   }
 
   /**
@@ -409,14 +462,68 @@ public class GameData implements Serializable {
     if (readWriteLockMissing()) {
       return;
     }
+    final boolean profiled = lockProfiler.isEnabled();
+    final long startNanos = profiled ? System.nanoTime() : 0;
     lockUtil.acquireLock(readWriteLock.writeLock());
+    if (profiled) {
+      lockProfiler.acquired("game_data_write", readWriteLock.writeLock(), System.nanoTime() - startNanos);
+    }
+    if (writeLockHoldCount++ == 0) {
+      writeStamp = writeStamps.writeLock();
+    }
   }
 
   public void releaseWriteLock() {
     if (readWriteLockMissing()) {
       return;
     }
+    if (--writeLockHoldCount == 0) {
+      writeStamps.unlockWrite(writeStamp);
+    }
     lockUtil.releaseLock(readWriteLock.writeLock());
+    lockProfiler.released(readWriteLock.writeLock());
+  }
+
+  /**
+   * Returns the value computed by the specified reader, which must be a short section of code that only reads the game
+   * data. The reader is first run without taking the read lock; if the write lock was taken while it ran, whatever it
+   * computed or threw is discarded and it is run again holding the read lock. The reader may therefore run twice, and
+   * its first run may see the game data in an inconsistent state, so it must not have side effects.
+   *
+   * <p>
+   * This avoids contending on the read lock for the frequent small reads of the user interface and the AI, and lets
+   * them proceed while a writer is waiting for the lock. Use {@link #acquireReadLock()} for longer sections, which
+   * would often have to be run again.
+   * </p>
+   */
+  public <T> T readOptimistically(final Supplier<T> reader) {
+    checkNotNull(reader);
+
+    if (readWriteLockMissing()
+        || lockUtil.isLockHeld(readWriteLock.readLock())
+        || lockUtil.isLockHeld(readWriteLock.writeLock())) {
+      return reader.get();
+    }
+    final long stamp = writeStamps.tryOptimisticRead();
+    if (stamp != 0) {
+      try {
+        final T value = reader.get();
+        if (writeStamps.validate(stamp)) {
+          return value;
+        }
+      } catch (final RuntimeException e) {
+        // an exception caused by a concurrent write is not the reader's fault
+        if (writeStamps.validate(stamp)) {
+          throw e;
+        }
+      }
+    }
+    acquireReadLock();
+    try {
+      return reader.get();
+    } finally {
+      releaseReadLock();
+    }
   }
 
   /**
@@ -523,7 +630,7 @@ public class GameData implements Serializable {
     }
     try {
       acquireWriteLock();
-      change.perform(this);
+      getChangeTracker().performChange(change, this);
     } finally {
       releaseWriteLock();
     }
@@ -554,4 +661,21 @@ public class GameData implements Serializable {
       releaseReadLock();
     }
   }
+
+  /**
+   * Returns the tracker of the modifications made to this game data since it was created or deserialized.
+   */
+  public ChangeTracker getChangeTracker() {
+    ChangeTracker tracker = changeTracker;
+    if (tracker == null) {
+      synchronized (this) {
+        tracker = changeTracker;
+        if (tracker == null) {
+          tracker = new ChangeTracker();
+          changeTracker = tracker;
+        }
+      }
+    }
+    return tracker;
+  }
 }
@@ -26,6 +26,17 @@ public class GameDataComponent implements Serializable {
     return m_data;
   }
 
+  /**
+   * Records a direct modification of the specified aspect of the game data this component belongs to, if it has a
+   * change tracker (a mocked game data does not).
+   */
+  protected final void recordModification(final ChangeTracker.Aspect aspect) {
+    final ChangeTracker changeTracker = (m_data != null) ? m_data.getChangeTracker() : null;
+    if (changeTracker != null) {
+      changeTracker.recordModification(aspect);
+    }
+  }
+
   private void writeObject(final ObjectOutputStream stream) throws IOException {
     // if were writing to a game object stream
     // then we get the game data from the context
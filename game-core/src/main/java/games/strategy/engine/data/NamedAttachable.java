@@ -26,10 +26,17 @@ public class NamedAttachable extends DefaultNamed implements Attachable {
   @Override
   public void addAttachment(final String key, final IAttachment value) {
     m_attachments.put(key, value);
+    recordAttachmentStructureModification();
   }
 
   @Override
   public void removeAttachment(final String keyString) {
     m_attachments.remove(keyString);
+    recordAttachmentStructureModification();
+  }
+
+  private void recordAttachmentStructureModification() {
+    recordModification(ChangeTracker.Aspect.ATTACHMENTS);
+    recordModification(ChangeTracker.Aspect.ATTACHMENT_STRUCTURE);
   }
 }
@@ -0,0 +1,96 @@
+package games.strategy.engine.data;
+
+import static com.google.common.base.Preconditions.checkElementIndex;
+import static com.google.common.base.Preconditions.checkNotNull;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import javax.annotation.concurrent.Immutable;
+
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
+
+/**
+ * The names of the properties supported by a class of {@link DynamicallyModifiable} objects, each identified by its
+ * ordinal: the position of the property in the map returned by {@link DynamicallyModifiable#getPropertyMap()}.
+ *
+ * <p>
+ * A table is built once per class, the first time an instance of the class is asked for it, which requires
+ * {@code getPropertyMap()} to return the same property names in the same order for every instance of a class.
+ * </p>
+ */
+@Immutable
+public final class PropertyTable {
+  /**
+   * The ordinal returned for a property that does not exist.
+   */
+  public static final int UNKNOWN_ORDINAL = -1;
+
+  private static final Map<Class<?>, PropertyTable> tablesByClass = new ConcurrentHashMap<>();
+
+  private final ImmutableList<String> names;
+  private final ImmutableMap<String, Integer> ordinalsByName;
+
+  private PropertyTable(final Collection<String> names) {
+    final ImmutableList.Builder<String> namesBuilder = ImmutableList.builder();
+    final ImmutableMap.Builder<String, Integer> ordinalsByNameBuilder = ImmutableMap.builder();
+    int ordinal = 0;
+    for (final String name : names) {
+      // interned so comparing with the (also interned) names held by changes is usually an identity check
+      final String internedName = name.intern();
+      namesBuilder.add(internedName);
+      ordinalsByNameBuilder.put(internedName, ordinal++);
+    }
+    this.names = namesBuilder.build();
+    ordinalsByName = ordinalsByNameBuilder.build();
+  }
+
+  static PropertyTable of(final DynamicallyModifiable modifiable) {
+    checkNotNull(modifiable);
+
+    final PropertyTable table = tablesByClass.get(modifiable.getClass());
+    if (table != null) {
+      return table;
+    }
+    return tablesByClass.computeIfAbsent(
+        modifiable.getClass(),
+        k -> new PropertyTable(modifiable.getPropertyMap().keySet()));
+  }
+
+  /**
+   * Returns the number of properties in this table.
+   */
+  public int size() {
+    return names.size();
+  }
+
+  /**
+   * Returns the ordinal of the property with the specified name or {@link #UNKNOWN_ORDINAL} if the property does not
+   * exist.
+   */
+  public int getOrdinal(final String name) {
+    checkNotNull(name);
+
+    return ordinalsByName.getOrDefault(name, UNKNOWN_ORDINAL);
+  }
+
+  /**
+   * Returns the name of the property with the specified ordinal.
+   *
+   * @throws IndexOutOfBoundsException If the property does not exist.
+   */
+  public String getName(final int ordinal) {
+    checkElementIndex(ordinal, names.size());
+
+    return names.get(ordinal);
+  }
+
+  /**
+   * Indicates the specified ordinal identifies the property with the specified name.
+   */
+  public boolean matches(final int ordinal, final String name) {
+    return ordinal >= 0 && ordinal < names.size() && names.get(ordinal).equals(name);
+  }
+}
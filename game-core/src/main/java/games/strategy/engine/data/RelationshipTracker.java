@@ -28,6 +28,7 @@ public class RelationshipTracker extends RelationshipInterpreter {
    */
   public void setRelationship(final PlayerID p1, final PlayerID p2, final RelationshipType r) {
     m_relationships.put(new RelatedPlayers(p1, p2), new Relationship(r));
+    recordModification(ChangeTracker.Aspect.RELATIONSHIPS);
   }
 
   /**
@@ -35,6 +36,7 @@ public class RelationshipTracker extends RelationshipInterpreter {
    */
   protected void setRelationship(final PlayerID p1, final PlayerID p2, final RelationshipType r, final int roundValue) {
     m_relationships.put(new RelatedPlayers(p1, p2), new Relationship(r, roundValue));
+    recordModification(ChangeTracker.Aspect.RELATIONSHIPS);
   }
 
   @Override
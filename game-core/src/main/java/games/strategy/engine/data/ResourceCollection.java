@@ -63,10 +63,12 @@ public class ResourceCollection extends GameDataComponent {
 
   public void removeAllOfResource(final Resource resource) {
     m_resources.removeKey(resource);
+    recordModification(ChangeTracker.Aspect.RESOURCES);
   }
 
   private void change(final Resource resource, final int quantity) {
     m_resources.add(resource, quantity);
+    recordModification(ChangeTracker.Aspect.RESOURCES);
   }
 
   /**
@@ -77,6 +79,7 @@ public class ResourceCollection extends GameDataComponent {
       throw new IllegalArgumentException("quantity must be positive");
     }
     m_resources.put(resource, quantity);
+    recordModification(ChangeTracker.Aspect.RESOURCES);
   }
 
   public IntegerMap<Resource> getResourcesCopy() {
@@ -125,6 +128,7 @@ public class ResourceCollection extends GameDataComponent {
 
   public void add(final ResourceCollection otherResources) {
     m_resources.add(otherResources.m_resources);
+    recordModification(ChangeTracker.Aspect.RESOURCES);
   }
 
   public void add(final IntegerMap<Resource> resources) {
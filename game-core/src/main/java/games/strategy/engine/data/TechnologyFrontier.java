@@ -38,6 +38,7 @@ public class TechnologyFrontier extends GameDataComponent implements Iterable<Te
     m_cachedTechs = null;
     m_techs.add(t);
     reorderTechsToMatchGameTechsOrder();
+    recordModification(ChangeTracker.Aspect.TECHNOLOGY);
   }
 
   public void addAdvance(final List<TechAdvance> list) {
@@ -52,6 +53,7 @@ public class TechnologyFrontier extends GameDataComponent implements Iterable<Te
     }
     m_cachedTechs = null;
     m_techs.remove(t);
+    recordModification(ChangeTracker.Aspect.TECHNOLOGY);
   }
 
   public TechAdvance getAdvanceByProperty(final String property) {
@@ -39,8 +39,7 @@ public class Unit extends GameDataComponent implements DynamicallyModifiable {
 
     m_type = type;
     m_uid = id;
-
-    setOwner(owner);
+    m_owner = Optional.ofNullable(owner).orElse(PlayerID.NULL_PLAYERID);
   }
 
   public GUID getId() {
@@ -64,11 +63,18 @@ public class Unit extends GameDataComponent implements DynamicallyModifiable {
   }
 
   public void setHits(final int hits) {
-    m_hits = hits;
+    if (hits != m_hits) {
+      m_hits = hits;
+      recordModification(ChangeTracker.Aspect.UNITS);
+    }
   }
 
   public void setOwner(final @Nullable PlayerID player) {
-    m_owner = Optional.ofNullable(player).orElse(PlayerID.NULL_PLAYERID);
+    final PlayerID owner = Optional.ofNullable(player).orElse(PlayerID.NULL_PLAYERID);
+    if (!owner.equals(m_owner)) {
+      m_owner = owner;
+      recordModification(ChangeTracker.Aspect.UNITS);
+    }
   }
 
   @Override
@@ -3,23 +3,34 @@ package games.strategy.engine.data;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 import java.util.function.Predicate;
-import java.util.stream.Collectors;
+
+import javax.annotation.Nullable;
 
 import games.strategy.util.CollectionUtils;
 import games.strategy.util.IntegerMap;
 
 /**
  * A collection of units.
+ *
+ * <p>
+ * The collection keeps a count of its units by owner and type, updated as units are added and removed, so queries
+ * about which players have units here, and of what types, do not have to look at every unit.
+ * </p>
  */
 public class UnitCollection extends GameDataComponent implements Collection<Unit> {
   private static final long serialVersionUID = -3534037864426122864L;
   private final List<Unit> m_units = new ArrayList<>();
   private final NamedUnitHolder m_holder;
+  // built on first use and discarded when unit owners change; built, updated and discarded while holding the lock on
+  // this collection, so a unit added or removed while the counts are built cannot be lost
+  private transient volatile @Nullable Map<PlayerID, IntegerMap<UnitType>> unitCountsByOwner;
 
   /**
    * Creates new UnitCollection.
@@ -34,39 +45,112 @@ public class UnitCollection extends GameDataComponent implements Collection<Unit
 
   @Override
   public boolean add(final Unit unit) {
-    final boolean result = m_units.add(unit);
-    m_holder.notifyChanged();
+    final boolean result;
+    synchronized (this) {
+      result = m_units.add(unit);
+      updateUnitCounts(unit, 1);
+    }
+    notifyChanged();
     return result;
   }
 
   @Override
   public boolean addAll(final Collection<? extends Unit> units) {
-    final boolean result = m_units.addAll(units);
-    m_holder.notifyChanged();
+    final boolean result;
+    synchronized (this) {
+      result = m_units.addAll(units);
+      units.forEach(unit -> updateUnitCounts(unit, 1));
+    }
+    notifyChanged();
     return result;
   }
 
   @Override
   public boolean removeAll(final Collection<?> units) {
-    final boolean result = m_units.removeAll(units);
-    m_holder.notifyChanged();
+    final boolean result;
+    synchronized (this) {
+      result = m_units.removeIf(unit -> units.contains(unit) && updateUnitCounts(unit, -1));
+    }
+    notifyChanged();
     return result;
   }
 
+  private void notifyChanged() {
+    recordModification(ChangeTracker.Aspect.UNITS);
+    m_holder.notifyChanged();
+  }
+
   public int getUnitCount() {
     return m_units.size();
   }
 
   int getUnitCount(final UnitType type) {
-    return (int) m_units.stream().filter(u -> u.getType().equals(type)).count();
+    return getUnitCountsByOwner().values().stream().mapToInt(counts -> counts.getInt(type)).sum();
   }
 
   public int getUnitCount(final UnitType type, final PlayerID owner) {
-    return (int) m_units.stream().filter(u -> u.getType().equals(type) && u.getOwner().equals(owner)).count();
+    final IntegerMap<UnitType> counts = getUnitCountsByOwner().get(owner);
+    return (counts == null) ? 0 : counts.getInt(type);
   }
 
   int getUnitCount(final PlayerID owner) {
-    return (int) m_units.stream().filter(u -> u.getOwner().equals(owner)).count();
+    final IntegerMap<UnitType> counts = getUnitCountsByOwner().get(owner);
+    return (counts == null) ? 0 : counts.totalValues();
+  }
+
+  // returns true so it can be used in the predicate of removeIf
+  private boolean updateUnitCounts(final Unit unit, final int delta) {
+    final Map<PlayerID, IntegerMap<UnitType>> countsByOwner = unitCountsByOwner;
+    if (countsByOwner != null) {
+      final IntegerMap<UnitType> counts = countsByOwner.computeIfAbsent(unit.getOwner(), owner -> new IntegerMap<>());
+      counts.add(unit.getType(), delta);
+      if (counts.getInt(unit.getType()) == 0) {
+        counts.removeKey(unit.getType());
+        if (counts.isEmpty()) {
+          countsByOwner.remove(unit.getOwner());
+        }
+      }
+    }
+    return true;
+  }
+
+  private Map<PlayerID, IntegerMap<UnitType>> getUnitCountsByOwner() {
+    Map<PlayerID, IntegerMap<UnitType>> countsByOwner = unitCountsByOwner;
+    if (countsByOwner == null) {
+      synchronized (this) {
+        countsByOwner = unitCountsByOwner;
+        if (countsByOwner == null) {
+          countsByOwner = new HashMap<>();
+          for (final Unit unit : m_units) {
+            countsByOwner.computeIfAbsent(unit.getOwner(), owner -> new IntegerMap<>()).add(unit.getType(), 1);
+          }
+          unitCountsByOwner = countsByOwner;
+        }
+      }
+    }
+    return countsByOwner;
+  }
+
+  /**
+   * Must be called after the owner of a unit in this collection has been changed, so the counts of units by owner are
+   * rebuilt.
+   */
+  public synchronized void notifyUnitOwnersChanged() {
+    unitCountsByOwner = null;
+  }
+
+  /**
+   * Indicates whether this collection contains a unit with an owner and type that match the specified predicates. This
+   * tests each owner and unit type present once, instead of every unit as {@link #anyMatch(Predicate)} does, so it
+   * should be preferred when the match does not depend on the state of individual units.
+   */
+  public boolean anyMatch(final Predicate<PlayerID> ownerMatch, final Predicate<UnitType> typeMatch) {
+    for (final Map.Entry<PlayerID, IntegerMap<UnitType>> entry : getUnitCountsByOwner().entrySet()) {
+      if (ownerMatch.test(entry.getKey()) && entry.getValue().keySet().stream().anyMatch(typeMatch)) {
+        return true;
+      }
+    }
+    return false;
   }
 
   @Override
@@ -141,9 +225,8 @@ public class UnitCollection extends GameDataComponent implements Collection<Unit
    * @return map of UnitType (only of units for the specified player).
    */
   public IntegerMap<UnitType> getUnitsByType(final PlayerID id) {
-    final IntegerMap<UnitType> count = new IntegerMap<>();
-    m_units.stream().filter(unit -> unit.getOwner().equals(id)).forEach(unit -> count.add(unit.getType(), 1));
-    return count;
+    final IntegerMap<UnitType> counts = getUnitCountsByOwner().get(id);
+    return (counts == null) ? new IntegerMap<>() : new IntegerMap<>(counts);
   }
 
   @Override
@@ -161,7 +244,7 @@ public class UnitCollection extends GameDataComponent implements Collection<Unit
    */
   public Set<PlayerID> getPlayersWithUnits() {
     // note nulls are handled by PlayerID.NULL_PLAYERID
-    return m_units.stream().map(Unit::getOwner).collect(Collectors.toSet());
+    return new HashSet<>(getUnitCountsByOwner().keySet());
   }
 
   /**
@@ -169,12 +252,12 @@ public class UnitCollection extends GameDataComponent implements Collection<Unit
    */
   public IntegerMap<PlayerID> getPlayerUnitCounts() {
     final IntegerMap<PlayerID> count = new IntegerMap<>();
-    m_units.forEach(unit -> count.add(unit.getOwner(), 1));
+    getUnitCountsByOwner().forEach((owner, counts) -> count.put(owner, counts.totalValues()));
     return count;
   }
 
   public boolean hasUnitsFromMultiplePlayers() {
-    return getPlayersWithUnits().size() > 1;
+    return getUnitCountsByOwner().size() > 1;
   }
 
   public NamedUnitHolder getHolder() {
@@ -231,19 +314,33 @@ public class UnitCollection extends GameDataComponent implements Collection<Unit
 
   @Override
   public boolean remove(final Object object) {
-    final boolean result = m_units.remove(object);
-    m_holder.notifyChanged();
+    final boolean result;
+    synchronized (this) {
+      result = m_units.remove(object);
+      if (result) {
+        updateUnitCounts((Unit) object, -1);
+      }
+    }
+    notifyChanged();
     return result;
   }
 
   @Override
   public boolean retainAll(final Collection<?> collection) {
-    return m_units.retainAll(collection);
+    final boolean result;
+    synchronized (this) {
+      result = m_units.removeIf(unit -> !collection.contains(unit) && updateUnitCounts(unit, -1));
+    }
+    recordModification(ChangeTracker.Aspect.UNITS);
+    return result;
   }
 
   @Override
   public void clear() {
-    m_units.clear();
-    m_holder.notifyChanged();
+    synchronized (this) {
+      m_units.clear();
+      unitCountsByOwner = null;
+    }
+    notifyChanged();
   }
 }
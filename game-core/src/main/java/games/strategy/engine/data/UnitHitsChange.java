@@ -3,11 +3,15 @@ package games.strategy.engine.data;
 import java.util.Collection;
 import java.util.Set;
 
+import com.google.common.collect.Sets;
+
+import games.strategy.engine.data.ChangeTracker.Aspect;
 import games.strategy.util.CollectionUtils;
 import games.strategy.util.IntegerMap;
 
 public class UnitHitsChange extends Change {
   private static final long serialVersionUID = 2862726651812142713L;
+  private static final Set<Aspect> TOUCHED_ASPECTS = Sets.immutableEnumSet(Aspect.UNITS);
   private final IntegerMap<Unit> m_hits;
   private final IntegerMap<Unit> m_undoHits;
 
@@ -41,6 +45,11 @@ public class UnitHitsChange extends Change {
     }
   }
 
+  @Override
+  protected Set<Aspect> getTouchedAspects() {
+    return TOUCHED_ASPECTS;
+  }
+
   @Override
   public Change invert() {
     return new UnitHitsChange(m_undoHits, m_hits);
@@ -1,14 +1,19 @@
 package games.strategy.engine.data.changefactory;
 
 import java.util.Map;
+import java.util.Set;
+
+import com.google.common.collect.Sets;
 
 import games.strategy.engine.data.BattleRecordsList;
 import games.strategy.engine.data.Change;
+import games.strategy.engine.data.ChangeTracker.Aspect;
 import games.strategy.engine.data.GameData;
 import games.strategy.triplea.delegate.dataObjects.BattleRecords;
 
 class AddBattleRecordsChange extends Change {
   private static final long serialVersionUID = -6927678548172402611L;
+  private static final Set<Aspect> TOUCHED_ASPECTS = Sets.immutableEnumSet(Aspect.BATTLE_RECORDS);
   private final BattleRecords m_recordsToAdd;
   private final int m_round;
 
@@ -35,6 +40,11 @@ class AddBattleRecordsChange extends Change {
     BattleRecordsList.addRecords(currentRecords, m_round, new BattleRecords(m_recordsToAdd));
   }
 
+  @Override
+  protected Set<Aspect> getTouchedAspects() {
+    return TOUCHED_ASPECTS;
+  }
+
   @Override
   public Change invert() {
     return new RemoveBattleRecordsChange(m_recordsToAdd, m_round);
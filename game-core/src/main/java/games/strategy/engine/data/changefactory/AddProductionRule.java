@@ -1,12 +1,18 @@
 package games.strategy.engine.data.changefactory;
 
+import java.util.Set;
+
+import com.google.common.collect.Sets;
+
 import games.strategy.engine.data.Change;
+import games.strategy.engine.data.ChangeTracker.Aspect;
 import games.strategy.engine.data.GameData;
 import games.strategy.engine.data.ProductionFrontier;
 import games.strategy.engine.data.ProductionRule;
 
 class AddProductionRule extends Change {
   private static final long serialVersionUID = 2583955907289570063L;
+  private static final Set<Aspect> TOUCHED_ASPECTS = Sets.immutableEnumSet(Aspect.OTHER);
   private final ProductionRule m_rule;
   private final ProductionFrontier m_frontier;
 
@@ -26,6 +32,11 @@ class AddProductionRule extends Change {
     m_frontier.addRule(m_rule);
   }
 
+  @Override
+  protected Set<Aspect> getTouchedAspects() {
+    return TOUCHED_ASPECTS;
+  }
+
   @Override
   public Change invert() {
     return new RemoveProductionRule(m_rule, m_frontier);
@@ -1,7 +1,12 @@
 package games.strategy.engine.data.changefactory;
 
+import java.util.Set;
+
+import com.google.common.collect.Sets;
+
 import games.strategy.engine.data.Attachable;
 import games.strategy.engine.data.Change;
+import games.strategy.engine.data.ChangeTracker.Aspect;
 import games.strategy.engine.data.GameData;
 import games.strategy.engine.data.IAttachment;
 
@@ -10,10 +15,13 @@ import games.strategy.engine.data.IAttachment;
  */
 class AttachmentPropertyReset extends Change {
   private static final long serialVersionUID = 9208154387325299072L;
+  private static final Set<Aspect> TOUCHED_ASPECTS = Sets.immutableEnumSet(Aspect.ATTACHMENTS);
   private final Attachable m_attachedTo;
   private final String m_attachmentName;
   private final Object m_oldValue;
   private final String m_property;
+  // identifies the property without a lookup by name; stale if recorded by another engine version
+  private final int m_propertyOrdinal;
 
   AttachmentPropertyReset(final IAttachment attachment, final String property) {
     if (attachment == null) {
@@ -21,16 +29,18 @@ class AttachmentPropertyReset extends Change {
     }
     m_attachedTo = attachment.getAttachedTo();
     m_attachmentName = attachment.getName();
-    m_oldValue = attachment.getPropertyOrThrow(property).getValue();
+    m_propertyOrdinal = attachment.getPropertyTable().getOrdinal(property);
+    m_oldValue = attachment.getPropertyOrThrow(m_propertyOrdinal, property).getValue();
     m_property = property;
   }
 
   AttachmentPropertyReset(final Attachable attachTo, final String attachmentName, final Object oldValue,
-      final String property) {
+      final String property, final int propertyOrdinal) {
     m_attachmentName = attachmentName;
     m_attachedTo = attachTo;
     m_oldValue = oldValue;
     m_property = property;
+    m_propertyOrdinal = propertyOrdinal;
   }
 
   public Attachable getAttachedTo() {
@@ -44,12 +54,22 @@ class AttachmentPropertyReset extends Change {
   @Override
   public void perform(final GameData data) {
     final IAttachment attachment = m_attachedTo.getAttachment(m_attachmentName);
-    attachment.getPropertyOrThrow(m_property).resetValue();
+    attachment.getPropertyOrThrow(m_propertyOrdinal, m_property).resetValue();
+  }
+
+  @Override
+  protected Set<Aspect> getTouchedAspects() {
+    return TOUCHED_ASPECTS;
+  }
+
+  @Override
+  protected String getTouchedAttachmentProperty() {
+    return m_property;
   }
 
   @Override
   public Change invert() {
-    return new AttachmentPropertyResetUndo(m_attachedTo, m_attachmentName, m_oldValue, m_property);
+    return new AttachmentPropertyResetUndo(m_attachedTo, m_attachmentName, m_oldValue, m_property, m_propertyOrdinal);
   }
 
   @Override
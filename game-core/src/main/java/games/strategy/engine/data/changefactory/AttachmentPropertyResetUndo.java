@@ -1,24 +1,33 @@
 package games.strategy.engine.data.changefactory;
 
+import java.util.Set;
+
+import com.google.common.collect.Sets;
+
 import games.strategy.engine.data.Attachable;
 import games.strategy.engine.data.Change;
+import games.strategy.engine.data.ChangeTracker.Aspect;
 import games.strategy.engine.data.GameData;
 import games.strategy.engine.data.IAttachment;
 import games.strategy.engine.data.MutableProperty;
 
 class AttachmentPropertyResetUndo extends Change {
   private static final long serialVersionUID = 5943939650116851332L;
+  private static final Set<Aspect> TOUCHED_ASPECTS = Sets.immutableEnumSet(Aspect.ATTACHMENTS);
   private final Attachable m_attachedTo;
   private final String m_attachmentName;
   private final Object m_newValue;
   private final String m_property;
+  // identifies the property without a lookup by name; stale if recorded by another engine version
+  private final int m_propertyOrdinal;
 
   AttachmentPropertyResetUndo(final Attachable attachTo, final String attachmentName, final Object newValue,
-      final String property) {
+      final String property, final int propertyOrdinal) {
     m_attachmentName = attachmentName;
     m_attachedTo = attachTo;
     m_newValue = newValue;
     m_property = property;
+    m_propertyOrdinal = propertyOrdinal;
   }
 
   public Attachable getAttachedTo() {
@@ -33,7 +42,7 @@ class AttachmentPropertyResetUndo extends Change {
   public void perform(final GameData data) {
     final IAttachment attachment = m_attachedTo.getAttachment(m_attachmentName);
     try {
-      attachment.getPropertyOrThrow(m_property).setValue(m_newValue);
+      attachment.getPropertyOrThrow(m_propertyOrdinal, m_property).setValue(m_newValue);
     } catch (final MutableProperty.InvalidValueException e) {
       throw new IllegalStateException(
           String.format(
@@ -43,9 +52,19 @@ class AttachmentPropertyResetUndo extends Change {
     }
   }
 
+  @Override
+  protected Set<Aspect> getTouchedAspects() {
+    return TOUCHED_ASPECTS;
+  }
+
+  @Override
+  protected String getTouchedAttachmentProperty() {
+    return m_property;
+  }
+
   @Override
   public Change invert() {
-    return new AttachmentPropertyReset(m_attachedTo, m_attachmentName, m_newValue, m_property);
+    return new AttachmentPropertyReset(m_attachedTo, m_attachmentName, m_newValue, m_property, m_propertyOrdinal);
   }
 
   @Override
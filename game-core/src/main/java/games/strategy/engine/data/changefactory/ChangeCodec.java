@@ -0,0 +1,215 @@
+package games.strategy.engine.data.changefactory;
+
+import java.io.IOException;
+import java.io.ObjectInput;
+import java.io.ObjectOutput;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+import javax.annotation.Nullable;
+
+import games.strategy.engine.data.Change;
+import games.strategy.engine.data.CompositeChange;
+import games.strategy.engine.data.Unit;
+
+/**
+ * A compact binary encoding of the changes most often sent to the other nodes of a network game: composite changes,
+ * units added and removed, territory owner changes, resource changes and unit property changes.
+ *
+ * <p>
+ * Each change is written as a one byte tag followed by the names and numbers it is made of, which saves the class
+ * descriptors Java serialization writes for every message. The values a change refers to, such as the changes of a
+ * composite change or the old and new values of a property, are written by the caller's encoding.
+ * </p>
+ *
+ * <p>
+ * Units are still written with {@link ObjectOutput#writeObject}. A change may refer to a unit the receiver has not
+ * seen yet, such as a property copied to a unit a battle is about to add, so a unit cannot be written as its id
+ * alone; the game object streams register such a unit when it is read.
+ * </p>
+ */
+public final class ChangeCodec {
+  private static final byte COMPOSITE = 1;
+  private static final byte ADD_UNITS = 2;
+  private static final byte REMOVE_UNITS = 3;
+  private static final byte OWNER = 4;
+  private static final byte RESOURCE = 5;
+  private static final byte OBJECT_PROPERTY = 6;
+
+  private ChangeCodec() {}
+
+  /**
+   * Writes a value a change refers to.
+   */
+  @FunctionalInterface
+  public interface ValueWriter {
+    void write(ObjectOutput out, @Nullable Object value) throws IOException;
+  }
+
+  /**
+   * Reads a value written by a {@link ValueWriter}.
+   */
+  @FunctionalInterface
+  public interface ValueReader {
+    @Nullable
+    Object read(ObjectInput in) throws IOException, ClassNotFoundException;
+  }
+
+  /**
+   * Indicates whether the specified change can be written by {@link #write(ObjectOutput, Change, ValueWriter)}.
+   */
+  public static boolean canWrite(final Change change) {
+    return getTag(change) != 0;
+  }
+
+  private static byte getTag(final Change change) {
+    final Class<?> type = change.getClass();
+    if (type == CompositeChange.class) {
+      return COMPOSITE;
+    } else if (type == AddUnits.class) {
+      return ADD_UNITS;
+    } else if (type == RemoveUnits.class) {
+      return REMOVE_UNITS;
+    } else if (type == OwnerChange.class) {
+      return OWNER;
+    } else if (type == ChangeResourceChange.class) {
+      return RESOURCE;
+    } else if (type == ObjectPropertyChange.class) {
+      return OBJECT_PROPERTY;
+    }
+    return 0;
+  }
+
+  /**
+   * Writes the specified change.
+   *
+   * @param values Writes the values the change refers to.
+   *
+   * @throws IllegalArgumentException If the change cannot be written by this codec.
+   */
+  public static void write(final ObjectOutput out, final Change change, final ValueWriter values) throws IOException {
+    final byte tag = getTag(change);
+    out.writeByte(tag);
+    switch (tag) {
+      case COMPOSITE:
+        final List<Change> changes = ((CompositeChange) change).getChanges();
+        out.writeInt(changes.size());
+        for (final Change element : changes) {
+          values.write(out, element);
+        }
+        break;
+      case ADD_UNITS:
+        final AddUnits addUnits = (AddUnits) change;
+        writeUnits(out, addUnits.getName(), addUnits.getType(), addUnits.getUnits());
+        break;
+      case REMOVE_UNITS:
+        final RemoveUnits removeUnits = (RemoveUnits) change;
+        writeUnits(out, removeUnits.getName(), removeUnits.getType(), removeUnits.getUnits());
+        break;
+      case OWNER:
+        final OwnerChange ownerChange = (OwnerChange) change;
+        out.writeUTF(ownerChange.getTerritoryName());
+        writeNullableUtf(out, ownerChange.getNewOwnerName());
+        writeNullableUtf(out, ownerChange.getOldOwnerName());
+        break;
+      case RESOURCE:
+        final ChangeResourceChange resourceChange = (ChangeResourceChange) change;
+        out.writeUTF(resourceChange.getPlayerName());
+        out.writeUTF(resourceChange.getResourceName());
+        out.writeInt(resourceChange.getQuantity());
+        break;
+      case OBJECT_PROPERTY:
+        final ObjectPropertyChange propertyChange = (ObjectPropertyChange) change;
+        out.writeObject(propertyChange.getObject());
+        out.writeUTF(propertyChange.getProperty());
+        out.writeInt(propertyChange.getPropertyOrdinal());
+        values.write(out, propertyChange.getNewValue());
+        values.write(out, propertyChange.getOldValue());
+        break;
+      default:
+        throw new IllegalArgumentException("Cannot write change of type " + change.getClass().getName());
+    }
+  }
+
+  private static void writeUnits(final ObjectOutput out, final String name, final String type,
+      final Collection<Unit> units) throws IOException {
+    out.writeUTF(name);
+    out.writeUTF(type);
+    out.writeInt(units.size());
+    for (final Unit unit : units) {
+      out.writeObject(unit);
+    }
+  }
+
+  private static void writeNullableUtf(final ObjectOutput out, final @Nullable String value) throws IOException {
+    out.writeBoolean(value != null);
+    if (value != null) {
+      out.writeUTF(value);
+    }
+  }
+
+  /**
+   * Reads a change written by {@link #write(ObjectOutput, Change, ValueWriter)}.
+   *
+   * @param values Reads the values the change refers to.
+   */
+  public static Change read(final ObjectInput in, final ValueReader values) throws IOException, ClassNotFoundException {
+    final byte tag = in.readByte();
+    switch (tag) {
+      case COMPOSITE:
+        final int size = in.readInt();
+        final List<Change> changes = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+          changes.add(readValue(in, values, Change.class));
+        }
+        return new CompositeChange(changes);
+      case ADD_UNITS:
+        return new AddUnits(in.readUTF(), in.readUTF(), readUnits(in));
+      case REMOVE_UNITS:
+        return new RemoveUnits(in.readUTF(), in.readUTF(), readUnits(in));
+      case OWNER:
+        return new OwnerChange(in.readUTF(), readNullableUtf(in), readNullableUtf(in));
+      case RESOURCE:
+        return new ChangeResourceChange(in.readUTF(), in.readUTF(), in.readInt());
+      case OBJECT_PROPERTY:
+        final Unit object = readObject(in, Unit.class);
+        final String property = in.readUTF();
+        final int propertyOrdinal = in.readInt();
+        final Object newValue = values.read(in);
+        return new ObjectPropertyChange(object, property, propertyOrdinal, newValue, values.read(in));
+      default:
+        throw new IOException("Unknown change tag: " + tag);
+    }
+  }
+
+  private static List<Unit> readUnits(final ObjectInput in) throws IOException, ClassNotFoundException {
+    final int size = in.readInt();
+    final List<Unit> units = new ArrayList<>(size);
+    for (int i = 0; i < size; i++) {
+      units.add(readObject(in, Unit.class));
+    }
+    return units;
+  }
+
+  private static @Nullable String readNullableUtf(final ObjectInput in) throws IOException {
+    return in.readBoolean() ? in.readUTF() : null;
+  }
+
+  private static <T> T readObject(final ObjectInput in, final Class<T> type) throws IOException,
+      ClassNotFoundException {
+    return cast(in.readObject(), type);
+  }
+
+  private static <T> T readValue(final ObjectInput in, final ValueReader values, final Class<T> type)
+      throws IOException, ClassNotFoundException {
+    return cast(values.read(in), type);
+  }
+
+  private static <T> T cast(final @Nullable Object value, final Class<T> type) throws IOException {
+    if (!type.isInstance(value)) {
+      throw new IOException("Expected " + type.getSimpleName() + " but read " + value);
+    }
+    return type.cast(value);
+  }
+}
@@ -1,6 +1,11 @@
 package games.strategy.engine.data.changefactory;
 
+import java.util.Set;
+
+import com.google.common.collect.Sets;
+
 import games.strategy.engine.data.Change;
+import games.strategy.engine.data.ChangeTracker.Aspect;
 import games.strategy.engine.data.GameData;
 import games.strategy.engine.data.PlayerID;
 import games.strategy.engine.data.Resource;
@@ -11,6 +16,7 @@ import games.strategy.engine.data.ResourceCollection;
  */
 class ChangeResourceChange extends Change {
   private static final long serialVersionUID = -2304294240555842126L;
+  private static final Set<Aspect> TOUCHED_ASPECTS = Sets.immutableEnumSet(Aspect.RESOURCES);
   private final String m_player;
   private final String m_resource;
   private final int m_quantity;
@@ -21,12 +27,29 @@ class ChangeResourceChange extends Change {
     m_quantity = quantity;
   }
 
-  private ChangeResourceChange(final String player, final String resource, final int quantity) {
+  ChangeResourceChange(final String player, final String resource, final int quantity) {
     m_player = player;
     m_resource = resource;
     m_quantity = quantity;
   }
 
+  String getPlayerName() {
+    return m_player;
+  }
+
+  String getResourceName() {
+    return m_resource;
+  }
+
+  int getQuantity() {
+    return m_quantity;
+  }
+
+  @Override
+  protected Set<Aspect> getTouchedAspects() {
+    return TOUCHED_ASPECTS;
+  }
+
   @Override
   public Change invert() {
     return new ChangeResourceChange(m_player, m_resource, -m_quantity);
@@ -1,12 +1,18 @@
 package games.strategy.engine.data.changefactory;
 
+import java.util.Set;
+
+import com.google.common.collect.Sets;
+
 import games.strategy.engine.data.Attachable;
 import games.strategy.engine.data.Change;
+import games.strategy.engine.data.ChangeTracker.Aspect;
 import games.strategy.engine.data.GameData;
 import games.strategy.triplea.attachments.TechAttachment;
 
 class GenericTechChange extends Change {
   private static final long serialVersionUID = -2439447526511535571L;
+  private static final Set<Aspect> TOUCHED_ASPECTS = Sets.immutableEnumSet(Aspect.TECHNOLOGY);
   private final Attachable m_attachedTo;
   private final String m_attachmentName;
   private final boolean m_newValue;
@@ -47,6 +53,11 @@ class GenericTechChange extends Change {
     attachment.setGenericTech(m_property, m_newValue);
   }
 
+  @Override
+  protected Set<Aspect> getTouchedAspects() {
+    return TOUCHED_ASPECTS;
+  }
+
   @Override
   public Change invert() {
     return new GenericTechChange(m_attachedTo, m_attachmentName, m_oldValue, m_newValue, m_property);
@@ -2,31 +2,40 @@ package games.strategy.engine.data.changefactory;
 
 import java.io.IOException;
 import java.io.ObjectInputStream;
+import java.util.Set;
+
+import com.google.common.collect.Sets;
 
 import games.strategy.engine.data.Change;
+import games.strategy.engine.data.ChangeTracker.Aspect;
 import games.strategy.engine.data.GameData;
 import games.strategy.engine.data.MutableProperty;
 import games.strategy.engine.data.Unit;
 
 public class ObjectPropertyChange extends Change {
   private static final long serialVersionUID = 4218093376094170940L;
+  private static final Set<Aspect> TOUCHED_ASPECTS = Sets.immutableEnumSet(Aspect.UNITS);
   private final Unit m_object;
   private String m_property;
+  // identifies the property without a lookup by name; stale if recorded by another engine version
+  private final int m_propertyOrdinal;
   private final Object m_newValue;
   private final Object m_oldValue;
 
   ObjectPropertyChange(final Unit object, final String property, final Object newValue) {
     m_object = object;
     m_property = property.intern();
+    m_propertyOrdinal = object.getPropertyTable().getOrdinal(property);
     m_newValue = newValue;
-    m_oldValue = object.getPropertyOrThrow(property).getValue();
+    m_oldValue = object.getPropertyOrThrow(m_propertyOrdinal, property).getValue();
   }
 
-  private ObjectPropertyChange(final Unit object, final String property, final Object newValue,
-      final Object oldValue) {
+  ObjectPropertyChange(final Unit object, final String property, final int propertyOrdinal,
+      final Object newValue, final Object oldValue) {
     m_object = object;
     // prevent multiple copies of the property names being held in the game
     m_property = property.intern();
+    m_propertyOrdinal = propertyOrdinal;
     m_newValue = newValue;
     m_oldValue = oldValue;
   }
@@ -36,15 +45,40 @@ public class ObjectPropertyChange extends Change {
     m_property = m_property.intern();
   }
 
+  Unit getObject() {
+    return m_object;
+  }
+
+  String getProperty() {
+    return m_property;
+  }
+
+  int getPropertyOrdinal() {
+    return m_propertyOrdinal;
+  }
+
+  Object getNewValue() {
+    return m_newValue;
+  }
+
+  Object getOldValue() {
+    return m_oldValue;
+  }
+
+  @Override
+  protected Set<Aspect> getTouchedAspects() {
+    return TOUCHED_ASPECTS;
+  }
+
   @Override
   public Change invert() {
-    return new ObjectPropertyChange(m_object, m_property, m_oldValue, m_newValue);
+    return new ObjectPropertyChange(m_object, m_property, m_propertyOrdinal, m_oldValue, m_newValue);
   }
 
   @Override
   protected void perform(final GameData data) {
     try {
-      m_object.getPropertyOrThrow(m_property).setValue(m_newValue);
+      m_object.getPropertyOrThrow(m_propertyOrdinal, m_property).setValue(m_newValue);
     } catch (final MutableProperty.InvalidValueException e) {
       throw new IllegalStateException(
           String.format(
@@ -1,6 +1,11 @@
 package games.strategy.engine.data.changefactory;
 
+import java.util.Set;
+
+import com.google.common.collect.Sets;
+
 import games.strategy.engine.data.Change;
+import games.strategy.engine.data.ChangeTracker.Aspect;
 import games.strategy.engine.data.GameData;
 import games.strategy.engine.data.PlayerID;
 import games.strategy.engine.data.Territory;
@@ -10,6 +15,7 @@ import games.strategy.engine.data.Territory;
  */
 class OwnerChange extends Change {
   private static final long serialVersionUID = -5938125380623744929L;
+  private static final Set<Aspect> TOUCHED_ASPECTS = Sets.immutableEnumSet(Aspect.TERRITORY_OWNERSHIP);
   /**
    * Either new or old owner can be null.
    */
@@ -26,7 +32,7 @@ class OwnerChange extends Change {
     m_old = getName(territory.getOwner());
   }
 
-  private OwnerChange(final String name, final String newOwner, final String oldOwner) {
+  OwnerChange(final String name, final String newOwner, final String oldOwner) {
     m_territory = name;
     m_new = newOwner;
     m_old = oldOwner;
@@ -46,6 +52,23 @@ class OwnerChange extends Change {
     return data.getPlayerList().getPlayerId(name);
   }
 
+  String getTerritoryName() {
+    return m_territory;
+  }
+
+  String getNewOwnerName() {
+    return m_new;
+  }
+
+  String getOldOwnerName() {
+    return m_old;
+  }
+
+  @Override
+  protected Set<Aspect> getTouchedAspects() {
+    return TOUCHED_ASPECTS;
+  }
+
   @Override
   public Change invert() {
     return new OwnerChange(m_territory, m_old, m_new);
@@ -3,8 +3,12 @@ package games.strategy.engine.data.changefactory;
 import java.util.Collection;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.Set;
+
+import com.google.common.collect.Sets;
 
 import games.strategy.engine.data.Change;
+import games.strategy.engine.data.ChangeTracker.Aspect;
 import games.strategy.engine.data.GameData;
 import games.strategy.engine.data.PlayerID;
 import games.strategy.engine.data.Territory;
@@ -22,6 +26,7 @@ class PlayerOwnerChange extends Change {
   private final Map<GUID, String> m_new;
   private final String m_location;
   private static final long serialVersionUID = -9154938431233632882L;
+  private static final Set<Aspect> TOUCHED_ASPECTS = Sets.immutableEnumSet(Aspect.UNITS);
 
   PlayerOwnerChange(final Collection<Unit> units, final PlayerID newOwner, final Territory location) {
     m_old = new HashMap<>();
@@ -39,6 +44,11 @@ class PlayerOwnerChange extends Change {
     m_location = location;
   }
 
+  @Override
+  protected Set<Aspect> getTouchedAspects() {
+    return TOUCHED_ASPECTS;
+  }
+
   @Override
   public Change invert() {
     return new PlayerOwnerChange(m_old, m_new, m_location);
@@ -55,7 +65,9 @@ class PlayerOwnerChange extends Change {
       final PlayerID player = data.getPlayerList().getPlayerId(owner);
       unit.setOwner(player);
     }
-    data.getMap().getTerritory(m_location).notifyChanged();
+    final Territory territory = data.getMap().getTerritory(m_location);
+    territory.getUnits().notifyUnitOwnersChanged();
+    territory.notifyChanged();
   }
 
   @Override
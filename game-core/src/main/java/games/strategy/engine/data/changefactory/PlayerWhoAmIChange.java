@@ -1,11 +1,17 @@
 package games.strategy.engine.data.changefactory;
 
+import java.util.Set;
+
+import com.google.common.collect.Sets;
+
 import games.strategy.engine.data.Change;
+import games.strategy.engine.data.ChangeTracker.Aspect;
 import games.strategy.engine.data.GameData;
 import games.strategy.engine.data.PlayerID;
 
 class PlayerWhoAmIChange extends Change {
   private static final long serialVersionUID = -1486914230174337300L;
+  private static final Set<Aspect> TOUCHED_ASPECTS = Sets.immutableEnumSet(Aspect.OTHER);
   private final String m_startWhoAmI;
   private final String m_endWhoAmI;
   private final String m_player;
@@ -28,6 +34,11 @@ class PlayerWhoAmIChange extends Change {
     player.setWhoAmI(m_endWhoAmI);
   }
 
+  @Override
+  protected Set<Aspect> getTouchedAspects() {
+    return TOUCHED_ASPECTS;
+  }
+
   @Override
   public Change invert() {
     return new PlayerWhoAmIChange(m_endWhoAmI, m_startWhoAmI, m_player);
@@ -1,6 +1,11 @@
 package games.strategy.engine.data.changefactory;
 
+import java.util.Set;
+
+import com.google.common.collect.Sets;
+
 import games.strategy.engine.data.Change;
+import games.strategy.engine.data.ChangeTracker.Aspect;
 import games.strategy.engine.data.GameData;
 import games.strategy.engine.data.PlayerID;
 import games.strategy.engine.data.ProductionFrontier;
@@ -13,6 +18,7 @@ class ProductionFrontierChange extends Change {
   private final String m_endFrontier;
   private final String m_player;
   private static final long serialVersionUID = 3336145814067456701L;
+  private static final Set<Aspect> TOUCHED_ASPECTS = Sets.immutableEnumSet(Aspect.OTHER);
 
   ProductionFrontierChange(final ProductionFrontier newFrontier, final PlayerID player) {
     m_startFrontier = player.getProductionFrontier().getName();
@@ -33,6 +39,11 @@ class ProductionFrontierChange extends Change {
     player.setProductionFrontier(frontier);
   }
 
+  @Override
+  protected Set<Aspect> getTouchedAspects() {
+    return TOUCHED_ASPECTS;
+  }
+
   @Override
   public Change invert() {
     return new ProductionFrontierChange(m_endFrontier, m_startFrontier, m_player);
@@ -1,6 +1,11 @@
 package games.strategy.engine.data.changefactory;
 
+import java.util.Set;
+
+import com.google.common.collect.Sets;
+
 import games.strategy.engine.data.Change;
+import games.strategy.engine.data.ChangeTracker.Aspect;
 import games.strategy.engine.data.GameData;
 import games.strategy.engine.data.PlayerID;
 import games.strategy.engine.data.RelationshipType;
@@ -13,6 +18,7 @@ import games.strategy.util.CollectionUtils;
  */
 class RelationshipChange extends Change {
   private static final long serialVersionUID = 2694339584633196289L;
+  private static final Set<Aspect> TOUCHED_ASPECTS = Sets.immutableEnumSet(Aspect.RELATIONSHIPS);
   private final String m_player1;
   private final String m_player2;
   private final String m_OldRelation;
@@ -34,6 +40,11 @@ class RelationshipChange extends Change {
     m_NewRelation = newRelation;
   }
 
+  @Override
+  protected Set<Aspect> getTouchedAspects() {
+    return TOUCHED_ASPECTS;
+  }
+
   @Override
   public Change invert() {
     return new RelationshipChange(m_player1, m_player2, m_NewRelation, m_OldRelation);
@@ -1,12 +1,18 @@
 package games.strategy.engine.data.changefactory;
 
+import java.util.Set;
+
+import com.google.common.collect.Sets;
+
 import games.strategy.engine.data.Attachable;
 import games.strategy.engine.data.Change;
+import games.strategy.engine.data.ChangeTracker.Aspect;
 import games.strategy.engine.data.GameData;
 import games.strategy.engine.data.IAttachment;
 
 class RemoveAttachmentChange extends Change {
   private static final long serialVersionUID = 6365648682759047674L;
+  private static final Set<Aspect> TOUCHED_ASPECTS = Sets.immutableEnumSet(Aspect.ATTACHMENTS, Aspect.ATTACHMENT_STRUCTURE);
   private final IAttachment m_attachment;
   private final String m_originalAttachmentName;
   private final Attachable m_originalAttachable;
@@ -31,6 +37,11 @@ class RemoveAttachmentChange extends Change {
     }
   }
 
+  @Override
+  protected Set<Aspect> getTouchedAspects() {
+    return TOUCHED_ASPECTS;
+  }
+
   @Override
   public Change invert() {
     return new AddAttachmentChange(m_attachment, m_originalAttachable, m_originalAttachmentName);
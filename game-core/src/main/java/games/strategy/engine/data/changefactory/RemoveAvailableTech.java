@@ -1,6 +1,11 @@
 package games.strategy.engine.data.changefactory;
 
+import java.util.Set;
+
+import com.google.common.collect.Sets;
+
 import games.strategy.engine.data.Change;
+import games.strategy.engine.data.ChangeTracker.Aspect;
 import games.strategy.engine.data.GameData;
 import games.strategy.engine.data.PlayerID;
 import games.strategy.engine.data.TechnologyFrontier;
@@ -8,6 +13,7 @@ import games.strategy.triplea.delegate.TechAdvance;
 
 class RemoveAvailableTech extends Change {
   private static final long serialVersionUID = 6131447662760022521L;
+  private static final Set<Aspect> TOUCHED_ASPECTS = Sets.immutableEnumSet(Aspect.TECHNOLOGY);
   private final TechAdvance m_tech;
   private final TechnologyFrontier m_frontier;
   private final PlayerID m_player;
@@ -30,6 +36,11 @@ class RemoveAvailableTech extends Change {
     front.removeAdvance(m_tech);
   }
 
+  @Override
+  protected Set<Aspect> getTouchedAspects() {
+    return TOUCHED_ASPECTS;
+  }
+
   @Override
   public Change invert() {
     return new AddAvailableTech(m_frontier, m_tech, m_player);
@@ -1,14 +1,19 @@
 package games.strategy.engine.data.changefactory;
 
 import java.util.Map;
+import java.util.Set;
+
+import com.google.common.collect.Sets;
 
 import games.strategy.engine.data.BattleRecordsList;
 import games.strategy.engine.data.Change;
+import games.strategy.engine.data.ChangeTracker.Aspect;
 import games.strategy.engine.data.GameData;
 import games.strategy.triplea.delegate.dataObjects.BattleRecords;
 
 class RemoveBattleRecordsChange extends Change {
   private static final long serialVersionUID = 3286634991233029854L;
+  private static final Set<Aspect> TOUCHED_ASPECTS = Sets.immutableEnumSet(Aspect.BATTLE_RECORDS);
   private final BattleRecords m_recordsToRemove;
   private final int m_round;
 
@@ -26,6 +31,11 @@ class RemoveBattleRecordsChange extends Change {
     BattleRecordsList.removeRecords(currentRecords, m_round, new BattleRecords(m_recordsToRemove));
   }
 
+  @Override
+  protected Set<Aspect> getTouchedAspects() {
+    return TOUCHED_ASPECTS;
+  }
+
   @Override
   public Change invert() {
     return new AddBattleRecordsChange(m_recordsToRemove, m_round);
@@ -2,8 +2,12 @@ package games.strategy.engine.data.changefactory;
 
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Set;
+
+import com.google.common.collect.Sets;
 
 import games.strategy.engine.data.Change;
+import games.strategy.engine.data.ChangeTracker.Aspect;
 import games.strategy.engine.data.GameData;
 import games.strategy.engine.data.Unit;
 import games.strategy.engine.data.UnitCollection;
@@ -11,6 +15,7 @@ import games.strategy.engine.data.UnitHolder;
 
 class RemoveUnits extends Change {
   private static final long serialVersionUID = -6410444472951010568L;
+  private static final Set<Aspect> TOUCHED_ASPECTS = Sets.immutableEnumSet(Aspect.UNITS);
   private final String m_name;
   private final Collection<Unit> m_units;
   private final String m_type;
@@ -25,6 +30,23 @@ class RemoveUnits extends Change {
     m_type = type;
   }
 
+  String getName() {
+    return m_name;
+  }
+
+  String getType() {
+    return m_type;
+  }
+
+  Collection<Unit> getUnits() {
+    return m_units;
+  }
+
+  @Override
+  protected Set<Aspect> getTouchedAspects() {
+    return TOUCHED_ASPECTS;
+  }
+
   @Override
   public Change invert() {
     return new AddUnits(m_name, m_type, m_units);
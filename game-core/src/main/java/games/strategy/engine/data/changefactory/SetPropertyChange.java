@@ -1,11 +1,17 @@
 package games.strategy.engine.data.changefactory;
 
+import java.util.Set;
+
+import com.google.common.collect.Sets;
+
 import games.strategy.engine.data.Change;
+import games.strategy.engine.data.ChangeTracker.Aspect;
 import games.strategy.engine.data.GameData;
 import games.strategy.engine.data.properties.GameProperties;
 
 class SetPropertyChange extends Change {
   private static final long serialVersionUID = -1377597975513821508L;
+  private static final Set<Aspect> TOUCHED_ASPECTS = Sets.immutableEnumSet(Aspect.GAME_PROPERTIES);
   private final String m_property;
   private final Object m_value;
   private final Object m_oldValue;
@@ -22,6 +28,11 @@ class SetPropertyChange extends Change {
     m_oldValue = oldValue;
   }
 
+  @Override
+  protected Set<Aspect> getTouchedAspects() {
+    return TOUCHED_ASPECTS;
+  }
+
   @Override
   public Change invert() {
     return new SetPropertyChange(m_property, m_oldValue, m_value);
@@ -0,0 +1,86 @@
+package games.strategy.engine.data.gameparser;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import javax.annotation.concurrent.Immutable;
+
+/**
+ * A compact, read-only XML element used while parsing a game XML file.
+ *
+ * <p>
+ * Only what the game parser needs is kept: the element name, its attributes (including those defaulted by the DTD) and
+ * its child elements. Comments, processing instructions and whitespace between child elements are dropped.
+ * </p>
+ */
+@Immutable
+public final class XmlElement {
+  private final String name;
+  // attribute names and values, interleaved; elements rarely have more than a handful of attributes
+  private final String[] attributes;
+  private final List<XmlElement> children;
+  private final String text;
+
+  XmlElement(final String name, final String[] attributes, final List<XmlElement> children, final String text) {
+    this.name = checkNotNull(name);
+    this.attributes = checkNotNull(attributes);
+    this.children = children.isEmpty() ? Collections.emptyList() : Collections.unmodifiableList(children);
+    this.text = checkNotNull(text);
+  }
+
+  public String getName() {
+    return name;
+  }
+
+  /**
+   * Returns the value of the attribute with the specified name, or an empty string if the element has no such
+   * attribute (the same as {@link org.w3c.dom.Element#getAttribute(String)}).
+   */
+  public String getAttribute(final String attributeName) {
+    for (int i = 0; i < attributes.length; i += 2) {
+      if (attributes[i].equals(attributeName)) {
+        return attributes[i + 1];
+      }
+    }
+    return "";
+  }
+
+  public boolean hasAttribute(final String attributeName) {
+    for (int i = 0; i < attributes.length; i += 2) {
+      if (attributes[i].equals(attributeName)) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  /**
+   * Returns all child elements of this element in document order.
+   */
+  public List<XmlElement> getChildren() {
+    return children;
+  }
+
+  /**
+   * Returns the child elements of this element with the specified name in document order.
+   */
+  public List<XmlElement> getChildren(final String childName) {
+    final List<XmlElement> namedChildren = new ArrayList<>();
+    for (final XmlElement child : children) {
+      if (child.name.equals(childName)) {
+        namedChildren.add(child);
+      }
+    }
+    return namedChildren;
+  }
+
+  /**
+   * Returns the text directly contained by this element (not by its descendants), or an empty string if it has none.
+   */
+  public String getText() {
+    return text;
+  }
+}
@@ -0,0 +1,214 @@
+package games.strategy.engine.data.gameparser;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.function.Predicate;
+
+import javax.annotation.Nullable;
+import javax.xml.parsers.ParserConfigurationException;
+import javax.xml.parsers.SAXParser;
+import javax.xml.parsers.SAXParserFactory;
+
+import org.w3c.dom.Element;
+import org.w3c.dom.NamedNodeMap;
+import org.w3c.dom.Node;
+import org.w3c.dom.NodeList;
+import org.xml.sax.Attributes;
+import org.xml.sax.ErrorHandler;
+import org.xml.sax.InputSource;
+import org.xml.sax.SAXException;
+import org.xml.sax.SAXParseException;
+import org.xml.sax.helpers.DefaultHandler;
+
+/**
+ * Reads game XML into a tree of {@link XmlElement}s.
+ *
+ * <p>
+ * {@link #read(InputStream, String, Predicate, ErrorHandler)} streams the document in a single pass, without ever
+ * holding a W3C DOM, and can skip whole sections the caller does not need. The document is validated against its DTD
+ * while it is streamed; the StAX parser of the JDK cannot validate, so the document is streamed with SAX.
+ * {@link #fromDom(Element)} converts an already parsed DOM.
+ * </p>
+ */
+public final class XmlElementReader {
+  private static final SAXParserFactory parserFactory = newParserFactory();
+
+  private XmlElementReader() {}
+
+  private static SAXParserFactory newParserFactory() {
+    final SAXParserFactory factory = SAXParserFactory.newInstance();
+    // a validating parser also reads the DTD, so the default values it declares for attributes are reported
+    factory.setValidating(true);
+    return factory;
+  }
+
+  /**
+   * Streams the XML document from the specified stream, validating it against its DTD.
+   *
+   * @param stream The stream from which the document is read.
+   * @param systemId The system ID against which relative references in the document (e.g. to the DTD) are resolved.
+   * @param sectionFilter Selects, by name, the children of the root element that are read; all other children of the
+   *        root element are validated but skipped.
+   * @param errorHandler Receives the validity errors and warnings; the document is still read unless it throws.
+   *
+   * @return The root element of the document.
+   *
+   * @throws SAXException If the document is not well-formed, or if the error handler throws.
+   * @throws IOException If the document cannot be read.
+   */
+  public static XmlElement read(
+      final InputStream stream,
+      final String systemId,
+      final Predicate<String> sectionFilter,
+      final ErrorHandler errorHandler) throws SAXException, IOException {
+    checkNotNull(stream);
+    checkNotNull(systemId);
+    checkNotNull(sectionFilter);
+    checkNotNull(errorHandler);
+
+    final SAXParser parser;
+    try {
+      synchronized (parserFactory) {
+        parser = parserFactory.newSAXParser();
+      }
+    } catch (final ParserConfigurationException e) {
+      throw new IllegalStateException("failed to create XML parser", e);
+    }
+    final InputSource source = new InputSource(stream);
+    source.setSystemId(systemId);
+    final TreeBuilder treeBuilder = new TreeBuilder(sectionFilter, errorHandler);
+    parser.parse(source, treeBuilder);
+    if (treeBuilder.root == null) {
+      throw new SAXException("document has no root element");
+    }
+    return treeBuilder.root;
+  }
+
+  private static final class TreeBuilder extends DefaultHandler {
+    private final Predicate<String> sectionFilter;
+    private final ErrorHandler errorHandler;
+    private final Deque<Builder> builders = new ArrayDeque<>();
+    // the depth of the element being read within a skipped section, or 0 when no section is being skipped
+    private int skippedDepth;
+    @Nullable
+    XmlElement root;
+
+    TreeBuilder(final Predicate<String> sectionFilter, final ErrorHandler errorHandler) {
+      this.sectionFilter = sectionFilter;
+      this.errorHandler = errorHandler;
+    }
+
+    @Override
+    public void startElement(final String uri, final String localName, final String qualifiedName,
+        final Attributes attributes) {
+      if (skippedDepth > 0) {
+        skippedDepth++;
+      } else if (builders.size() == 1 && !sectionFilter.test(qualifiedName)) {
+        skippedDepth = 1;
+      } else {
+        builders.push(new Builder(qualifiedName, attributes));
+      }
+    }
+
+    @Override
+    public void characters(final char[] ch, final int start, final int length) {
+      if (skippedDepth == 0 && !builders.isEmpty()) {
+        builders.peek().appendText(ch, start, length);
+      }
+    }
+
+    @Override
+    public void endElement(final String uri, final String localName, final String qualifiedName) {
+      if (skippedDepth > 0) {
+        skippedDepth--;
+        return;
+      }
+      final XmlElement element = builders.pop().build();
+      if (builders.isEmpty()) {
+        root = element;
+      } else {
+        builders.peek().children.add(element);
+      }
+    }
+
+    @Override
+    public void warning(final SAXParseException e) throws SAXException {
+      errorHandler.warning(e);
+    }
+
+    @Override
+    public void error(final SAXParseException e) throws SAXException {
+      errorHandler.error(e);
+    }
+
+    @Override
+    public void fatalError(final SAXParseException e) throws SAXException {
+      errorHandler.fatalError(e);
+      throw e;
+    }
+  }
+
+  /**
+   * Converts the specified DOM element and its descendants.
+   */
+  public static XmlElement fromDom(final Element element) {
+    checkNotNull(element);
+
+    final NamedNodeMap attributeNodes = element.getAttributes();
+    final String[] attributes = new String[attributeNodes.getLength() * 2];
+    for (int i = 0; i < attributeNodes.getLength(); i++) {
+      attributes[2 * i] = attributeNodes.item(i).getNodeName();
+      attributes[2 * i + 1] = attributeNodes.item(i).getNodeValue();
+    }
+    final NodeList childNodes = element.getChildNodes();
+    final List<XmlElement> children = new ArrayList<>();
+    final StringBuilder text = new StringBuilder();
+    for (int i = 0; i < childNodes.getLength(); i++) {
+      final Node child = childNodes.item(i);
+      if (child.getNodeType() == Node.ELEMENT_NODE) {
+        children.add(fromDom((Element) child));
+      } else if (child.getNodeType() == Node.TEXT_NODE || child.getNodeType() == Node.CDATA_SECTION_NODE) {
+        text.append(child.getNodeValue());
+      }
+    }
+    return new XmlElement(element.getTagName(), attributes, children, getText(text.toString(), children));
+  }
+
+  private static String getText(final String text, final List<XmlElement> children) {
+    // whitespace used to indent child elements is not content
+    return (!children.isEmpty() && text.trim().isEmpty()) ? "" : text;
+  }
+
+  private static final class Builder {
+    final String name;
+    final String[] attributes;
+    final List<XmlElement> children = new ArrayList<>();
+    StringBuilder text;
+
+    Builder(final String name, final Attributes attributes) {
+      this.name = name;
+      this.attributes = new String[attributes.getLength() * 2];
+      for (int i = 0; i < attributes.getLength(); i++) {
+        this.attributes[2 * i] = attributes.getQName(i);
+        this.attributes[2 * i + 1] = attributes.getValue(i);
+      }
+    }
+
+    void appendText(final char[] ch, final int start, final int length) {
+      if (text == null) {
+        text = new StringBuilder();
+      }
+      text.append(ch, start, length);
+    }
+
+    XmlElement build() {
+      return new XmlElement(name, attributes, children, getText((text != null) ? text.toString() : "", children));
+    }
+  }
+}
@@ -11,10 +11,16 @@ import java.util.Arrays;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.function.BooleanSupplier;
+import java.util.function.Function;
+import java.util.function.IntSupplier;
 import java.util.zip.GZIPInputStream;
 import java.util.zip.GZIPOutputStream;
 
+import javax.annotation.Nullable;
+
 import games.strategy.debug.ClientLogger;
+import games.strategy.engine.data.ChangeTracker;
 import games.strategy.engine.data.GameData;
 import games.strategy.engine.data.GameDataComponent;
 import games.strategy.io.IoUtils;
@@ -42,6 +48,10 @@ public class GameProperties extends GameDataComponent {
 
   private Map<String, IEditableProperty> playerProperties = new HashMap<>();
 
+  // incremented whenever a property is added, set or removed; readers resolved before that may be stale
+  private transient volatile int structureVersion;
+  private transient volatile @Nullable TypedView<?> typedView;
+
   /**
    * Creates a new instance of GameProperties.
    *
@@ -70,6 +80,8 @@ public class GameProperties extends GameDataComponent {
       constantProperties.put(key, value);
       ordering.add(key);
     }
+    structureVersion++;
+    recordModification(ChangeTracker.Aspect.GAME_PROPERTIES);
   }
 
   /**
@@ -116,10 +128,87 @@ public class GameProperties extends GameDataComponent {
     return (String) value;
   }
 
+  /**
+   * Returns a reader of the boolean property with the specified key that, unlike {@link #get(String, boolean)}, looks
+   * the key up only once. The reader sees later changes to the value of an editable or player property, but not
+   * properties added, set or removed after it was created; use {@link #getTypedView(Class, Function)} to hold readers.
+   */
+  public BooleanSupplier newBooleanReader(final String key, final boolean defaultValue) {
+    final IEditableProperty property = getEditableOrPlayerProperty(key);
+    if (property != null) {
+      return () -> {
+        final Object value = property.getValue();
+        return (value == null) ? defaultValue : (Boolean) value;
+      };
+    }
+    final Object value = constantProperties.get(key);
+    if (value == null || value instanceof Boolean) {
+      final boolean constant = (value == null) ? defaultValue : (Boolean) value;
+      return () -> constant;
+    }
+    // fail when read, as get(String, boolean) does
+    return () -> (Boolean) value;
+  }
+
+  /**
+   * Returns a reader of the integer property with the specified key that, unlike {@link #get(String, int)}, looks the
+   * key up only once. See {@link #newBooleanReader(String, boolean)} for when the reader is current.
+   */
+  public IntSupplier newIntReader(final String key, final int defaultValue) {
+    final IEditableProperty property = getEditableOrPlayerProperty(key);
+    if (property != null) {
+      return () -> {
+        final Object value = property.getValue();
+        return (value == null) ? defaultValue : (Integer) value;
+      };
+    }
+    final Object value = constantProperties.get(key);
+    if (value == null || value instanceof Integer) {
+      final int constant = (value == null) ? defaultValue : (Integer) value;
+      return () -> constant;
+    }
+    return () -> (Integer) value;
+  }
+
+  private @Nullable IEditableProperty getEditableOrPlayerProperty(final String key) {
+    final IEditableProperty editableProperty = editableProperties.get(key);
+    if (editableProperty != null) {
+      return editableProperty;
+    }
+    return (playerProperties == null) ? null : playerProperties.get(key);
+  }
+
+  /**
+   * Returns a view of these properties, typically a set of readers created by {@link #newBooleanReader(String,
+   * boolean)} and {@link #newIntReader(String, int)}, that is built by {@code factory} the first time it is requested
+   * and again only after a property has been added, set or removed. Only one view type is cached at a time.
+   */
+  public <T> T getTypedView(final Class<T> type, final Function<GameProperties, ? extends T> factory) {
+    final TypedView<?> view = typedView;
+    final int version = structureVersion;
+    if (view != null && view.version == version && type.isInstance(view.value)) {
+      return type.cast(view.value);
+    }
+    final T value = factory.apply(this);
+    typedView = new TypedView<>(version, value);
+    return value;
+  }
+
+  private static final class TypedView<T> {
+    final int version;
+    final T value;
+
+    TypedView(final int version, final T value) {
+      this.version = version;
+      this.value = value;
+    }
+  }
+
   public void addEditableProperty(final IEditableProperty property) {
     // add to the editable properties
     editableProperties.put(property.getName(), property);
     ordering.add(property.getName());
+    structureVersion++;
   }
 
   /**
@@ -143,6 +232,7 @@ public class GameProperties extends GameDataComponent {
       playerProperties = new HashMap<>();
     }
     playerProperties.put(property.getName(), property);
+    structureVersion++;
   }
 
   public IEditableProperty getPlayerProperty(final String name) {
@@ -8,9 +8,13 @@ import java.lang.reflect.Method;
 import java.lang.reflect.Proxy;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Supplier;
+
+import javax.annotation.Nullable;
 
 import games.strategy.engine.GameOverException;
 import games.strategy.engine.message.MessengerException;
+import games.strategy.performance.LockProfiler;
 import games.strategy.triplea.util.WrappedInvocationHandler;
 
 /**
@@ -29,6 +33,10 @@ import games.strategy.triplea.util.WrappedInvocationHandler;
  * </p>
  */
 public class DelegateExecutionManager {
+  private static final String DELEGATE_EXECUTION = "delegate_execution";
+  private static final String DELEGATE_EXECUTION_BLOCK = "delegate_execution_block";
+  private static final LockProfiler lockProfiler = LockProfiler.getInstance();
+
   /*
    * Delegate execution can be thought of as a read/write lock.
    * Many delegates can be executing at one time (to execute you acquire the read lock), but
@@ -55,7 +63,13 @@ public class DelegateExecutionManager {
    * </p>
    */
   public boolean blockDelegateExecution(final int timeToWaitMs) throws InterruptedException {
-    return readWriteLock.writeLock().tryLock(timeToWaitMs, TimeUnit.MILLISECONDS);
+    final boolean profiled = lockProfiler.isEnabled();
+    final long startNanos = profiled ? System.nanoTime() : 0;
+    final boolean blocked = readWriteLock.writeLock().tryLock(timeToWaitMs, TimeUnit.MILLISECONDS);
+    if (blocked && profiled) {
+      lockProfiler.acquired(DELEGATE_EXECUTION_BLOCK, readWriteLock.writeLock(), System.nanoTime() - startNanos);
+    }
+    return blocked;
   }
 
   /**
@@ -63,6 +77,7 @@ public class DelegateExecutionManager {
    */
   public void resumeDelegateExecution() {
     readWriteLock.writeLock().unlock();
+    lockProfiler.released(readWriteLock.writeLock());
   }
 
   private boolean currentThreadHasReadLock() {
@@ -124,7 +139,8 @@ public class DelegateExecutionManager {
           return super.handle(method, args);
         }
         assertGameNotOver();
-        enterDelegateExecution();
+        // profile the delegate method, as the call site of an inbound call is the messenger invoking it
+        enterDelegateExecution(() -> implementor.getClass().getName() + '.' + method.getName());
         try {
           return method.invoke(implementor, args);
         } catch (final InvocationTargetException ite) {
@@ -147,6 +163,7 @@ public class DelegateExecutionManager {
   public void leaveDelegateExecution() {
     readWriteLock.readLock().unlock();
     currentThreadHasReadLock.set(Boolean.FALSE);
+    lockProfiler.released(readWriteLock.readLock());
   }
 
   /**
@@ -161,9 +178,19 @@ public class DelegateExecutionManager {
    * @throws IllegalStateException If a delegate is currently executing on the current thread.
    */
   public void enterDelegateExecution() {
+    enterDelegateExecution(null);
+  }
+
+  private void enterDelegateExecution(final @Nullable Supplier<String> site) {
     checkState(!currentThreadHasReadLock(), "Already locked?");
 
+    // only read the clock while profiling; every remote call into a delegate enters here
+    final boolean profiled = lockProfiler.isEnabled();
+    final long startNanos = profiled ? System.nanoTime() : 0;
     readWriteLock.readLock().lock();
     currentThreadHasReadLock.set(Boolean.TRUE);
+    if (profiled) {
+      lockProfiler.acquired(DELEGATE_EXECUTION, readWriteLock.readLock(), System.nanoTime() - startNanos, site);
+    }
   }
 }
@@ -161,6 +161,18 @@ public class ClientGame extends AbstractGame {
     }
   }
 
+  /**
+   * Replays the modifications made to the game by the server since the snapshot this game was started from was
+   * captured, as if they had been received on the game modification channel.
+   *
+   * @param gameModifications The encoded modifications passed to {@code IObserverWaitingToJoin#joinGame}.
+   *
+   * @throws IOException If the modifications cannot be decoded.
+   */
+  public void replayGameModifications(final byte[] gameModifications) throws IOException {
+    GameModificationLog.replay(gameModifications, gameData, gameModifiedChannel);
+  }
+
   public void shutDown() {
     if (isGameOver) {
       return;
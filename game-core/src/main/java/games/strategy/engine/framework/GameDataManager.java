@@ -21,6 +21,7 @@ import games.strategy.engine.GameEngineVersion;
 import games.strategy.engine.data.GameData;
 import games.strategy.engine.delegate.IDelegate;
 import games.strategy.engine.framework.headlessGameServer.HeadlessGameServer;
+import games.strategy.engine.history.HistoryOmittingObjectOutputStream;
 import games.strategy.io.IoUtils;
 import games.strategy.triplea.UrlConstants;
 import games.strategy.util.Version;
@@ -156,9 +157,23 @@ public final class GameDataManager {
       final GameData data,
       final boolean saveDelegateInfo)
       throws IOException {
+    saveGame(sink, data, saveDelegateInfo, true);
+  }
+
+  /**
+   * Saves the specified game data to the specified stream, optionally replacing its history with an empty history.
+   * Leaving out the history does not modify {@code data}, so only its read lock is held while it is saved.
+   */
+  static void saveGame(
+      final OutputStream sink,
+      final GameData data,
+      final boolean saveDelegateInfo,
+      final boolean saveHistory)
+      throws IOException {
     // write internally first in case of error
     final byte[] bytes = IoUtils.writeToMemory(os -> {
-      try (ObjectOutputStream outStream = new ObjectOutputStream(os)) {
+      try (ObjectOutputStream outStream =
+          saveHistory ? new ObjectOutputStream(os) : new HistoryOmittingObjectOutputStream(os, data)) {
         outStream.writeObject(ClientContext.engineVersion());
         data.acquireReadLock();
         try {
@@ -7,7 +7,6 @@ import java.io.ObjectOutputStream;
 import games.strategy.debug.ClientLogger;
 import games.strategy.engine.data.GameData;
 import games.strategy.engine.data.GameObjectOutputStream;
-import games.strategy.engine.history.History;
 import games.strategy.io.IoUtils;
 
 /**
@@ -18,14 +17,37 @@ public final class GameDataUtils {
 
   /**
    * Create a deep copy of GameData without history as it can get large.
-   * <strong>You should have the game data's write lock before calling this method</strong>
+   * <strong>You should have the game data's read or write lock before calling this method</strong>
    */
   public static GameData cloneGameDataWithoutHistory(final GameData data, final boolean copyDelegates) {
-    final History temp = data.getHistory();
-    data.resetHistory();
-    final GameData dataCopy = cloneGameData(data, copyDelegates);
-    data.setHistory(temp);
-    return dataCopy;
+    final byte[] bytes = serializeGameDataWithoutHistory(data, copyDelegates);
+    return bytes == null ? null : deserializeGameData(bytes);
+  }
+
+  /**
+   * Serializes GameData without history, so that any number of copies can be made from it with
+   * {@link #deserializeGameData(byte[])} without serializing the game again.
+   * <strong>You should have the game data's read or write lock before calling this method</strong>
+   */
+  public static byte[] serializeGameDataWithoutHistory(final GameData data, final boolean copyDelegates) {
+    try {
+      return IoUtils.writeToMemory(os -> GameDataManager.saveGame(os, data, copyDelegates, false));
+    } catch (final IOException e) {
+      ClientLogger.logQuietly("Failed to serialize game data", e);
+      return null;
+    }
+  }
+
+  /**
+   * Creates a copy of GameData from the bytes returned by {@link #serializeGameDataWithoutHistory(GameData, boolean)}.
+   */
+  public static GameData deserializeGameData(final byte[] bytes) {
+    try {
+      return IoUtils.readFromMemory(bytes, GameDataManager::loadGame);
+    } catch (final IOException e) {
+      ClientLogger.logQuietly("Failed to deserialize game data", e);
+      return null;
+    }
   }
 
   public static GameData cloneGameData(final GameData data) {
@@ -0,0 +1,103 @@
+package games.strategy.engine.framework;
+
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.List;
+
+import javax.annotation.concurrent.ThreadSafe;
+
+import games.strategy.engine.data.Change;
+import games.strategy.engine.data.GameData;
+import games.strategy.engine.data.GameObjectInputStream;
+import games.strategy.engine.data.GameObjectOutputStream;
+import games.strategy.engine.data.PlayerID;
+import games.strategy.io.IoUtils;
+
+/**
+ * Records the modifications made to a game while a snapshot of it is streamed to a joining observer, so the observer
+ * can replay them on its copy of the snapshot before it starts the game.
+ *
+ * <p>
+ * The modifications are encoded with the game object streams, so they can only be decoded once the game data of the
+ * snapshot has been loaded.
+ * </p>
+ */
+@ThreadSafe
+final class GameModificationLog implements IGameModifiedChannel {
+  // guarded by this
+  private final List<Modification> modifications = new ArrayList<>();
+
+  private synchronized void add(final Modification modification) {
+    modifications.add(modification);
+  }
+
+  @Override
+  public void gameDataChanged(final Change change) {
+    add(channel -> channel.gameDataChanged(change));
+  }
+
+  @Override
+  public void startHistoryEvent(final String event, final Object renderingData) {
+    add(channel -> channel.startHistoryEvent(event, renderingData));
+  }
+
+  @Override
+  public void startHistoryEvent(final String event) {
+    add(channel -> channel.startHistoryEvent(event));
+  }
+
+  @Override
+  public void addChildToEvent(final String text, final Object renderingData) {
+    add(channel -> channel.addChildToEvent(text, renderingData));
+  }
+
+  @Override
+  public void stepChanged(final String stepName, final String delegateName, final PlayerID player, final int round,
+      final String displayName, final boolean loadedFromSavedGame) {
+    add(channel -> channel.stepChanged(stepName, delegateName, player, round, displayName, loadedFromSavedGame));
+  }
+
+  /**
+   * Does nothing; the game shutting down is not a modification an observer could replay.
+   */
+  @Override
+  public void shutDown() {}
+
+  /**
+   * Returns the modifications recorded so far, encoded with the game object streams.
+   */
+  synchronized byte[] encode() throws IOException {
+    final List<Modification> encodedModifications = new ArrayList<>(modifications);
+    return IoUtils.writeToMemory(os -> {
+      try (ObjectOutputStream out = new GameObjectOutputStream(os)) {
+        out.writeObject(encodedModifications);
+      }
+    });
+  }
+
+  /**
+   * Replays the specified encoded modifications on the specified channel of a game started from the snapshot whose
+   * game data is specified.
+   */
+  static void replay(final byte[] encodedModifications, final GameData data, final IGameModifiedChannel channel)
+      throws IOException {
+    final List<Modification> modifications = IoUtils.readFromMemory(encodedModifications, is -> {
+      try (ObjectInputStream in = new GameObjectInputStream(new GameObjectStreamFactory(data), is)) {
+        @SuppressWarnings("unchecked")
+        final List<Modification> decoded = (List<Modification>) in.readObject();
+        return decoded;
+      } catch (final ClassNotFoundException e) {
+        throw new IOException(e);
+      }
+    });
+    modifications.forEach(modification -> modification.replay(channel));
+  }
+
+  @FunctionalInterface
+  private interface Modification extends Serializable {
+    void replay(IGameModifiedChannel channel);
+  }
+}
@@ -4,4 +4,15 @@ import games.strategy.engine.message.IRemote;
 
 public interface IServerRemote extends IRemote {
   byte[] getSavedGame();
+
+  /**
+   * Returns the next chunk of a game snapshot being streamed to a joining observer. Observers pull one chunk at a
+   * time, so the server never has more than a single bounded chunk in flight per observer.
+   *
+   * @param snapshotId The snapshot identifier passed to {@code IObserverWaitingToJoin#receiveGameSnapshot}.
+   * @param offset The offset of the first snapshot byte to return.
+   *
+   * @return The chunk starting at {@code offset}; empty if {@code offset} is at or beyond the end of the snapshot.
+   */
+  byte[] getSnapshotChunk(long snapshotId, int offset);
 }
@@ -0,0 +1,165 @@
+package games.strategy.engine.framework;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArraySet;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Consumer;
+import java.util.function.IntSupplier;
+import java.util.function.LongSupplier;
+import java.util.function.Supplier;
+
+import javax.annotation.concurrent.ThreadSafe;
+
+import games.strategy.debug.ClientLogger;
+import games.strategy.engine.delegate.DelegateExecutionManager;
+import games.strategy.engine.framework.startup.mc.IObserverWaitingToJoin;
+import games.strategy.engine.message.ConnectionLostException;
+import games.strategy.net.INode;
+import games.strategy.util.function.ThrowingConsumer;
+
+/**
+ * Adds observers to a game in progress.
+ *
+ * <p>
+ * Delegate execution is blocked once per observer, just long enough to capture a snapshot of the game and to start
+ * recording the modifications made to the game. The snapshot is then streamed to the observer while the game keeps
+ * running. Finally, delegate execution is blocked again while the observer replays the recorded modifications on the
+ * snapshot and starts its game. Observers joining while the game state does not change share a single snapshot.
+ * </p>
+ */
+@ThreadSafe
+final class ObserverJoiner {
+  private final DelegateExecutionManager delegateExecutionManager;
+  private final ThrowingConsumer<OutputStream, IOException> snapshotEncoder;
+  private final LongSupplier gameStateVersion;
+  private final Supplier<Map<String, INode>> playerMapping;
+  private final IntSupplier timeoutSeconds;
+  private final ObserverSnapshotCache snapshotCache = new ObserverSnapshotCache();
+  private final Set<GameModificationLog> modificationLogs = new CopyOnWriteArraySet<>();
+
+  /**
+   * @param snapshotEncoder Encodes a snapshot of the game; only called while delegate execution is blocked.
+   * @param gameStateVersion Supplies a version of the game state that changes whenever the game is modified.
+   * @param timeoutSeconds Supplies the time an observer is given to receive the snapshot, and then to join the game.
+   */
+  ObserverJoiner(
+      final DelegateExecutionManager delegateExecutionManager,
+      final ThrowingConsumer<OutputStream, IOException> snapshotEncoder,
+      final LongSupplier gameStateVersion,
+      final Supplier<Map<String, INode>> playerMapping,
+      final IntSupplier timeoutSeconds) {
+    this.delegateExecutionManager = checkNotNull(delegateExecutionManager);
+    this.snapshotEncoder = checkNotNull(snapshotEncoder);
+    this.gameStateVersion = checkNotNull(gameStateVersion);
+    this.playerMapping = checkNotNull(playerMapping);
+    this.timeoutSeconds = checkNotNull(timeoutSeconds);
+  }
+
+  /**
+   * Records a modification made to the game for the observers that are receiving a snapshot. Must be called in the
+   * thread modifying the game, after the modification has been made.
+   */
+  void recordModification(final Consumer<IGameModifiedChannel> modification) {
+    modificationLogs.forEach(modification);
+  }
+
+  byte[] getSnapshotChunk(final long snapshotId, final int offset) {
+    return snapshotCache.getChunk(snapshotId, offset);
+  }
+
+  /**
+   * Adds a new observer to the game in progress.
+   */
+  void addObserver(final IObserverWaitingToJoin blockingObserver,
+      final IObserverWaitingToJoin nonBlockingObserver, final INode newNode) {
+    final GameModificationLog modificationLog = new GameModificationLog();
+    long snapshotId = 0;
+    try {
+      if (!blockDelegateExecution(nonBlockingObserver)) {
+        return;
+      }
+      try {
+        snapshotId = snapshotCache.acquire(gameStateVersion.getAsLong(), snapshotEncoder);
+        modificationLogs.add(modificationLog);
+      } finally {
+        delegateExecutionManager.resumeDelegateExecution();
+      }
+
+      final long streamedSnapshotId = snapshotId;
+      final int size = snapshotCache.getSize(snapshotId);
+      if (!callObserver(() -> blockingObserver.receiveGameSnapshot(streamedSnapshotId, size), newNode)) {
+        nonBlockingObserver.cannotJoinGame("Failed to receive the game in time.");
+        return;
+      }
+
+      if (!blockDelegateExecution(nonBlockingObserver)) {
+        return;
+      }
+      try {
+        modificationLogs.remove(modificationLog);
+        final byte[] modifications = modificationLog.encode();
+        final Map<String, INode> players = playerMapping.get();
+        if (!callObserver(() -> blockingObserver.joinGame(streamedSnapshotId, modifications, players), newNode)) {
+          nonBlockingObserver.cannotJoinGame("Failed to join in time.");
+        }
+      } finally {
+        delegateExecutionManager.resumeDelegateExecution();
+      }
+    } catch (final InterruptedException e) {
+      Thread.currentThread().interrupt();
+      nonBlockingObserver.cannotJoinGame(e.getMessage());
+    } catch (final Exception e) {
+      ClientLogger.logQuietly("Failed to join game", e);
+      nonBlockingObserver.cannotJoinGame(e.getMessage());
+    } finally {
+      modificationLogs.remove(modificationLog);
+      if (snapshotId != 0) {
+        snapshotCache.release(snapshotId);
+      }
+    }
+  }
+
+  private boolean blockDelegateExecution(final IObserverWaitingToJoin nonBlockingObserver) {
+    try {
+      if (!delegateExecutionManager.blockDelegateExecution(2000)) {
+        nonBlockingObserver.cannotJoinGame("Could not block delegate execution");
+        return false;
+      }
+      return true;
+    } catch (final InterruptedException e) {
+      Thread.currentThread().interrupt();
+      nonBlockingObserver.cannotJoinGame(e.getMessage());
+      return false;
+    }
+  }
+
+  /**
+   * Calls the observer in a new thread, so an observer that stalls cannot hang the game.
+   *
+   * @return {@code true} if the call completed in time; {@code false} if it failed or timed out.
+   */
+  private boolean callObserver(final Runnable call, final INode newNode) throws InterruptedException {
+    final CountDownLatch waitOnObserver = new CountDownLatch(1);
+    final AtomicBoolean completed = new AtomicBoolean();
+    new Thread(() -> {
+      try {
+        call.run();
+        completed.set(true);
+      } catch (final ConnectionLostException cle) {
+        System.out.println("Connection lost to observer while joining: " + newNode.getName());
+      } catch (final Exception e) {
+        ClientLogger.logQuietly("Failed to join game", e);
+      } finally {
+        waitOnObserver.countDown();
+      }
+    }, "Waiting on observer to finish joining: " + newNode.getName()).start();
+    return waitOnObserver.await(timeoutSeconds.getAsInt(), TimeUnit.SECONDS) && completed.get();
+  }
+}
@@ -0,0 +1,116 @@
+package games.strategy.engine.framework;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkNotNull;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+import javax.annotation.Nullable;
+import javax.annotation.concurrent.ThreadSafe;
+
+import games.strategy.io.IoUtils;
+import games.strategy.util.function.ThrowingConsumer;
+
+/**
+ * Holds the encoded game snapshots that are streamed to observers joining a game in progress.
+ *
+ * <p>
+ * Observers that join while the game state has not changed share a single encoded snapshot, so the server serializes
+ * the game at most once per game state, no matter how many observers are joining. Each snapshot is reference counted
+ * and is discarded once the last observer streaming it has released it.
+ * </p>
+ */
+@ThreadSafe
+final class ObserverSnapshotCache {
+  /**
+   * The maximum number of bytes returned by a single call to {@link #getChunk(long, int)}.
+   */
+  static final int CHUNK_SIZE = 256 * 1024;
+
+  private final Map<Long, Snapshot> snapshotsById = new HashMap<>();
+  private @Nullable Snapshot latestSnapshot;
+  private long nextSnapshotId = 1;
+
+  /**
+   * Returns the identifier of a snapshot of the game in the specified state, encoding a new snapshot only if no
+   * snapshot of that state is cached. The caller must ensure the game state cannot change while this method is
+   * running (e.g. by blocking delegate execution), and must call {@link #release(long)} when it no longer needs the
+   * snapshot.
+   *
+   * @param gameStateVersion The version of the game state to be captured.
+   * @param encoder The consumer used to encode the game when no cached snapshot of {@code gameStateVersion} exists.
+   *
+   * @throws IOException If an error occurs while encoding the game.
+   */
+  synchronized long acquire(
+      final long gameStateVersion,
+      final ThrowingConsumer<OutputStream, IOException> encoder) throws IOException {
+    checkNotNull(encoder);
+
+    if (latestSnapshot == null || latestSnapshot.gameStateVersion != gameStateVersion) {
+      latestSnapshot = new Snapshot(nextSnapshotId++, gameStateVersion, IoUtils.writeToMemory(encoder));
+      snapshotsById.put(latestSnapshot.id, latestSnapshot);
+    }
+    latestSnapshot.references++;
+    return latestSnapshot.id;
+  }
+
+  /**
+   * Releases a snapshot previously returned by {@link #acquire(long, ThrowingConsumer)}.
+   */
+  synchronized void release(final long snapshotId) {
+    final Snapshot snapshot = snapshotsById.get(snapshotId);
+    if (snapshot != null && --snapshot.references == 0) {
+      snapshotsById.remove(snapshotId);
+      if (snapshot == latestSnapshot) {
+        latestSnapshot = null;
+      }
+    }
+  }
+
+  /**
+   * Returns the size in bytes of the specified snapshot.
+   *
+   * @throws IllegalArgumentException If the snapshot does not exist or has already been released.
+   */
+  synchronized int getSize(final long snapshotId) {
+    return getSnapshot(snapshotId).bytes.length;
+  }
+
+  /**
+   * Returns at most {@link #CHUNK_SIZE} bytes of the specified snapshot starting at the specified offset. An empty
+   * array is returned when {@code offset} is at or beyond the end of the snapshot.
+   *
+   * @throws IllegalArgumentException If the snapshot does not exist or has already been released.
+   */
+  synchronized byte[] getChunk(final long snapshotId, final int offset) {
+    checkArgument(offset >= 0, "offset must not be negative");
+
+    final byte[] bytes = getSnapshot(snapshotId).bytes;
+    final int from = Math.min(offset, bytes.length);
+    return Arrays.copyOfRange(bytes, from, Math.min(bytes.length, from + CHUNK_SIZE));
+  }
+
+  private Snapshot getSnapshot(final long snapshotId) {
+    final Snapshot snapshot = snapshotsById.get(snapshotId);
+    checkArgument(snapshot != null, "unknown snapshot: " + snapshotId);
+    return snapshot;
+  }
+
+  private static final class Snapshot {
+    final long id;
+    final long gameStateVersion;
+    final byte[] bytes;
+    int references;
+
+    Snapshot(final long id, final long gameStateVersion, final byte[] bytes) {
+      this.id = id;
+      this.gameStateVersion = gameStateVersion;
+      this.bytes = bytes;
+    }
+  }
+}
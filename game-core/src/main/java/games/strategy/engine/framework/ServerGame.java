@@ -10,6 +10,7 @@ import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
 
 import games.strategy.debug.ClientLogger;
 import games.strategy.debug.ErrorConsole;
@@ -37,7 +38,6 @@ import games.strategy.engine.history.Event;
 import games.strategy.engine.history.EventChild;
 import games.strategy.engine.history.HistoryNode;
 import games.strategy.engine.history.Step;
-import games.strategy.engine.message.ConnectionLostException;
 import games.strategy.engine.message.IRemote;
 import games.strategy.engine.message.MessageContext;
 import games.strategy.engine.message.RemoteName;
@@ -48,6 +48,7 @@ import games.strategy.engine.random.RandomStats;
 import games.strategy.io.IoUtils;
 import games.strategy.net.INode;
 import games.strategy.net.Messengers;
+import games.strategy.performance.MetricRegistry;
 import games.strategy.triplea.TripleAPlayer;
 import games.strategy.triplea.settings.ClientSetting;
 import games.strategy.util.Interruptibles;
@@ -57,7 +58,12 @@ import games.strategy.util.Interruptibles;
  * Lookups to get a GamePlayer from PlayerId and the current Delegate.
  */
 public class ServerGame extends AbstractGame {
-  static final RemoteName SERVER_REMOTE =
+  /**
+   * The time from starting a step until it ends, including the time the player takes, labeled by delegate.
+   */
+  private static final String STEP_DURATION = "triplea_game_step_duration_seconds";
+
+  public static final RemoteName SERVER_REMOTE =
       new RemoteName("games.strategy.engine.framework.ServerGame.SERVER_REMOTE", IServerRemote.class);
 
   public static final String GAME_HAS_BEEN_SAVED_PROPERTY =
@@ -67,6 +73,12 @@ public class ServerGame extends AbstractGame {
   private IRandomSource randomSource = new PlainRandomSource();
   private IRandomSource delegateRandomSource;
   private final DelegateExecutionManager delegateExecutionManager = new DelegateExecutionManager();
+  private final ObserverJoiner observerJoiner;
+  /**
+   * Incremented every time the game data or its history is modified; used to share a snapshot between the observers
+   * joining while the game state does not change.
+   */
+  private final AtomicLong gameStateVersion = new AtomicLong();
   private InGameLobbyWatcherWrapper inGameLobbyWatcher;
   private boolean needToInitialize = true;
   /**
@@ -92,12 +104,16 @@ public class ServerGame extends AbstractGame {
   public ServerGame(final GameData data, final Set<IGamePlayer> localPlayers,
       final Map<String, INode> remotePlayerMapping, final Messengers messengers) {
     super(data, localPlayers, remotePlayerMapping, messengers);
+    observerJoiner = new ObserverJoiner(delegateExecutionManager, this::saveGame, gameStateVersion::get,
+        playerManager::getPlayerMapping, ClientSetting.SERVER_OBSERVER_JOIN_WAIT_TIME::intValue);
     gameModifiedChannel = new IGameModifiedChannel() {
       @Override
       public void gameDataChanged(final Change change) {
         assertCorrectCaller();
         gameData.performChange(change);
         gameData.getHistory().getHistoryWriter().addChange(change);
+        gameStateVersion.incrementAndGet();
+        observerJoiner.recordModification(channel -> channel.gameDataChanged(change));
       }
 
       private void assertCorrectCaller() {
@@ -108,37 +124,42 @@ public class ServerGame extends AbstractGame {
 
       @Override
       public void startHistoryEvent(final String event, final Object renderingData) {
-        startHistoryEvent(event);
+        assertCorrectCaller();
+        gameData.getHistory().getHistoryWriter().startEvent(event);
         if (renderingData != null) {
-          setRenderingData(renderingData);
+          gameData.getHistory().getHistoryWriter().setRenderingData(renderingData);
         }
+        gameStateVersion.incrementAndGet();
+        observerJoiner.recordModification(channel -> channel.startHistoryEvent(event, renderingData));
       }
 
       @Override
       public void startHistoryEvent(final String event) {
         assertCorrectCaller();
         gameData.getHistory().getHistoryWriter().startEvent(event);
+        gameStateVersion.incrementAndGet();
+        observerJoiner.recordModification(channel -> channel.startHistoryEvent(event));
       }
 
       @Override
       public void addChildToEvent(final String text, final Object renderingData) {
         assertCorrectCaller();
         gameData.getHistory().getHistoryWriter().addChildToEvent(new EventChild(text, renderingData));
-      }
-
-      void setRenderingData(final Object renderingData) {
-        assertCorrectCaller();
-        gameData.getHistory().getHistoryWriter().setRenderingData(renderingData);
+        gameStateVersion.incrementAndGet();
+        observerJoiner.recordModification(channel -> channel.addChildToEvent(text, renderingData));
       }
 
       @Override
       public void stepChanged(final String stepName, final String delegateName, final PlayerID player, final int round,
           final String displayName, final boolean loadedFromSavedGame) {
         assertCorrectCaller();
+        observerJoiner.recordModification(
+            channel -> channel.stepChanged(stepName, delegateName, player, round, displayName, loadedFromSavedGame));
         if (loadedFromSavedGame) {
           return;
         }
         gameData.getHistory().getHistoryWriter().startNextStep(stepName, delegateName, player, displayName);
+        gameStateVersion.incrementAndGet();
       }
 
       // nothing to do, we call this
@@ -148,55 +169,31 @@ public class ServerGame extends AbstractGame {
     channelMessenger.registerChannelSubscriber(gameModifiedChannel, IGame.GAME_MODIFICATION_CHANNEL);
     setupDelegateMessaging(data);
     randomStats = new RandomStats(remoteMessenger);
-    final IServerRemote serverRemote = () -> {
-      try {
-        return IoUtils.writeToMemory(this::saveGame);
-      } catch (final IOException e) {
-        throw new IllegalStateException(e);
+    final IServerRemote serverRemote = new IServerRemote() {
+      @Override
+      public byte[] getSavedGame() {
+        try {
+          return IoUtils.writeToMemory(ServerGame.this::saveGame);
+        } catch (final IOException e) {
+          throw new IllegalStateException(e);
+        }
+      }
+
+      @Override
+      public byte[] getSnapshotChunk(final long snapshotId, final int offset) {
+        return observerJoiner.getSnapshotChunk(snapshotId, offset);
       }
     };
     remoteMessenger.registerRemote(serverRemote, SERVER_REMOTE);
   }
 
+  /**
+   * Adds a new observer to the game in progress. Delegate execution is only blocked while a snapshot of the game is
+   * captured and while the observer starts its game; the snapshot is streamed to the observer in between.
+   */
   public void addObserver(final IObserverWaitingToJoin blockingObserver,
       final IObserverWaitingToJoin nonBlockingObserver, final INode newNode) {
-    try {
-      if (!delegateExecutionManager.blockDelegateExecution(2000)) {
-        nonBlockingObserver.cannotJoinGame("Could not block delegate execution");
-        return;
-      }
-    } catch (final InterruptedException e) {
-      Thread.currentThread().interrupt();
-      nonBlockingObserver.cannotJoinGame(e.getMessage());
-      return;
-    }
-    try {
-      final CountDownLatch waitOnObserver = new CountDownLatch(1);
-      final byte[] bytes = IoUtils.writeToMemory(this::saveGame);
-      new Thread(() -> {
-        try {
-          blockingObserver.joinGame(bytes, playerManager.getPlayerMapping());
-          waitOnObserver.countDown();
-        } catch (final ConnectionLostException cle) {
-          System.out.println("Connection lost to observer while joining: " + newNode.getName());
-        } catch (final Exception e) {
-          ClientLogger.logQuietly("Failed to join game", e);
-        }
-      }, "Waiting on observer to finish joining: " + newNode.getName()).start();
-      try {
-        if (!waitOnObserver.await(ClientSetting.SERVER_OBSERVER_JOIN_WAIT_TIME.intValue(), TimeUnit.SECONDS)) {
-          nonBlockingObserver.cannotJoinGame("Taking too long to join.");
-        }
-      } catch (final InterruptedException e) {
-        Thread.currentThread().interrupt();
-        nonBlockingObserver.cannotJoinGame(e.getMessage());
-      }
-    } catch (final Exception e) {
-      ClientLogger.logQuietly("Failed to join game", e);
-      nonBlockingObserver.cannotJoinGame(e.getMessage());
-    } finally {
-      delegateExecutionManager.resumeDelegateExecution();
-    }
+    observerJoiner.addObserver(blockingObserver, nonBlockingObserver, newNode);
   }
 
   private void setupDelegateMessaging(final GameData data) {
@@ -385,6 +382,7 @@ public class ServerGame extends AbstractGame {
     if (isGameOver) {
       return;
     }
+    final long startNanos = System.nanoTime();
     final GameStep currentStep = gameData.getSequence().getStep();
     final IDelegate currentDelegate = currentStep.getDelegate();
     if (!stepIsRestoredFromSavedGame
@@ -413,6 +411,8 @@ public class ServerGame extends AbstractGame {
       autoSave(getAutoSaveAfterFileNameForGameStep(currentStep));
     }
     endStep();
+    MetricRegistry.getInstance().histogram(STEP_DURATION, "delegate", currentDelegate.getName())
+        .record(System.nanoTime() - startNanos, TimeUnit.NANOSECONDS);
     if (isGameOver) {
       return;
     }
@@ -10,6 +10,7 @@ import static games.strategy.engine.framework.CliProperties.LOBBY_HOST;
 import static games.strategy.engine.framework.CliProperties.LOBBY_PORT;
 import static games.strategy.engine.framework.CliProperties.MAP_FOLDER;
 import static games.strategy.engine.framework.CliProperties.TRIPLEA_GAME;
+import static games.strategy.engine.framework.CliProperties.TRIPLEA_METRICS_PORT;
 import static games.strategy.engine.framework.CliProperties.TRIPLEA_NAME;
 import static games.strategy.engine.framework.CliProperties.TRIPLEA_PORT;
 import static games.strategy.engine.framework.CliProperties.TRIPLEA_SERVER;
@@ -17,6 +18,7 @@ import static games.strategy.engine.framework.CliProperties.TRIPLEA_SERVER_OBSER
 import static games.strategy.engine.framework.CliProperties.TRIPLEA_SERVER_START_GAME_SYNC_WAIT_TIME;
 
 import java.io.File;
+import java.io.IOException;
 import java.io.InputStream;
 import java.time.Duration;
 import java.time.Instant;
@@ -46,6 +48,9 @@ import games.strategy.engine.framework.startup.ui.ServerSetupPanel;
 import games.strategy.engine.framework.ui.SaveGameFileChooser;
 import games.strategy.net.INode;
 import games.strategy.net.IServerMessenger;
+import games.strategy.performance.LockProfiler;
+import games.strategy.performance.MetricRegistry;
+import games.strategy.performance.MetricsEndpoint;
 import games.strategy.sound.ClipPlayer;
 import games.strategy.triplea.Constants;
 import games.strategy.triplea.settings.ClientSetting;
@@ -484,7 +489,7 @@ public class HeadlessGameServer {
         LOBBY_GAME_COMMENTS, LOBBY_GAME_HOSTED_BY, LOBBY_GAME_SUPPORT_EMAIL,
         LOBBY_GAME_SUPPORT_PASSWORD, LOBBY_GAME_RECONNECTION,
         TRIPLEA_SERVER_START_GAME_SYNC_WAIT_TIME, TRIPLEA_SERVER_OBSERVER_JOIN_WAIT_TIME,
-        MAP_FOLDER));
+        MAP_FOLDER, TRIPLEA_METRICS_PORT));
   }
 
   String getStatus() {
@@ -510,7 +515,9 @@ public class HeadlessGameServer {
         + DebugUtils.getThreadDumps()
         + "\n\n"
         + DebugUtils.getMemory()
-        + "\n\nDump finished.\n");
+        + "\n\n"
+        + LockProfiler.getInstance().getReport()
+        + "\nDump finished.\n");
   }
 
   synchronized void shutdown() {
@@ -664,6 +671,20 @@ public class HeadlessGameServer {
     } catch (final Exception e) {
       logger.log(Level.SEVERE, "Failed to start game server", e);
     }
+    startMetricsEndpoint();
+  }
+
+  private static void startMetricsEndpoint() {
+    final String metricsPort = System.getProperty(TRIPLEA_METRICS_PORT, "");
+    if (metricsPort.isEmpty()) {
+      return;
+    }
+    try {
+      MetricsEndpoint.start(MetricRegistry.getInstance(), Integer.parseInt(metricsPort));
+      System.out.println("Serving metrics on port: " + metricsPort);
+    } catch (final NumberFormatException | IOException e) {
+      logger.log(Level.SEVERE, "Failed to serve metrics on port: " + metricsPort, e);
+    }
   }
 
   private static void usage() {
@@ -686,7 +707,8 @@ public class HeadlessGameServer {
         + "=<seconds to wait for all clients to start the game>\n"
         + "   " + TRIPLEA_SERVER_OBSERVER_JOIN_WAIT_TIME
         + "=<seconds to wait for an observer joining the game>\n"
-        + "   " + MAP_FOLDER + "=mapFolder"
+        + "   " + MAP_FOLDER + "=mapFolder\n"
+        + "   " + TRIPLEA_METRICS_PORT + "=<port on which to serve metrics to local connections at /metrics>"
         + "\n"
         + "   You must start the Name and HostedBy with \"Bot\".\n"
         + "   Game Comments must have this string in it: \"automated_host\".\n"
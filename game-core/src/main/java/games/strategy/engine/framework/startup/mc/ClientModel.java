@@ -7,6 +7,7 @@ import static games.strategy.engine.framework.CliProperties.TRIPLEA_PORT;
 import static games.strategy.engine.framework.CliProperties.TRIPLEA_STARTED;
 
 import java.awt.Component;
+import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.util.ArrayList;
 import java.util.Collection;
@@ -23,6 +24,7 @@ import java.util.logging.Logger;
 import java.util.stream.Collectors;
 
 import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
 import javax.swing.Action;
 import javax.swing.JOptionPane;
 import javax.swing.SwingUtilities;
@@ -39,6 +41,8 @@ import games.strategy.engine.framework.GameDataManager;
 import games.strategy.engine.framework.GameObjectStreamFactory;
 import games.strategy.engine.framework.GameRunner;
 import games.strategy.engine.framework.IGameLoader;
+import games.strategy.engine.framework.IServerRemote;
+import games.strategy.engine.framework.ServerGame;
 import games.strategy.engine.framework.message.PlayerListing;
 import games.strategy.engine.framework.network.ui.ChangeGameOptionsClientAction;
 import games.strategy.engine.framework.network.ui.ChangeGameToSaveGameClientAction;
@@ -70,6 +74,7 @@ import games.strategy.triplea.settings.ClientSetting;
 import games.strategy.ui.SwingAction;
 import games.strategy.util.EventThreadJOptionPane;
 import games.strategy.util.Interruptibles;
+import games.strategy.util.function.ThrowingSupplier;
 import lombok.Getter;
 import lombok.Setter;
 
@@ -99,11 +104,42 @@ public class ClientModel implements IMessengerErrorListener {
   private GameData gameDataOnStartup;
   private Map<String, String> playersToNodes = new HashMap<>();
   private final IObserverWaitingToJoin observerWaitingToJoin = new IObserverWaitingToJoin() {
+    private long receivedSnapshotId;
+    private @Nullable GameData receivedGameData;
+
+    @Override
+    public synchronized void receiveGameSnapshot(final long snapshotId, final int size) {
+      receivedGameData = null;
+      final IServerRemote server = (IServerRemote) remoteMessenger.getRemote(ServerGame.SERVER_REMOTE);
+      final ByteArrayOutputStream snapshot = new ByteArrayOutputStream(size);
+      while (snapshot.size() < size) {
+        final byte[] chunk = server.getSnapshotChunk(snapshotId, snapshot.size());
+        if (chunk.length == 0) {
+          throw new IllegalStateException("Game snapshot ended after " + snapshot.size() + " of " + size + " bytes");
+        }
+        snapshot.write(chunk, 0, chunk.length);
+      }
+      // load the snapshot now, as the game is paused while the observer joins
+      try {
+        receivedGameData = IoUtils.readFromMemory(snapshot.toByteArray(), GameDataManager::loadGame);
+      } catch (final IOException e) {
+        throw new IllegalStateException("Failed to load game snapshot " + snapshotId, e);
+      }
+      receivedSnapshotId = snapshotId;
+    }
+
     @Override
-    public void joinGame(final byte[] gameData, final Map<String, INode> players) {
+    public void joinGame(final long snapshotId, final byte[] gameModifications, final Map<String, INode> players) {
+      final GameData gameData;
+      synchronized (this) {
+        Preconditions.checkState(receivedGameData != null && receivedSnapshotId == snapshotId,
+            "Game snapshot " + snapshotId + " has not been received");
+        gameData = receivedGameData;
+        receivedGameData = null;
+      }
       remoteMessenger.unregisterRemote(ServerModel.getObserverWaitingToStartName(messenger.getLocalNode()));
       final CountDownLatch latch = new CountDownLatch(1);
-      startGame(gameData, players, latch, true);
+      startGame(() -> gameData, gameModifications, players, latch, true);
       try {
         latch.await(GameRunner.MINIMUM_CLIENT_GAMEDATA_LOAD_GRACE_TIME, TimeUnit.SECONDS);
       } catch (final InterruptedException e) {
@@ -137,7 +173,7 @@ public class ClientModel implements IMessengerErrorListener {
     @Override
     public void doneSelectingPlayers(final byte[] gameData, final Map<String, INode> players) {
       final CountDownLatch latch = new CountDownLatch(1);
-      startGame(gameData, players, latch, false);
+      startGame(() -> IoUtils.readFromMemory(gameData, GameDataManager::loadGame), null, players, latch, false);
       try {
         latch.await(GameRunner.MINIMUM_CLIENT_GAMEDATA_LOAD_GRACE_TIME, TimeUnit.SECONDS);
       } catch (final InterruptedException e) {
@@ -292,7 +328,14 @@ public class ClientModel implements IMessengerErrorListener {
     messenger.removeErrorListener(this);
   }
 
-  private void startGame(final byte[] gameData, final Map<String, INode> players, final CountDownLatch onDone,
+  /**
+   * Starts the game.
+   *
+   * @param gameModifications The encoded modifications to replay on the game data before starting the game, or
+   *        {@code null} if there are none.
+   */
+  private void startGame(final ThrowingSupplier<GameData, IOException> gameData,
+      final @Nullable byte[] gameModifications, final Map<String, INode> players, final CountDownLatch onDone,
       final boolean gameRunning) {
     SwingUtilities.invokeLater(() -> {
       gameLoadingWindow.setVisible(true);
@@ -300,7 +343,7 @@ public class ClientModel implements IMessengerErrorListener {
       gameLoadingWindow.showWait();
     });
     try {
-      startGameInNewThread(gameData, players, gameRunning);
+      startGameInNewThread(gameData, gameModifications, players, gameRunning);
     } catch (final RuntimeException e) {
       gameLoadingWindow.doneWait();
       throw e;
@@ -311,13 +354,13 @@ public class ClientModel implements IMessengerErrorListener {
     }
   }
 
-  private void startGameInNewThread(final byte[] gameData, final Map<String, INode> players,
-      final boolean gameRunning) {
+  private void startGameInNewThread(final ThrowingSupplier<GameData, IOException> gameData,
+      final @Nullable byte[] gameModifications, final Map<String, INode> players, final boolean gameRunning) {
     final GameData data;
     try {
       // this normally takes a couple seconds, but can take
       // up to 60 seconds for a freaking huge game
-      data = IoUtils.readFromMemory(gameData, GameDataManager::loadGame);
+      data = gameData.get();
     } catch (final IOException ex) {
       ClientLogger.logQuietly("Failed to load game", ex);
       return;
@@ -329,6 +372,14 @@ public class ClientModel implements IMessengerErrorListener {
     final Set<IGamePlayer> playerSet = data.getGameLoader().createPlayers(playerMapping);
     final Messengers messengers = new Messengers(messenger, remoteMessenger, channelMessenger);
     game = new ClientGame(data, playerSet, players, messengers);
+    if (gameModifications != null) {
+      try {
+        game.replayGameModifications(gameModifications);
+      } catch (final IOException e) {
+        game.shutDown();
+        throw new IllegalStateException("Failed to replay the game modifications made while joining", e);
+      }
+    }
     new Thread(() -> {
       SwingUtilities.invokeLater(() -> JOptionPane.getFrameForComponent(ui).setVisible(false));
       try {
@@ -8,13 +8,33 @@ import games.strategy.net.INode;
 /**
  * A callback remote.
  * Allows the server to add the player as an observer when the game is in progress.
+ *
+ * <p>
+ * Joining happens in two phases. First the server calls {@link #receiveGameSnapshot(long, int)} while the game keeps
+ * running, and the observer pulls the snapshot in chunks from {@code IServerRemote#getSnapshotChunk(long, int)}. Then
+ * the server pauses the game and calls {@link #joinGame(long, byte[], Map)} to have the observer start the game from
+ * the snapshot it received, after replaying the modifications made to the game in the meantime.
+ * </p>
  */
 public interface IObserverWaitingToJoin extends IRemote {
   /**
+   * Pulls the specified game snapshot from the server. This method should not return until the whole snapshot has
+   * been received.
+   *
+   * @param snapshotId The identifier of the snapshot to pull.
+   * @param size The size of the snapshot in bytes.
+   */
+  void receiveGameSnapshot(long snapshotId, int size);
+
+  /**
+   * Starts the game from the previously received snapshot with the specified identifier.
    * This method should not return until the client is ready to start the game.
    * This includes the display running, with all remote and channel listeners set up.
+   *
+   * @param gameModifications The encoded modifications made to the game since the snapshot was captured, to be
+   *        replayed on the snapshot.
    */
-  void joinGame(byte[] gameData, Map<String, INode> players);
+  void joinGame(long snapshotId, byte[] gameModifications, Map<String, INode> players);
 
   /**
    * You could not join the game, usually this is due to an error.
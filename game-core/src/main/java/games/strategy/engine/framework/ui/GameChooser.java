@@ -11,6 +11,7 @@ import java.awt.Insets;
 import java.awt.Rectangle;
 import java.awt.event.MouseEvent;
 import java.awt.event.MouseListener;
+import java.util.Set;
 
 import javax.swing.Box;
 import javax.swing.BoxLayout;
@@ -24,7 +25,6 @@ import javax.swing.JScrollPane;
 import javax.swing.JSplitPane;
 import javax.swing.SwingUtilities;
 
-import games.strategy.engine.data.GameData;
 import games.strategy.engine.framework.GameRunner;
 import games.strategy.util.LocalizeHtml;
 
@@ -100,10 +100,19 @@ public class GameChooser extends JDialog {
 
   public static GameChooserEntry chooseGame(final Frame parent, final String defaultGameName)
       throws InterruptedException {
-    final GameChooserModel gameChooserModel =
-        new GameChooserModel(GameRunner.newBackgroundTaskRunner().runInBackgroundAndReturn(
-            "Loading all available games...",
-            GameChooserModel::parseMapFiles));
+    final Set<GameChooserEntry> indexedEntries = GameRunner.newBackgroundTaskRunner().runInBackgroundAndReturn(
+        "Loading all available games...",
+        GameChooserModel::getIndexedEntries);
+    final GameChooserModel gameChooserModel;
+    if (indexedEntries.isEmpty()) {
+      gameChooserModel = new GameChooserModel(GameRunner.newBackgroundTaskRunner().runInBackgroundAndReturn(
+          "Loading all available games...",
+          GameChooserModel::parseMapFiles));
+    } else {
+      // show the unchanged maps right away; maps added or changed since they were indexed show up once parsed
+      gameChooserModel = new GameChooserModel(indexedEntries);
+      gameChooserModel.addChangedMapsInBackground();
+    }
     final GameChooser chooser = new GameChooser(parent, gameChooserModel);
     chooser.setSize(800, 600);
     chooser.setLocationRelativeTo(parent);
@@ -127,16 +136,16 @@ public class GameChooser extends JDialog {
 
   private void updateInfoPanel() {
     if (getSelected() != null) {
-      final GameData data = getSelected().getGameData();
+      final GameChooserEntry.Metadata metadata = getSelected().getMetadata();
       final StringBuilder notes = new StringBuilder();
-      notes.append("<h1>").append(data.getGameName()).append("</h1>");
-      final String mapNameDir = data.getProperties().get("mapName", "");
+      notes.append("<h1>").append(metadata.gameName).append("</h1>");
+      final String mapNameDir = (metadata.mapName != null) ? metadata.mapName : "";
       appendListItem("Map Name", mapNameDir, notes);
-      appendListItem("Number Of Players", data.getPlayerList().size() + "", notes);
+      appendListItem("Number Of Players", metadata.playerCount + "", notes);
       appendListItem("Location", getSelected().getLocation() + "", notes);
-      appendListItem("Version", data.getGameVersion() + "", notes);
+      appendListItem("Version", metadata.gameVersion, notes);
       notes.append("<p></p>");
-      final String notesProperty = data.getProperties().get("notes", "");
+      final String notesProperty = metadata.notes;
       if (notesProperty != null && notesProperty.trim().length() != 0) {
         // AbstractUiContext resource loader should be null (or potentially is still the last game we played's loader),
         // so we send the map dir name so that our localizing of image links can get a new resource loader if needed
@@ -6,6 +6,9 @@ import java.net.URI;
 import java.util.Objects;
 import java.util.Optional;
 
+import javax.annotation.Nullable;
+import javax.annotation.concurrent.Immutable;
+
 import games.strategy.debug.ClientLogger;
 import games.strategy.engine.data.EngineVersionException;
 import games.strategy.engine.data.GameData;
@@ -19,6 +22,7 @@ public class GameChooserEntry implements Comparable<GameChooserEntry> {
   private final URI url;
   private GameData gameData;
   private boolean gameDataFullyLoaded = false;
+  private final @Nullable Metadata metadata;
   private final String gameNameAndMapNameProperty;
 
   /**
@@ -38,6 +42,7 @@ public class GameChooserEntry implements Comparable<GameChooserEntry> {
 
     final Optional<InputStream> inputStream = UrlStreams.openStream(uri);
     if (!inputStream.isPresent()) {
+      metadata = null;
       gameNameAndMapNameProperty = "";
       // this means the map was deleted out from under us.
       return;
@@ -45,10 +50,21 @@ public class GameChooserEntry implements Comparable<GameChooserEntry> {
 
     try (InputStream input = inputStream.get()) {
       gameData = GameParser.parseShallow(uri.toString(), input);
+      metadata = Metadata.fromGameData(gameData);
       gameNameAndMapNameProperty = getGameName() + ":" + getMapNameProperty();
     }
   }
 
+  /**
+   * Creates an entry from metadata previously captured from the shallowly parsed game at the specified URI (e.g. read
+   * from the {@link GameChooserIndex}). The game data of such an entry is {@code null} until it is fully parsed.
+   */
+  GameChooserEntry(final URI uri, final Metadata metadata) {
+    url = uri;
+    this.metadata = metadata;
+    gameNameAndMapNameProperty = getGameName() + ":" + getMapNameProperty();
+  }
+
   public GameData fullyParseGameData() throws GameParseException {
     // TODO: We should be setting this in the the constructor. At this point, you have to call methods in the
     // correct order for things to work, and that is bads.
@@ -80,19 +96,26 @@ public class GameChooserEntry implements Comparable<GameChooserEntry> {
   }
 
   public String getGameName() {
-    return gameData.getGameName();
+    return metadata.gameName;
   }
 
   // the user may have selected a map skin instead of this map folder, so don't use this for anything except our
   // equals/hashcode below
   private String getMapNameProperty() {
-    final String mapName = (String) gameData.getProperties().get(Constants.MAP_NAME);
+    final String mapName = metadata.mapName;
     if (mapName == null || mapName.trim().length() == 0) {
       throw new IllegalStateException("Map name property not set on game");
     }
     return mapName;
   }
 
+  /**
+   * Returns the metadata displayed for this entry in the game chooser, available without fully parsing the game.
+   */
+  Metadata getMetadata() {
+    return metadata;
+  }
+
   @Override
   public String toString() {
     return getGameName();
@@ -136,14 +159,48 @@ public class GameChooserEntry implements Comparable<GameChooserEntry> {
       return false;
     }
     final GameChooserEntry other = (GameChooserEntry) obj;
-    if (gameData == null && other.gameData != null) {
+    if (metadata == null && other.metadata != null) {
       return false;
     }
-    return other.gameData != null && this.gameNameAndMapNameProperty.equals(other.gameNameAndMapNameProperty);
+    return other.metadata != null && this.gameNameAndMapNameProperty.equals(other.gameNameAndMapNameProperty);
   }
 
   @Override
   public int compareTo(final GameChooserEntry o) {
     return getGameName().compareToIgnoreCase(o.getGameName());
   }
+
+  /**
+   * The properties of a game shown by the game chooser, which are all available after a shallow parse.
+   */
+  @Immutable
+  static final class Metadata {
+    final String gameName;
+    final @Nullable String mapName;
+    final String gameVersion;
+    final int playerCount;
+    final String notes;
+
+    Metadata(
+        final String gameName,
+        final @Nullable String mapName,
+        final String gameVersion,
+        final int playerCount,
+        final String notes) {
+      this.gameName = gameName;
+      this.mapName = mapName;
+      this.gameVersion = gameVersion;
+      this.playerCount = playerCount;
+      this.notes = notes;
+    }
+
+    static Metadata fromGameData(final GameData gameData) {
+      return new Metadata(
+          gameData.getGameName(),
+          (String) gameData.getProperties().get(Constants.MAP_NAME),
+          String.valueOf(gameData.getGameVersion()),
+          gameData.getPlayerList().size(),
+          gameData.getProperties().get("notes", ""));
+    }
+  }
 }
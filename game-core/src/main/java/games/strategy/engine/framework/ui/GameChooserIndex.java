@@ -0,0 +1,222 @@
+package games.strategy.engine.framework.ui;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+import javax.annotation.concurrent.ThreadSafe;
+
+import com.google.common.annotations.VisibleForTesting;
+
+import games.strategy.debug.ClientLogger;
+import games.strategy.engine.ClientFileSystemHelper;
+
+/**
+ * A persistent index of the game chooser entries found in each map file (a map zip or a game XML file of an unzipped
+ * map), so maps that have not changed since they were last parsed do not need to be parsed again.
+ *
+ * <p>
+ * Index records are keyed by the absolute path of the map file and are only used while the size and last modified
+ * time of the file match the recorded values. The index is a cache: if it cannot be read (e.g. because it is missing
+ * or was written by an incompatible version), it is silently discarded and rebuilt.
+ * </p>
+ */
+@ThreadSafe
+final class GameChooserIndex {
+  private static final int FORMAT_VERSION = 1;
+  private static final String INDEX_FILE_NAME = "gameChooserIndex.dat";
+
+  private final File indexFile;
+  private final Map<String, Record> recordsByPath = new HashMap<>();
+  private final Set<String> usedPaths = new HashSet<>();
+  private boolean modified = false;
+
+  @VisibleForTesting
+  GameChooserIndex(final File indexFile) {
+    this.indexFile = checkNotNull(indexFile);
+  }
+
+  /**
+   * Reads the index of the user's maps folder.
+   */
+  static GameChooserIndex load() {
+    return load(new File(ClientFileSystemHelper.getUserRootFolder(), INDEX_FILE_NAME));
+  }
+
+  @VisibleForTesting
+  static GameChooserIndex load(final File indexFile) {
+    final GameChooserIndex index = new GameChooserIndex(indexFile);
+    if (indexFile.isFile()) {
+      try (DataInputStream is = new DataInputStream(new BufferedInputStream(new FileInputStream(indexFile)))) {
+        index.read(is);
+      } catch (final IOException | RuntimeException e) {
+        ClientLogger.logQuietly("Discarding unreadable game chooser index: " + indexFile, e);
+        index.recordsByPath.clear();
+      }
+    }
+    return index;
+  }
+
+  private void read(final DataInputStream is) throws IOException {
+    if (is.readInt() != FORMAT_VERSION) {
+      return;
+    }
+    final int recordCount = is.readInt();
+    for (int i = 0; i < recordCount; i++) {
+      final String path = is.readUTF();
+      final long size = is.readLong();
+      final long lastModified = is.readLong();
+      final int entryCount = is.readInt();
+      final List<Entry> entries = new ArrayList<>(entryCount);
+      for (int j = 0; j < entryCount; j++) {
+        final URI uri = URI.create(is.readUTF());
+        final String gameName = is.readUTF();
+        final String mapName = is.readBoolean() ? is.readUTF() : null;
+        final String gameVersion = is.readUTF();
+        final int playerCount = is.readInt();
+        final String notes = readLongUtf(is);
+        entries.add(new Entry(uri, new GameChooserEntry.Metadata(gameName, mapName, gameVersion, playerCount, notes)));
+      }
+      recordsByPath.put(path, new Record(size, lastModified, entries));
+    }
+  }
+
+  // writeUTF() is limited to 64 KiB, which notes embedding HTML tables may exceed
+  private static String readLongUtf(final DataInputStream is) throws IOException {
+    final byte[] bytes = new byte[is.readInt()];
+    is.readFully(bytes);
+    return new String(bytes, StandardCharsets.UTF_8);
+  }
+
+  private static void writeLongUtf(final DataOutputStream os, final String value) throws IOException {
+    final byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+    os.writeInt(bytes.length);
+    os.write(bytes);
+  }
+
+  /**
+   * Returns the entries recorded for the specified map file, or empty if the map file has not been indexed or has
+   * changed since it was indexed. Map files for which this method is not called are dropped from the index when it is
+   * next saved.
+   */
+  synchronized Optional<Collection<GameChooserEntry>> get(final File mapFile) {
+    final String path = mapFile.getAbsolutePath();
+    usedPaths.add(path);
+    final Record record = recordsByPath.get(path);
+    if (record == null || record.size != mapFile.length() || record.lastModified != mapFile.lastModified()) {
+      return Optional.empty();
+    }
+    final List<GameChooserEntry> entries = new ArrayList<>(record.entries.size());
+    for (final Entry entry : record.entries) {
+      entries.add(new GameChooserEntry(entry.uri, entry.metadata));
+    }
+    return Optional.of(entries);
+  }
+
+  /**
+   * Records the entries parsed from the specified map file.
+   */
+  synchronized void put(final File mapFile, final Collection<GameChooserEntry> entries) {
+    final String path = mapFile.getAbsolutePath();
+    final List<Entry> indexEntries = new ArrayList<>(entries.size());
+    for (final GameChooserEntry entry : entries) {
+      if (entry.getMetadata() != null) {
+        indexEntries.add(new Entry(entry.getUri(), entry.getMetadata()));
+      }
+    }
+    usedPaths.add(path);
+    recordsByPath.put(path, new Record(mapFile.length(), mapFile.lastModified(), indexEntries));
+    modified = true;
+  }
+
+  /**
+   * Writes the index if it has changed since it was loaded. Errors are logged, as the index will simply be rebuilt
+   * the next time it is needed.
+   */
+  synchronized void save() {
+    if (recordsByPath.keySet().retainAll(usedPaths)) {
+      modified = true;
+    }
+    if (!modified) {
+      return;
+    }
+    try {
+      final File parent = indexFile.getAbsoluteFile().getParentFile();
+      parent.mkdirs();
+      final File tempFile = File.createTempFile(INDEX_FILE_NAME, ".tmp", parent);
+      try (DataOutputStream os = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(tempFile)))) {
+        write(os);
+      }
+      Files.move(tempFile.toPath(), indexFile.toPath(), StandardCopyOption.REPLACE_EXISTING);
+      modified = false;
+    } catch (final IOException e) {
+      ClientLogger.logQuietly("Failed to write game chooser index: " + indexFile, e);
+    }
+  }
+
+  private void write(final DataOutputStream os) throws IOException {
+    os.writeInt(FORMAT_VERSION);
+    os.writeInt(recordsByPath.size());
+    for (final Map.Entry<String, Record> pathAndRecord : recordsByPath.entrySet()) {
+      final Record record = pathAndRecord.getValue();
+      os.writeUTF(pathAndRecord.getKey());
+      os.writeLong(record.size);
+      os.writeLong(record.lastModified);
+      os.writeInt(record.entries.size());
+      for (final Entry entry : record.entries) {
+        final GameChooserEntry.Metadata metadata = entry.metadata;
+        os.writeUTF(entry.uri.toString());
+        os.writeUTF(metadata.gameName);
+        os.writeBoolean(metadata.mapName != null);
+        if (metadata.mapName != null) {
+          os.writeUTF(metadata.mapName);
+        }
+        os.writeUTF(metadata.gameVersion);
+        os.writeInt(metadata.playerCount);
+        writeLongUtf(os, metadata.notes);
+      }
+    }
+  }
+
+  private static final class Record {
+    final long size;
+    final long lastModified;
+    final List<Entry> entries;
+
+    Record(final long size, final long lastModified, final List<Entry> entries) {
+      this.size = size;
+      this.lastModified = lastModified;
+      this.entries = Collections.unmodifiableList(entries);
+    }
+  }
+
+  private static final class Entry {
+    final URI uri;
+    final GameChooserEntry.Metadata metadata;
+
+    Entry(final URI uri, final GameChooserEntry.Metadata metadata) {
+      this.uri = uri;
+      this.metadata = metadata;
+    }
+  }
+}
@@ -5,6 +5,7 @@ import java.io.IOException;
 import java.net.URI;
 import java.net.URL;
 import java.net.URLClassLoader;
+import java.util.Collection;
 import java.util.Enumeration;
 import java.util.HashSet;
 import java.util.Optional;
@@ -15,6 +16,7 @@ import java.util.zip.ZipFile;
 
 import javax.swing.DefaultListModel;
 import javax.swing.JOptionPane;
+import javax.swing.SwingUtilities;
 
 import games.strategy.debug.ClientLogger;
 import games.strategy.engine.ClientFileSystemHelper;
@@ -52,20 +54,75 @@ public final class GameChooserModel extends DefaultListModel<GameChooserEntry> {
     return super.get(i);
   }
 
+  /**
+   * Returns the entries of all available maps, parsing only the maps that have been added or changed since they were
+   * last recorded in the {@link GameChooserIndex}. This method should not be called from the EDT.
+   */
   static Set<GameChooserEntry> parseMapFiles() {
+    final GameChooserIndex index = GameChooserIndex.load();
     final Set<GameChooserEntry> parsedMapSet = new HashSet<>();
     FileUtils.listFiles(ClientFileSystemHelper.getUserMapsFolder()).parallelStream()
         .forEach(map -> {
           if (map.isDirectory()) {
-            parsedMapSet.addAll(populateFromDirectory(map));
-          } else if (map.isFile() && map.getName().toLowerCase().endsWith(".zip")) {
-            parsedMapSet.addAll(populateFromZip(map));
+            parsedMapSet.addAll(populateFromDirectory(map, index));
+          } else if (isMapZip(map)) {
+            parsedMapSet.addAll(index.get(map).orElseGet(() -> populateFromZip(map, index)));
           }
         });
+    index.save();
     return parsedMapSet;
   }
 
-  private static Set<GameChooserEntry> populateFromZip(final File map) {
+  /**
+   * Returns the entries of the maps that are recorded in the {@link GameChooserIndex} and have not changed since,
+   * without parsing any map. Maps that have been added or changed since they were indexed are not included; see
+   * {@link #addChangedMapsInBackground()}. This method reads the index and lists the user's maps folder, so it should
+   * not be called from the EDT.
+   */
+  static Set<GameChooserEntry> getIndexedEntries() {
+    final GameChooserIndex index = GameChooserIndex.load();
+    final Set<GameChooserEntry> indexedEntries = new HashSet<>();
+    for (final File map : FileUtils.listFiles(ClientFileSystemHelper.getUserMapsFolder())) {
+      if (map.isDirectory()) {
+        for (final File game : listGameFiles(map)) {
+          index.get(game).ifPresent(indexedEntries::addAll);
+        }
+      } else if (isMapZip(map)) {
+        index.get(map).ifPresent(indexedEntries::addAll);
+      }
+    }
+    return indexedEntries;
+  }
+
+  /**
+   * Parses all available maps on a background thread and adds the entries not yet in this model once done. Only maps
+   * that have been added or changed since they were indexed are actually parsed.
+   */
+  void addChangedMapsInBackground() {
+    new Thread(() -> {
+      final Set<GameChooserEntry> entries = parseMapFiles();
+      SwingUtilities.invokeLater(() -> addMissingEntries(entries));
+    }, "Game chooser map parser").start();
+  }
+
+  void addMissingEntries(final Collection<GameChooserEntry> entries) {
+    entries.stream()
+        .sorted()
+        .filter(entry -> !contains(entry))
+        .forEach(entry -> {
+          int index = 0;
+          while (index < size() && get(index).compareTo(entry) <= 0) {
+            index++;
+          }
+          add(index, entry);
+        });
+  }
+
+  private static boolean isMapZip(final File map) {
+    return map.isFile() && map.getName().toLowerCase().endsWith(".zip");
+  }
+
+  private static Set<GameChooserEntry> populateFromZip(final File map, final GameChooserIndex index) {
     boolean badMapZip = false;
     final Set<GameChooserEntry> entries = new HashSet<>();
 
@@ -84,10 +141,13 @@ public final class GameChooserModel extends DefaultListModel<GameChooserEntry> {
       }
     } catch (final IOException e) {
       confirmWithUserAndThenDeleteCorruptZipFile(map, Optional.of(e.getMessage()));
+      return entries;
     }
 
     if (badMapZip) {
       confirmWithUserAndThenDeleteCorruptZipFile(map, Optional.empty());
+    } else {
+      index.put(map, entries);
     }
     return entries;
   }
@@ -158,7 +218,7 @@ public final class GameChooserModel extends DefaultListModel<GameChooserEntry> {
   public Optional<GameChooserEntry> findByName(final String name) {
     return IntStream.range(0, size())
         .mapToObj(this::get)
-        .filter(e -> e.getGameData().getGameName().equals(name))
+        .filter(e -> e.getGameName().equals(name))
         .findAny();
   }
 
@@ -167,20 +227,33 @@ public final class GameChooserModel extends DefaultListModel<GameChooserEntry> {
     return new GameChooserEntry(uri);
   }
 
-  private static Set<GameChooserEntry> populateFromDirectory(final File mapDir) {
+  private static Set<GameChooserEntry> populateFromDirectory(final File mapDir, final GameChooserIndex index) {
     final Set<GameChooserEntry> entries = new HashSet<>();
+    for (final File game : listGameFiles(mapDir)) {
+      final Collection<GameChooserEntry> gameEntries = index.get(game).orElseGet(() -> {
+        final Set<GameChooserEntry> parsedEntries = new HashSet<>();
+        createGameChooserEntry(game.toURI()).ifPresent(parsedEntries::add);
+        index.put(game, parsedEntries);
+        return parsedEntries;
+      });
+      entries.addAll(gameEntries);
+    }
+    return entries;
+  }
 
+  private static Set<File> listGameFiles(final File mapDir) {
     // use contents under a "mapDir/map" folder if present, otherwise use the "mapDir/" contents directly
     final File mapFolder = new File(mapDir, "map");
 
     final File parentFolder = mapFolder.exists() ? mapFolder : mapDir;
     final File games = new File(parentFolder, "games");
+    final Set<File> gameFiles = new HashSet<>();
     for (final File game : FileUtils.listFiles(games)) {
       if (game.isFile() && game.getName().toLowerCase().endsWith("xml")) {
-        createGameChooserEntry(game.toURI()).ifPresent(entries::add);
+        gameFiles.add(game);
       }
     }
-    return entries;
+    return gameFiles;
   }
 
   /**
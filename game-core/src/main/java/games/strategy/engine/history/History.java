@@ -163,7 +163,7 @@ public class History extends DefaultTreeModel {
     }
   }
 
-  private Object writeReplace() {
+  Object writeReplace() {
     return new SerializedHistory(this, gameData, changes);
   }
 
@@ -0,0 +1,31 @@
+package games.strategy.engine.history;
+
+import java.io.IOException;
+import java.io.ObjectOutputStream;
+import java.io.OutputStream;
+
+import games.strategy.engine.data.GameData;
+
+/**
+ * An object output stream that writes an empty history in place of the history of the game data being written, without
+ * modifying the game data.
+ */
+public final class HistoryOmittingObjectOutputStream extends ObjectOutputStream {
+  private final GameData data;
+
+  public HistoryOmittingObjectOutputStream(final OutputStream out, final GameData data) throws IOException {
+    super(out);
+    this.data = data;
+    enableReplaceObject(true);
+  }
+
+  @Override
+  protected Object replaceObject(final Object obj) {
+    // a history has already been replaced by its serialized form when it gets here, but that form only walks the
+    // history once it is written, so replacing it here costs nothing
+    if (obj instanceof SerializedHistory && ((SerializedHistory) obj).getGameData() == data) {
+      return new History(data).writeReplace();
+    }
+    return obj;
+  }
+}
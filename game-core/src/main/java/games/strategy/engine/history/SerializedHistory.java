@@ -1,5 +1,7 @@
 package games.strategy.engine.history;
 
+import java.io.IOException;
+import java.io.ObjectOutputStream;
 import java.io.Serializable;
 import java.util.ArrayList;
 import java.util.Enumeration;
@@ -13,14 +15,32 @@ import games.strategy.engine.data.GameData;
 /**
  * DefaultTreeModel is not serializable across jdk versions
  * Instead we use an instance of this class to store our data.
+ *
+ * <p>
+ * The writers of the history nodes are only collected when this object is actually written, so a stream can replace
+ * it (see {@link HistoryOmittingObjectOutputStream}) without walking the whole history first.
+ * </p>
  */
 class SerializedHistory implements Serializable {
   private static final long serialVersionUID = -5808427923253751651L;
-  private final List<SerializationWriter> m_Writers = new ArrayList<>();
+  private List<SerializationWriter> m_Writers = new ArrayList<>();
   private final GameData m_data;
+  private final transient History history;
+  private final transient List<Change> changes;
 
   public SerializedHistory(final History history, final GameData data, final List<Change> changes) {
     m_data = data;
+    this.history = history;
+    this.changes = changes;
+  }
+
+  private void writeObject(final ObjectOutputStream out) throws IOException {
+    m_Writers = collectWriters();
+    out.defaultWriteObject();
+  }
+
+  private List<SerializationWriter> collectWriters() {
+    final List<SerializationWriter> writers = new ArrayList<>();
     final Enumeration<?> enumeration = ((DefaultMutableTreeNode) history.getRoot()).preorderEnumeration();
     enumeration.nextElement();
     int changeIndex = 0;
@@ -29,18 +49,23 @@ class SerializedHistory implements Serializable {
       // write the changes to the start of the node
       if (node instanceof IndexedHistoryNode) {
         while (changeIndex < ((IndexedHistoryNode) node).getChangeStartIndex()) {
-          m_Writers.add(new ChangeSerializationWriter(changes.get(changeIndex)));
+          writers.add(new ChangeSerializationWriter(changes.get(changeIndex)));
           changeIndex++;
         }
       }
       // write the node itself
-      m_Writers.add(node.getWriter());
+      writers.add(node.getWriter());
     }
     // write out remaining changes
     while (changeIndex < changes.size()) {
-      m_Writers.add(new ChangeSerializationWriter(changes.get(changeIndex)));
+      writers.add(new ChangeSerializationWriter(changes.get(changeIndex)));
       changeIndex++;
     }
+    return writers;
+  }
+
+  GameData getGameData() {
+    return m_data;
   }
 
   public Object readResolve() {
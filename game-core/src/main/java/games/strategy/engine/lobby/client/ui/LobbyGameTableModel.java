@@ -4,13 +4,18 @@ import java.time.Instant;
 import java.time.LocalDateTime;
 import java.time.ZoneOffset;
 import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 
+import javax.annotation.Nullable;
 import javax.swing.SwingUtilities;
 import javax.swing.table.AbstractTableModel;
 
+import games.strategy.debug.ClientLogger;
 import games.strategy.engine.lobby.server.GameDescription;
+import games.strategy.engine.lobby.server.GameDescriptionDelta;
 import games.strategy.engine.lobby.server.ILobbyGameBroadcaster;
 import games.strategy.engine.lobby.server.ILobbyGameController;
 import games.strategy.engine.message.IChannelMessenger;
@@ -29,6 +34,7 @@ class LobbyGameTableModel extends AbstractTableModel {
   }
 
   private final IMessenger messenger;
+  private final ILobbyGameController gameController;
 
   // these must only be accessed in the swing event thread
   private final List<Tuple<GUID, GameDescription>> gameList = new ArrayList<>();
@@ -44,6 +50,12 @@ class LobbyGameTableModel extends AbstractTableModel {
       assertSentFromServer();
       removeGame(gameId);
     }
+
+    @Override
+    public void gamesUpdated(final List<GameDescriptionDelta> deltas) {
+      assertSentFromServer();
+      updateGames(deltas);
+    }
   };
 
   LobbyGameTableModel(final IMessenger messenger, final IChannelMessenger channelMessenger,
@@ -51,8 +63,8 @@ class LobbyGameTableModel extends AbstractTableModel {
     this.messenger = messenger;
     channelMessenger.registerChannelSubscriber(lobbyGameBroadcaster, ILobbyGameBroadcaster.GAME_BROADCASTER_CHANNEL);
 
-    final Map<GUID, GameDescription> games =
-        ((ILobbyGameController) remoteMessenger.getRemote(ILobbyGameController.GAME_CONTROLLER_REMOTE)).listGames();
+    gameController = (ILobbyGameController) remoteMessenger.getRemote(ILobbyGameController.GAME_CONTROLLER_REMOTE);
+    final Map<GUID, GameDescription> games = gameController.listGames();
     for (final GUID id : games.keySet()) {
       updateGame(id, games.get(id));
     }
@@ -101,18 +113,83 @@ class LobbyGameTableModel extends AbstractTableModel {
         return;
       }
 
-      final Tuple<GUID, GameDescription> toReplace = findGame(gameId);
-      if (toReplace == null) {
-        gameList.add(Tuple.of(gameId, description));
-        fireTableRowsInserted(getRowCount() - 1, getRowCount() - 1);
-      } else {
-        final int replaceIndex = gameList.indexOf(toReplace);
-        gameList.set(replaceIndex, Tuple.of(gameId, description));
-        fireTableRowsUpdated(replaceIndex, replaceIndex);
+      listGame(gameId, description);
+    });
+  }
+
+  private void listGame(final GUID gameId, final GameDescription description) {
+    final Tuple<GUID, GameDescription> toReplace = findGame(gameId);
+    if (toReplace == null) {
+      gameList.add(Tuple.of(gameId, description));
+      fireTableRowsInserted(getRowCount() - 1, getRowCount() - 1);
+    } else {
+      final int replaceIndex = gameList.indexOf(toReplace);
+      gameList.set(replaceIndex, Tuple.of(gameId, description));
+      fireTableRowsUpdated(replaceIndex, replaceIndex);
+    }
+  }
+
+  private void updateGames(final List<GameDescriptionDelta> deltas) {
+    SwingUtilities.invokeLater(() -> {
+      final int rowCount = gameList.size();
+      int firstUpdatedRow = Integer.MAX_VALUE;
+      int lastUpdatedRow = -1;
+      final Set<GUID> staleGames = new HashSet<>();
+      for (final GameDescriptionDelta delta : deltas) {
+        final Tuple<GUID, GameDescription> toUpdate = findGame(delta.getGameId());
+        final @Nullable GameDescription listed = (toUpdate == null) ? null : toUpdate.getSecond();
+        if (listed != null && listed.getVersion() >= delta.getVersion()) {
+          continue;
+        }
+        if (!delta.canApplyTo(listed)) {
+          // the listed description is not the one the delta was computed from
+          staleGames.add(delta.getGameId());
+        } else if (toUpdate == null) {
+          gameList.add(Tuple.of(delta.getGameId(), delta.applyTo(null)));
+        } else {
+          final int updateIndex = gameList.indexOf(toUpdate);
+          gameList.set(updateIndex, Tuple.of(delta.getGameId(), delta.applyTo(listed)));
+          firstUpdatedRow = Math.min(firstUpdatedRow, updateIndex);
+          lastUpdatedRow = Math.max(lastUpdatedRow, updateIndex);
+        }
+      }
+      if (lastUpdatedRow >= 0) {
+        fireTableRowsUpdated(firstUpdatedRow, lastUpdatedRow);
+      }
+      if (gameList.size() > rowCount) {
+        fireTableRowsInserted(rowCount, gameList.size() - 1);
+      }
+      if (!staleGames.isEmpty()) {
+        refreshGames(staleGames);
       }
     });
   }
 
+  /**
+   * Gets the complete descriptions of the specified games from the lobby in a new thread, and lists those that are
+   * newer than the listed descriptions.
+   */
+  private void refreshGames(final Set<GUID> gameIds) {
+    new Thread(() -> {
+      final Map<GUID, GameDescription> games;
+      try {
+        games = gameController.listGames();
+      } catch (final RuntimeException e) {
+        ClientLogger.logQuietly("Failed to list the lobby games", e);
+        return;
+      }
+      SwingUtilities.invokeLater(() -> {
+        for (final GUID gameId : gameIds) {
+          final @Nullable GameDescription description = games.get(gameId);
+          final Tuple<GUID, GameDescription> listed = findGame(gameId);
+          if (description != null && (listed == null || listed.getSecond().getVersion() < description.getVersion())) {
+            listGame(gameId, description);
+          }
+        }
+      });
+    }, "Refresh lobby games").start();
+  }
+
   @Override
   public String getColumnName(final int column) {
     return Column.values()[column].toString();
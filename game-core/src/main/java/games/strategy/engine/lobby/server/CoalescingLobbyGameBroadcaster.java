@@ -0,0 +1,103 @@
+package games.strategy.engine.lobby.server;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import javax.annotation.concurrent.GuardedBy;
+import javax.annotation.concurrent.ThreadSafe;
+
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+
+import games.strategy.net.GUID;
+
+/**
+ * Broadcasts the updates of the hosted games to the lobby clients at most once per window.
+ *
+ * <p>
+ * The updates of a game posted during a window are coalesced into its latest description, and the descriptions of all
+ * games updated during the window are sent as one message holding only the fields that changed since each game was
+ * last broadcast. Removed games are broadcast at once.
+ * </p>
+ */
+@ThreadSafe
+final class CoalescingLobbyGameBroadcaster implements ILobbyGameBroadcaster {
+  private static final long DEFAULT_WINDOW_MILLIS = 1000;
+
+  private final ILobbyGameBroadcaster broadcaster;
+  private final ScheduledExecutorService executor;
+  private final long windowMillis;
+  @GuardedBy("this")
+  private final Map<GUID, GameDescription> pendingGames = new LinkedHashMap<>();
+  @GuardedBy("this")
+  private final Map<GUID, GameDescription> broadcastGames = new HashMap<>();
+  @GuardedBy("this")
+  private boolean isFlushScheduled;
+
+  CoalescingLobbyGameBroadcaster(final ILobbyGameBroadcaster broadcaster) {
+    this(broadcaster, Executors.newSingleThreadScheduledExecutor(
+        new ThreadFactoryBuilder().setNameFormat("Lobby game broadcaster").setDaemon(true).build()),
+        DEFAULT_WINDOW_MILLIS);
+  }
+
+  @VisibleForTesting
+  CoalescingLobbyGameBroadcaster(final ILobbyGameBroadcaster broadcaster, final ScheduledExecutorService executor,
+      final long windowMillis) {
+    checkNotNull(broadcaster);
+    checkNotNull(executor);
+
+    this.broadcaster = broadcaster;
+    this.executor = executor;
+    this.windowMillis = windowMillis;
+  }
+
+  @Override
+  public synchronized void gameUpdated(final GUID gameId, final GameDescription description) {
+    pendingGames.put(gameId, description);
+    if (!isFlushScheduled) {
+      isFlushScheduled = true;
+      executor.schedule(this::flush, windowMillis, TimeUnit.MILLISECONDS);
+    }
+  }
+
+  @Override
+  public synchronized void gameRemoved(final GUID gameId) {
+    pendingGames.remove(gameId);
+    broadcastGames.remove(gameId);
+    broadcaster.gameRemoved(gameId);
+  }
+
+  @Override
+  public synchronized void gamesUpdated(final List<GameDescriptionDelta> deltas) {
+    broadcaster.gamesUpdated(deltas);
+  }
+
+  /**
+   * Broadcasts the games updated since the last flush. The broadcast is made while holding the lock so a removal can
+   * not be overtaken by an earlier update of the same game.
+   */
+  @VisibleForTesting
+  synchronized void flush() {
+    isFlushScheduled = false;
+    final List<GameDescriptionDelta> deltas = new ArrayList<>(pendingGames.size());
+    pendingGames.forEach((gameId, description) -> {
+      final GameDescriptionDelta delta = GameDescriptionDelta.of(gameId, broadcastGames.get(gameId), description);
+      if (!delta.isEmpty()) {
+        deltas.add(delta);
+      }
+      broadcastGames.put(gameId, description);
+    });
+    pendingGames.clear();
+    if (!deltas.isEmpty()) {
+      broadcaster.gamesUpdated(deltas);
+    }
+  }
+}
@@ -97,6 +97,10 @@ public class GameDescription implements Externalizable, Cloneable {
     return version;
   }
 
+  void setVersion(final int version) {
+    this.version = version;
+  }
+
   public void setGameName(final String gameName) {
     version++;
     this.gameName = gameName;
@@ -168,6 +172,14 @@ public class GameDescription implements Externalizable, Cloneable {
     this.botSupportEmail = botSupportEmail;
   }
 
+  void copyBotSupportEmail(final GameDescription other) {
+    botSupportEmail = other.botSupportEmail;
+  }
+
+  void readBotSupportEmail(final ObjectInput in) throws IOException {
+    botSupportEmail = in.readUTF();
+  }
+
   public boolean isBot() {
     return getBotSupportEmail().isPresent();
   }
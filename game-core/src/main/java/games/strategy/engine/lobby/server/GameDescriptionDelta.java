@@ -0,0 +1,301 @@
+package games.strategy.engine.lobby.server;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+import static com.google.common.base.Preconditions.checkState;
+
+import java.io.Externalizable;
+import java.io.IOException;
+import java.io.ObjectInput;
+import java.io.ObjectOutput;
+import java.time.Instant;
+import java.util.Objects;
+
+import javax.annotation.Nullable;
+
+import games.strategy.net.GUID;
+import games.strategy.net.Node;
+
+/**
+ * The fields of a {@link GameDescription} that changed since the description last broadcast to the lobby clients.
+ *
+ * <p>
+ * Only the changed fields are written when the delta is sent. The first delta of a game is complete, i.e. it contains
+ * every field, so a client can add the game without having seen an earlier description. Any other delta may only be
+ * applied to the description it was computed from, which is identified by its version; a client holding another
+ * version must get the complete description of the game instead.
+ * </p>
+ */
+public final class GameDescriptionDelta implements Externalizable {
+  private static final long serialVersionUID = -3358004213766386346L;
+
+  private static final int HOSTED_BY = 1;
+  private static final int PORT = 1 << 1;
+  private static final int START_DATE_TIME = 1 << 2;
+  private static final int GAME_NAME = 1 << 3;
+  private static final int PLAYER_COUNT = 1 << 4;
+  private static final int ROUND = 1 << 5;
+  private static final int STATUS = 1 << 6;
+  private static final int HOST_NAME = 1 << 7;
+  private static final int COMMENT = 1 << 8;
+  private static final int PASSWORDED = 1 << 9;
+  private static final int ENGINE_VERSION = 1 << 10;
+  private static final int GAME_VERSION = 1 << 11;
+  private static final int BOT_SUPPORT_EMAIL = 1 << 12;
+  private static final int ALL_FIELDS = (1 << 13) - 1;
+
+  private GUID gameId;
+  private int changedFields;
+  private int baseVersion;
+  // holds the values of the changed fields and the version of the description
+  private GameDescription values;
+
+  // for Externalizable
+  public GameDescriptionDelta() {}
+
+  private GameDescriptionDelta(final GUID gameId, final int changedFields, final int baseVersion,
+      final GameDescription values) {
+    this.gameId = gameId;
+    this.changedFields = changedFields;
+    this.baseVersion = baseVersion;
+    this.values = values;
+  }
+
+  /**
+   * Returns the delta between the description of a game last broadcast and its current description.
+   *
+   * @param previous The description last broadcast or {@code null} if the game was not broadcast yet, in which case
+   *        the delta is complete.
+   */
+  public static GameDescriptionDelta of(final GUID gameId, final @Nullable GameDescription previous,
+      final GameDescription current) {
+    checkNotNull(gameId);
+    checkNotNull(current);
+
+    if (previous == null) {
+      return new GameDescriptionDelta(gameId, ALL_FIELDS, current.getVersion(), current);
+    }
+    int changedFields = 0;
+    changedFields |= changed(HOSTED_BY, previous.getHostedBy(), current.getHostedBy());
+    changedFields |= changed(PORT, previous.getPort(), current.getPort());
+    changedFields |= changed(START_DATE_TIME, previous.getStartDateTime(), current.getStartDateTime());
+    changedFields |= changed(GAME_NAME, previous.getGameName(), current.getGameName());
+    changedFields |= changed(PLAYER_COUNT, previous.getPlayerCount(), current.getPlayerCount());
+    changedFields |= changed(ROUND, previous.getRound(), current.getRound());
+    changedFields |= changed(STATUS, previous.getStatus(), current.getStatus());
+    changedFields |= changed(HOST_NAME, previous.getHostName(), current.getHostName());
+    changedFields |= changed(COMMENT, previous.getComment(), current.getComment());
+    changedFields |= changed(PASSWORDED, previous.getPassworded(), current.getPassworded());
+    changedFields |= changed(ENGINE_VERSION, previous.getEngineVersion(), current.getEngineVersion());
+    changedFields |= changed(GAME_VERSION, previous.getGameVersion(), current.getGameVersion());
+    changedFields |= changed(BOT_SUPPORT_EMAIL, previous.getBotSupportEmail(), current.getBotSupportEmail());
+    return new GameDescriptionDelta(gameId, changedFields, previous.getVersion(), current);
+  }
+
+  private static int changed(final int field, final @Nullable Object previous, final @Nullable Object current) {
+    return Objects.equals(previous, current) ? 0 : field;
+  }
+
+  public GUID getGameId() {
+    return gameId;
+  }
+
+  /**
+   * Returns the version of the description this delta leads to.
+   */
+  public int getVersion() {
+    return values.getVersion();
+  }
+
+  /**
+   * Returns the version of the description this delta was computed from.
+   */
+  public int getBaseVersion() {
+    return baseVersion;
+  }
+
+  /**
+   * Indicates whether this delta contains every field of the description.
+   */
+  public boolean isComplete() {
+    return changedFields == ALL_FIELDS;
+  }
+
+  /**
+   * Indicates whether no field changed.
+   */
+  boolean isEmpty() {
+    return changedFields == 0;
+  }
+
+  /**
+   * Indicates whether this delta can be applied to the specified description, i.e. whether it is complete or was
+   * computed from the same version of the description.
+   *
+   * @param base The description to apply this delta to or {@code null} if there is none.
+   */
+  public boolean canApplyTo(final @Nullable GameDescription base) {
+    return isComplete() || (base != null && base.getVersion() == baseVersion);
+  }
+
+  /**
+   * Returns a new description with the changed fields of this delta applied to the specified description.
+   *
+   * @param base The description to apply this delta to or {@code null} if this delta is complete.
+   *
+   * @throws IllegalStateException If this delta can not be applied to the specified description.
+   */
+  public GameDescription applyTo(final @Nullable GameDescription base) {
+    checkState(canApplyTo(base), "an incomplete delta can only be applied to the description it was computed from");
+
+    final GameDescription description = (base == null) ? new GameDescription() : (GameDescription) base.clone();
+    if (isChanged(HOSTED_BY)) {
+      description.setHostedBy(values.getHostedBy());
+    }
+    if (isChanged(PORT)) {
+      description.setPort(values.getPort());
+    }
+    if (isChanged(START_DATE_TIME)) {
+      description.setStartDateTime(values.getStartDateTime());
+    }
+    if (isChanged(GAME_NAME)) {
+      description.setGameName(values.getGameName());
+    }
+    if (isChanged(PLAYER_COUNT)) {
+      description.setPlayerCount(values.getPlayerCount());
+    }
+    if (isChanged(ROUND)) {
+      description.setRound(values.getRound());
+    }
+    if (isChanged(STATUS)) {
+      description.setStatus(values.getStatus());
+    }
+    if (isChanged(HOST_NAME)) {
+      description.setHostName(values.getHostName());
+    }
+    if (isChanged(COMMENT)) {
+      description.setComment(values.getComment());
+    }
+    if (isChanged(PASSWORDED)) {
+      description.setPassworded(values.getPassworded());
+    }
+    if (isChanged(ENGINE_VERSION)) {
+      description.setEngineVersion(values.getEngineVersion());
+    }
+    if (isChanged(GAME_VERSION)) {
+      description.setGameVersion(values.getGameVersion());
+    }
+    if (isChanged(BOT_SUPPORT_EMAIL)) {
+      description.copyBotSupportEmail(values);
+    }
+    description.setVersion(values.getVersion());
+    return description;
+  }
+
+  private boolean isChanged(final int field) {
+    return (changedFields & field) != 0;
+  }
+
+  @Override
+  public void readExternal(final ObjectInput in) throws IOException, ClassNotFoundException {
+    gameId = new GUID();
+    gameId.readExternal(in);
+    changedFields = in.readShort();
+    values = new GameDescription();
+    if (isChanged(HOSTED_BY)) {
+      final Node hostedBy = new Node();
+      hostedBy.readExternal(in);
+      values.setHostedBy(hostedBy);
+    }
+    if (isChanged(PORT)) {
+      values.setPort(in.readInt());
+    }
+    if (isChanged(START_DATE_TIME)) {
+      values.setStartDateTime(Instant.ofEpochMilli(in.readLong()));
+    }
+    if (isChanged(GAME_NAME)) {
+      values.setGameName(in.readUTF());
+    }
+    if (isChanged(PLAYER_COUNT)) {
+      values.setPlayerCount(in.readByte());
+    }
+    if (isChanged(ROUND)) {
+      values.setRound(in.readUTF());
+    }
+    if (isChanged(STATUS)) {
+      values.setStatus(GameDescription.GameStatus.values()[in.readByte()]);
+    }
+    if (isChanged(HOST_NAME)) {
+      values.setHostName(in.readUTF());
+    }
+    if (isChanged(COMMENT)) {
+      values.setComment(in.readUTF());
+    }
+    if (isChanged(PASSWORDED)) {
+      values.setPassworded(in.readBoolean());
+    }
+    if (isChanged(ENGINE_VERSION)) {
+      values.setEngineVersion(in.readUTF());
+    }
+    if (isChanged(GAME_VERSION)) {
+      values.setGameVersion(in.readUTF());
+    }
+    if (isChanged(BOT_SUPPORT_EMAIL)) {
+      values.readBotSupportEmail(in);
+    }
+    values.setVersion(in.readInt());
+    baseVersion = in.readInt();
+  }
+
+  @Override
+  public void writeExternal(final ObjectOutput out) throws IOException {
+    gameId.writeExternal(out);
+    out.writeShort(changedFields);
+    if (isChanged(HOSTED_BY)) {
+      ((Node) values.getHostedBy()).writeExternal(out);
+    }
+    if (isChanged(PORT)) {
+      out.writeInt(values.getPort());
+    }
+    if (isChanged(START_DATE_TIME)) {
+      out.writeLong(values.getStartDateTime().toEpochMilli());
+    }
+    if (isChanged(GAME_NAME)) {
+      out.writeUTF(values.getGameName());
+    }
+    if (isChanged(PLAYER_COUNT)) {
+      out.writeByte(values.getPlayerCount());
+    }
+    if (isChanged(ROUND)) {
+      out.writeUTF(values.getRound());
+    }
+    if (isChanged(STATUS)) {
+      out.writeByte(values.getStatus().ordinal());
+    }
+    if (isChanged(HOST_NAME)) {
+      out.writeUTF(values.getHostName());
+    }
+    if (isChanged(COMMENT)) {
+      out.writeUTF(values.getComment());
+    }
+    if (isChanged(PASSWORDED)) {
+      out.writeBoolean(values.getPassworded());
+    }
+    if (isChanged(ENGINE_VERSION)) {
+      out.writeUTF(values.getEngineVersion());
+    }
+    if (isChanged(GAME_VERSION)) {
+      out.writeUTF(values.getGameVersion());
+    }
+    if (isChanged(BOT_SUPPORT_EMAIL)) {
+      out.writeUTF(values.getBotSupportEmail().orElse(""));
+    }
+    out.writeInt(values.getVersion());
+    out.writeInt(baseVersion);
+  }
+
+  @Override
+  public String toString() {
+    return "GameDescriptionDelta[gameId=" + gameId + ", changedFields=" + Integer.toBinaryString(changedFields)
+        + ", baseVersion=" + baseVersion + ", version=" + getVersion() + "]";
+  }
+}
@@ -1,5 +1,7 @@
 package games.strategy.engine.lobby.server;
 
+import java.util.List;
+
 import games.strategy.engine.message.IChannelSubscribor;
 import games.strategy.engine.message.RemoteName;
 import games.strategy.net.GUID;
@@ -11,4 +13,9 @@ public interface ILobbyGameBroadcaster extends IChannelSubscribor {
   void gameUpdated(GUID gameId, GameDescription description);
 
   void gameRemoved(GUID gameId);
+
+  /**
+   * Updates several games at once with the fields of their descriptions that changed since the last update.
+   */
+  void gamesUpdated(List<GameDescriptionDelta> deltas);
 }
@@ -6,8 +6,9 @@ import java.util.logging.Logger;
 
 import games.strategy.engine.chat.ChatController;
 import games.strategy.engine.chat.StatusManager;
+import games.strategy.engine.config.lobby.LobbyPropertyReader;
+import games.strategy.engine.lobby.server.db.LobbyDatabase;
 import games.strategy.engine.lobby.server.login.LobbyLoginValidator;
-import games.strategy.net.IServerMessenger;
 import games.strategy.net.Messengers;
 import games.strategy.net.ServerMessenger;
 import games.strategy.util.Version;
@@ -19,29 +20,44 @@ public class LobbyServer {
   private static final Logger logger = Logger.getLogger(LobbyServer.class.getName());
 
   LobbyServer(final int port) {
-    final IServerMessenger server;
-    try {
-      server = new ServerMessenger(ADMIN_USERNAME, port);
-    } catch (final IOException ex) {
-      logger.log(Level.SEVERE, ex.toString());
-      throw new IllegalStateException(ex.getMessage());
-    }
+    this(newServerMessenger(port), LobbyContext.lobbyPropertyReader(), LobbyDatabase.postgres());
+  }
+
+  /**
+   * Opens a lobby on the specified server messenger, which must not accept connections yet.
+   *
+   * @param database The database through which the lobby reads and records its users, bans and mutes.
+   */
+  public LobbyServer(final ServerMessenger server, final LobbyPropertyReader lobbyPropertyReader,
+      final LobbyDatabase database) {
     final Messengers messengers = new Messengers(server);
-    server.setLoginValidator(new LobbyLoginValidator());
+    server.setLoginValidator(new LobbyLoginValidator(lobbyPropertyReader, database));
+    server.setMuteDaos(database.getMutedUsernameDao(), database.getMutedMacDao());
     // setup common objects
-    new UserManager().register(messengers.getRemoteMessenger());
-    final ModeratorController moderatorController = new ModeratorController(server, messengers);
+    new UserManager(database.getUserDao()).register(messengers.getRemoteMessenger());
+    final ModeratorController moderatorController = new ModeratorController(server, messengers, database);
     moderatorController.register(messengers.getRemoteMessenger());
     new ChatController(LOBBY_CHAT, messengers, moderatorController);
 
     // register the status controller
     new StatusManager(messengers).shutDown();
 
-    final LobbyGameController controller = new LobbyGameController((ILobbyGameBroadcaster) messengers
-        .getChannelMessenger().getChannelBroadcastor(ILobbyGameBroadcaster.GAME_BROADCASTER_CHANNEL), server);
+    final LobbyGameController controller = new LobbyGameController(
+        new CoalescingLobbyGameBroadcaster((ILobbyGameBroadcaster) messengers.getChannelMessenger()
+            .getChannelBroadcastor(ILobbyGameBroadcaster.GAME_BROADCASTER_CHANNEL)),
+        server);
     controller.register(messengers.getRemoteMessenger());
 
     // now we are open for business
     server.setAcceptNewConnections(true);
   }
+
+  private static ServerMessenger newServerMessenger(final int port) {
+    try {
+      return new ServerMessenger(ADMIN_USERNAME, port);
+    } catch (final IOException ex) {
+      logger.log(Level.SEVERE, ex.toString());
+      throw new IllegalStateException(ex.getMessage());
+    }
+  }
 }
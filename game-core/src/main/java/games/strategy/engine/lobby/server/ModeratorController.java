@@ -1,5 +1,7 @@
 package games.strategy.engine.lobby.server;
 
+import static com.google.common.base.Preconditions.checkNotNull;
+
 import java.time.Instant;
 import java.util.Date;
 
@@ -7,11 +9,7 @@ import javax.annotation.Nullable;
 
 import com.google.common.annotations.VisibleForTesting;
 
-import games.strategy.engine.lobby.server.db.BannedMacController;
-import games.strategy.engine.lobby.server.db.BannedUsernameController;
-import games.strategy.engine.lobby.server.db.MutedMacController;
-import games.strategy.engine.lobby.server.db.MutedUsernameController;
-import games.strategy.engine.lobby.server.db.UserController;
+import games.strategy.engine.lobby.server.db.LobbyDatabase;
 import games.strategy.engine.lobby.server.userDB.DBUser;
 import games.strategy.engine.message.MessageContext;
 import games.strategy.engine.message.RemoteName;
@@ -21,8 +19,16 @@ import games.strategy.net.MacFinder;
 import games.strategy.net.Messengers;
 
 public class ModeratorController extends AbstractModeratorController {
+  private final LobbyDatabase database;
+
   public ModeratorController(final IServerMessenger serverMessenger, final Messengers messengers) {
+    this(serverMessenger, messengers, LobbyDatabase.postgres());
+  }
+
+  public ModeratorController(final IServerMessenger serverMessenger, final Messengers messengers,
+      final LobbyDatabase database) {
     super(serverMessenger, messengers);
+    this.database = checkNotNull(database);
   }
 
   @Override
@@ -38,7 +44,7 @@ public class ModeratorController extends AbstractModeratorController {
 
     final User bannedUser = getUserForNode(node);
     final User moderator = getUserForNode(MessageContext.getSender());
-    new BannedUsernameController().addBannedUsername(bannedUser, banExpires, moderator);
+    database.getBannedUsernameDao().addBannedUsername(bannedUser, banExpires, moderator);
     logger.info(String.format(
         "User was banned from the lobby (by username); "
             + "Username: %s, IP: %s, MAC: %s, Mod Username: %s, Mod IP: %s, Mod MAC: %s, Expires: %s",
@@ -62,7 +68,7 @@ public class ModeratorController extends AbstractModeratorController {
   @Override
   public boolean isPlayerAdmin(final INode node) {
     final User user = getUserForNode(node);
-    final DBUser dbUser = new UserController().getUserByName(user.getUsername());
+    final DBUser dbUser = database.getUserDao().getUserByName(user.getUsername());
     return dbUser != null && dbUser.isAdmin();
   }
 
@@ -98,7 +104,7 @@ public class ModeratorController extends AbstractModeratorController {
 
     final User bannedUser = getUserForNode(node).withHashedMacAddress(hashedMac);
     final User moderator = getUserForNode(MessageContext.getSender());
-    new BannedMacController().addBannedMac(bannedUser, banExpires, moderator);
+    database.getBannedMacDao().addBannedMac(bannedUser, banExpires, moderator);
     logger.info(String.format(
         "User was banned from the lobby (by MAC); "
             + "Username: %s, IP: %s, MAC: %s, Mod Username: %s, Mod IP: %s, Mod MAC: %s, Expires: %s",
@@ -120,7 +126,7 @@ public class ModeratorController extends AbstractModeratorController {
 
     final User mutedUser = getUserForNode(node);
     final User moderator = getUserForNode(MessageContext.getSender());
-    new MutedUsernameController().addMutedUsername(mutedUser, muteExpires, moderator);
+    database.getMutedUsernameDao().addMutedUsername(mutedUser, muteExpires, moderator);
     serverMessenger.notifyUsernameMutingOfPlayer(mutedUser.getUsername(), muteExpires);
     logger.info(String.format(
         "User was muted in the lobby (by username); "
@@ -143,7 +149,7 @@ public class ModeratorController extends AbstractModeratorController {
 
     final User mutedUser = getUserForNode(node);
     final User moderator = getUserForNode(MessageContext.getSender());
-    new MutedMacController().addMutedMac(mutedUser, muteExpires, moderator);
+    database.getMutedMacDao().addMutedMac(mutedUser, muteExpires, moderator);
     serverMessenger.notifyMacMutingOfPlayer(mutedUser.getHashedMacAddress(), muteExpires);
     logger.info(String.format(
         "User was muted in the lobby (by MAC); "
@@ -0,0 +1,48 @@
+package games.strategy.engine.lobby.server.db;
+
+import javax.annotation.Nonnull;
+import javax.annotation.concurrent.Immutable;
+
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+
+/**
+ * The data access objects through which a lobby reads and records its users, bans, mutes and logins.
+ */
+@Immutable
+@Builder
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+@Getter
+public final class LobbyDatabase {
+  @Nonnull
+  private final AccessLogDao accessLogDao;
+  @Nonnull
+  private final BadWordDao badWordDao;
+  @Nonnull
+  private final BannedMacDao bannedMacDao;
+  @Nonnull
+  private final BannedUsernameDao bannedUsernameDao;
+  @Nonnull
+  private final MutedMacDao mutedMacDao;
+  @Nonnull
+  private final MutedUsernameDao mutedUsernameDao;
+  @Nonnull
+  private final UserDao userDao;
+
+  /**
+   * Returns the data access objects of the lobby PostgreSQL database.
+   */
+  public static LobbyDatabase postgres() {
+    return builder()
+        .accessLogDao(new AccessLogController())
+        .badWordDao(new BadWordController())
+        .bannedMacDao(new BannedMacController())
+        .bannedUsernameDao(new BannedUsernameController())
+        .mutedMacDao(new MutedMacController())
+        .mutedUsernameDao(new MutedUsernameController())
+        .userDao(new UserController())
+        .build();
+  }
+}
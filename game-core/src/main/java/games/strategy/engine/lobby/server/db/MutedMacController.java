@@ -17,20 +17,8 @@ import games.strategy.engine.lobby.server.User;
 /**
  * Utility class to create/read/delete muted macs (there is no update).
  */
-public class MutedMacController extends TimedController {
-  /**
-   * Mute the given mac. If muteTill is not null, the mute will expire when muteTill is reached.
-   *
-   * <p>
-   * If this mac is already muted, this call will update the mute_end.
-   * </p>
-   *
-   * @param mutedUser The user whose MAC will be muted.
-   * @param muteTill The instant at which the mute will expire or {@code null} to mute the MAC forever.
-   * @param moderator The moderator executing the mute.
-   *
-   * @throws IllegalStateException If an error occurs while adding, updating, or removing the mute.
-   */
+public class MutedMacController extends TimedController implements MutedMacDao {
+  @Override
   public void addMutedMac(final User mutedUser, final @Nullable Instant muteTill, final User moderator) {
     checkNotNull(mutedUser);
     checkNotNull(moderator);
@@ -77,18 +65,12 @@ public class MutedMacController extends TimedController {
     }
   }
 
-  /**
-   * Is the given mac muted? This may have the side effect of removing from the
-   * database any mac's whose mute has expired.
-   */
+  @Override
   public boolean isMacMuted(final String mac) {
     return getMacUnmuteTime(mac).map(now()::isBefore).orElse(false);
   }
 
-  /**
-   * Returns an Optional Instant of the moment when the mute expires.
-   * The optional is empty when the mac is not muted or the mute has already expired.
-   */
+  @Override
   public Optional<Instant> getMacUnmuteTime(final String mac) {
     final String sql = "select mac, mute_till from muted_macs where mac=?";
     try (Connection con = Database.getPostgresConnection();
@@ -0,0 +1,37 @@
+package games.strategy.engine.lobby.server.db;
+
+import java.time.Instant;
+import java.util.Optional;
+
+import javax.annotation.Nullable;
+
+import games.strategy.engine.lobby.server.User;
+
+/**
+ * Data access object for the muted MAC table.
+ */
+public interface MutedMacDao {
+  /**
+   * Adds the specified muted MAC to the table if it does not exist or updates the instant at which the mute will expire
+   * if it already exists.
+   *
+   * @param mutedUser The user whose MAC will be muted.
+   * @param muteTill The instant at which the mute will expire or {@code null} to mute the MAC forever.
+   * @param moderator The moderator executing the mute.
+   *
+   * @throws IllegalStateException If an error occurs while adding, updating, or removing the mute.
+   */
+  void addMutedMac(User mutedUser, @Nullable Instant muteTill, User moderator);
+
+  /**
+   * Indicates the specified MAC is muted. This may have the side effect of removing the mute of the MAC if it has
+   * expired.
+   */
+  boolean isMacMuted(String mac);
+
+  /**
+   * Returns the instant at which the mute of the specified MAC expires, {@link Instant#MAX} if the MAC is muted
+   * forever, or empty if the MAC is not muted or the mute has already expired.
+   */
+  Optional<Instant> getMacUnmuteTime(String mac);
+}
@@ -17,20 +17,8 @@ import games.strategy.engine.lobby.server.User;
 /**
  * Utility class to create/read/delete muted usernames (there is no update).
  */
-public class MutedUsernameController extends TimedController {
-  /**
-   * Mute the given username. If muteTill is not null, the mute will expire when muteTill is reached.
-   *
-   * <p>
-   * If this username is already muted, this call will update the mute_end.
-   * </p>
-   *
-   * @param mutedUser The user whose username will be muted.
-   * @param muteTill The instant at which the mute will expire or {@code null} to mute the username forever.
-   * @param moderator The moderator executing the mute.
-   *
-   * @throws IllegalStateException If an error occurs while adding, updating, or removing the mute.
-   */
+public class MutedUsernameController extends TimedController implements MutedUsernameDao {
+  @Override
   public void addMutedUsername(final User mutedUser, final @Nullable Instant muteTill, final User moderator) {
     checkNotNull(mutedUser);
     checkNotNull(moderator);
@@ -77,18 +65,12 @@ public class MutedUsernameController extends TimedController {
     }
   }
 
-  /**
-   * Is the given username muted? This may have the side effect of removing from the
-   * database any username's whose mute has expired.
-   */
+  @Override
   public boolean isUsernameMuted(final String username) {
     return getUsernameUnmuteTime(username).map(now()::isBefore).orElse(false);
   }
 
-  /**
-   * Returns an Optional Instant of the moment when the mute expires.
-   * The optional is empty when the username is not muted or the mute has already expired.
-   */
+  @Override
   public Optional<Instant> getUsernameUnmuteTime(final String username) {
     final String sql = "select username, mute_till from muted_usernames where username = ?";
     try (Connection con = Database.getPostgresConnection();
@@ -0,0 +1,37 @@
+package games.strategy.engine.lobby.server.db;
+
+import java.time.Instant;
+import java.util.Optional;
+
+import javax.annotation.Nullable;
+
+import games.strategy.engine.lobby.server.User;
+
+/**
+ * Data access object for the muted username table.
+ */
+public interface MutedUsernameDao {
+  /**
+   * Adds the specified muted username to the table if it does not exist or updates the instant at which the mute will
+   * expire if it already exists.
+   *
+   * @param mutedUser The user whose username will be muted.
+   * @param muteTill The instant at which the mute will expire or {@code null} to mute the username forever.
+   * @param moderator The moderator executing the mute.
+   *
+   * @throws IllegalStateException If an error occurs while adding, updating, or removing the mute.
+   */
+  void addMutedUsername(User mutedUser, @Nullable Instant muteTill, User moderator);
+
+  /**
+   * Indicates the specified username is muted. This may have the side effect of removing the mute of the username if
+   * it has expired.
+   */
+  boolean isUsernameMuted(String username);
+
+  /**
+   * Returns the instant at which the mute of the specified username expires, {@link Instant#MAX} if the username is
+   * muted forever, or empty if the username is not muted or the mute has already expired.
+   */
+  Optional<Instant> getUsernameUnmuteTime(String username);
+}
@@ -20,18 +20,16 @@ import games.strategy.engine.framework.startup.ui.InGameLobbyWatcher;
 import games.strategy.engine.lobby.server.LobbyContext;
 import games.strategy.engine.lobby.server.LobbyServer;
 import games.strategy.engine.lobby.server.User;
-import games.strategy.engine.lobby.server.db.BadWordController;
 import games.strategy.engine.lobby.server.db.BadWordDao;
-import games.strategy.engine.lobby.server.db.BannedMacController;
 import games.strategy.engine.lobby.server.db.BannedMacDao;
-import games.strategy.engine.lobby.server.db.BannedUsernameController;
 import games.strategy.engine.lobby.server.db.BannedUsernameDao;
 import games.strategy.engine.lobby.server.db.HashedPassword;
-import games.strategy.engine.lobby.server.db.UserController;
+import games.strategy.engine.lobby.server.db.LobbyDatabase;
 import games.strategy.engine.lobby.server.db.UserDao;
 import games.strategy.engine.lobby.server.userDB.DBUser;
 import games.strategy.net.ILoginValidator;
 import games.strategy.net.MacFinder;
+import games.strategy.performance.MetricRegistry;
 import games.strategy.util.Md5Crypt;
 import games.strategy.util.Tuple;
 import games.strategy.util.Version;
@@ -53,6 +51,10 @@ public final class LobbyLoginValidator implements ILoginValidator {
   public static final String HASHED_PASSWORD_KEY = "HASHEDPWD";
   public static final String EMAIL_KEY = "EMAIL";
   public static final String SALT_KEY = "SALT";
+  /**
+   * The time taken to authenticate a user, labeled by whether the login was accepted.
+   */
+  private static final String LOGIN_DURATION = "triplea_lobby_login_duration_seconds";
 
   @VisibleForTesting
   interface ErrorMessages {
@@ -75,13 +77,20 @@ public final class LobbyLoginValidator implements ILoginValidator {
   private final UserDao userDao;
 
   public LobbyLoginValidator() {
+    this(LobbyContext.lobbyPropertyReader(), LobbyDatabase.postgres());
+  }
+
+  /**
+   * Creates a validator that reads and records the lobby users through the specified database.
+   */
+  public LobbyLoginValidator(final LobbyPropertyReader lobbyPropertyReader, final LobbyDatabase database) {
     this(
-        LobbyContext.lobbyPropertyReader(),
-        new BadWordController(),
-        new BannedMacController(),
-        new BannedUsernameController(),
-        new UserController(),
-        new CompositeAccessLog(),
+        lobbyPropertyReader,
+        database.getBadWordDao(),
+        database.getBannedMacDao(),
+        database.getBannedUsernameDao(),
+        database.getUserDao(),
+        new CompositeAccessLog(database.getAccessLogDao()),
         new RsaAuthenticator(),
         BCrypt::gensalt);
   }
@@ -138,6 +147,7 @@ public final class LobbyLoginValidator implements ILoginValidator {
     if (lobbyPropertyReader.isMaintenanceMode()) {
       return ErrorMessages.MAINTENANCE_MODE_ENABLED;
     }
+    final long startNanos = System.nanoTime();
     final User user = User.builder()
         .username(clientName)
         .inetAddress(((InetSocketAddress) remoteAddress).getAddress())
@@ -145,6 +155,8 @@ public final class LobbyLoginValidator implements ILoginValidator {
         .build();
     final @Nullable String errorMessage = authenticateUser(response, user);
     logAuthenticationResult(user, getUserTypeFor(response), errorMessage);
+    MetricRegistry.getInstance().histogram(LOGIN_DURATION, "result", (errorMessage == null) ? "accepted" : "rejected")
+        .record(System.nanoTime() - startNanos, TimeUnit.NANOSECONDS);
     return errorMessage;
   }
 
@@ -0,0 +1,239 @@
+package games.strategy.engine.message;
+
+import java.io.IOException;
+import java.io.ObjectInput;
+import java.io.ObjectOutput;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.Map;
+
+import javax.annotation.Nullable;
+
+import games.strategy.engine.data.Change;
+import games.strategy.engine.data.GameData;
+import games.strategy.engine.data.GameObjectInputStream;
+import games.strategy.engine.data.GameObjectOutputStream;
+import games.strategy.engine.data.PlayerID;
+import games.strategy.engine.data.Territory;
+import games.strategy.engine.data.UnitType;
+import games.strategy.engine.data.changefactory.ChangeCodec;
+
+/**
+ * A compact binary encoding of the arguments and return values of remote method calls.
+ *
+ * <p>
+ * Each value is written as a one byte tag followed by a hand-written encoding of the value. Primitive wrappers,
+ * strings, the common collection types and the game objects that are shared by name ({@link PlayerID},
+ * {@link Territory} and {@link UnitType}) are written without Java serialization, which saves the class descriptors
+ * and object headers it writes for every message. The most frequent changes are written by {@link ChangeCodec}. Any
+ * other value falls back to {@link ObjectOutput#writeObject}.
+ * </p>
+ *
+ * <p>
+ * Game objects are only written by name to a {@link GameObjectOutputStream}, and must be read back from a
+ * {@link GameObjectInputStream}, which resolves the name against its game data.
+ * </p>
+ */
+final class ArgumentCodec {
+  /**
+   * The version of this encoding, written before the arguments of each call so that peers using a different encoding
+   * fail fast.
+   */
+  static final byte FORMAT_VERSION = 2;
+
+  private static final byte NULL = 0;
+  private static final byte TRUE = 1;
+  private static final byte FALSE = 2;
+  private static final byte BYTE = 3;
+  private static final byte SHORT = 4;
+  private static final byte CHARACTER = 5;
+  private static final byte INTEGER = 6;
+  private static final byte LONG = 7;
+  private static final byte FLOAT = 8;
+  private static final byte DOUBLE = 9;
+  private static final byte STRING = 10;
+  private static final byte ARRAY_LIST = 11;
+  private static final byte HASH_SET = 12;
+  private static final byte LINKED_HASH_SET = 13;
+  private static final byte HASH_MAP = 14;
+  private static final byte PLAYER_ID = 15;
+  private static final byte TERRITORY = 16;
+  private static final byte UNIT_TYPE = 17;
+  private static final byte CHANGE = 18;
+  private static final byte SERIALIZED = Byte.MAX_VALUE;
+
+  // DataOutput.writeUTF() is limited to 65535 encoded bytes, and a char is encoded in at most 3 bytes
+  private static final int MAX_UTF_LENGTH = 0xFFFF / 3;
+
+  private ArgumentCodec() {}
+
+  static void write(final ObjectOutput out, final @Nullable Object value) throws IOException {
+    if (value == null) {
+      out.writeByte(NULL);
+    } else if (value instanceof Boolean) {
+      out.writeByte((Boolean) value ? TRUE : FALSE);
+    } else if (value instanceof Byte) {
+      out.writeByte(BYTE);
+      out.writeByte((Byte) value);
+    } else if (value instanceof Short) {
+      out.writeByte(SHORT);
+      out.writeShort((Short) value);
+    } else if (value instanceof Character) {
+      out.writeByte(CHARACTER);
+      out.writeChar((Character) value);
+    } else if (value instanceof Integer) {
+      out.writeByte(INTEGER);
+      out.writeInt((Integer) value);
+    } else if (value instanceof Long) {
+      out.writeByte(LONG);
+      out.writeLong((Long) value);
+    } else if (value instanceof Float) {
+      out.writeByte(FLOAT);
+      out.writeFloat((Float) value);
+    } else if (value instanceof Double) {
+      out.writeByte(DOUBLE);
+      out.writeDouble((Double) value);
+    } else if (value instanceof String && ((String) value).length() <= MAX_UTF_LENGTH) {
+      out.writeByte(STRING);
+      out.writeUTF((String) value);
+    } else if (value.getClass() == ArrayList.class) {
+      writeCollection(out, ARRAY_LIST, (Collection<?>) value);
+    } else if (value.getClass() == HashSet.class) {
+      writeCollection(out, HASH_SET, (Collection<?>) value);
+    } else if (value.getClass() == LinkedHashSet.class) {
+      writeCollection(out, LINKED_HASH_SET, (Collection<?>) value);
+    } else if (value.getClass() == HashMap.class) {
+      final Map<?, ?> map = (Map<?, ?>) value;
+      out.writeByte(HASH_MAP);
+      out.writeInt(map.size());
+      for (final Map.Entry<?, ?> entry : map.entrySet()) {
+        write(out, entry.getKey());
+        write(out, entry.getValue());
+      }
+    } else if (value.getClass() == PlayerID.class && out instanceof GameObjectOutputStream) {
+      out.writeByte(PLAYER_ID);
+      out.writeUTF(((PlayerID) value).getName());
+    } else if (value.getClass() == Territory.class && out instanceof GameObjectOutputStream) {
+      out.writeByte(TERRITORY);
+      out.writeUTF(((Territory) value).getName());
+    } else if (value.getClass() == UnitType.class && out instanceof GameObjectOutputStream) {
+      out.writeByte(UNIT_TYPE);
+      out.writeUTF(((UnitType) value).getName());
+    } else if (value instanceof Change && ChangeCodec.canWrite((Change) value)) {
+      out.writeByte(CHANGE);
+      ChangeCodec.write(out, (Change) value, ArgumentCodec::write);
+    } else {
+      out.writeByte(SERIALIZED);
+      out.writeObject(value);
+    }
+  }
+
+  private static void writeCollection(final ObjectOutput out, final byte tag, final Collection<?> collection)
+      throws IOException {
+    out.writeByte(tag);
+    out.writeInt(collection.size());
+    for (final Object element : collection) {
+      write(out, element);
+    }
+  }
+
+  static @Nullable Object read(final ObjectInput in) throws IOException, ClassNotFoundException {
+    final byte tag = in.readByte();
+    switch (tag) {
+      case NULL:
+        return null;
+      case TRUE:
+        return Boolean.TRUE;
+      case FALSE:
+        return Boolean.FALSE;
+      case BYTE:
+        return in.readByte();
+      case SHORT:
+        return in.readShort();
+      case CHARACTER:
+        return in.readChar();
+      case INTEGER:
+        return in.readInt();
+      case LONG:
+        return in.readLong();
+      case FLOAT:
+        return in.readFloat();
+      case DOUBLE:
+        return in.readDouble();
+      case STRING:
+        return in.readUTF();
+      case ARRAY_LIST:
+        return readCollection(in, new ArrayList<>());
+      case HASH_SET:
+        return readCollection(in, new HashSet<>());
+      case LINKED_HASH_SET:
+        return readCollection(in, new LinkedHashSet<>());
+      case HASH_MAP:
+        return readMap(in);
+      case PLAYER_ID:
+      case TERRITORY:
+      case UNIT_TYPE:
+        return readGameObject(in, tag);
+      case CHANGE:
+        return ChangeCodec.read(in, ArgumentCodec::read);
+      case SERIALIZED:
+        return in.readObject();
+      default:
+        throw new IOException("Unknown argument tag: " + tag);
+    }
+  }
+
+  private static Collection<Object> readCollection(final ObjectInput in, final Collection<Object> collection)
+      throws IOException, ClassNotFoundException {
+    final int size = in.readInt();
+    for (int i = 0; i < size; i++) {
+      collection.add(read(in));
+    }
+    return collection;
+  }
+
+  private static Map<Object, Object> readMap(final ObjectInput in) throws IOException, ClassNotFoundException {
+    final int size = in.readInt();
+    final Map<Object, Object> map = new HashMap<>();
+    for (int i = 0; i < size; i++) {
+      final Object key = read(in);
+      map.put(key, read(in));
+    }
+    return map;
+  }
+
+  private static Object readGameObject(final ObjectInput in, final byte tag) throws IOException {
+    final String name = in.readUTF();
+    if (!(in instanceof GameObjectInputStream)) {
+      throw new IOException("Game object '" + name + "' can only be read from a game object stream");
+    }
+    final GameData data = ((GameObjectInputStream) in).getData();
+    data.acquireReadLock();
+    try {
+      final Object value;
+      switch (tag) {
+        case PLAYER_ID:
+          value = data.getPlayerList().getPlayerId(name);
+          break;
+        case TERRITORY:
+          value = data.getMap().getTerritory(name);
+          break;
+        case UNIT_TYPE:
+          value = data.getUnitTypeList().getUnitType(name);
+          break;
+        default:
+          throw new AssertionError("unexpected tag: " + tag);
+      }
+      if (value == null) {
+        throw new IOException("Unknown game object: " + name);
+      }
+      return value;
+    } finally {
+      data.releaseReadLock();
+    }
+  }
+
+}
@@ -136,6 +136,7 @@ public class RemoteMethodCall implements Externalizable {
 
   @Override
   public void writeExternal(final ObjectOutput out) throws IOException {
+    out.writeByte(ArgumentCodec.FORMAT_VERSION);
     out.writeUTF(remoteName);
     out.writeByte(methodNumber);
     if (args == null) {
@@ -143,20 +144,24 @@ public class RemoteMethodCall implements Externalizable {
     } else {
       out.writeByte(args.length);
       for (final Object arg : args) {
-        out.writeObject(arg);
+        ArgumentCodec.write(out, arg);
       }
     }
   }
 
   @Override
   public void readExternal(final ObjectInput in) throws IOException, ClassNotFoundException {
+    final byte formatVersion = in.readByte();
+    if (formatVersion != ArgumentCodec.FORMAT_VERSION) {
+      throw new IOException("Unsupported remote method call format: " + formatVersion);
+    }
     remoteName = in.readUTF();
     methodNumber = in.readByte();
     final byte count = in.readByte();
     if (count != Byte.MAX_VALUE) {
       args = new Object[count];
       for (int i = 0; i < count; i++) {
-        args[i] = in.readObject();
+        args[i] = ArgumentCodec.read(in);
       }
     }
   }
@@ -40,7 +40,7 @@ public class RemoteMethodCallResults implements Externalizable {
   public void writeExternal(final ObjectOutput out) throws IOException {
     if (returnValue != null) {
       out.write(1);
-      out.writeObject(returnValue);
+      ArgumentCodec.write(out, returnValue);
     } else {
       out.write(0);
       out.writeObject(exception);
@@ -51,7 +51,7 @@ public class RemoteMethodCallResults implements Externalizable {
   public void readExternal(final ObjectInput in) throws IOException, ClassNotFoundException {
     final boolean hasReturnValue = in.read() == 1;
     if (hasReturnValue) {
-      returnValue = in.readObject();
+      returnValue = ArgumentCodec.read(in);
     } else {
       exception = (Throwable) in.readObject();
     }
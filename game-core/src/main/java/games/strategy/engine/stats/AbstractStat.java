@@ -27,13 +27,6 @@ public abstract class AbstractStat implements IStat {
   }
 
   protected static Resource getResourcePUs(final GameData data) {
-    final Resource pus;
-    try {
-      data.acquireReadLock();
-      pus = data.getResourceList().getResource(Constants.PUS);
-    } finally {
-      data.releaseReadLock();
-    }
-    return pus;
+    return data.readOptimistically(() -> data.getResourceList().getResource(Constants.PUS));
   }
 }
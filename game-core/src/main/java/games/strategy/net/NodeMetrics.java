@@ -0,0 +1,62 @@
+package games.strategy.net;
+
+import java.util.Optional;
+import java.util.function.Supplier;
+
+import javax.annotation.concurrent.ThreadSafe;
+
+import games.strategy.net.nio.CompressionStatistics;
+import games.strategy.performance.Counter;
+import games.strategy.performance.MetricRegistry;
+
+/**
+ * The metrics of the traffic between a server and one of its nodes, labeled with the port of the server and the name
+ * of the node. They are registered when the node logs in and removed when it disconnects.
+ */
+@ThreadSafe
+final class NodeMetrics {
+  private static final String MESSAGES_RECEIVED = "triplea_net_messages_received_total";
+  private static final String MESSAGES_SENT = "triplea_net_messages_sent_total";
+  private static final String BYTES_RECEIVED = "triplea_net_bytes_received_total";
+  private static final String BYTES_SENT = "triplea_net_bytes_sent_total";
+
+  private final MetricRegistry registry;
+  private final String[] labels;
+  private final Counter messagesReceived;
+  private final Counter messagesSent;
+
+  /**
+   * Creates the metrics of the specified node.
+   *
+   * @param statistics Supplies the bytes read from and written to the node, as they were sent over the network.
+   */
+  NodeMetrics(
+      final MetricRegistry registry,
+      final INode server,
+      final INode node,
+      final Supplier<Optional<CompressionStatistics>> statistics) {
+    this.registry = registry;
+    labels = new String[] {"port", String.valueOf(server.getPort()), "node", node.getName()};
+    messagesReceived = registry.counter(MESSAGES_RECEIVED, labels);
+    messagesSent = registry.counter(MESSAGES_SENT, labels);
+    registry.counter(BYTES_RECEIVED, () -> statistics.get().map(CompressionStatistics::getWireBytesRead).orElse(0L),
+        labels);
+    registry.counter(BYTES_SENT, () -> statistics.get().map(CompressionStatistics::getWireBytesWritten).orElse(0L),
+        labels);
+  }
+
+  void messageReceived() {
+    messagesReceived.increment();
+  }
+
+  void messageSent() {
+    messagesSent.increment();
+  }
+
+  void remove() {
+    registry.remove(MESSAGES_RECEIVED, labels);
+    registry.remove(MESSAGES_SENT, labels);
+    registry.remove(BYTES_RECEIVED, labels);
+    registry.remove(BYTES_SENT, labels);
+  }
+}
@@ -1,5 +1,7 @@
 package games.strategy.net;
 
+import static com.google.common.base.Preconditions.checkNotNull;
+
 import java.io.IOException;
 import java.io.Serializable;
 import java.net.InetSocketAddress;
@@ -31,22 +33,28 @@ import javax.annotation.Nullable;
 import games.strategy.engine.chat.ChatController;
 import games.strategy.engine.chat.IChatChannel;
 import games.strategy.engine.lobby.server.db.MutedMacController;
+import games.strategy.engine.lobby.server.db.MutedMacDao;
 import games.strategy.engine.lobby.server.db.MutedUsernameController;
+import games.strategy.engine.lobby.server.db.MutedUsernameDao;
 import games.strategy.engine.lobby.server.login.LobbyLoginValidator;
 import games.strategy.engine.message.HubInvoke;
 import games.strategy.engine.message.RemoteMethodCall;
 import games.strategy.engine.message.RemoteName;
 import games.strategy.engine.message.SpokeInvoke;
+import games.strategy.net.nio.DecodeStatistics;
 import games.strategy.net.nio.NioSocket;
 import games.strategy.net.nio.NioSocketListener;
 import games.strategy.net.nio.QuarantineConversation;
 import games.strategy.net.nio.ServerQuarantineConversation;
+import games.strategy.performance.MetricRegistry;
 
 /**
  * A Messenger that can have many clients connected to it.
  */
 public class ServerMessenger implements IServerMessenger, NioSocketListener {
   private static final Logger logger = Logger.getLogger(ServerMessenger.class.getName());
+  private static final String DECODE_QUEUE_DEPTH = "triplea_net_decode_queue_depth";
+  private static final String WRITE_QUEUE_DEPTH = "triplea_net_write_queue_depth";
   private final Selector acceptorSelector;
   private final ServerSocketChannel socketChannel;
   private final Node node;
@@ -56,9 +64,13 @@ public class ServerMessenger implements IServerMessenger, NioSocketListener {
   private final List<IConnectionChangeListener> connectionListeners = new CopyOnWriteArrayList<>();
   private boolean acceptNewConnection = false;
   private ILoginValidator loginValidator;
+  private volatile MutedUsernameDao mutedUsernameDao = new MutedUsernameController();
+  private volatile MutedMacDao mutedMacDao = new MutedMacController();
   // all our nodes
   private final Map<INode, SocketChannel> nodeToChannel = new ConcurrentHashMap<>();
   private final Map<SocketChannel, INode> channelToNode = new ConcurrentHashMap<>();
+  private final MetricRegistry metrics = MetricRegistry.getInstance();
+  private final Map<SocketChannel, NodeMetrics> channelToMetrics = new ConcurrentHashMap<>();
 
   public ServerMessenger(final String name, final int requestedPortNumber) throws IOException {
     this(name, requestedPortNumber, new DefaultObjectStreamFactory());
@@ -75,9 +87,15 @@ public class ServerMessenger implements IServerMessenger, NioSocketListener {
     nioSocket = new NioSocket(streamFactory, this, "Server");
     acceptorSelector = Selector.open();
     node = new Node(name, IpFinder.findInetAddress(), boundPortNumber);
+    metrics.gauge(DECODE_QUEUE_DEPTH, () -> nioSocket.getDecodeStatistics().getQueueDepth(), getMetricLabels());
+    metrics.gauge(WRITE_QUEUE_DEPTH, nioSocket::getWriteQueueDepth, getMetricLabels());
     new Thread(new ConnectionHandler(), "Server Messenger Connection Handler").start();
   }
 
+  private String[] getMetricLabels() {
+    return new String[] {"port", String.valueOf(node.getPort())};
+  }
+
   @Override
   public void setLoginValidator(final ILoginValidator loginValidator) {
     this.loginValidator = loginValidator;
@@ -88,6 +106,28 @@ public class ServerMessenger implements IServerMessenger, NioSocketListener {
     return loginValidator;
   }
 
+  /**
+   * Sets the data access objects used to look up the mutes of the players logging in to a lobby.
+   */
+  public void setMuteDaos(final MutedUsernameDao mutedUsernameDao, final MutedMacDao mutedMacDao) {
+    this.mutedUsernameDao = checkNotNull(mutedUsernameDao);
+    this.mutedMacDao = checkNotNull(mutedMacDao);
+  }
+
+  /**
+   * Returns a snapshot of the work done deserializing the messages received from the clients.
+   */
+  public DecodeStatistics getDecodeStatistics() {
+    return nioSocket.getDecodeStatistics();
+  }
+
+  /**
+   * Returns the number of packets waiting to be written to the clients.
+   */
+  public int getWriteQueueDepth() {
+    return nioSocket.getWriteQueueDepth();
+  }
+
   @Override
   public void addMessageListener(final IMessageListener listener) {
     listeners.add(listener);
@@ -118,6 +158,9 @@ public class ServerMessenger implements IServerMessenger, NioSocketListener {
       if (acceptorSelector != null) {
         acceptorSelector.wakeup();
       }
+      metrics.remove(DECODE_QUEUE_DEPTH, getMetricLabels());
+      metrics.remove(WRITE_QUEUE_DEPTH, getMetricLabels());
+      channelToMetrics.values().forEach(NodeMetrics::remove);
     }
   }
 
@@ -138,6 +181,7 @@ public class ServerMessenger implements IServerMessenger, NioSocketListener {
       return;
     }
     nioSocket.send(socketChannel, new MessageHeader(to, node, msg));
+    messageSent(socketChannel);
   }
 
   @Override
@@ -230,7 +274,7 @@ public class ServerMessenger implements IServerMessenger, NioSocketListener {
       if (isLobby()) {
         final String realName = uniquePlayerName.split(" ")[0];
         if (!liveMutedUsernames.contains(realName)) {
-          final Optional<Instant> muteTill = new MutedUsernameController().getUsernameUnmuteTime(realName);
+          final Optional<Instant> muteTill = mutedUsernameDao.getUsernameUnmuteTime(realName);
           muteTill.ifPresent(instant -> {
             if (instant.isAfter(Instant.now())) {
               // Signal the player as muted
@@ -240,7 +284,7 @@ public class ServerMessenger implements IServerMessenger, NioSocketListener {
           });
         }
         if (!liveMutedMacAddresses.contains(mac)) {
-          final Optional<Instant> muteTill = new MutedMacController().getMacUnmuteTime(mac);
+          final Optional<Instant> muteTill = mutedMacDao.getMacUnmuteTime(mac);
           muteTill.ifPresent(instant -> {
             if (instant.isAfter(Instant.now())) {
               // Signal the player as muted
@@ -282,6 +326,10 @@ public class ServerMessenger implements IServerMessenger, NioSocketListener {
     if (!expectedReceive.equals(msg.getFrom())) {
       throw new IllegalStateException("Expected: " + expectedReceive + " not: " + msg.getFrom());
     }
+    final NodeMetrics nodeMetrics = channelToMetrics.get(channel);
+    if (nodeMetrics != null) {
+      nodeMetrics.messageReceived();
+    }
     if (msg.getMessage() instanceof HubInvoke) { // Chat messages are always HubInvoke's
       if (isLobby() && ((HubInvoke) msg.getMessage()).call.getRemoteName().equals("_ChatCtrl_LOBBY_CHAT")) {
         final String realName = msg.getFrom().getName().split(" ")[0];
@@ -424,6 +472,7 @@ public class ServerMessenger implements IServerMessenger, NioSocketListener {
       throw new IllegalStateException("No channel for:" + msg.getFor() + " all channels:" + socketChannel);
     }
     nioSocket.send(socketChannel, msg);
+    messageSent(socketChannel);
   }
 
   private void forwardBroadcast(final MessageHeader msg) {
@@ -438,10 +487,18 @@ public class ServerMessenger implements IServerMessenger, NioSocketListener {
     for (final SocketChannel channel : nodes) {
       if (channel != fromChannel) {
         nioSocket.send(channel, msg);
+        messageSent(channel);
       }
     }
   }
 
+  private void messageSent(final SocketChannel channel) {
+    final NodeMetrics nodeMetrics = channelToMetrics.get(channel);
+    if (nodeMetrics != null) {
+      nodeMetrics.messageSent();
+    }
+  }
+
   private boolean isNameTaken(final String nodeName) {
     return getNodes().stream()
         .map(INode::getName)
@@ -586,7 +643,7 @@ public class ServerMessenger implements IServerMessenger, NioSocketListener {
 
   private TimerTask getUsernameUnmuteTask(final String username) {
     return createUnmuteTimerTask(
-        () -> (isLobby() && !new MutedUsernameController().isUsernameMuted(username)) || isGame(),
+        () -> (isLobby() && !mutedUsernameDao.isUsernameMuted(username)) || isGame(),
         () -> liveMutedUsernames.remove(username));
   }
 
@@ -605,7 +662,7 @@ public class ServerMessenger implements IServerMessenger, NioSocketListener {
 
   private TimerTask getMacUnmuteTask(final String mac) {
     return createUnmuteTimerTask(
-        () -> (isLobby() && !new MutedMacController().isMacMuted(mac)) || isGame(),
+        () -> (isLobby() && !mutedMacDao.isMacMuted(mac)) || isGame(),
         () -> liveMutedMacAddresses.remove(mac));
   }
 
@@ -626,6 +683,10 @@ public class ServerMessenger implements IServerMessenger, NioSocketListener {
       return;
     }
     channelToNode.remove(channel);
+    final NodeMetrics nodeMetrics = channelToMetrics.remove(channel);
+    if (nodeMetrics != null) {
+      nodeMetrics.remove();
+    }
     nioSocket.close(channel);
     notifyConnectionsChanged(false, nodeToRemove);
     logger.info("Connection removed:" + nodeToRemove);
@@ -652,6 +713,8 @@ public class ServerMessenger implements IServerMessenger, NioSocketListener {
   public void socketUnqaurantined(final SocketChannel channel, final QuarantineConversation conversation) {
     final ServerQuarantineConversation con = (ServerQuarantineConversation) conversation;
     final INode remote = new Node(con.getRemoteName(), (InetSocketAddress) channel.socket().getRemoteSocketAddress());
+    channelToMetrics.put(channel,
+        new NodeMetrics(metrics, node, remote, () -> nioSocket.getCompressionStatistics(channel)));
     nodeToChannel.put(remote, channel);
     channelToNode.put(channel, remote);
     notifyConnectionsChanged(true, remote);
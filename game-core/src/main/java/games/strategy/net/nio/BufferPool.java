@@ -0,0 +1,126 @@
+package games.strategy.net.nio;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkNotNull;
+
+import java.nio.ByteBuffer;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+import javax.annotation.concurrent.ThreadSafe;
+
+/**
+ * A pool of direct byte buffers used to read and write packets.
+ *
+ * <p>
+ * Buffers are pooled in size classes of powers of two from {@link #MIN_POOLED_CAPACITY} to
+ * {@link #MAX_POOLED_CAPACITY} bytes. Larger requests are served by heap buffers that are not pooled, since they are
+ * rare and would pin too much native memory. Each size class retains a bounded number of idle buffers; buffers released
+ * to a full size class are left to the garbage collector.
+ * </p>
+ */
+@ThreadSafe
+final class BufferPool {
+  static final int MIN_POOLED_CAPACITY = 1 << 6;
+  static final int MAX_POOLED_CAPACITY = 1 << 20;
+  private static final int MAX_IDLE_BYTES_PER_SIZE_CLASS = 4 << 20;
+  private static final int MAX_IDLE_BUFFERS_PER_SIZE_CLASS = 256;
+
+  private final SizeClass[] sizeClasses;
+  private final LongAdder acquireCount = new LongAdder();
+  private final LongAdder allocationCount = new LongAdder();
+  private final LongAdder unpooledAllocationCount = new LongAdder();
+  private final AtomicInteger outstandingBuffers = new AtomicInteger();
+
+  BufferPool() {
+    sizeClasses = new SizeClass[Integer.numberOfTrailingZeros(MAX_POOLED_CAPACITY)
+        - Integer.numberOfTrailingZeros(MIN_POOLED_CAPACITY) + 1];
+    for (int i = 0; i < sizeClasses.length; i++) {
+      final int capacity = MIN_POOLED_CAPACITY << i;
+      sizeClasses[i] = new SizeClass(capacity,
+          Math.min(MAX_IDLE_BUFFERS_PER_SIZE_CLASS, Math.max(1, MAX_IDLE_BYTES_PER_SIZE_CLASS / capacity)));
+    }
+  }
+
+  /**
+   * Returns a cleared buffer whose limit is {@code size}. Its capacity may be larger than {@code size}. The buffer
+   * should be passed to {@link #release(ByteBuffer)} once it is no longer used.
+   */
+  ByteBuffer acquire(final int size) {
+    checkArgument(size >= 0, "size must not be negative");
+
+    acquireCount.increment();
+    if (size > MAX_POOLED_CAPACITY) {
+      unpooledAllocationCount.increment();
+      return ByteBuffer.allocate(size);
+    }
+    final SizeClass sizeClass = sizeClasses[getSizeClassIndex(size)];
+    ByteBuffer buffer = sizeClass.idleBuffers.poll();
+    if (buffer == null) {
+      allocationCount.increment();
+      buffer = ByteBuffer.allocateDirect(sizeClass.capacity);
+    } else {
+      sizeClass.idleBufferCount.decrementAndGet();
+    }
+    outstandingBuffers.incrementAndGet();
+    buffer.clear();
+    buffer.limit(size);
+    return buffer;
+  }
+
+  private static int getSizeClassIndex(final int size) {
+    final int capacity = (size <= MIN_POOLED_CAPACITY) ? MIN_POOLED_CAPACITY : Integer.highestOneBit(size - 1) << 1;
+    return Integer.numberOfTrailingZeros(capacity) - Integer.numberOfTrailingZeros(MIN_POOLED_CAPACITY);
+  }
+
+  /**
+   * Returns the specified buffer, previously returned by {@link #acquire(int)}, to this pool. The buffer must not be
+   * used afterwards.
+   */
+  void release(final ByteBuffer buffer) {
+    checkNotNull(buffer);
+
+    if (!buffer.isDirect()) {
+      return;
+    }
+    outstandingBuffers.decrementAndGet();
+    final SizeClass sizeClass = sizeClasses[getSizeClassIndex(buffer.capacity())];
+    if (sizeClass.idleBufferCount.incrementAndGet() <= sizeClass.maxIdleBuffers) {
+      sizeClass.idleBuffers.offer(buffer);
+    } else {
+      sizeClass.idleBufferCount.decrementAndGet();
+    }
+  }
+
+  BufferPoolStatistics getStatistics() {
+    int idleBuffers = 0;
+    long idleBytes = 0;
+    for (final SizeClass sizeClass : sizeClasses) {
+      final int count = sizeClass.idleBufferCount.get();
+      idleBuffers += count;
+      idleBytes += (long) count * sizeClass.capacity;
+    }
+    return new BufferPoolStatistics(
+        acquireCount.sum(),
+        allocationCount.sum(),
+        unpooledAllocationCount.sum(),
+        outstandingBuffers.get(),
+        idleBuffers,
+        idleBytes);
+  }
+
+  private static final class SizeClass {
+    final int capacity;
+    final int maxIdleBuffers;
+    final Queue<ByteBuffer> idleBuffers = new ConcurrentLinkedQueue<>();
+    // ConcurrentLinkedQueue.size() is not constant-time, so the idle buffers are counted separately
+    final AtomicInteger idleBufferCount = new AtomicInteger();
+
+    SizeClass(final int capacity, final int maxIdleBuffers) {
+      this.capacity = capacity;
+      this.maxIdleBuffers = maxIdleBuffers;
+    }
+  }
+}
@@ -0,0 +1,86 @@
+package games.strategy.net.nio;
+
+import javax.annotation.concurrent.Immutable;
+
+/**
+ * A snapshot of the utilization of the pool of buffers used by a {@link NioSocket} to read and write packets.
+ */
+@Immutable
+public final class BufferPoolStatistics {
+  private final long acquireCount;
+  private final long allocationCount;
+  private final long unpooledAllocationCount;
+  private final int outstandingBuffers;
+  private final int idleBuffers;
+  private final long idleBytes;
+
+  BufferPoolStatistics(
+      final long acquireCount,
+      final long allocationCount,
+      final long unpooledAllocationCount,
+      final int outstandingBuffers,
+      final int idleBuffers,
+      final long idleBytes) {
+    this.acquireCount = acquireCount;
+    this.allocationCount = allocationCount;
+    this.unpooledAllocationCount = unpooledAllocationCount;
+    this.outstandingBuffers = outstandingBuffers;
+    this.idleBuffers = idleBuffers;
+    this.idleBytes = idleBytes;
+  }
+
+  /**
+   * Returns the number of buffers requested from the pool.
+   */
+  public long getAcquireCount() {
+    return acquireCount;
+  }
+
+  /**
+   * Returns the number of pooled buffers that had to be allocated because no idle buffer was available.
+   */
+  public long getAllocationCount() {
+    return allocationCount;
+  }
+
+  /**
+   * Returns the number of buffers allocated outside the pool because they were too large to be pooled.
+   */
+  public long getUnpooledAllocationCount() {
+    return unpooledAllocationCount;
+  }
+
+  /**
+   * Returns the number of pooled buffers that have been acquired but not released, including those dropped without
+   * being released when their connection was closed.
+   */
+  public int getOutstandingBuffers() {
+    return outstandingBuffers;
+  }
+
+  public int getIdleBuffers() {
+    return idleBuffers;
+  }
+
+  public long getIdleBytes() {
+    return idleBytes;
+  }
+
+  /**
+   * Returns the fraction of requests that were served by an idle buffer.
+   */
+  public double getHitRatio() {
+    return (acquireCount == 0) ? 0 : (double) (acquireCount - allocationCount - unpooledAllocationCount) / acquireCount;
+  }
+
+  @Override
+  public String toString() {
+    return "BufferPoolStatistics[acquireCount=" + acquireCount
+        + ", allocationCount=" + allocationCount
+        + ", unpooledAllocationCount=" + unpooledAllocationCount
+        + ", outstandingBuffers=" + outstandingBuffers
+        + ", idleBuffers=" + idleBuffers
+        + ", idleBytes=" + idleBytes
+        + "]";
+  }
+}
@@ -0,0 +1,51 @@
+package games.strategy.net.nio;
+
+import javax.annotation.concurrent.Immutable;
+
+/**
+ * A snapshot of the bytes written to and read from a single connection, before (raw) and after (wire) compression.
+ * The four byte size that precedes each packet is not counted.
+ */
+@Immutable
+public final class CompressionStatistics {
+  private final long rawBytesWritten;
+  private final long wireBytesWritten;
+  private final long rawBytesRead;
+  private final long wireBytesRead;
+
+  CompressionStatistics(
+      final long rawBytesWritten,
+      final long wireBytesWritten,
+      final long rawBytesRead,
+      final long wireBytesRead) {
+    this.rawBytesWritten = rawBytesWritten;
+    this.wireBytesWritten = wireBytesWritten;
+    this.rawBytesRead = rawBytesRead;
+    this.wireBytesRead = wireBytesRead;
+  }
+
+  public long getRawBytesWritten() {
+    return rawBytesWritten;
+  }
+
+  public long getWireBytesWritten() {
+    return wireBytesWritten;
+  }
+
+  public long getRawBytesRead() {
+    return rawBytesRead;
+  }
+
+  public long getWireBytesRead() {
+    return wireBytesRead;
+  }
+
+  @Override
+  public String toString() {
+    return "CompressionStatistics[rawBytesWritten=" + rawBytesWritten
+        + ", wireBytesWritten=" + wireBytesWritten
+        + ", rawBytesRead=" + rawBytesRead
+        + ", wireBytesRead=" + wireBytesRead
+        + "]";
+  }
+}
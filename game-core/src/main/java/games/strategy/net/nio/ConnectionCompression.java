@@ -0,0 +1,162 @@
+package games.strategy.net.nio;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+
+import javax.annotation.Nullable;
+import javax.annotation.concurrent.GuardedBy;
+import javax.annotation.concurrent.ThreadSafe;
+
+/**
+ * Compresses the packets written to, and decompresses the packets read from, a single connection.
+ *
+ * <p>
+ * The deflater and inflater are reused for every packet of the connection, but each packet is compressed on its own
+ * so packets can still be written by any thread. A compressed packet holds the size of the uncompressed data followed
+ * by the deflated data.
+ * </p>
+ */
+@ThreadSafe
+final class ConnectionCompression {
+  /**
+   * The largest uncompressed packet we accept, which guards against packets that inflate to an unreasonable size.
+   */
+  static final int MAX_INFLATED_SIZE = 4 * SocketReadData.MAX_MESSAGE_SIZE;
+
+  @GuardedBy("deflater")
+  private final Deflater deflater = new Deflater(Deflater.BEST_SPEED);
+  @GuardedBy("inflater")
+  private final Inflater inflater = new Inflater();
+  private volatile boolean closed;
+  private final LongAdder rawBytesWritten = new LongAdder();
+  private final LongAdder wireBytesWritten = new LongAdder();
+  private final LongAdder rawBytesRead = new LongAdder();
+  private final LongAdder wireBytesRead = new LongAdder();
+
+  /**
+   * Creates the packet used to write the specified buffer, whose content is compressed if it is at least
+   * {@code threshold} bytes long and compressing it actually saves space.
+   *
+   * @param packet A buffer acquired from {@code bufferPool} holding {@link SocketWriteData#HEADER_SIZE} reserved bytes
+   *        followed by the content, whose position is the end of the content. It is released if the content is
+   *        compressed into another buffer.
+   */
+  SocketWriteData newWriteData(final ByteBuffer packet, final int threshold, final BufferPool bufferPool) {
+    final int length = packet.position() - SocketWriteData.HEADER_SIZE;
+    rawBytesWritten.add(length);
+    if (length >= threshold) {
+      final byte[] bytes = new byte[length];
+      final ByteBuffer content = packet.duplicate();
+      content.flip();
+      content.position(SocketWriteData.HEADER_SIZE);
+      content.get(bytes);
+      final @Nullable byte[] deflated = deflate(bytes);
+      if (deflated != null) {
+        bufferPool.release(packet);
+        final ByteBuffer compressedPacket = bufferPool.acquire(SocketWriteData.HEADER_SIZE + deflated.length);
+        compressedPacket.position(SocketWriteData.HEADER_SIZE);
+        compressedPacket.put(deflated);
+        wireBytesWritten.add(deflated.length);
+        return new SocketWriteData(compressedPacket, true, bufferPool);
+      }
+    }
+    wireBytesWritten.add(length);
+    return new SocketWriteData(packet, false, bufferPool);
+  }
+
+  private @Nullable byte[] deflate(final byte[] bytes) {
+    // no point sending deflated data that is not smaller than the original
+    final byte[] deflated = new byte[bytes.length];
+    ByteBuffer.wrap(deflated).putInt(bytes.length);
+    int length = Integer.BYTES;
+    synchronized (deflater) {
+      if (closed) {
+        return null;
+      }
+      deflater.reset();
+      deflater.setInput(bytes);
+      deflater.finish();
+      while (!deflater.finished() && length < deflated.length) {
+        length += deflater.deflate(deflated, length, deflated.length - length);
+      }
+      return deflater.finished() ? Arrays.copyOf(deflated, length) : null;
+    }
+  }
+
+  /**
+   * Returns the uncompressed content of the specified packet. This method can only be called once per packet, and the
+   * returned buffer may belong to the packet, so it must not be used after the packet is released.
+   *
+   * @throws IOException If the packet is compressed and cannot be inflated.
+   */
+  ByteBuffer read(final SocketReadData data) throws IOException {
+    final ByteBuffer content = data.getContent();
+    wireBytesRead.add(content.remaining());
+    if (!data.isCompressed()) {
+      rawBytesRead.add(content.remaining());
+      return content;
+    }
+    final byte[] bytes = new byte[content.remaining()];
+    content.get(bytes);
+    final byte[] inflated = inflate(bytes);
+    rawBytesRead.add(inflated.length);
+    return ByteBuffer.wrap(inflated);
+  }
+
+  private byte[] inflate(final byte[] bytes) throws IOException {
+    if (bytes.length < Integer.BYTES) {
+      throw new IOException("Compressed packet too short: " + bytes.length);
+    }
+    final int size = ByteBuffer.wrap(bytes).getInt();
+    if (size <= 0 || size > MAX_INFLATED_SIZE) {
+      throw new IOException("Invalid inflated packet size: " + size);
+    }
+    final byte[] inflated = new byte[size];
+    int length = 0;
+    synchronized (inflater) {
+      if (closed) {
+        throw new IOException("Connection closed");
+      }
+      inflater.reset();
+      inflater.setInput(bytes, Integer.BYTES, bytes.length - Integer.BYTES);
+      try {
+        while (length < size && !inflater.finished() && !inflater.needsInput() && !inflater.needsDictionary()) {
+          length += inflater.inflate(inflated, length, size - length);
+        }
+      } catch (final DataFormatException e) {
+        throw new IOException("Corrupt compressed packet", e);
+      }
+      if (length != size || !inflater.finished()) {
+        throw new IOException("Compressed packet does not inflate to " + size + " bytes");
+      }
+    }
+    return inflated;
+  }
+
+  CompressionStatistics getStatistics() {
+    return new CompressionStatistics(
+        rawBytesWritten.sum(),
+        wireBytesWritten.sum(),
+        rawBytesRead.sum(),
+        wireBytesRead.sum());
+  }
+
+  /**
+   * Releases the native resources used by this object. Packets written afterwards are not compressed, and compressed
+   * packets read afterwards cannot be inflated.
+   */
+  void close() {
+    closed = true;
+    synchronized (deflater) {
+      deflater.end();
+    }
+    synchronized (inflater) {
+      inflater.end();
+    }
+  }
+}
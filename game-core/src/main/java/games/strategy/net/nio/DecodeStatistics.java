@@ -0,0 +1,61 @@
+package games.strategy.net.nio;
+
+import java.util.concurrent.TimeUnit;
+
+import javax.annotation.concurrent.Immutable;
+
+/**
+ * A snapshot of the work done by the decode stage of a {@link NioSocket}.
+ */
+@Immutable
+public final class DecodeStatistics {
+  private final int queueDepth;
+  private final long decodedMessageCount;
+  private final long totalDecodeNanos;
+  private final long maxDecodeNanos;
+
+  DecodeStatistics(
+      final int queueDepth,
+      final long decodedMessageCount,
+      final long totalDecodeNanos,
+      final long maxDecodeNanos) {
+    this.queueDepth = queueDepth;
+    this.decodedMessageCount = decodedMessageCount;
+    this.totalDecodeNanos = totalDecodeNanos;
+    this.maxDecodeNanos = maxDecodeNanos;
+  }
+
+  /**
+   * Returns the number of packets that have been read but not yet decoded and delivered.
+   */
+  public int getQueueDepth() {
+    return queueDepth;
+  }
+
+  public long getDecodedMessageCount() {
+    return decodedMessageCount;
+  }
+
+  /**
+   * Returns the average time taken to deserialize a message, or 0 if no message has been decoded.
+   */
+  public long getAverageDecodeLatency(final TimeUnit unit) {
+    return (decodedMessageCount == 0) ? 0 : unit.convert(totalDecodeNanos / decodedMessageCount, TimeUnit.NANOSECONDS);
+  }
+
+  /**
+   * Returns the longest time taken to deserialize a message.
+   */
+  public long getMaxDecodeLatency(final TimeUnit unit) {
+    return unit.convert(maxDecodeNanos, TimeUnit.NANOSECONDS);
+  }
+
+  @Override
+  public String toString() {
+    return "DecodeStatistics[queueDepth=" + queueDepth
+        + ", decodedMessageCount=" + decodedMessageCount
+        + ", averageDecodeLatencyMicros=" + getAverageDecodeLatency(TimeUnit.MICROSECONDS)
+        + ", maxDecodeLatencyMicros=" + getMaxDecodeLatency(TimeUnit.MICROSECONDS)
+        + "]";
+  }
+}
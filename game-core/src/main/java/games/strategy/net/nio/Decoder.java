@@ -5,16 +5,26 @@ import java.io.IOException;
 import java.io.ObjectInputStream;
 import java.io.Serializable;
 import java.net.Socket;
+import java.nio.ByteBuffer;
 import java.nio.channels.SocketChannel;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
+import com.google.common.util.concurrent.MoreExecutors;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+
 import games.strategy.engine.message.HubInvocationResults;
 import games.strategy.engine.message.HubInvoke;
 import games.strategy.engine.message.SpokeInvocationResults;
 import games.strategy.engine.message.SpokeInvoke;
-import games.strategy.io.IoUtils;
 import games.strategy.net.CouldNotLogInException;
 import games.strategy.net.INode;
 import games.strategy.net.IObjectStreamFactory;
@@ -23,10 +33,17 @@ import games.strategy.net.Node;
 import games.strategy.net.nio.QuarantineConversation.Action;
 
 /**
- * A thread to Decode messages from a reader.
+ * Decodes messages from a reader.
+ *
+ * <p>
+ * A single thread takes packets from the reader and hands each one to a pool of worker threads that deserialize it and
+ * deliver the resulting message. Packets from the same channel are decoded and delivered one at a time in the order
+ * they were read, while packets from different channels are decoded in parallel.
+ * </p>
  */
 class Decoder {
   private static final Logger logger = Logger.getLogger(Decoder.class.getName());
+  private static final int WORKER_COUNT = Math.max(2, Runtime.getRuntime().availableProcessors());
   private final NioReader reader;
   private volatile boolean running = true;
   private final ErrorReporter errorReporter;
@@ -39,6 +56,17 @@ class Decoder {
   private final ConcurrentHashMap<SocketChannel, QuarantineConversation> quarantine =
       new ConcurrentHashMap<>();
   private final Thread thread;
+  private final ExecutorService workers;
+  /**
+   * Each channel is decoded by its own sequential executor backed by the shared workers, which keeps the messages of a
+   * channel in order. The queue of a channel is only discarded once the channel is closed and its pending packets have
+   * been decoded.
+   */
+  private final ConcurrentHashMap<SocketChannel, ChannelQueue> channelQueues = new ConcurrentHashMap<>();
+  private final AtomicInteger queueDepth = new AtomicInteger();
+  private final LongAdder decodedMessageCount = new LongAdder();
+  private final LongAdder totalDecodeNanos = new LongAdder();
+  private final LongAccumulator maxDecodeNanos = new LongAccumulator(Math::max, 0);
 
   Decoder(final NioSocket nioSocket, final NioReader reader, final ErrorReporter reporter,
       final IObjectStreamFactory objectStreamFactory, final String threadSuffix) {
@@ -46,6 +74,10 @@ class Decoder {
     errorReporter = reporter;
     this.objectStreamFactory = objectStreamFactory;
     this.nioSocket = nioSocket;
+    workers = Executors.newFixedThreadPool(WORKER_COUNT, new ThreadFactoryBuilder()
+        .setDaemon(true)
+        .setNameFormat("Decoder -" + threadSuffix + " - worker %d")
+        .build());
     thread = new Thread(this::loop, "Decoder -" + threadSuffix);
     thread.start();
   }
@@ -53,6 +85,15 @@ class Decoder {
   void shutDown() {
     running = false;
     thread.interrupt();
+    workers.shutdownNow();
+  }
+
+  DecodeStatistics getStatistics() {
+    return new DecodeStatistics(
+        queueDepth.get(),
+        decodedMessageCount.sum(),
+        totalDecodeNanos.sum(),
+        maxDecodeNanos.get());
   }
 
   private void loop() {
@@ -62,38 +103,24 @@ class Decoder {
         if (data == null || !running) {
           continue;
         }
-
+        queueDepth.incrementAndGet();
+        final SocketChannel channel = data.getChannel();
+        final ChannelQueue channelQueue = channelQueues.compute(channel, (k, queue) -> {
+          final ChannelQueue current = (queue != null) ? queue : new ChannelQueue(workers);
+          current.pendingPackets++;
+          return current;
+        });
         try {
-          final MessageHeader header = IoUtils.readFromMemory(data.getData(), is -> {
+          channelQueue.executor.execute(() -> {
             try {
-              return readMessageHeader(data.getChannel(), objectStreamFactory.create(is));
-            } catch (final ClassNotFoundException e) {
-              throw new IOException(e);
+              decode(data);
+            } finally {
+              packetDecoded(channel);
             }
           });
-          // make sure we are still open
-          final Socket s = data.getChannel().socket();
-          if (!running || s == null || s.isInputShutdown()) {
-            continue;
-          }
-          final QuarantineConversation converstation = quarantine.get(data.getChannel());
-          if (converstation != null) {
-            sendQuarantine(data.getChannel(), converstation, header);
-          } else {
-            if (nioSocket.getLocalNode() == null) {
-              throw new IllegalStateException("we are writing messages, but no local node");
-            }
-            if (header.getFrom() == null) {
-              throw new IllegalArgumentException("Null from:" + header);
-            }
-            nioSocket.messageReceived(header, data.getChannel());
-          }
-        } catch (final IOException | RuntimeException e) {
-          // we are reading from memory here
-          // there should be no network errors, something
-          // is odd
-          logger.log(Level.SEVERE, "error reading object", e);
-          errorReporter.error(data.getChannel(), e);
+        } catch (final RejectedExecutionException e) {
+          // the workers only reject packets once we have been shut down
+          packetDecoded(channel);
         }
       } catch (final InterruptedException e) {
         // Do nothing if we were interrupted due to an explicit shutdown because the thread will terminate normally;
@@ -105,6 +132,57 @@ class Decoder {
     }
   }
 
+  private void decode(final SocketReadData data) {
+    if (!running) {
+      data.release();
+      return;
+    }
+    try {
+      final long startNanos = System.nanoTime();
+      final MessageHeader header;
+      try {
+        final ConnectionCompression compression = nioSocket.getCompression(data.getChannel());
+        if (compression == null) {
+          // the channel was closed after this packet was read
+          return;
+        }
+        final ByteBuffer content = compression.read(data);
+        header = readMessageHeader(data.getChannel(), objectStreamFactory.create(new ByteBufferInputStream(content)));
+      } catch (final ClassNotFoundException e) {
+        throw new IOException(e);
+      } finally {
+        data.release();
+      }
+      final long decodeNanos = System.nanoTime() - startNanos;
+      decodedMessageCount.increment();
+      totalDecodeNanos.add(decodeNanos);
+      maxDecodeNanos.accumulate(decodeNanos);
+      // make sure we are still open
+      final Socket s = data.getChannel().socket();
+      if (!running || s == null || s.isInputShutdown()) {
+        return;
+      }
+      final QuarantineConversation converstation = quarantine.get(data.getChannel());
+      if (converstation != null) {
+        sendQuarantine(data.getChannel(), converstation, header);
+      } else {
+        if (nioSocket.getLocalNode() == null) {
+          throw new IllegalStateException("we are writing messages, but no local node");
+        }
+        if (header.getFrom() == null) {
+          throw new IllegalArgumentException("Null from:" + header);
+        }
+        nioSocket.messageReceived(header, data.getChannel());
+      }
+    } catch (final IOException | RuntimeException e) {
+      // we are reading from memory here
+      // there should be no network errors, something
+      // is odd
+      logger.log(Level.SEVERE, "error reading object", e);
+      errorReporter.error(data.getChannel(), e);
+    }
+  }
+
   private void sendQuarantine(final SocketChannel channel, final QuarantineConversation conversation,
       final MessageHeader header) {
     final Action a = conversation.message(header.getMessage());
@@ -194,11 +272,34 @@ class Decoder {
     quarantine.put(channel, conversation);
   }
 
+  private void packetDecoded(final SocketChannel channel) {
+    queueDepth.decrementAndGet();
+    channelQueues.computeIfPresent(channel, (k, queue) -> (--queue.pendingPackets == 0 && queue.closed) ? null : queue);
+  }
+
   void closed(final SocketChannel channel) {
+    channelQueues.computeIfPresent(channel, (k, queue) -> {
+      queue.closed = true;
+      return (queue.pendingPackets == 0) ? null : queue;
+    });
     // remove if it exists
     final QuarantineConversation conversation = quarantine.remove(channel);
     if (conversation != null) {
       conversation.close();
     }
   }
+
+  /**
+   * The packets of a channel waiting to be decoded. The counters are only accessed while computing the entry of the
+   * channel in {@link #channelQueues}, which serializes them.
+   */
+  private static final class ChannelQueue {
+    final Executor executor;
+    int pendingPackets;
+    boolean closed;
+
+    ChannelQueue(final Executor workers) {
+      executor = MoreExecutors.newSequentialExecutor(workers);
+    }
+  }
 }
@@ -7,7 +7,6 @@ import java.nio.channels.SocketChannel;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
-import games.strategy.io.IoUtils;
 import games.strategy.net.IObjectStreamFactory;
 import games.strategy.net.MessageHeader;
 import games.strategy.net.Node;
@@ -20,9 +19,12 @@ class Encoder {
   private final NioWriter writer;
   private final IObjectStreamFactory objectStreamFactory;
   private final NioSocket nioSocket;
+  private final BufferPool bufferPool;
 
-  Encoder(final NioSocket nioSocket, final NioWriter writer, final IObjectStreamFactory objectStreamFactory) {
+  Encoder(final NioSocket nioSocket, final NioWriter writer, final IObjectStreamFactory objectStreamFactory,
+      final BufferPool bufferPool) {
     this.nioSocket = nioSocket;
+    this.bufferPool = bufferPool;
     this.writer = writer;
     this.objectStreamFactory = objectStreamFactory;
   }
@@ -34,11 +36,21 @@ class Encoder {
     if (to == null) {
       throw new IllegalArgumentException("No to channel!");
     }
+    // serialize straight into a pooled buffer, leaving room for the size of the packet
+    final PooledBufferOutputStream os = new PooledBufferOutputStream(bufferPool, SocketWriteData.HEADER_SIZE);
     try {
-      final byte[] bytes = IoUtils.writeToMemory(os -> write(header, objectStreamFactory.create(os), to));
-      final SocketWriteData data = new SocketWriteData(bytes, bytes.length);
+      final ConnectionCompression compression = nioSocket.getCompression(to);
+      if (compression == null) {
+        bufferPool.release(os.getBuffer());
+        logger.log(Level.FINE, "Not writing to closed channel:" + header);
+        return;
+      }
+      write(header, objectStreamFactory.create(os), to);
+      final SocketWriteData data =
+          compression.newWriteData(os.getBuffer(), nioSocket.getCompressionThreshold(), bufferPool);
       writer.enque(data, to);
     } catch (final IOException e) {
+      bufferPool.release(os.getBuffer());
       // we arent doing any io, just writing in memory
       // so something is very wrong
       logger.log(Level.SEVERE, "Error writing object:" + header, e);
@@ -33,9 +33,11 @@ class NioReader {
   private final Object socketsToAddMutex = new Object();
   private final List<SocketChannel> socketsToAdd = new ArrayList<>();
   private long totalBytes;
+  private final BufferPool bufferPool;
 
-  NioReader(final ErrorReporter reporter, final String threadSuffix) {
+  NioReader(final ErrorReporter reporter, final String threadSuffix, final BufferPool bufferPool) {
     errorReporter = reporter;
+    this.bufferPool = bufferPool;
     try {
       selector = Selector.open();
     } catch (final IOException e) {
@@ -149,7 +151,7 @@ class NioReader {
     if (reading.containsKey(channel)) {
       return reading.get(channel);
     }
-    final SocketReadData packet = new SocketReadData(channel);
+    final SocketReadData packet = new SocketReadData(channel, bufferPool);
     reading.put(channel, packet);
     return packet;
   }
@@ -159,6 +161,7 @@ class NioReader {
   }
 
   void closed(final SocketChannel channel) {
+    // the buffers of a partly read packet are not released, since this thread may still be reading into them
     reading.remove(channel);
   }
 }
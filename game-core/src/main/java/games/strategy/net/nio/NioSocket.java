@@ -3,9 +3,14 @@ package games.strategy.net.nio;
 import java.io.IOException;
 import java.net.Socket;
 import java.nio.channels.SocketChannel;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
+import javax.annotation.Nullable;
+
 import games.strategy.net.INode;
 import games.strategy.net.IObjectStreamFactory;
 import games.strategy.net.MessageHeader;
@@ -13,25 +18,37 @@ import games.strategy.net.MessageHeader;
 /**
  * The threads needed for a group of sockets using NIO.
  * One thread reds socket data, one thread writes socket data
- * and one thread deserializes (decodes) packets read by the read
- * thread.
+ * and a pool of threads deserializes (decodes) packets read by the read
+ * thread, keeping the packets of each socket in order.
  * serializing (encoding) objects to be written across the network is done
  * by threads calling this object.
  */
 public class NioSocket implements ErrorReporter {
+  /**
+   * The size in bytes from which messages are compressed by default.
+   */
+  public static final int DEFAULT_COMPRESSION_THRESHOLD = 8 * 1024;
+  /**
+   * The compression threshold that disables compression of the messages we write.
+   */
+  public static final int COMPRESSION_DISABLED = Integer.MAX_VALUE;
   private static final Logger logger = Logger.getLogger(NioSocket.class.getName());
   private final Encoder encoder;
   private final Decoder decoder;
   private final NioWriter writer;
   private final NioReader reader;
   private final NioSocketListener listener;
+  private final Map<SocketChannel, ConnectionCompression> compressions = new ConcurrentHashMap<>();
+  private final BufferPool bufferPool = new BufferPool();
+  private volatile int compressionThreshold = DEFAULT_COMPRESSION_THRESHOLD;
+  private volatile boolean closed = false;
 
   public NioSocket(final IObjectStreamFactory factory, final NioSocketListener listener, final String name) {
     this.listener = listener;
     writer = new NioWriter(this, name);
-    reader = new NioReader(this, name);
+    reader = new NioReader(this, name, bufferPool);
     decoder = new Decoder(this, reader, this, factory, name);
-    encoder = new Encoder(this, writer, factory);
+    encoder = new Encoder(this, writer, factory, bufferPool);
   }
 
   INode getLocalNode() {
@@ -42,6 +59,64 @@ public class NioSocket implements ErrorReporter {
     return listener.getRemoteNode(channel);
   }
 
+  /**
+   * Returns a snapshot of the work done deserializing the packets read by this object.
+   */
+  public DecodeStatistics getDecodeStatistics() {
+    return decoder.getStatistics();
+  }
+
+  /**
+   * Returns the number of packets that have been encoded but not yet written, over all sockets.
+   */
+  public int getWriteQueueDepth() {
+    return writer.getQueueDepth();
+  }
+
+  /**
+   * Returns a snapshot of the utilization of the pool of buffers used to read and write packets.
+   */
+  public BufferPoolStatistics getBufferPoolStatistics() {
+    return bufferPool.getStatistics();
+  }
+
+  /**
+   * Sets the size in bytes from which the messages we write are compressed, or {@link #COMPRESSION_DISABLED}.
+   *
+   * <p>
+   * Compressed messages are always read, whatever the threshold, so the peers of a connection can use different
+   * thresholds. Small messages, such as those of the login handshake, are never compressed.
+   * </p>
+   */
+  public void setCompressionThreshold(final int compressionThreshold) {
+    if (compressionThreshold <= 0) {
+      throw new IllegalArgumentException("Invalid compression threshold: " + compressionThreshold);
+    }
+    this.compressionThreshold = compressionThreshold;
+  }
+
+  int getCompressionThreshold() {
+    return compressionThreshold;
+  }
+
+  /**
+   * Returns the compression of the specified channel, creating it on first use, or {@code null} if the channel or
+   * this socket has been closed. The channel is closed before its compression is removed, so a compression is never
+   * created again after {@link #close(SocketChannel)} has run.
+   */
+  @Nullable
+  ConnectionCompression getCompression(final SocketChannel channel) {
+    return compressions.computeIfAbsent(channel, k -> (k.isOpen() && !closed) ? new ConnectionCompression() : null);
+  }
+
+  /**
+   * Returns a snapshot of the bytes written to and read from the specified channel, or empty if nothing has been
+   * written to or read from the channel since it was opened, or if it has been closed.
+   */
+  public Optional<CompressionStatistics> getCompressionStatistics(final SocketChannel channel) {
+    return Optional.ofNullable(compressions.get(channel)).map(ConnectionCompression::getStatistics);
+  }
+
   /**
    * Stop our threads.
    * This does not close the sockets we are connected to.
@@ -50,6 +125,9 @@ public class NioSocket implements ErrorReporter {
     writer.shutDown();
     reader.shutDown();
     decoder.shutDown();
+    closed = true;
+    compressions.values().forEach(ConnectionCompression::close);
+    compressions.clear();
   }
 
   /**
@@ -113,6 +191,10 @@ public class NioSocket implements ErrorReporter {
     decoder.closed(channel);
     writer.closed(channel);
     reader.closed(channel);
+    final ConnectionCompression compression = compressions.remove(channel);
+    if (compression != null) {
+      compression.close();
+    }
   }
 
   void messageReceived(final MessageHeader header, final SocketChannel channel) {
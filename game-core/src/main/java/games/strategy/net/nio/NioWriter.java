@@ -123,6 +123,7 @@ class NioWriter {
                         + packet.getWriteCalls() + " total:" + totalBytes);
                   }
                   removeLast(channel);
+                  packet.release();
                 }
               } catch (final Exception e) {
                 logger.log(Level.FINER, "exception writing", e);
@@ -152,9 +153,23 @@ class NioWriter {
     removeAll(channel);
   }
 
+  /**
+   * Returns the number of packets waiting to be written, including the packets being written.
+   */
+  int getQueueDepth() {
+    synchronized (mutex) {
+      return writing.values().stream().mapToInt(List::size).sum();
+    }
+  }
+
   private void removeAll(final SocketChannel to) {
+    final List<SocketWriteData> values;
     synchronized (mutex) {
-      writing.remove(to);
+      values = writing.remove(to);
+    }
+    // the first packet is not released, since the writing thread may still be writing it
+    if (values != null) {
+      values.stream().skip(1).forEach(SocketWriteData::release);
     }
   }
 
@@ -189,6 +204,7 @@ class NioWriter {
   void enque(final SocketWriteData data, final SocketChannel channel) {
     synchronized (mutex) {
       if (!running) {
+        data.release();
         return;
       }
       if (writing.containsKey(channel)) {
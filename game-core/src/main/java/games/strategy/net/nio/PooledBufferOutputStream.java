@@ -0,0 +1,61 @@
+package games.strategy.net.nio;
+
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+
+/**
+ * An output stream that writes into buffers acquired from a {@link BufferPool}, growing into a larger buffer as needed.
+ *
+ * <p>
+ * The first bytes of the buffer can be reserved for a header to be written later, so a packet can be sent from the
+ * same buffer the message was serialized into.
+ * </p>
+ */
+final class PooledBufferOutputStream extends OutputStream {
+  private static final int INITIAL_CAPACITY = 1024;
+
+  private final BufferPool bufferPool;
+  private ByteBuffer buffer;
+
+  PooledBufferOutputStream(final BufferPool bufferPool, final int reservedBytes) {
+    this.bufferPool = bufferPool;
+    buffer = acquire(Math.max(INITIAL_CAPACITY, reservedBytes));
+    buffer.position(reservedBytes);
+  }
+
+  private ByteBuffer acquire(final int size) {
+    final ByteBuffer acquired = bufferPool.acquire(size);
+    acquired.limit(acquired.capacity());
+    return acquired;
+  }
+
+  private void ensureRemaining(final int count) {
+    if (buffer.remaining() < count) {
+      final ByteBuffer larger = acquire(Math.max(buffer.capacity() * 2, buffer.position() + count));
+      buffer.flip();
+      larger.put(buffer);
+      bufferPool.release(buffer);
+      buffer = larger;
+    }
+  }
+
+  @Override
+  public void write(final int b) {
+    ensureRemaining(1);
+    buffer.put((byte) b);
+  }
+
+  @Override
+  public void write(final byte[] b, final int off, final int len) {
+    ensureRemaining(len);
+    buffer.put(b, off, len);
+  }
+
+  /**
+   * Returns the buffer holding the reserved bytes followed by the bytes written; its position is the end of the written
+   * bytes. The caller becomes responsible for releasing the buffer, and this stream must not be used afterwards.
+   */
+  ByteBuffer getBuffer() {
+    return buffer;
+  }
+}
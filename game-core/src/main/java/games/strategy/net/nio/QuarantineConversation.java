@@ -12,7 +12,7 @@ package games.strategy.net.nio;
  * </p>
  *
  * <p>
- * All messages sent to a conversation must be done in the Decode thread.
+ * Messages are sent to a conversation by the decoder, one at a time and in the order they were read.
  * </p>
  */
 public abstract class QuarantineConversation {
@@ -23,18 +23,23 @@ class SocketReadData {
   // that the upper bits of the packet
   // size we send is 0x9b
   public static final int MAGIC = 0x9b000000;
+  // the upper bits of the size of a packet whose content is deflated
+  public static final int COMPRESSED_MAGIC = 0x9c000000;
   private int targetSize = -1;
+  private boolean compressed;
   // we read into here the first four
   // bytes to find out size
   private ByteBuffer sizeBuffer;
   // we read into here after knowing out size
   private ByteBuffer contentBuffer;
   private final SocketChannel channel;
+  private final BufferPool bufferPool;
   private final int number = counter.incrementAndGet();
   private int readCalls;
 
-  public SocketReadData(final SocketChannel channel) {
+  SocketReadData(final SocketChannel channel, final BufferPool bufferPool) {
     this.channel = channel;
+    this.bufferPool = bufferPool;
   }
 
   /**
@@ -51,7 +56,7 @@ class SocketReadData {
       // our first read
       // find out how big this packet is
       if (sizeBuffer == null) {
-        sizeBuffer = ByteBuffer.allocate(4);
+        sizeBuffer = bufferPool.acquire(4);
       }
       final int size = channel.read(sizeBuffer);
       if (logger.isLoggable(Level.FINEST)) {
@@ -64,16 +69,19 @@ class SocketReadData {
       if (!sizeBuffer.hasRemaining()) {
         sizeBuffer.flip();
         targetSize = sizeBuffer.getInt();
-        if ((targetSize & 0xFF000000) != MAGIC) {
+        final int magic = targetSize & 0xFF000000;
+        if (magic != MAGIC && magic != COMPRESSED_MAGIC) {
           throw new IOException("Did not write magic!");
         }
+        compressed = (magic == COMPRESSED_MAGIC);
         targetSize = targetSize & 0x00ffffff;
         // limit messages to 10MB
         if (targetSize <= 0 || targetSize > MAX_MESSAGE_SIZE) {
           throw new IOException("Invalid triplea packet size:" + targetSize);
         }
-        contentBuffer = ByteBuffer.allocate(targetSize);
+        bufferPool.release(sizeBuffer);
         sizeBuffer = null;
+        contentBuffer = bufferPool.acquire(targetSize);
       } else {
         // we ddnt read all 4 bytes, return
         return false;
@@ -95,15 +103,33 @@ class SocketReadData {
   }
 
   /**
-   * Get the data as a byte[].
-   * This method can only be called once.
+   * Get the data as a buffer, which is only valid until {@link #release()} is called.
+   * This method can only be called once, after this packet is done.
    */
-  public byte[] getData() {
-    final byte[] data = new byte[contentBuffer.capacity()];
+  ByteBuffer getContent() {
     contentBuffer.flip();
-    contentBuffer.get(data);
-    contentBuffer = null;
-    return data;
+    return contentBuffer;
+  }
+
+  /**
+   * Returns the buffers of this packet to their pool. The data of this packet cannot be read afterwards.
+   */
+  void release() {
+    if (sizeBuffer != null) {
+      bufferPool.release(sizeBuffer);
+      sizeBuffer = null;
+    }
+    if (contentBuffer != null) {
+      bufferPool.release(contentBuffer);
+      contentBuffer = null;
+    }
+  }
+
+  /**
+   * Indicates the data of this packet is deflated.
+   */
+  public boolean isCompressed() {
+    return compressed;
   }
 
   public int size() {
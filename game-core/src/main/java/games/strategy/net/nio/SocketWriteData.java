@@ -7,6 +7,8 @@ import java.util.concurrent.atomic.AtomicInteger;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
+import javax.annotation.Nullable;
+
 /**
  * A packet of data to be written over the network.
  *
@@ -19,29 +21,39 @@ import java.util.logging.Logger;
  * </p>
  */
 class SocketWriteData {
+  /**
+   * The number of bytes used to write the size of a packet, which must be reserved at the start of its buffer.
+   */
+  static final int HEADER_SIZE = 4;
   private static final Logger logger = Logger.getLogger(SocketWriteData.class.getName());
   private static final AtomicInteger counter = new AtomicInteger();
-  private final ByteBuffer size;
-  private final ByteBuffer content;
+  // the size followed by the content
+  private final ByteBuffer packet;
+  private final @Nullable BufferPool bufferPool;
   private final int number = counter.incrementAndGet();
   // how many times we called write before we finished writing ourselves
   private int writeCalls = 0;
 
-  SocketWriteData(final byte[] data, int count) {
-    content = ByteBuffer.allocate(count);
-    content.put(data, 0, count);
-    size = ByteBuffer.allocate(4);
+  /**
+   * @param packet A buffer holding {@link #HEADER_SIZE} bytes reserved for the size followed by the content of the
+   *        packet, whose position is the end of the content.
+   * @param compressed Indicates the content is deflated, which is signalled to the reader in the size of the packet.
+   * @param bufferPool The pool to which {@code packet} is released once it has been written, or {@code null} if it was
+   *        not acquired from a pool.
+   */
+  SocketWriteData(final ByteBuffer packet, final boolean compressed, final @Nullable BufferPool bufferPool) {
+    final int count = packet.position() - HEADER_SIZE;
     if (count < 0 || count > SocketReadData.MAX_MESSAGE_SIZE) {
       throw new IllegalStateException("Invalid message size:" + count);
     }
-    count = count ^ SocketReadData.MAGIC;
-    size.putInt(count);
-    size.flip();
-    content.flip();
+    packet.putInt(0, count ^ (compressed ? SocketReadData.COMPRESSED_MAGIC : SocketReadData.MAGIC));
+    packet.flip();
+    this.packet = packet;
+    this.bufferPool = bufferPool;
   }
 
   int size() {
-    return size.capacity() + content.capacity();
+    return packet.limit();
   }
 
   int getWriteCalls() {
@@ -53,31 +65,27 @@ class SocketWriteData {
    */
   boolean write(final SocketChannel channel) throws IOException {
     writeCalls++;
-    if (size.hasRemaining()) {
-      final int count = channel.write(size);
-      if (count == -1) {
-        throw new IOException("triplea: end of stream detected");
-      }
-      if (logger.isLoggable(Level.FINEST)) {
-        logger.finest("wrote size_buffer bytes:" + count);
-      }
-      // we could not write everything
-      if (size.hasRemaining()) {
-        return false;
-      }
-    }
-    final int count = channel.write(content);
+    final int count = channel.write(packet);
     if (count == -1) {
       throw new IOException("triplea: end of stream detected");
     }
     if (logger.isLoggable(Level.FINEST)) {
-      logger.finest("wrote content bytes:" + count);
+      logger.finest("wrote packet bytes:" + count);
+    }
+    return !packet.hasRemaining();
+  }
+
+  /**
+   * Returns the buffer of this packet to its pool. This packet must not be written afterwards.
+   */
+  void release() {
+    if (bufferPool != null) {
+      bufferPool.release(packet);
     }
-    return !content.hasRemaining();
   }
 
   @Override
   public String toString() {
-    return "<id:" + number + " size:" + content.capacity() + ">";
+    return "<id:" + number + " size:" + (packet.limit() - HEADER_SIZE) + ">";
   }
 }
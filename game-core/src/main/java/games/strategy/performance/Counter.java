@@ -0,0 +1,30 @@
+package games.strategy.performance;
+
+import static com.google.common.base.Preconditions.checkArgument;
+
+import java.util.concurrent.atomic.LongAdder;
+
+import javax.annotation.concurrent.ThreadSafe;
+
+/**
+ * A count that only goes up, such as the number of messages received, which can be incremented concurrently without
+ * contention.
+ */
+@ThreadSafe
+public final class Counter {
+  private final LongAdder count = new LongAdder();
+
+  public void increment() {
+    count.increment();
+  }
+
+  public void add(final long amount) {
+    checkArgument(amount >= 0, "a counter cannot be decremented");
+
+    count.add(amount);
+  }
+
+  public long getCount() {
+    return count.sum();
+  }
+}
@@ -0,0 +1,13 @@
+package games.strategy.performance;
+
+/**
+ * A value that is read when the metrics are collected, such as the length of a queue.
+ *
+ * <p>
+ * A gauge is called from the threads collecting the metrics, so it must be thread safe and should be cheap.
+ * </p>
+ */
+@FunctionalInterface
+public interface Gauge {
+  double getValue();
+}
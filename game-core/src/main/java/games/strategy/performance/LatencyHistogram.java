@@ -0,0 +1,105 @@
+package games.strategy.performance;
+
+import static com.google.common.base.Preconditions.checkArgument;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+import javax.annotation.concurrent.ThreadSafe;
+
+/**
+ * A histogram of latencies that can be recorded concurrently without locking.
+ *
+ * <p>
+ * Latencies are kept in microseconds, in buckets whose width is 1/32 of their lower bound (exact below 64 µs), so a
+ * percentile is accurate to about 3% however many latencies are recorded.
+ * </p>
+ */
+@ThreadSafe
+public final class LatencyHistogram {
+  private static final int SUB_BUCKET_BITS = 5;
+  private static final int SUB_BUCKET_COUNT = 1 << SUB_BUCKET_BITS;
+  private static final int MAX_EXPONENT = 40;
+  private static final long MAX_MICROS = (1L << (MAX_EXPONENT + 1)) - 1;
+
+  private final AtomicLongArray counts = new AtomicLongArray(getBucket(MAX_MICROS) + 1);
+  private final LongAdder count = new LongAdder();
+  private final LongAdder totalMicros = new LongAdder();
+  private final AtomicLong maxMicros = new AtomicLong();
+
+  /**
+   * Records the specified latency; negative latencies are recorded as 0.
+   */
+  public void record(final long latency, final TimeUnit unit) {
+    final long micros = Math.min(MAX_MICROS, Math.max(0, unit.toMicros(latency)));
+    counts.incrementAndGet(getBucket(micros));
+    count.increment();
+    totalMicros.add(micros);
+    if (micros > maxMicros.get()) {
+      maxMicros.accumulateAndGet(micros, Math::max);
+    }
+  }
+
+  private static int getBucket(final long micros) {
+    if (micros < 2 * SUB_BUCKET_COUNT) {
+      return (int) micros;
+    }
+    final int exponent = 63 - Long.numberOfLeadingZeros(micros);
+    final int shift = exponent - SUB_BUCKET_BITS;
+    return shift * SUB_BUCKET_COUNT + (int) (micros >>> shift);
+  }
+
+  private static long getLowerBound(final int bucket) {
+    if (bucket < 2 * SUB_BUCKET_COUNT) {
+      return bucket;
+    }
+    final int shift = bucket / SUB_BUCKET_COUNT - 1;
+    return (long) (bucket % SUB_BUCKET_COUNT + SUB_BUCKET_COUNT) << shift;
+  }
+
+  public long getCount() {
+    return count.sum();
+  }
+
+  /**
+   * Returns the sum of the recorded latencies.
+   */
+  public long getTotal(final TimeUnit unit) {
+    return unit.convert(totalMicros.sum(), TimeUnit.MICROSECONDS);
+  }
+
+  public long getMean(final TimeUnit unit) {
+    final long recorded = count.sum();
+    return (recorded == 0) ? 0 : unit.convert(totalMicros.sum() / recorded, TimeUnit.MICROSECONDS);
+  }
+
+  public long getMax(final TimeUnit unit) {
+    return unit.convert(maxMicros.get(), TimeUnit.MICROSECONDS);
+  }
+
+  /**
+   * Returns the latency below which the specified percentage of the recorded latencies lie, or 0 if no latency was
+   * recorded.
+   *
+   * @param percentile The percentage, greater than 0 and at most 100.
+   */
+  public long getPercentile(final double percentile, final TimeUnit unit) {
+    checkArgument(percentile > 0 && percentile <= 100, "percentile must be in (0, 100]");
+
+    final long recorded = count.sum();
+    if (recorded == 0) {
+      return 0;
+    }
+    final long rank = Math.max(1, (long) Math.ceil(recorded * percentile / 100));
+    long seen = 0;
+    for (int bucket = 0; bucket < counts.length(); bucket++) {
+      seen += counts.get(bucket);
+      if (seen >= rank) {
+        return unit.convert(Math.min(getLowerBound(bucket), maxMicros.get()), TimeUnit.MICROSECONDS);
+      }
+    }
+    return getMax(unit);
+  }
+}
@@ -0,0 +1,391 @@
+package games.strategy.performance;
+
+import java.lang.management.ManagementFactory;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongSupplier;
+import java.util.function.Supplier;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import javax.annotation.Nullable;
+import javax.annotation.concurrent.Immutable;
+import javax.annotation.concurrent.ThreadSafe;
+import javax.management.JMException;
+import javax.management.ObjectName;
+
+import com.google.common.annotations.VisibleForTesting;
+
+/**
+ * Records how long threads waited for and held the game data locks and delegate execution, per call site, to find the
+ * code that blocks the progress of the delegates.
+ *
+ * <p>
+ * Profiling is off unless the system property {@value #ENABLED_PROPERTY} is {@code true}, or it is enabled through
+ * the MBean {@value #OBJECT_NAME}, which is registered once a {@link MetricsEndpoint} is started. It captures the
+ * stack of every outermost acquisition, which costs some microseconds, so it should only be enabled while
+ * investigating a stall. The call site of an acquisition is the first frame of its stack outside the class owning the
+ * lock, reflection and proxies. The {@value #SLOWEST_HOLD_COUNT} longest holds are kept with a sample of the holder's
+ * stack.
+ * </p>
+ *
+ * <p>
+ * The profile is reported by {@link #getReport()}, which a {@link MetricsEndpoint} serves at {@code /locks}. The wait
+ * and hold times of each lock are also recorded in the {@link MetricRegistry} while profiling.
+ * </p>
+ */
+@ThreadSafe
+public final class LockProfiler implements LockProfilerMXBean {
+  public static final String ENABLED_PROPERTY = "triplea.lockProfiler";
+  @VisibleForTesting
+  static final String OBJECT_NAME = "games.strategy.performance:type=LockProfiler";
+  @VisibleForTesting
+  static final int SLOWEST_HOLD_COUNT = 20;
+  private static final Logger logger = Logger.getLogger(LockProfiler.class.getName());
+  private static final int MAX_SITES_REPORTED = 40;
+  private static final int MAX_STACK_DEPTH = 32;
+  private static final String WAIT_TIME = "triplea_lock_wait_seconds";
+  private static final String HOLD_TIME = "triplea_lock_hold_seconds";
+
+  private final MetricRegistry registry;
+  private final LongSupplier nanoTime;
+  private final int slowestHoldCount;
+  private volatile boolean enabled;
+  private volatile Instant profileStart = Instant.now();
+  // the locks held by the current thread that are being profiled; only set once the thread acquires one
+  private final ThreadLocal<Map<Object, Hold>> holds = new ThreadLocal<>();
+  private final Map<String, SiteStatistics> sites = new ConcurrentHashMap<>();
+  // the shortest of the slowest holds first; guarded by itself
+  private final PriorityQueue<SlowHold> slowestHolds =
+      new PriorityQueue<>(Comparator.comparingLong(slowHold -> slowHold.holdNanos));
+  // the time a hold must exceed to be one of the slowest, so most releases need not synchronize
+  private volatile long slowestHoldThresholdNanos;
+  private final AtomicBoolean registeredWithJmx = new AtomicBoolean();
+
+  @VisibleForTesting
+  LockProfiler(
+      final MetricRegistry registry,
+      final LongSupplier nanoTime,
+      final int slowestHoldCount,
+      final boolean enabled) {
+    this.registry = registry;
+    this.nanoTime = nanoTime;
+    this.slowestHoldCount = slowestHoldCount;
+    this.enabled = enabled;
+  }
+
+  private static final class LazyHolder {
+    private static final LockProfiler instance = new LockProfiler(MetricRegistry.getInstance(), System::nanoTime,
+        SLOWEST_HOLD_COUNT, Boolean.getBoolean(ENABLED_PROPERTY));
+  }
+
+  /**
+   * Returns the profiler of this process.
+   */
+  public static LockProfiler getInstance() {
+    return LazyHolder.instance;
+  }
+
+  /**
+   * Registers this profiler with the platform MBean server, unless it is already registered. Only called when a
+   * {@link MetricsEndpoint} is started, so acquiring a game data lock does not touch JMX.
+   */
+  void registerMBean() {
+    if (!registeredWithJmx.compareAndSet(false, true)) {
+      return;
+    }
+    try {
+      ManagementFactory.getPlatformMBeanServer().registerMBean(this, new ObjectName(OBJECT_NAME));
+    } catch (final JMException e) {
+      logger.log(Level.WARNING, "Failed to register the lock profiler with JMX", e);
+    }
+  }
+
+  @Override
+  public boolean isEnabled() {
+    return enabled;
+  }
+
+  @Override
+  public void setEnabled(final boolean enabled) {
+    if (enabled && !this.enabled) {
+      profileStart = Instant.now();
+    }
+    this.enabled = enabled;
+  }
+
+  /**
+   * Discards the profile recorded so far.
+   */
+  @Override
+  public void reset() {
+    sites.clear();
+    synchronized (slowestHolds) {
+      slowestHolds.clear();
+      slowestHoldThresholdNanos = 0;
+    }
+    profileStart = Instant.now();
+  }
+
+  /**
+   * Records that the current thread acquired the specified lock after waiting the specified time; the call site is
+   * taken from the stack of the current thread. Does nothing unless profiling is enabled.
+   *
+   * @param lockName The name of the kind of lock, such as {@code game_data_read}.
+   * @param lock The lock acquired; {@link #released(Object)} must be called with the same object.
+   */
+  public void acquired(final String lockName, final Object lock, final long waitNanos) {
+    acquired(lockName, lock, waitNanos, null);
+  }
+
+  /**
+   * Records that the current thread acquired the specified lock after waiting the specified time, at the call site
+   * described by the specified supplier, which is only called if profiling is enabled. Acquiring a lock the current
+   * thread already holds only counts towards its hold.
+   */
+  public void acquired(
+      final String lockName,
+      final Object lock,
+      final long waitNanos,
+      final @Nullable Supplier<String> site) {
+    if (!enabled) {
+      return;
+    }
+    Map<Object, Hold> threadHolds = holds.get();
+    if (threadHolds == null) {
+      threadHolds = new IdentityHashMap<>();
+      holds.set(threadHolds);
+    }
+    final @Nullable Hold hold = threadHolds.get(lock);
+    if (hold != null) {
+      hold.depth++;
+      return;
+    }
+    final StackTraceElement[] stack = getCallerStack(new Throwable().getStackTrace());
+    final String siteName = (site != null) ? site.get() : ((stack.length > 0) ? stack[0].toString() : "unknown");
+    final SiteStatistics statistics = sites.computeIfAbsent(lockName + ' ' + siteName,
+        k -> new SiteStatistics(lockName, siteName, registry.histogram(WAIT_TIME, "lock", lockName),
+            registry.histogram(HOLD_TIME, "lock", lockName)));
+    statistics.waited(waitNanos);
+    threadHolds.put(lock, new Hold(statistics, stack, waitNanos, nanoTime.getAsLong()));
+  }
+
+  /**
+   * Records that the current thread released the specified lock, ending its hold if this is the release of its
+   * outermost acquisition. Does nothing unless the acquisition was recorded, so it can be called whether or not
+   * profiling is enabled.
+   */
+  public void released(final Object lock) {
+    final @Nullable Map<Object, Hold> threadHolds = holds.get();
+    if (threadHolds == null) {
+      return;
+    }
+    final @Nullable Hold hold = threadHolds.get(lock);
+    if (hold == null || --hold.depth > 0) {
+      return;
+    }
+    threadHolds.remove(lock);
+    final long holdNanos = nanoTime.getAsLong() - hold.acquiredNanos;
+    hold.site.held(holdNanos);
+    if (holdNanos > slowestHoldThresholdNanos) {
+      addSlowHold(new SlowHold(hold, holdNanos, Thread.currentThread().getName(), Instant.now()));
+    }
+  }
+
+  private void addSlowHold(final SlowHold slowHold) {
+    synchronized (slowestHolds) {
+      slowestHolds.add(slowHold);
+      if (slowestHolds.size() > slowestHoldCount) {
+        slowestHolds.poll();
+      }
+      if (slowestHolds.size() == slowestHoldCount) {
+        slowestHoldThresholdNanos = slowestHolds.peek().holdNanos;
+      }
+    }
+  }
+
+  /**
+   * Returns the specified stack without the frames of this class, of the class owning the lock, which is the class
+   * calling this one, and of reflection and proxies, so its first frame is the call site.
+   */
+  @VisibleForTesting
+  static StackTraceElement[] getCallerStack(final StackTraceElement[] stack) {
+    int first = 0;
+    while (first < stack.length && isFrameOf(stack[first], LockProfiler.class.getName())) {
+      first++;
+    }
+    final String lockOwner = (first < stack.length) ? getOuterClassName(stack[first].getClassName()) : "";
+    while (first < stack.length && (isFrameOf(stack[first], lockOwner) || isReflectionFrame(stack[first]))) {
+      first++;
+    }
+    return Arrays.copyOfRange(stack, first, Math.min(stack.length, first + MAX_STACK_DEPTH));
+  }
+
+  private static boolean isFrameOf(final StackTraceElement frame, final String className) {
+    return frame.getClassName().equals(className) || frame.getClassName().startsWith(className + '$');
+  }
+
+  private static String getOuterClassName(final String className) {
+    final int index = className.indexOf('$');
+    return (index < 0) ? className : className.substring(0, index);
+  }
+
+  private static boolean isReflectionFrame(final StackTraceElement frame) {
+    final String className = frame.getClassName();
+    return className.startsWith("java.lang.reflect.")
+        || className.startsWith("sun.reflect.")
+        || className.startsWith("jdk.internal.reflect.")
+        || className.startsWith("com.sun.proxy.")
+        || className.startsWith("jdk.proxy")
+        || className.contains("$$Lambda");
+  }
+
+  /**
+   * Returns the call sites with the longest total hold time and the slowest holds, with the stacks of their holders.
+   */
+  @Override
+  public String getReport() {
+    final StringBuilder report = new StringBuilder("LOCK PROFILE\n");
+    if (!enabled && sites.isEmpty()) {
+      report.append("Disabled; set the system property ").append(ENABLED_PROPERTY)
+          .append("=true or enable it through JMX (").append(OBJECT_NAME).append(")\n");
+      return report.toString();
+    }
+    report.append(enabled ? "Enabled" : "Disabled").append(", profiling since ").append(profileStart).append("\n\n");
+
+    report.append("Call sites by total hold time, in ms:\n");
+    report.append(String.format(Locale.ROOT, "%-26s %9s %10s %10s %10s %10s  %s%n",
+        "lock", "count", "wait", "max wait", "hold", "max hold", "site"));
+    sites.values().stream()
+        .sorted(Comparator.comparingLong((SiteStatistics statistics) -> statistics.totalHoldNanos.sum()).reversed())
+        .limit(MAX_SITES_REPORTED)
+        .forEach(statistics -> report.append(String.format(Locale.ROOT, "%-26s %9d %10.1f %10.1f %10.1f %10.1f  %s%n",
+            statistics.lockName,
+            statistics.acquisitions.sum(),
+            toMillis(statistics.totalWaitNanos.sum()),
+            toMillis(statistics.maxWaitNanos.get()),
+            toMillis(statistics.totalHoldNanos.sum()),
+            toMillis(statistics.maxHoldNanos.get()),
+            statistics.site)));
+
+    report.append("\nSlowest holds:\n");
+    for (final SlowHold slowHold : getSlowestHolds()) {
+      report.append(String.format(Locale.ROOT, "%s held for %.1f ms, after waiting %.1f ms, by \"%s\" until %s%n",
+          slowHold.lockName, toMillis(slowHold.holdNanos), toMillis(slowHold.waitNanos), slowHold.threadName,
+          slowHold.released));
+      for (final StackTraceElement frame : slowHold.stack) {
+        report.append("    at ").append(frame).append('\n');
+      }
+    }
+    return report.toString();
+  }
+
+  /**
+   * Returns the slowest holds, the slowest first.
+   */
+  @VisibleForTesting
+  List<SlowHold> getSlowestHolds() {
+    final List<SlowHold> holds;
+    synchronized (slowestHolds) {
+      holds = new ArrayList<>(slowestHolds);
+    }
+    holds.sort(Comparator.comparingLong((SlowHold slowHold) -> slowHold.holdNanos).reversed());
+    return holds;
+  }
+
+  private static double toMillis(final long nanos) {
+    return nanos / 1_000_000.0;
+  }
+
+  private static final class SiteStatistics {
+    final String lockName;
+    final String site;
+    final LongAdder acquisitions = new LongAdder();
+    final LongAdder totalWaitNanos = new LongAdder();
+    final AtomicLong maxWaitNanos = new AtomicLong();
+    final LongAdder totalHoldNanos = new LongAdder();
+    final AtomicLong maxHoldNanos = new AtomicLong();
+    // the histograms of the lock, shared by its sites, so recording to them needs no registry lookup
+    final LatencyHistogram waitTimes;
+    final LatencyHistogram holdTimes;
+
+    SiteStatistics(
+        final String lockName,
+        final String site,
+        final LatencyHistogram waitTimes,
+        final LatencyHistogram holdTimes) {
+      this.lockName = lockName;
+      this.site = site;
+      this.waitTimes = waitTimes;
+      this.holdTimes = holdTimes;
+    }
+
+    void waited(final long waitNanos) {
+      acquisitions.increment();
+      totalWaitNanos.add(waitNanos);
+      maxWaitNanos.accumulateAndGet(waitNanos, Math::max);
+      waitTimes.record(waitNanos, TimeUnit.NANOSECONDS);
+    }
+
+    void held(final long holdNanos) {
+      totalHoldNanos.add(holdNanos);
+      maxHoldNanos.accumulateAndGet(holdNanos, Math::max);
+      holdTimes.record(holdNanos, TimeUnit.NANOSECONDS);
+    }
+  }
+
+  /**
+   * A lock held by the current thread; only accessed by that thread.
+   */
+  private static final class Hold {
+    final SiteStatistics site;
+    final StackTraceElement[] stack;
+    final long waitNanos;
+    final long acquiredNanos;
+    int depth = 1;
+
+    Hold(final SiteStatistics site, final StackTraceElement[] stack, final long waitNanos, final long acquiredNanos) {
+      this.site = site;
+      this.stack = stack;
+      this.waitNanos = waitNanos;
+      this.acquiredNanos = acquiredNanos;
+    }
+  }
+
+  /**
+   * One of the slowest holds.
+   */
+  @Immutable
+  @VisibleForTesting
+  static final class SlowHold {
+    final String lockName;
+    final String site;
+    final StackTraceElement[] stack;
+    final long waitNanos;
+    final long holdNanos;
+    final String threadName;
+    final Instant released;
+
+    SlowHold(final Hold hold, final long holdNanos, final String threadName, final Instant released) {
+      lockName = hold.site.lockName;
+      site = hold.site.site;
+      stack = hold.stack;
+      waitNanos = hold.waitNanos;
+      this.holdNanos = holdNanos;
+      this.threadName = threadName;
+      this.released = released;
+    }
+  }
+}
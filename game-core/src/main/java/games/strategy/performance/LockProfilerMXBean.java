@@ -0,0 +1,14 @@
+package games.strategy.performance;
+
+/**
+ * The management interface of the {@link LockProfiler}, through which it can be enabled on a running server.
+ */
+public interface LockProfilerMXBean {
+  boolean isEnabled();
+
+  void setEnabled(boolean enabled);
+
+  String getReport();
+
+  void reset();
+}
@@ -0,0 +1,89 @@
+package games.strategy.performance;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongSupplier;
+
+import javax.annotation.concurrent.ThreadSafe;
+
+import com.google.common.annotations.VisibleForTesting;
+
+/**
+ * Counts events and the rate at which they recently happened, such as the battles simulated per second.
+ *
+ * <p>
+ * The rate is a moving average over about one minute: every five seconds it moves 1 - e^(-5/60) of the way towards
+ * the rate in those five seconds, as the Unix load average does. The average is brought up to date when the meter is
+ * marked or read, so an idle meter costs nothing.
+ * </p>
+ */
+@ThreadSafe
+public final class Meter {
+  @VisibleForTesting
+  static final long TICK_INTERVAL_NANOS = TimeUnit.SECONDS.toNanos(5);
+  private static final double ALPHA = 1 - Math.exp(-5.0 / 60);
+
+  private final LongSupplier nanoTime;
+  private final LongAdder count = new LongAdder();
+  private final LongAdder uncounted = new LongAdder();
+  private final AtomicLong lastTick;
+  // only updated by the thread that advanced lastTick
+  private volatile double ratePerSecond;
+  private volatile boolean initialized;
+
+  public Meter() {
+    this(System::nanoTime);
+  }
+
+  @VisibleForTesting
+  Meter(final LongSupplier nanoTime) {
+    this.nanoTime = nanoTime;
+    lastTick = new AtomicLong(nanoTime.getAsLong());
+  }
+
+  public void mark() {
+    mark(1);
+  }
+
+  public void mark(final long events) {
+    tickIfNecessary();
+    count.add(events);
+    uncounted.add(events);
+  }
+
+  public long getCount() {
+    return count.sum();
+  }
+
+  /**
+   * Returns the number of events per second, averaged over about the last minute.
+   */
+  public double getOneMinuteRate() {
+    tickIfNecessary();
+    return ratePerSecond;
+  }
+
+  private void tickIfNecessary() {
+    final long oldTick = lastTick.get();
+    final long age = nanoTime.getAsLong() - oldTick;
+    if (age > TICK_INTERVAL_NANOS) {
+      final long ticks = age / TICK_INTERVAL_NANOS;
+      if (lastTick.compareAndSet(oldTick, oldTick + ticks * TICK_INTERVAL_NANOS)) {
+        for (long i = 0; i < ticks; i++) {
+          tick();
+        }
+      }
+    }
+  }
+
+  private void tick() {
+    final double instantRate = uncounted.sumThenReset() / (double) TimeUnit.NANOSECONDS.toSeconds(TICK_INTERVAL_NANOS);
+    if (initialized) {
+      ratePerSecond += ALPHA * (instantRate - ratePerSecond);
+    } else {
+      ratePerSecond = instantRate;
+      initialized = true;
+    }
+  }
+}
@@ -0,0 +1,293 @@
+package games.strategy.performance;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkNotNull;
+
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.LongSupplier;
+import java.util.function.Supplier;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+import java.util.regex.Pattern;
+
+import javax.annotation.concurrent.Immutable;
+import javax.annotation.concurrent.ThreadSafe;
+import javax.management.JMException;
+import javax.management.ObjectName;
+
+import com.google.common.annotations.VisibleForTesting;
+
+/**
+ * The counters, meters, gauges and latency histograms of this process, for monitoring headless game servers and the
+ * lobby.
+ *
+ * <p>
+ * A metric is identified by a name and optional labels, passed as alternating label names and values; for example,
+ * {@code counter("triplea_net_messages_received_total", "node", "bob")}. Names follow the Prometheus conventions:
+ * lower case words separated by underscores, counters ending in {@code _total} and latencies in {@code _seconds}.
+ * Looking up a metric is a map lookup, so code on a hot path should keep the metric it records to.
+ * </p>
+ *
+ * <p>
+ * The metrics are readable as text, in the Prometheus exposition format, from a {@link MetricsEndpoint}, and as the
+ * attributes of the MBean {@value #OBJECT_NAME} of the platform MBean server once the endpoint has been started.
+ * </p>
+ */
+@ThreadSafe
+public final class MetricRegistry {
+  @VisibleForTesting
+  static final String OBJECT_NAME = "games.strategy.performance:type=MetricRegistry";
+  private static final Logger logger = Logger.getLogger(MetricRegistry.class.getName());
+  private static final Pattern NAME_PATTERN = Pattern.compile("[a-zA-Z_][a-zA-Z0-9_]*");
+  private static final double[] PERCENTILES = {50, 90, 99};
+  private static final MetricRegistry instance = new MetricRegistry();
+
+  // sorted so the metrics with the same name are next to each other
+  private final Map<String, Entry> entries = new ConcurrentSkipListMap<>();
+  private final AtomicBoolean registeredWithJmx = new AtomicBoolean();
+
+  @VisibleForTesting
+  MetricRegistry() {}
+
+  /**
+   * Returns the registry of this process.
+   */
+  public static MetricRegistry getInstance() {
+    return instance;
+  }
+
+  /**
+   * Registers this registry with the platform MBean server, unless it is already registered. Only called when a
+   * {@link MetricsEndpoint} is started, so loading the instrumented classes does not touch JMX.
+   */
+  void registerMBean() {
+    if (!registeredWithJmx.compareAndSet(false, true)) {
+      return;
+    }
+    try {
+      ManagementFactory.getPlatformMBeanServer().registerMBean(new MetricsMBean(this), new ObjectName(OBJECT_NAME));
+    } catch (final JMException e) {
+      logger.log(Level.WARNING, "Failed to register the metrics with JMX", e);
+    }
+  }
+
+  /**
+   * Returns the counter with the specified name and labels, creating it if it does not exist.
+   */
+  public Counter counter(final String name, final String... labels) {
+    return getOrCreate(name, labels, Counter.class, Counter::new);
+  }
+
+  /**
+   * Registers a counter with the specified name and labels whose count is read from the specified supplier when the
+   * metrics are collected, replacing any such counter already registered with them. The supplier must be thread safe
+   * and its count must only go up, such as a total kept by another class.
+   */
+  public void counter(final String name, final LongSupplier count, final String... labels) {
+    checkNotNull(count);
+
+    final Entry entry = new Entry(name, labels, new SuppliedCounter(count));
+    entries.merge(entry.key, entry, (oldEntry, newEntry) -> {
+      checkArgument(oldEntry.metric instanceof SuppliedCounter, "%s is already registered as another type of metric",
+          name);
+      return newEntry;
+    });
+  }
+
+  /**
+   * Returns the meter with the specified name and labels, creating it if it does not exist. A meter is exposed as a
+   * counter named {@code <name>_total} and a gauge of its rate named {@code <name>_per_second}.
+   */
+  public Meter meter(final String name, final String... labels) {
+    return getOrCreate(name, labels, Meter.class, Meter::new);
+  }
+
+  /**
+   * Returns the latency histogram with the specified name and labels, creating it if it does not exist. A histogram
+   * is exposed as a Prometheus summary in seconds, with the median, 90th and 99th percentiles and the maximum.
+   */
+  public LatencyHistogram histogram(final String name, final String... labels) {
+    return getOrCreate(name, labels, LatencyHistogram.class, LatencyHistogram::new);
+  }
+
+  /**
+   * Registers the specified gauge with the specified name and labels, replacing any gauge already registered with
+   * them.
+   */
+  public void gauge(final String name, final Gauge gauge, final String... labels) {
+    checkNotNull(gauge);
+
+    final Entry entry = new Entry(name, labels, gauge);
+    entries.merge(entry.key, entry, (oldEntry, newEntry) -> {
+      checkArgument(oldEntry.metric instanceof Gauge, "%s is already registered as another type of metric", name);
+      return newEntry;
+    });
+  }
+
+  /**
+   * Removes the metric with the specified name and labels, if any, so it is no longer exposed.
+   */
+  public void remove(final String name, final String... labels) {
+    entries.remove(newKey(name, formatLabels(labels)));
+  }
+
+  private <T> T getOrCreate(final String name, final String[] labels, final Class<T> type, final Supplier<T> factory) {
+    final String formattedLabels = formatLabels(labels);
+    final Object metric = entries
+        .computeIfAbsent(newKey(name, formattedLabels), k -> new Entry(name, formattedLabels, factory.get()))
+        .metric;
+    checkArgument(type.isInstance(metric), "%s is already registered as another type of metric", name);
+    return type.cast(metric);
+  }
+
+  private static String newKey(final String name, final String formattedLabels) {
+    checkArgument(NAME_PATTERN.matcher(name).matches(), "invalid metric name: %s", name);
+    // a space sorts before any character of a name, so a name is never separated from its labels by a longer name
+    return name + ' ' + formattedLabels;
+  }
+
+  private static String formatLabels(final String... labels) {
+    checkArgument(labels.length % 2 == 0, "labels must be pairs of names and values");
+
+    final StringBuilder builder = new StringBuilder();
+    for (int i = 0; i < labels.length; i += 2) {
+      checkArgument(NAME_PATTERN.matcher(labels[i]).matches(), "invalid label name: %s", labels[i]);
+      checkNotNull(labels[i + 1], "label value");
+      if (builder.length() > 0) {
+        builder.append(',');
+      }
+      builder.append(labels[i]).append("=\"").append(escapeLabelValue(labels[i + 1])).append('"');
+    }
+    return builder.toString();
+  }
+
+  private static String escapeLabelValue(final String value) {
+    return value.replace("\\", "\\\\").replace("\"", "\\\"").replace("\n", "\\n");
+  }
+
+  /**
+   * Returns the current value of every metric, grouped by the name under which it is exposed.
+   */
+  List<Sample> getSamples() {
+    final List<Sample> samples = new ArrayList<>();
+    for (final Entry entry : entries.values()) {
+      entry.addSamples(samples);
+    }
+    // a meter exposes two names, so the samples of meters with different labels must be regrouped; the sort is stable
+    samples.sort(Comparator.comparing(sample -> sample.name));
+    return samples;
+  }
+
+  /**
+   * Returns the current value of every metric in the Prometheus text exposition format, version 0.0.4.
+   */
+  public String toText() {
+    final StringBuilder builder = new StringBuilder();
+    String name = null;
+    for (final Sample sample : getSamples()) {
+      if (!sample.name.equals(name)) {
+        name = sample.name;
+        builder.append("# TYPE ").append(name).append(' ').append(sample.type).append('\n');
+      }
+      builder.append(sample.id).append(' ').append(formatValue(sample.value)).append('\n');
+    }
+    return builder.toString();
+  }
+
+  private static String formatValue(final double value) {
+    return (value == Math.rint(value) && Math.abs(value) < 1e15) ? Long.toString((long) value) : Double.toString(value);
+  }
+
+  private static final class Entry {
+    final String key;
+    final String name;
+    final String labels;
+    final Object metric;
+
+    Entry(final String name, final String[] labels, final Object metric) {
+      this(name, formatLabels(labels), metric);
+    }
+
+    Entry(final String name, final String formattedLabels, final Object metric) {
+      this.key = newKey(name, formattedLabels);
+      this.name = name;
+      this.labels = formattedLabels;
+      this.metric = metric;
+    }
+
+    void addSamples(final List<Sample> samples) {
+      if (metric instanceof Counter) {
+        samples.add(new Sample(name, "counter", id(name, ""), ((Counter) metric).getCount()));
+      } else if (metric instanceof SuppliedCounter) {
+        samples.add(new Sample(name, "counter", id(name, ""), ((SuppliedCounter) metric).count.getAsLong()));
+      } else if (metric instanceof Meter) {
+        final Meter meter = (Meter) metric;
+        samples.add(new Sample(name + "_total", "counter", id(name + "_total", ""), meter.getCount()));
+        samples.add(new Sample(name + "_per_second", "gauge", id(name + "_per_second", ""), meter.getOneMinuteRate()));
+      } else if (metric instanceof LatencyHistogram) {
+        final LatencyHistogram histogram = (LatencyHistogram) metric;
+        for (final double percentile : PERCENTILES) {
+          samples.add(new Sample(name, "summary", id(name, "quantile=\"" + percentile / 100 + '"'),
+              toSeconds(histogram.getPercentile(percentile, TimeUnit.MICROSECONDS))));
+        }
+        samples.add(new Sample(name, "summary", id(name, "quantile=\"1\""),
+            toSeconds(histogram.getMax(TimeUnit.MICROSECONDS))));
+        samples.add(new Sample(name, "summary", id(name + "_sum", ""),
+            toSeconds(histogram.getTotal(TimeUnit.MICROSECONDS))));
+        samples.add(new Sample(name, "summary", id(name + "_count", ""), histogram.getCount()));
+      } else {
+        samples.add(new Sample(name, "gauge", id(name, ""), ((Gauge) metric).getValue()));
+      }
+    }
+
+    private String id(final String sampleName, final String extraLabel) {
+      final String allLabels =
+          (labels.isEmpty() || extraLabel.isEmpty()) ? (labels + extraLabel) : (labels + ',' + extraLabel);
+      return allLabels.isEmpty() ? sampleName : sampleName + '{' + allLabels + '}';
+    }
+
+    private static double toSeconds(final long micros) {
+      return micros / 1_000_000.0;
+    }
+  }
+
+  private static final class SuppliedCounter {
+    final LongSupplier count;
+
+    SuppliedCounter(final LongSupplier count) {
+      this.count = count;
+    }
+  }
+
+  /**
+   * A value exposed by a metric.
+   */
+  @Immutable
+  static final class Sample {
+    /**
+     * The name under which the metric is exposed, which may differ from the name of the sample; for example, the
+     * sample {@code x_count} belongs to the summary {@code x}.
+     */
+    final String name;
+    final String type;
+    /**
+     * The name of the sample followed by its labels, e.g. {@code x{node="bob"}}.
+     */
+    final String id;
+    final double value;
+
+    Sample(final String name, final String type, final String id, final double value) {
+      this.name = name;
+      this.type = type;
+      this.id = id;
+      this.value = value;
+    }
+  }
+}
@@ -0,0 +1,105 @@
+package games.strategy.performance;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Supplier;
+
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+/**
+ * Serves the metrics of a {@link MetricRegistry} over HTTP, in the Prometheus text exposition format, at
+ * {@code http://localhost:<port>/metrics}, and the report of the {@link LockProfiler} at
+ * {@code http://localhost:<port>/locks}.
+ *
+ * <p>
+ * The endpoint only listens on the loopback interface, so the metrics of a server are not visible to its players; a
+ * monitoring agent on the same host, or an SSH tunnel, can scrape them.
+ * </p>
+ */
+public final class MetricsEndpoint implements Closeable {
+  static final String PATH = "/metrics";
+  static final String LOCKS_PATH = "/locks";
+  private static final String CONTENT_TYPE = "text/plain; version=0.0.4; charset=utf-8";
+  private static final String LOCKS_CONTENT_TYPE = "text/plain; charset=utf-8";
+
+  private final HttpServer server;
+  private final ExecutorService executor;
+
+  private MetricsEndpoint(final HttpServer server, final ExecutorService executor) {
+    this.server = server;
+    this.executor = executor;
+  }
+
+  /**
+   * Starts serving the metrics of the specified registry on the specified port of the loopback interface, or on any
+   * free port if it is 0, and registers the registry and the lock profiler with the platform MBean server. The thread
+   * accepting the connections keeps the JVM running until the endpoint is closed.
+   *
+   * @throws IOException If the port cannot be bound.
+   */
+  public static MetricsEndpoint start(final MetricRegistry registry, final int port) throws IOException {
+    final LockProfiler lockProfiler = LockProfiler.getInstance();
+    final MetricsEndpoint endpoint = start(registry, lockProfiler, port);
+    registry.registerMBean();
+    lockProfiler.registerMBean();
+    return endpoint;
+  }
+
+  @VisibleForTesting
+  static MetricsEndpoint start(final MetricRegistry registry, final LockProfiler lockProfiler, final int port)
+      throws IOException {
+    checkNotNull(registry);
+    checkNotNull(lockProfiler);
+
+    final HttpServer server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), port), 0);
+    final ExecutorService executor = Executors.newSingleThreadExecutor(
+        new ThreadFactoryBuilder().setNameFormat("Metrics endpoint").setDaemon(true).build());
+    server.setExecutor(executor);
+    server.createContext(PATH, exchange -> handle(exchange, CONTENT_TYPE, registry::toText));
+    server.createContext(LOCKS_PATH, exchange -> handle(exchange, LOCKS_CONTENT_TYPE, lockProfiler::getReport));
+    server.start();
+    return new MetricsEndpoint(server, executor);
+  }
+
+  private static void handle(final HttpExchange exchange, final String contentType, final Supplier<String> text)
+      throws IOException {
+    try {
+      if (!"GET".equals(exchange.getRequestMethod())) {
+        exchange.sendResponseHeaders(405, -1);
+        return;
+      }
+      final byte[] body = text.get().getBytes(StandardCharsets.UTF_8);
+      exchange.getResponseHeaders().set("Content-Type", contentType);
+      exchange.sendResponseHeaders(200, body.length);
+      try (OutputStream os = exchange.getResponseBody()) {
+        os.write(body);
+      }
+    } finally {
+      exchange.close();
+    }
+  }
+
+  public int getPort() {
+    return server.getAddress().getPort();
+  }
+
+  /**
+   * Stops serving the metrics and the lock profile.
+   */
+  @Override
+  public void close() {
+    server.stop(0);
+    executor.shutdown();
+  }
+}
@@ -0,0 +1,71 @@
+package games.strategy.performance;
+
+import java.util.List;
+
+import javax.annotation.concurrent.ThreadSafe;
+import javax.management.Attribute;
+import javax.management.AttributeList;
+import javax.management.AttributeNotFoundException;
+import javax.management.DynamicMBean;
+import javax.management.MBeanAttributeInfo;
+import javax.management.MBeanInfo;
+import javax.management.ReflectionException;
+
+/**
+ * Exposes each sample of a {@link MetricRegistry} as a read-only attribute of type {@code double}, named as in the
+ * text exposition format, e.g. {@code triplea_net_messages_received_total{port="3300",node="bob"}}.
+ */
+@ThreadSafe
+final class MetricsMBean implements DynamicMBean {
+  private final MetricRegistry registry;
+
+  MetricsMBean(final MetricRegistry registry) {
+    this.registry = registry;
+  }
+
+  @Override
+  public Object getAttribute(final String attribute) throws AttributeNotFoundException {
+    return registry.getSamples().stream()
+        .filter(sample -> sample.id.equals(attribute))
+        .findAny()
+        .map(sample -> sample.value)
+        .orElseThrow(() -> new AttributeNotFoundException(attribute));
+  }
+
+  @Override
+  public AttributeList getAttributes(final String[] attributes) {
+    final List<MetricRegistry.Sample> samples = registry.getSamples();
+    final AttributeList values = new AttributeList();
+    for (final String attribute : attributes) {
+      samples.stream()
+          .filter(sample -> sample.id.equals(attribute))
+          .findAny()
+          .ifPresent(sample -> values.add(new Attribute(attribute, sample.value)));
+    }
+    return values;
+  }
+
+  @Override
+  public void setAttribute(final Attribute attribute) throws AttributeNotFoundException {
+    throw new AttributeNotFoundException("metrics are read-only: " + attribute.getName());
+  }
+
+  @Override
+  public AttributeList setAttributes(final AttributeList attributes) {
+    return new AttributeList();
+  }
+
+  @Override
+  public Object invoke(final String actionName, final Object[] params, final String[] signature)
+      throws ReflectionException {
+    throw new ReflectionException(new NoSuchMethodException(actionName));
+  }
+
+  @Override
+  public MBeanInfo getMBeanInfo() {
+    final MBeanAttributeInfo[] attributes = registry.getSamples().stream()
+        .map(sample -> new MBeanAttributeInfo(sample.id, "double", sample.type, true, false, false))
+        .toArray(MBeanAttributeInfo[]::new);
+    return new MBeanInfo(getClass().getName(), "TripleA metrics", attributes, null, null, null);
+  }
+}
@@ -1,14 +1,17 @@
 package games.strategy.thread;
 
 import java.lang.ref.WeakReference;
-import java.util.HashMap;
+import java.util.Arrays;
 import java.util.HashSet;
+import java.util.Locale;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
 import java.util.WeakHashMap;
+import java.util.concurrent.ThreadLocalRandom;
 import java.util.concurrent.atomic.AtomicReference;
 import java.util.concurrent.locks.Lock;
+import java.util.logging.Logger;
 
 import com.google.common.annotations.VisibleForTesting;
 
@@ -22,17 +25,33 @@ import com.google.common.annotations.VisibleForTesting;
  * </p>
  *
  * <p>
- * This class is not terribly good for multithreading as it locks globally on all calls, but that is ok, as this code is
- * meant more for when
- * you are considering your ambitious multi-threaded code a mistake, and you are trying to limit the damage.
+ * Checking the order of an acquisition takes a global lock, so by default only about one in
+ * {@link #SAMPLE_INTERVAL} first acquisitions of a lock by a thread is checked, chosen at random; a wrong lock ordering
+ * is still reported, just not the first time it happens. The locks each thread holds are tracked without any shared
+ * state, so threads only contend for the locks themselves. Set the system property {@value #ORDER_CHECKING_PROPERTY}
+ * to {@code always} to check every acquisition, or to {@code off} to never check.
  * </p>
  */
 public enum LockUtil {
   INSTANCE;
 
+  @VisibleForTesting
+  static final String ORDER_CHECKING_PROPERTY = "triplea.lockOrderChecking";
+  @VisibleForTesting
+  static final int SAMPLE_INTERVAL = 64;
+
+  /**
+   * How often the order in which a thread acquires locks is checked.
+   */
+  @VisibleForTesting
+  enum OrderChecking {
+    OFF, SAMPLED, ALWAYS
+  }
+
+  private volatile OrderChecking orderChecking = readOrderChecking();
+
   // the locks the current thread has
-  // because locks can be re-entrant, store this as a count
-  private final ThreadLocal<Map<Lock, Integer>> locksHeld = ThreadLocal.withInitial(HashMap::new);
+  private final ThreadLocal<HeldLocks> locksHeld = ThreadLocal.withInitial(HeldLocks::new);
 
   // a map of all the locks ever held when a lock was acquired
   // store weak references to everything so that locks don't linger here forever
@@ -41,52 +60,76 @@ public enum LockUtil {
 
   private final AtomicReference<ErrorReporter> errorReporterRef = new AtomicReference<>(new DefaultErrorReporter());
 
+  private static OrderChecking readOrderChecking() {
+    final String value = System.getProperty(ORDER_CHECKING_PROPERTY);
+    if (value == null) {
+      return OrderChecking.SAMPLED;
+    }
+    try {
+      return OrderChecking.valueOf(value.toUpperCase(Locale.ROOT));
+    } catch (final IllegalArgumentException e) {
+      // not a static field, which would not be initialized yet when the enum constant is created
+      Logger.getLogger(LockUtil.class.getName())
+          .warning("Unknown value for " + ORDER_CHECKING_PROPERTY + ": " + value + ", lock ordering is sampled");
+      return OrderChecking.SAMPLED;
+    }
+  }
+
   public void acquireLock(final Lock lock) {
+    final HeldLocks heldLocks = locksHeld.get();
     // we already have the lock, increase the count
-    if (isLockHeld(lock)) {
-      final int current = locksHeld.get().get(lock);
-      locksHeld.get().put(lock, current + 1);
-    } else { // we don't have it
-      synchronized (mutex) {
-        // all the locks currently held must be acquired before a lock
-        if (!locksHeldWhenAcquired.containsKey(lock)) {
-          locksHeldWhenAcquired.put(lock, new HashSet<>());
-        }
-        for (final Lock l : locksHeld.get().keySet()) {
-          locksHeldWhenAcquired.get(lock).add(new WeakLockRef(l));
-        }
-        // we are lock a, check to
-        // see if any lock we hold (b)
-        // has ever been acquired before a
-        for (final Lock l : locksHeld.get().keySet()) {
-          final Set<WeakLockRef> held = locksHeldWhenAcquired.get(l);
-          // clear out of date locks
-          held.removeIf(weakLockRef -> weakLockRef.get() == null);
-          if (held.contains(new WeakLockRef(lock))) {
-            errorReporterRef.get().reportError(lock, l);
-          }
-        }
+    if (!heldLocks.increment(lock)) {
+      // we don't have it
+      if (heldLocks.shouldCheckOrder(orderChecking)) {
+        checkOrder(lock, heldLocks);
       }
-      locksHeld.get().put(lock, 1);
+      heldLocks.add(lock);
     }
 
     lock.lock();
   }
 
-  public void releaseLock(final Lock lock) {
-    int count = locksHeld.get().get(lock);
-    count--;
-    if (count == 0) {
-      locksHeld.get().remove(lock);
-    } else {
-      locksHeld.get().put(lock, count);
+  private void checkOrder(final Lock lock, final HeldLocks heldLocks) {
+    synchronized (mutex) {
+      // all the locks currently held must be acquired before a lock
+      final Set<WeakLockRef> heldWhenAcquired = locksHeldWhenAcquired.computeIfAbsent(lock, k -> new HashSet<>());
+      for (int i = 0; i < heldLocks.size; i++) {
+        heldWhenAcquired.add(new WeakLockRef(heldLocks.locks[i]));
+      }
+      // we are lock a, check to
+      // see if any lock we hold (b)
+      // has ever been acquired before a
+      for (int i = 0; i < heldLocks.size; i++) {
+        final Lock l = heldLocks.locks[i];
+        final Set<WeakLockRef> held = locksHeldWhenAcquired.get(l);
+        if (held == null) {
+          // l was acquired while its order was not being checked
+          continue;
+        }
+        // clear out of date locks
+        held.removeIf(weakLockRef -> weakLockRef.get() == null);
+        if (held.contains(new WeakLockRef(lock))) {
+          errorReporterRef.get().reportError(lock, l);
+        }
+      }
     }
+  }
+
+  public void releaseLock(final Lock lock) {
+    locksHeld.get().decrement(lock);
 
     lock.unlock();
   }
 
   public boolean isLockHeld(final Lock lock) {
-    return locksHeld.get().containsKey(lock);
+    return locksHeld.get().indexOf(lock) >= 0;
+  }
+
+  @VisibleForTesting
+  OrderChecking setOrderChecking(final OrderChecking orderChecking) {
+    final OrderChecking old = this.orderChecking;
+    this.orderChecking = orderChecking;
+    return old;
   }
 
   @VisibleForTesting
@@ -99,6 +142,69 @@ public enum LockUtil {
     void reportError(Lock from, Lock to);
   }
 
+  /**
+   * The locks held by a thread, in the order they were acquired, with the number of times each is held; a thread holds
+   * few locks at once, so they are searched linearly.
+   */
+  private static final class HeldLocks {
+    private Lock[] locks = new Lock[4];
+    private int[] counts = new int[4];
+    private int size;
+
+    int indexOf(final Lock lock) {
+      for (int i = 0; i < size; i++) {
+        if (locks[i] == lock) {
+          return i;
+        }
+      }
+      return -1;
+    }
+
+    boolean increment(final Lock lock) {
+      final int index = indexOf(lock);
+      if (index < 0) {
+        return false;
+      }
+      counts[index]++;
+      return true;
+    }
+
+    void add(final Lock lock) {
+      if (size == locks.length) {
+        locks = Arrays.copyOf(locks, size * 2);
+        counts = Arrays.copyOf(counts, size * 2);
+      }
+      locks[size] = lock;
+      counts[size] = 1;
+      size++;
+    }
+
+    void decrement(final Lock lock) {
+      final int index = indexOf(lock);
+      if (index < 0) {
+        throw new IllegalMonitorStateException("Lock not held: " + lock);
+      }
+      if (--counts[index] == 0) {
+        System.arraycopy(locks, index + 1, locks, index, size - index - 1);
+        System.arraycopy(counts, index + 1, counts, index, size - index - 1);
+        size--;
+        locks[size] = null;
+      }
+    }
+
+    boolean shouldCheckOrder(final OrderChecking orderChecking) {
+      switch (orderChecking) {
+        case ALWAYS:
+          return true;
+        case SAMPLED:
+          // sample at random so a thread repeating the same sequence of acquisitions has each of them checked
+          return ThreadLocalRandom.current().nextInt(SAMPLE_INTERVAL) == 0;
+        default:
+          return false;
+      }
+    }
+  }
+
   private static final class DefaultErrorReporter implements ErrorReporter {
     @Override
     public void reportError(final Lock from, final Lock to) {
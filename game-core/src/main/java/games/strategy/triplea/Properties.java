@@ -16,107 +16,107 @@ public final class Properties implements Constants {
   // false. (ex: "Do not do something", false; instead of "Do something", true;)
 
   public static int getNeutralCharge(final GameData data) {
-    return data.getProperties().get(NEUTRAL_CHARGE_PROPERTY, 0);
+    return RulesSnapshot.of(data).neutralCharge.getAsInt();
   }
 
   public static int getFactoriesPerCountry(final GameData data) {
-    return data.getProperties().get(FACTORIES_PER_COUNTRY_PROPERTY, 1);
+    return RulesSnapshot.of(data).factoriesPerCountry.getAsInt();
   }
 
   public static boolean getTwoHitBattleships(final GameData data) {
-    return data.getProperties().get(TWO_HIT_BATTLESHIP_PROPERTY, false);
+    return RulesSnapshot.of(data).twoHitBattleships.getAsBoolean();
   }
 
   public static boolean getWW2V2(final GameData data) {
-    return data.getProperties().get(WW2V2, false);
+    return RulesSnapshot.of(data).ww2V2.getAsBoolean();
   }
 
   public static boolean getPartialAmphibiousRetreat(final GameData data) {
-    return data.getProperties().get(PARTIAL_AMPHIBIOUS_RETREAT, false);
+    return RulesSnapshot.of(data).partialAmphibiousRetreat.getAsBoolean();
   }
 
   public static boolean getTotalVictory(final GameData data) {
-    return data.getProperties().get(TOTAL_VICTORY, false);
+    return RulesSnapshot.of(data).totalVictory.getAsBoolean();
   }
 
   public static boolean getHonorableSurrender(final GameData data) {
-    return data.getProperties().get(HONORABLE_SURRENDER, false);
+    return RulesSnapshot.of(data).honorableSurrender.getAsBoolean();
   }
 
   public static boolean getProjectionOfPower(final GameData data) {
-    return data.getProperties().get(PROJECTION_OF_POWER, false);
+    return RulesSnapshot.of(data).projectionOfPower.getAsBoolean();
   }
 
   public static boolean getAllRocketsAttack(final GameData data) {
-    return data.getProperties().get(ALL_ROCKETS_ATTACK, false);
+    return RulesSnapshot.of(data).allRocketsAttack.getAsBoolean();
   }
 
   public static boolean getNeutralsImpassable(final GameData data) {
-    return data.getProperties().get(NEUTRALS_ARE_IMPASSABLE, false);
+    return RulesSnapshot.of(data).neutralsImpassable.getAsBoolean();
   }
 
   public static boolean getNeutralsBlitzable(final GameData data) {
-    return data.getProperties().get(NEUTRALS_ARE_BLITZABLE, false);
+    return RulesSnapshot.of(data).neutralsBlitzable.getAsBoolean();
   }
 
   public static boolean getRocketsCanFlyOverImpassables(final GameData data) {
-    return data.getProperties().get(ROCKETS_CAN_FLY_OVER_IMPASSABLES, false);
+    return RulesSnapshot.of(data).rocketsCanFlyOverImpassables.getAsBoolean();
   }
 
   /*
    * Pacific Theater
    */
   public static boolean getPacificTheater(final GameData data) {
-    return data.getProperties().get(PACIFIC_THEATER, false);
+    return RulesSnapshot.of(data).pacificTheater.getAsBoolean();
   }
 
   /*
    * World War 2 Version 3
    */
   public static boolean getWW2V3(final GameData data) {
-    return data.getProperties().get(WW2V3, false);
+    return RulesSnapshot.of(data).ww2V3.getAsBoolean();
   }
 
   /*
    * Economic Victory Condition
    */
   public static boolean getEconomicVictory(final GameData data) {
-    return data.getProperties().get(ECONOMIC_VICTORY, false);
+    return RulesSnapshot.of(data).economicVictory.getAsBoolean();
   }
 
   /*
    * Triggered Victory Condition
    */
   public static boolean getTriggeredVictory(final GameData data) {
-    return data.getProperties().get(TRIGGERED_VICTORY, false);
+    return RulesSnapshot.of(data).triggeredVictory.getAsBoolean();
   }
 
   /*
    * Restrict the number of units that can be placed at a factory.
    */
   public static boolean getPlacementRestrictedByFactory(final GameData data) {
-    return data.getProperties().get(PLACEMENT_RESTRICTED_BY_FACTORY, false);
+    return RulesSnapshot.of(data).placementRestrictedByFactory.getAsBoolean();
   }
 
   /*
    * Can the player select the type of technology they are rolling for
    */
   public static boolean getSelectableTechRoll(final GameData data) {
-    return data.getProperties().get(SELECTABLE_TECH_ROLL, false);
+    return RulesSnapshot.of(data).selectableTechRoll.getAsBoolean();
   }
 
   /*
    * Can the player select the type of technology they are rolling for
    */
   public static boolean getWW2V3TechModel(final GameData data) {
-    return data.getProperties().get(WW2V3_TECH_MODEL, false);
+    return RulesSnapshot.of(data).ww2V3TechModel.getAsBoolean();
   }
 
   /*
    * Use Advanced Technology
    */
   public static boolean getTechDevelopment(final GameData data) {
-    return data.getProperties().get(TECH_DEVELOPMENT, false);
+    return RulesSnapshot.of(data).techDevelopment.getAsBoolean();
   }
 
   /*
@@ -124,21 +124,21 @@ public final class Properties implements Constants {
    * turn
    */
   public static boolean getTransportUnloadRestricted(final GameData data) {
-    return data.getProperties().get(TRANSPORT_UNLOAD_RESTRICTED, false);
+    return RulesSnapshot.of(data).transportUnloadRestricted.getAsBoolean();
   }
 
   /*
    * Are AA casualties chosen randomly
    */
   public static boolean getRandomAaCasualties(final GameData data) {
-    return data.getProperties().get(RANDOM_AA_CASUALTIES, false);
+    return RulesSnapshot.of(data).randomAaCasualties.getAsBoolean();
   }
 
   /*
    * Are AA casualties chosen randomly
    */
   public static boolean getRollAaIndividually(final GameData data) {
-    return data.getProperties().get(ROLL_AA_INDIVIDUALLY, false);
+    return RulesSnapshot.of(data).rollAaIndividually.getAsBoolean();
   }
 
   /*
@@ -146,7 +146,7 @@ public final class Properties implements Constants {
    * production of territory
    */
   public static boolean getLimitRocketAndSbrDamageToProduction(final GameData data) {
-    return data.getProperties().get(LIMIT_ROCKET_AND_SBR_DAMAGE_TO_PRODUCTION, false);
+    return RulesSnapshot.of(data).limitRocketAndSbrDamageToProduction.getAsBoolean();
   }
 
   /*
@@ -154,7 +154,7 @@ public final class Properties implements Constants {
    * production
    */
   public static boolean getLimitSbrDamagePerTurn(final GameData data) {
-    return data.getProperties().get(LIMIT_SBR_DAMAGE_PER_TURN, false);
+    return RulesSnapshot.of(data).limitSbrDamagePerTurn.getAsBoolean();
   }
 
   /**
@@ -162,7 +162,7 @@ public final class Properties implements Constants {
    * production.
    */
   public static boolean getLimitRocketDamagePerTurn(final GameData data) {
-    return data.getProperties().get(LIMIT_ROCKET_DAMAGE_PER_TURN, false);
+    return RulesSnapshot.of(data).limitRocketDamagePerTurn.getAsBoolean();
   }
 
   /**
@@ -170,354 +170,354 @@ public final class Properties implements Constants {
    * production.
    */
   public static boolean getPuCap(final GameData data) {
-    return data.getProperties().get(PU_CAP, false);
+    return RulesSnapshot.of(data).puCap.getAsBoolean();
   }
 
   /**
    * Reduce Victory Points by Strategic Bombing.
    */
   public static boolean getSbrVictoryPoints(final GameData data) {
-    return data.getProperties().get(SBR_VICTORY_POINTS, false);
+    return RulesSnapshot.of(data).sbrVictoryPoints.getAsBoolean();
   }
 
   /**
    * Allow x rocket attack(s) per defending factory.
    */
   public static boolean getRocketAttacksPerFactoryInfinite(final GameData data) {
-    return data.getProperties().get(ROCKET_ATTACKS_PER_FACTORY_INFINITE, false);
+    return RulesSnapshot.of(data).rocketAttacksPerFactoryInfinite.getAsBoolean();
   }
 
   /**
    * Are allied aircraft dependents of CVs.
    */
   public static boolean getAlliedAirIndependent(final GameData data) {
-    return data.getProperties().get(ALLIED_AIR_INDEPENDENT, false);
+    return RulesSnapshot.of(data).alliedAirIndependent.getAsBoolean();
   }
 
   /**
    * Defending subs sneak attack.
    */
   public static boolean getDefendingSubsSneakAttack(final GameData data) {
-    return data.getProperties().get(DEFENDING_SUBS_SNEAK_ATTACK, false);
+    return RulesSnapshot.of(data).defendingSubsSneakAttack.getAsBoolean();
   }
 
   /**
    * Attacker retreat planes from Amphib assault.
    */
   public static boolean getAttackerRetreatPlanes(final GameData data) {
-    return data.getProperties().get(ATTACKER_RETREAT_PLANES, false);
+    return RulesSnapshot.of(data).attackerRetreatPlanes.getAsBoolean();
   }
 
   /**
    * Can surviving air at sea move to land on friendly land/carriers.
    */
   public static boolean getSurvivingAirMoveToLand(final GameData data) {
-    return data.getProperties().get(SURVIVING_AIR_MOVE_TO_LAND, false);
+    return RulesSnapshot.of(data).survivingAirMoveToLand.getAsBoolean();
   }
 
   /**
    * Naval Bombard casualties restricted from return fire.
    */
   public static boolean getNavalBombardCasualtiesReturnFireRestricted(final GameData data) {
-    return data.getProperties().get(NAVAL_BOMBARD_CASUALTIES_RETURN_FIRE_RESTRICTED, false);
+    return RulesSnapshot.of(data).navalBombardCasualtiesReturnFireRestricted.getAsBoolean();
   }
 
   /**
    * Restricted from blitz through territories with factories/AA.
    */
   public static boolean getBlitzThroughFactoriesAndAaRestricted(final GameData data) {
-    return data.getProperties().get(BLITZ_THROUGH_FACTORIES_AND_AA_RESTRICTED, false);
+    return RulesSnapshot.of(data).blitzThroughFactoriesAndAaRestricted.getAsBoolean();
   }
 
   /**
    * Can place new units in occupied sea zones.
    */
   public static boolean getUnitPlacementInEnemySeas(final GameData data) {
-    return data.getProperties().get(UNIT_PLACEMENT_IN_ENEMY_SEAS, false);
+    return RulesSnapshot.of(data).unitPlacementInEnemySeas.getAsBoolean();
   }
 
   /**
    * Subs restricted from controlling sea zones.
    */
   public static boolean getSubControlSeaZoneRestricted(final GameData data) {
-    return data.getProperties().get(SUB_CONTROL_SEA_ZONE_RESTRICTED, false);
+    return RulesSnapshot.of(data).subControlSeaZoneRestricted.getAsBoolean();
   }
 
   /*
    * Can Transports control sea zones
    */
   public static boolean getTransportControlSeaZone(final GameData data) {
-    return data.getProperties().get(TRANSPORT_CONTROL_SEA_ZONE, false);
+    return RulesSnapshot.of(data).transportControlSeaZone.getAsBoolean();
   }
 
   /**
    * Production restricted to 1 unit per X owned territories.
    */
   public static boolean getProductionPerXTerritoriesRestricted(final GameData data) {
-    return data.getProperties().get(PRODUCTION_PER_X_TERRITORIES_RESTRICTED, false);
+    return RulesSnapshot.of(data).productionPerXTerritoriesRestricted.getAsBoolean();
   }
 
   /**
    * Production restricted to 1 unit per owned territory with an PU value.
    */
   public static boolean getProductionPerValuedTerritoryRestricted(final GameData data) {
-    return data.getProperties().get(PRODUCTION_PER_VALUED_TERRITORY_RESTRICTED, false);
+    return RulesSnapshot.of(data).productionPerValuedTerritoryRestricted.getAsBoolean();
   }
 
   /**
    * Can units be placed in any owned territory.
    */
   public static boolean getPlaceInAnyTerritory(final GameData data) {
-    return data.getProperties().get(PLACE_IN_ANY_TERRITORY, false);
+    return RulesSnapshot.of(data).placeInAnyTerritory.getAsBoolean();
   }
 
   /**
    * Limit the number of units that can be in a territory.
    */
   public static boolean getUnitPlacementPerTerritoryRestricted(final GameData data) {
-    return data.getProperties().get(UNIT_PLACEMENT_PER_TERRITORY_RESTRICTED, false);
+    return RulesSnapshot.of(data).unitPlacementPerTerritoryRestricted.getAsBoolean();
   }
 
   /**
    * Movement restricted for territories.
    */
   public static boolean getMovementByTerritoryRestricted(final GameData data) {
-    return data.getProperties().get(MOVEMENT_BY_TERRITORY_RESTRICTED, false);
+    return RulesSnapshot.of(data).movementByTerritoryRestricted.getAsBoolean();
   }
 
   /**
    * Transports restricted from being taken as casualties.
    */
   public static boolean getTransportCasualtiesRestricted(final GameData data) {
-    return data.getProperties().get(TRANSPORT_CASUALTIES_RESTRICTED, false);
+    return RulesSnapshot.of(data).transportCasualtiesRestricted.getAsBoolean();
   }
 
   /**
    * Transports do not restrict movement of other units.
    */
   public static boolean getIgnoreTransportInMovement(final GameData data) {
-    return data.getProperties().get(IGNORE_TRANSPORT_IN_MOVEMENT, false);
+    return RulesSnapshot.of(data).ignoreTransportInMovement.getAsBoolean();
   }
 
   /**
    * Subs do not restrict movement of other units.
    */
   public static boolean getIgnoreSubInMovement(final GameData data) {
-    return data.getProperties().get(IGNORE_SUB_IN_MOVEMENT, false);
+    return RulesSnapshot.of(data).ignoreSubInMovement.getAsBoolean();
   }
 
   public static boolean getUnplacedUnitsLive(final GameData data) {
-    return data.getProperties().get(UNPLACED_UNITS_LIVE, false);
+    return RulesSnapshot.of(data).unplacedUnitsLive.getAsBoolean();
   }
 
   /**
    * Air restricted from attacking subs unless DD present.
    */
   public static boolean getAirAttackSubRestricted(final GameData data) {
-    return data.getProperties().get(AIR_ATTACK_SUB_RESTRICTED, false);
+    return RulesSnapshot.of(data).airAttackSubRestricted.getAsBoolean();
   }
 
   /**
    * Allows units with zero movement to be selected to be moved.
    */
   public static boolean getSelectableZeroMovementUnits(final GameData data) {
-    return data.getProperties().get(SELECTABLE_ZERO_MOVEMENT_UNITS, false);
+    return RulesSnapshot.of(data).selectableZeroMovementUnits.getAsBoolean();
   }
 
   /**
    * Allows paratroopers to move ground units to friendly territories during non-combat move phase.
    */
   public static boolean getParatroopersCanMoveDuringNonCombat(final GameData data) {
-    return data.getProperties().get(PARATROOPERS_CAN_MOVE_DURING_NON_COMBAT, false);
+    return RulesSnapshot.of(data).paratroopersCanMoveDuringNonCombat.getAsBoolean();
   }
 
   public static boolean getSubRetreatBeforeBattle(final GameData data) {
-    return data.getProperties().get(SUB_RETREAT_BEFORE_BATTLE, false);
+    return RulesSnapshot.of(data).subRetreatBeforeBattle.getAsBoolean();
   }
 
   /**
    * Shore Bombard per Ground Unit Restricted.
    */
   public static boolean getShoreBombardPerGroundUnitRestricted(final GameData data) {
-    return data.getProperties().get(SHORE_BOMBARD_PER_GROUND_UNIT_RESTRICTED, false);
+    return RulesSnapshot.of(data).shoreBombardPerGroundUnitRestricted.getAsBoolean();
   }
 
   /**
    * AA restricted to Attacked Territory Only.
    */
   public static boolean getAaTerritoryRestricted(final GameData data) {
-    return data.getProperties().get(AA_TERRITORY_RESTRICTED, false);
+    return RulesSnapshot.of(data).aaTerritoryRestricted.getAsBoolean();
   }
 
   public static boolean getMultipleAaPerTerritory(final GameData data) {
-    return data.getProperties().get(MULTIPLE_AA_PER_TERRITORY, false);
+    return RulesSnapshot.of(data).multipleAaPerTerritory.getAsBoolean();
   }
 
   public static boolean getNationalObjectives(final GameData data) {
-    return data.getProperties().get(NATIONAL_OBJECTIVES, false);
+    return RulesSnapshot.of(data).nationalObjectives.getAsBoolean();
   }
 
   public static boolean getTriggers(final GameData data) {
-    return data.getProperties().get(TRIGGERS, false);
+    return RulesSnapshot.of(data).triggers.getAsBoolean();
   }
 
   public static boolean getAlwaysOnAa(final GameData data) {
-    return data.getProperties().get(ALWAYS_ON_AA_PROPERTY, false);
+    return RulesSnapshot.of(data).alwaysOnAa.getAsBoolean();
   }
 
   public static boolean getLhtrCarrierProductionRules(final GameData data) {
-    return data.getProperties().get(LHTR_CARRIER_PRODUCTION_RULES, false);
+    return RulesSnapshot.of(data).lhtrCarrierProductionRules.getAsBoolean();
   }
 
   /**
    * Atomic units of the fighter/carrier production rules.
    */
   public static boolean getProduceFightersOnCarriers(final GameData data) {
-    return data.getProperties().get(CAN_PRODUCE_FIGHTERS_ON_CARRIERS, false);
+    return RulesSnapshot.of(data).produceFightersOnCarriers.getAsBoolean();
   }
 
   public static boolean getProduceNewFightersOnOldCarriers(final GameData data) {
-    return data.getProperties().get(PRODUCE_NEW_FIGHTERS_ON_OLD_CARRIERS, false);
+    return RulesSnapshot.of(data).produceNewFightersOnOldCarriers.getAsBoolean();
   }
 
   public static boolean getMoveExistingFightersToNewCarriers(final GameData data) {
-    return data.getProperties().get(MOVE_EXISTING_FIGHTERS_TO_NEW_CARRIERS, false);
+    return RulesSnapshot.of(data).moveExistingFightersToNewCarriers.getAsBoolean();
   }
 
   public static boolean getLandExistingFightersOnNewCarriers(final GameData data) {
-    return data.getProperties().get(LAND_EXISTING_FIGHTERS_ON_NEW_CARRIERS, false);
+    return RulesSnapshot.of(data).landExistingFightersOnNewCarriers.getAsBoolean();
   }
 
   public static int getHeavyBomberDiceRolls(final GameData data) {
-    return data.getProperties().get(HEAVY_BOMBER_DICE_ROLLS, 2);
+    return RulesSnapshot.of(data).heavyBomberDiceRolls.getAsInt();
   }
 
   public static boolean getBattleshipsRepairAtEndOfRound(final GameData data) {
-    return data.getProperties().get(TWO_HIT_BATTLESHIPS_REPAIR_END_OF_TURN, false);
+    return RulesSnapshot.of(data).battleshipsRepairAtEndOfRound.getAsBoolean();
   }
 
   public static boolean getBattleshipsRepairAtBeginningOfRound(final GameData data) {
-    return data.getProperties().get(TWO_HIT_BATTLESHIPS_REPAIR_BEGINNING_OF_TURN, false);
+    return RulesSnapshot.of(data).battleshipsRepairAtBeginningOfRound.getAsBoolean();
   }
 
   public static boolean getTwoHitPointUnitsRequireRepairFacilities(final GameData data) {
-    return data.getProperties().get(TWO_HITPOINT_UNITS_REQUIRE_REPAIR_FACILITIES, false);
+    return RulesSnapshot.of(data).twoHitPointUnitsRequireRepairFacilities.getAsBoolean();
   }
 
   public static boolean getChooseAaCasualties(final GameData data) {
-    return data.getProperties().get(CHOOSE_AA, false);
+    return RulesSnapshot.of(data).chooseAaCasualties.getAsBoolean();
   }
 
   public static boolean getSubmersibleSubs(final GameData data) {
-    return data.getProperties().get(SUBMERSIBLE_SUBS, false);
+    return RulesSnapshot.of(data).submersibleSubs.getAsBoolean();
   }
 
   public static boolean getUseDestroyersAndArtillery(final GameData data) {
-    return data.getProperties().get(USE_DESTROYERS_AND_ARTILLERY, false);
+    return RulesSnapshot.of(data).useDestroyersAndArtillery.getAsBoolean();
   }
 
   public static boolean getUseShipyards(final GameData data) {
-    return data.getProperties().get(USE_SHIPYARDS, false);
+    return RulesSnapshot.of(data).useShipyards.getAsBoolean();
   }
 
   public static boolean getLowLuck(final GameData data) {
-    return data.getProperties().get(LOW_LUCK, false);
+    return RulesSnapshot.of(data).lowLuck.getAsBoolean();
   }
 
   public static boolean getLowLuckAaOnly(final GameData data) {
-    return data.getProperties().get(LL_AA_ONLY, false);
+    return RulesSnapshot.of(data).lowLuckAaOnly.getAsBoolean();
   }
 
   public static boolean getLowLuckTechOnly(final GameData data) {
-    return data.getProperties().get(LL_TECH_ONLY, false);
+    return RulesSnapshot.of(data).lowLuckTechOnly.getAsBoolean();
   }
 
   public static boolean getLowLuckDamageOnly(final GameData data) {
-    return data.getProperties().get(LL_DAMAGE_ONLY, false);
+    return RulesSnapshot.of(data).lowLuckDamageOnly.getAsBoolean();
   }
 
   public static boolean getKamikazeAirplanes(final GameData data) {
-    return data.getProperties().get(KAMIKAZE, false);
+    return RulesSnapshot.of(data).kamikazeAirplanes.getAsBoolean();
   }
 
   public static boolean getLhtrHeavyBombers(final GameData data) {
-    return data.getProperties().get(LHTR_HEAVY_BOMBERS, false);
+    return RulesSnapshot.of(data).lhtrHeavyBombers.getAsBoolean();
   }
 
   public static int getSuperSubDefenseBonus(final GameData data) {
-    return data.getProperties().get(SUPER_SUB_DEFENSE_BONUS, 0);
+    return RulesSnapshot.of(data).superSubDefenseBonus.getAsInt();
   }
 
   public static boolean getScrambleRulesInEffect(final GameData data) {
-    return data.getProperties().get(SCRAMBLE_RULES_IN_EFFECT, false);
+    return RulesSnapshot.of(data).scrambleRulesInEffect.getAsBoolean();
   }
 
   public static boolean getScrambledUnitsReturnToBase(final GameData data) {
-    return data.getProperties().get(SCRAMBLED_UNITS_RETURN_TO_BASE, false);
+    return RulesSnapshot.of(data).scrambledUnitsReturnToBase.getAsBoolean();
   }
 
   public static boolean getScrambleToSeaOnly(final GameData data) {
-    return data.getProperties().get(SCRAMBLE_TO_SEA_ONLY, false);
+    return RulesSnapshot.of(data).scrambleToSeaOnly.getAsBoolean();
   }
 
   public static boolean getScrambleFromIslandOnly(final GameData data) {
-    return data.getProperties().get(SCRAMBLE_FROM_ISLAND_ONLY, false);
+    return RulesSnapshot.of(data).scrambleFromIslandOnly.getAsBoolean();
   }
 
   public static boolean getScrambleToAnyAmphibiousAssault(final GameData data) {
-    return data.getProperties().get(SCRAMBLE_TO_ANY_AMPHIBIOUS_ASSAULT, false);
+    return RulesSnapshot.of(data).scrambleToAnyAmphibiousAssault.getAsBoolean();
   }
 
   public static int getPuMultiplier(final GameData data) {
-    return data.getProperties().get(PU_MULTIPLIER, 1);
+    return RulesSnapshot.of(data).puMultiplier.getAsInt();
   }
 
   public static boolean getUnlimitedConstructions(final GameData data) {
-    return data.getProperties().get(UNLIMITED_CONSTRUCTIONS, false);
+    return RulesSnapshot.of(data).unlimitedConstructions.getAsBoolean();
   }
 
   public static boolean getMoreConstructionsWithoutFactory(final GameData data) {
-    return data.getProperties().get(MORE_CONSTRUCTIONS_WITHOUT_FACTORY, false);
+    return RulesSnapshot.of(data).moreConstructionsWithoutFactory.getAsBoolean();
   }
 
   public static boolean getMoreConstructionsWithFactory(final GameData data) {
-    return data.getProperties().get(MORE_CONSTRUCTIONS_WITH_FACTORY, false);
+    return RulesSnapshot.of(data).moreConstructionsWithFactory.getAsBoolean();
   }
 
   public static boolean getUnitPlacementRestrictions(final GameData data) {
-    return data.getProperties().get(UNIT_PLACEMENT_RESTRICTIONS, false);
+    return RulesSnapshot.of(data).unitPlacementRestrictions.getAsBoolean();
   }
 
   public static boolean getGiveUnitsByTerritory(final GameData data) {
-    return data.getProperties().get(GIVE_UNITS_BY_TERRITORY, false);
+    return RulesSnapshot.of(data).giveUnitsByTerritory.getAsBoolean();
   }
 
   public static boolean getUnitsCanBeDestroyedInsteadOfCaptured(final GameData data) {
-    return data.getProperties().get(UNITS_CAN_BE_DESTROYED_INSTEAD_OF_CAPTURED, false);
+    return RulesSnapshot.of(data).unitsCanBeDestroyedInsteadOfCaptured.getAsBoolean();
   }
 
   public static boolean getSuicideAndMunitionCasualtiesRestricted(final GameData data) {
-    return data.getProperties().get(SUICIDE_AND_MUNITION_CASUALTIES_RESTRICTED, false);
+    return RulesSnapshot.of(data).suicideAndMunitionCasualtiesRestricted.getAsBoolean();
   }
 
   public static boolean getDefendingSuicideAndMunitionUnitsDoNotFire(final GameData data) {
-    return data.getProperties().get(DEFENDING_SUICIDE_AND_MUNITION_UNITS_DO_NOT_FIRE, false);
+    return RulesSnapshot.of(data).defendingSuicideAndMunitionUnitsDoNotFire.getAsBoolean();
   }
 
   public static boolean getNavalUnitsMayNotNonCombatMoveIntoControlledSeaZones(final GameData data) {
-    return data.getProperties().get(NAVAL_UNITS_MAY_NOT_NONCOMBAT_MOVE_INTO_CONTROLLED_SEA_ZONES, false);
+    return RulesSnapshot.of(data).navalUnitsMayNotNonCombatMoveIntoControlledSeaZones.getAsBoolean();
   }
 
   public static boolean getUnitsMayGiveBonusMovement(final GameData data) {
-    return data.getProperties().get(UNITS_MAY_GIVE_BONUS_MOVEMENT, false);
+    return RulesSnapshot.of(data).unitsMayGiveBonusMovement.getAsBoolean();
   }
 
   public static boolean getCaptureUnitsOnEnteringTerritory(final GameData data) {
-    return data.getProperties().get(CAPTURE_UNITS_ON_ENTERING_TERRITORY, false);
+    return RulesSnapshot.of(data).captureUnitsOnEnteringTerritory.getAsBoolean();
   }
 
   public static boolean getOnEnteringUnitsDestroyedInsteadOfCaptured(final GameData data) {
-    return data.getProperties().get(DESTROY_UNITS_ON_ENTERING_TERRITORY, false);
+    return RulesSnapshot.of(data).onEnteringUnitsDestroyedInsteadOfCaptured.getAsBoolean();
   }
 
   public static boolean getDamageFromBombingDoneToUnitsInsteadOfTerritories(final GameData data) {
@@ -526,15 +526,15 @@ public final class Properties implements Constants {
   }
 
   public static boolean getNeutralFlyoverAllowed(final GameData data) {
-    return data.getProperties().get(NEUTRAL_FLYOVER_ALLOWED, false);
+    return RulesSnapshot.of(data).neutralFlyoverAllowed.getAsBoolean();
   }
 
   public static boolean getUnitsCanBeChangedOnCapture(final GameData data) {
-    return data.getProperties().get(UNITS_CAN_BE_CHANGED_ON_CAPTURE, false);
+    return RulesSnapshot.of(data).unitsCanBeChangedOnCapture.getAsBoolean();
   }
 
   public static boolean getUsePolitics(final GameData data) {
-    return data.getProperties().get(USE_POLITICS, false);
+    return RulesSnapshot.of(data).usePolitics.getAsBoolean();
   }
 
   public static int getIncomePercentage(final PlayerID playerId, final GameData data) {
@@ -546,132 +546,132 @@ public final class Properties implements Constants {
   }
 
   public static int getRelationshipsLastExtraRounds(final GameData data) {
-    return data.getProperties().get(RELATIONSHIPS_LAST_EXTRA_ROUNDS, 0);
+    return RulesSnapshot.of(data).relationshipsLastExtraRounds.getAsInt();
   }
 
   public static boolean getAlliancesCanChainTogether(final GameData data) {
-    return data.getProperties().get(ALLIANCES_CAN_CHAIN_TOGETHER, false);
+    return RulesSnapshot.of(data).alliancesCanChainTogether.getAsBoolean();
   }
 
   public static boolean getRaidsMayBePreceededByAirBattles(final GameData data) {
-    return data.getProperties().get(RAIDS_MAY_BE_PRECEEDED_BY_AIR_BATTLES, false);
+    return RulesSnapshot.of(data).raidsMayBePreceededByAirBattles.getAsBoolean();
   }
 
   public static boolean getBattlesMayBePreceededByAirBattles(final GameData data) {
-    return data.getProperties().get(BATTLES_MAY_BE_PRECEEDED_BY_AIR_BATTLES, false);
+    return RulesSnapshot.of(data).battlesMayBePreceededByAirBattles.getAsBoolean();
   }
 
   public static boolean getUseKamikazeSuicideAttacks(final GameData data) {
-    return data.getProperties().get(USE_KAMIKAZE_SUICIDE_ATTACKS, false);
+    return RulesSnapshot.of(data).useKamikazeSuicideAttacks.getAsBoolean();
   }
 
   public static boolean getKamikazeSuicideAttacksDoneByCurrentTerritoryOwner(final GameData data) {
-    return data.getProperties().get(KAMIKAZE_SUICIDE_ATTACKS_DONE_BY_CURRENT_TERRITORY_OWNER, false);
+    return RulesSnapshot.of(data).kamikazeSuicideAttacksDoneByCurrentTerritoryOwner.getAsBoolean();
   }
 
   public static boolean getForceAaAttacksForLastStepOfFlyOver(final GameData data) {
-    return data.getProperties().get(FORCE_AA_ATTACKS_FOR_LAST_STEP_OF_FLY_OVER, false);
+    return RulesSnapshot.of(data).forceAaAttacksForLastStepOfFlyOver.getAsBoolean();
   }
 
   public static boolean getParatroopersCanAttackDeepIntoEnemyTerritory(final GameData data) {
-    return data.getProperties().get(PARATROOPERS_CAN_ATTACK_DEEP_INTO_ENEMY_TERRITORY, false);
+    return RulesSnapshot.of(data).paratroopersCanAttackDeepIntoEnemyTerritory.getAsBoolean();
   }
 
   public static boolean getUseBombingMaxDiceSidesAndBonus(final GameData data) {
-    return data.getProperties().get(USE_BOMBING_MAX_DICE_SIDES_AND_BONUS, false);
+    return RulesSnapshot.of(data).useBombingMaxDiceSidesAndBonus.getAsBoolean();
   }
 
   public static boolean getConvoyBlockadesRollDiceForCost(final GameData data) {
-    return data.getProperties().get(CONVOY_BLOCKADES_ROLL_DICE_FOR_COST, false);
+    return RulesSnapshot.of(data).convoyBlockadesRollDiceForCost.getAsBoolean();
   }
 
   public static boolean getAirborneAttacksOnlyInExistingBattles(final GameData data) {
-    return data.getProperties().get(AIRBORNE_ATTACKS_ONLY_IN_EXISTING_BATTLES, false);
+    return RulesSnapshot.of(data).airborneAttacksOnlyInExistingBattles.getAsBoolean();
   }
 
   public static boolean getAirborneAttacksOnlyInEnemyTerritories(final GameData data) {
-    return data.getProperties().get(AIRBORNE_ATTACKS_ONLY_IN_ENEMY_TERRITORIES, false);
+    return RulesSnapshot.of(data).airborneAttacksOnlyInEnemyTerritories.getAsBoolean();
   }
 
   public static boolean getSubsCanEndNonCombatMoveWithEnemies(final GameData data) {
-    return data.getProperties().get(SUBS_CAN_END_NONCOMBAT_MOVE_WITH_ENEMIES, false);
+    return RulesSnapshot.of(data).subsCanEndNonCombatMoveWithEnemies.getAsBoolean();
   }
 
   public static boolean getRemoveAllTechTokensAtEndOfTurn(final GameData data) {
-    return data.getProperties().get(REMOVE_ALL_TECH_TOKENS_AT_END_OF_TURN, false);
+    return RulesSnapshot.of(data).removeAllTechTokensAtEndOfTurn.getAsBoolean();
   }
 
   public static boolean getKamikazeSuicideAttacksOnlyWhereBattlesAre(final GameData data) {
-    return data.getProperties().get(KAMIKAZE_SUICIDE_ATTACKS_ONLY_WHERE_BATTLES_ARE, false);
+    return RulesSnapshot.of(data).kamikazeSuicideAttacksOnlyWhereBattlesAre.getAsBoolean();
   }
 
   public static boolean getSubmarinesPreventUnescortedAmphibiousAssaults(final GameData data) {
-    return data.getProperties().get(SUBMARINES_PREVENT_UNESCORTED_AMPHIBIOUS_ASSAULTS, false);
+    return RulesSnapshot.of(data).submarinesPreventUnescortedAmphibiousAssaults.getAsBoolean();
   }
 
   public static boolean getSubmarinesDefendingMaySubmergeOrRetreat(final GameData data) {
-    return data.getProperties().get(SUBMARINES_DEFENDING_MAY_SUBMERGE_OR_RETREAT, false);
+    return RulesSnapshot.of(data).submarinesDefendingMaySubmergeOrRetreat.getAsBoolean();
   }
 
   public static int getAirBattleRounds(final GameData data) {
-    return data.getProperties().get(AIR_BATTLE_ROUNDS, 1);
+    return RulesSnapshot.of(data).airBattleRounds.getAsInt();
   }
 
   public static int getSeaBattleRounds(final GameData data) {
     // negative = infinite
-    return data.getProperties().get(SEA_BATTLE_ROUNDS, -1);
+    return RulesSnapshot.of(data).seaBattleRounds.getAsInt();
   }
 
   public static int getLandBattleRounds(final GameData data) {
     // negative = infinite
-    return data.getProperties().get(LAND_BATTLE_ROUNDS, -1);
+    return RulesSnapshot.of(data).landBattleRounds.getAsInt();
   }
 
   public static boolean getAirBattleAttackersCanRetreat(final GameData data) {
-    return data.getProperties().get(AIR_BATTLE_ATTACKERS_CAN_RETREAT, false);
+    return RulesSnapshot.of(data).airBattleAttackersCanRetreat.getAsBoolean();
   }
 
   public static boolean getAirBattleDefendersCanRetreat(final GameData data) {
-    return data.getProperties().get(AIR_BATTLE_DEFENDERS_CAN_RETREAT, false);
+    return RulesSnapshot.of(data).airBattleDefendersCanRetreat.getAsBoolean();
   }
 
   public static boolean getCanScrambleIntoAirBattles(final GameData data) {
-    return data.getProperties().get(CAN_SCRAMBLE_INTO_AIR_BATTLES, false);
+    return RulesSnapshot.of(data).canScrambleIntoAirBattles.getAsBoolean();
   }
 
   public static boolean getTerritoriesAreAssignedRandomly(final GameData data) {
-    return data.getProperties().get(TERRITORIES_ARE_ASSIGNED_RANDOMLY, false);
+    return RulesSnapshot.of(data).territoriesAreAssignedRandomly.getAsBoolean();
   }
 
   public static boolean getUseFuelCost(final GameData data) {
-    return data.getProperties().get(USE_FUEL_COST, false);
+    return RulesSnapshot.of(data).useFuelCost.getAsBoolean();
   }
 
   public static boolean getRetreatingUnitsRemainInPlace(final GameData data) {
-    return data.getProperties().get(RETREATING_UNITS_REMAIN_IN_PLACE, false);
+    return RulesSnapshot.of(data).retreatingUnitsRemainInPlace.getAsBoolean();
   }
 
   public static boolean getContestedTerritoriesProduceNoIncome(final GameData data) {
-    return data.getProperties().get(CONTESTED_TERRITORIES_PRODUCE_NO_INCOME, false);
+    return RulesSnapshot.of(data).contestedTerritoriesProduceNoIncome.getAsBoolean();
   }
 
   public static boolean getSeaBattlesMayBeIgnored(final GameData data) {
-    return data.getProperties().get(SEA_BATTLES_MAY_BE_IGNORED, false);
+    return RulesSnapshot.of(data).seaBattlesMayBeIgnored.getAsBoolean();
   }
 
   public static boolean getAbandonedTerritoriesMayBeTakenOverImmediately(final GameData data) {
-    return data.getProperties().get(ABANDONED_TERRITORIES_MAY_BE_TAKEN_OVER_IMMEDIATELY, false);
+    return RulesSnapshot.of(data).abandonedTerritoriesMayBeTakenOverImmediately.getAsBoolean();
   }
 
   public static boolean getDisabledPlayersAssetsDeleted(final GameData data) {
-    return data.getProperties().get(DISABLED_PLAYERS_ASSETS_DELETED, false);
+    return RulesSnapshot.of(data).disabledPlayersAssetsDeleted.getAsBoolean();
   }
 
   public static boolean getControlAllCanalsBetweenTerritoriesToPass(final GameData data) {
-    return data.getProperties().get(CONTROL_ALL_CANALS_BETWEEN_TERRITORIES_TO_PASS, false);
+    return RulesSnapshot.of(data).controlAllCanalsBetweenTerritoriesToPass.getAsBoolean();
   }
 
   public static boolean getUnitsCanLoadInHostileSeaZones(final GameData data) {
-    return data.getProperties().get(UNITS_CAN_LOAD_IN_HOSTILE_SEA_ZONES, false);
+    return RulesSnapshot.of(data).unitsCanLoadInHostileSeaZones.getAsBoolean();
   }
 }
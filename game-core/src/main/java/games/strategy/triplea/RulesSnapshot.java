@@ -0,0 +1,306 @@
+package games.strategy.triplea;
+
+import java.util.function.BooleanSupplier;
+import java.util.function.IntSupplier;
+
+import javax.annotation.concurrent.Immutable;
+
+import games.strategy.engine.data.GameData;
+import games.strategy.engine.data.properties.GameProperties;
+
+/**
+ * The rules read by {@link Properties}, each resolved once to a typed reader of its property instead of being looked
+ * up by key on every call.
+ *
+ * <p>
+ * A snapshot is cached by the {@link GameProperties} of a game and rebuilt after a property is added, set or removed.
+ * Values of editable properties are read through the property itself, so changes made in the game setup are seen
+ * without rebuilding the snapshot.
+ * </p>
+ */
+@Immutable
+final class RulesSnapshot implements Constants {
+  final IntSupplier neutralCharge;
+  final IntSupplier factoriesPerCountry;
+  final BooleanSupplier twoHitBattleships;
+  final BooleanSupplier ww2V2;
+  final BooleanSupplier partialAmphibiousRetreat;
+  final BooleanSupplier totalVictory;
+  final BooleanSupplier honorableSurrender;
+  final BooleanSupplier projectionOfPower;
+  final BooleanSupplier allRocketsAttack;
+  final BooleanSupplier neutralsImpassable;
+  final BooleanSupplier neutralsBlitzable;
+  final BooleanSupplier rocketsCanFlyOverImpassables;
+  final BooleanSupplier pacificTheater;
+  final BooleanSupplier ww2V3;
+  final BooleanSupplier economicVictory;
+  final BooleanSupplier triggeredVictory;
+  final BooleanSupplier placementRestrictedByFactory;
+  final BooleanSupplier selectableTechRoll;
+  final BooleanSupplier ww2V3TechModel;
+  final BooleanSupplier techDevelopment;
+  final BooleanSupplier transportUnloadRestricted;
+  final BooleanSupplier randomAaCasualties;
+  final BooleanSupplier rollAaIndividually;
+  final BooleanSupplier limitRocketAndSbrDamageToProduction;
+  final BooleanSupplier limitSbrDamagePerTurn;
+  final BooleanSupplier limitRocketDamagePerTurn;
+  final BooleanSupplier puCap;
+  final BooleanSupplier sbrVictoryPoints;
+  final BooleanSupplier rocketAttacksPerFactoryInfinite;
+  final BooleanSupplier alliedAirIndependent;
+  final BooleanSupplier defendingSubsSneakAttack;
+  final BooleanSupplier attackerRetreatPlanes;
+  final BooleanSupplier survivingAirMoveToLand;
+  final BooleanSupplier navalBombardCasualtiesReturnFireRestricted;
+  final BooleanSupplier blitzThroughFactoriesAndAaRestricted;
+  final BooleanSupplier unitPlacementInEnemySeas;
+  final BooleanSupplier subControlSeaZoneRestricted;
+  final BooleanSupplier transportControlSeaZone;
+  final BooleanSupplier productionPerXTerritoriesRestricted;
+  final BooleanSupplier productionPerValuedTerritoryRestricted;
+  final BooleanSupplier placeInAnyTerritory;
+  final BooleanSupplier unitPlacementPerTerritoryRestricted;
+  final BooleanSupplier movementByTerritoryRestricted;
+  final BooleanSupplier transportCasualtiesRestricted;
+  final BooleanSupplier ignoreTransportInMovement;
+  final BooleanSupplier ignoreSubInMovement;
+  final BooleanSupplier unplacedUnitsLive;
+  final BooleanSupplier airAttackSubRestricted;
+  final BooleanSupplier selectableZeroMovementUnits;
+  final BooleanSupplier paratroopersCanMoveDuringNonCombat;
+  final BooleanSupplier subRetreatBeforeBattle;
+  final BooleanSupplier shoreBombardPerGroundUnitRestricted;
+  final BooleanSupplier aaTerritoryRestricted;
+  final BooleanSupplier multipleAaPerTerritory;
+  final BooleanSupplier nationalObjectives;
+  final BooleanSupplier triggers;
+  final BooleanSupplier alwaysOnAa;
+  final BooleanSupplier lhtrCarrierProductionRules;
+  final BooleanSupplier produceFightersOnCarriers;
+  final BooleanSupplier produceNewFightersOnOldCarriers;
+  final BooleanSupplier moveExistingFightersToNewCarriers;
+  final BooleanSupplier landExistingFightersOnNewCarriers;
+  final IntSupplier heavyBomberDiceRolls;
+  final BooleanSupplier battleshipsRepairAtEndOfRound;
+  final BooleanSupplier battleshipsRepairAtBeginningOfRound;
+  final BooleanSupplier twoHitPointUnitsRequireRepairFacilities;
+  final BooleanSupplier chooseAaCasualties;
+  final BooleanSupplier submersibleSubs;
+  final BooleanSupplier useDestroyersAndArtillery;
+  final BooleanSupplier useShipyards;
+  final BooleanSupplier lowLuck;
+  final BooleanSupplier lowLuckAaOnly;
+  final BooleanSupplier lowLuckTechOnly;
+  final BooleanSupplier lowLuckDamageOnly;
+  final BooleanSupplier kamikazeAirplanes;
+  final BooleanSupplier lhtrHeavyBombers;
+  final IntSupplier superSubDefenseBonus;
+  final BooleanSupplier scrambleRulesInEffect;
+  final BooleanSupplier scrambledUnitsReturnToBase;
+  final BooleanSupplier scrambleToSeaOnly;
+  final BooleanSupplier scrambleFromIslandOnly;
+  final BooleanSupplier scrambleToAnyAmphibiousAssault;
+  final IntSupplier puMultiplier;
+  final BooleanSupplier unlimitedConstructions;
+  final BooleanSupplier moreConstructionsWithoutFactory;
+  final BooleanSupplier moreConstructionsWithFactory;
+  final BooleanSupplier unitPlacementRestrictions;
+  final BooleanSupplier giveUnitsByTerritory;
+  final BooleanSupplier unitsCanBeDestroyedInsteadOfCaptured;
+  final BooleanSupplier suicideAndMunitionCasualtiesRestricted;
+  final BooleanSupplier defendingSuicideAndMunitionUnitsDoNotFire;
+  final BooleanSupplier navalUnitsMayNotNonCombatMoveIntoControlledSeaZones;
+  final BooleanSupplier unitsMayGiveBonusMovement;
+  final BooleanSupplier captureUnitsOnEnteringTerritory;
+  final BooleanSupplier onEnteringUnitsDestroyedInsteadOfCaptured;
+  final BooleanSupplier neutralFlyoverAllowed;
+  final BooleanSupplier unitsCanBeChangedOnCapture;
+  final BooleanSupplier usePolitics;
+  final IntSupplier relationshipsLastExtraRounds;
+  final BooleanSupplier alliancesCanChainTogether;
+  final BooleanSupplier raidsMayBePreceededByAirBattles;
+  final BooleanSupplier battlesMayBePreceededByAirBattles;
+  final BooleanSupplier useKamikazeSuicideAttacks;
+  final BooleanSupplier kamikazeSuicideAttacksDoneByCurrentTerritoryOwner;
+  final BooleanSupplier forceAaAttacksForLastStepOfFlyOver;
+  final BooleanSupplier paratroopersCanAttackDeepIntoEnemyTerritory;
+  final BooleanSupplier useBombingMaxDiceSidesAndBonus;
+  final BooleanSupplier convoyBlockadesRollDiceForCost;
+  final BooleanSupplier airborneAttacksOnlyInExistingBattles;
+  final BooleanSupplier airborneAttacksOnlyInEnemyTerritories;
+  final BooleanSupplier subsCanEndNonCombatMoveWithEnemies;
+  final BooleanSupplier removeAllTechTokensAtEndOfTurn;
+  final BooleanSupplier kamikazeSuicideAttacksOnlyWhereBattlesAre;
+  final BooleanSupplier submarinesPreventUnescortedAmphibiousAssaults;
+  final BooleanSupplier submarinesDefendingMaySubmergeOrRetreat;
+  final IntSupplier airBattleRounds;
+  final IntSupplier seaBattleRounds;
+  final IntSupplier landBattleRounds;
+  final BooleanSupplier airBattleAttackersCanRetreat;
+  final BooleanSupplier airBattleDefendersCanRetreat;
+  final BooleanSupplier canScrambleIntoAirBattles;
+  final BooleanSupplier territoriesAreAssignedRandomly;
+  final BooleanSupplier useFuelCost;
+  final BooleanSupplier retreatingUnitsRemainInPlace;
+  final BooleanSupplier contestedTerritoriesProduceNoIncome;
+  final BooleanSupplier seaBattlesMayBeIgnored;
+  final BooleanSupplier abandonedTerritoriesMayBeTakenOverImmediately;
+  final BooleanSupplier disabledPlayersAssetsDeleted;
+  final BooleanSupplier controlAllCanalsBetweenTerritoriesToPass;
+  final BooleanSupplier unitsCanLoadInHostileSeaZones;
+  private RulesSnapshot(final GameProperties properties) {
+    neutralCharge = properties.newIntReader(NEUTRAL_CHARGE_PROPERTY, 0);
+    factoriesPerCountry = properties.newIntReader(FACTORIES_PER_COUNTRY_PROPERTY, 1);
+    twoHitBattleships = properties.newBooleanReader(TWO_HIT_BATTLESHIP_PROPERTY, false);
+    ww2V2 = properties.newBooleanReader(WW2V2, false);
+    partialAmphibiousRetreat = properties.newBooleanReader(PARTIAL_AMPHIBIOUS_RETREAT, false);
+    totalVictory = properties.newBooleanReader(TOTAL_VICTORY, false);
+    honorableSurrender = properties.newBooleanReader(HONORABLE_SURRENDER, false);
+    projectionOfPower = properties.newBooleanReader(PROJECTION_OF_POWER, false);
+    allRocketsAttack = properties.newBooleanReader(ALL_ROCKETS_ATTACK, false);
+    neutralsImpassable = properties.newBooleanReader(NEUTRALS_ARE_IMPASSABLE, false);
+    neutralsBlitzable = properties.newBooleanReader(NEUTRALS_ARE_BLITZABLE, false);
+    rocketsCanFlyOverImpassables = properties.newBooleanReader(ROCKETS_CAN_FLY_OVER_IMPASSABLES, false);
+    pacificTheater = properties.newBooleanReader(PACIFIC_THEATER, false);
+    ww2V3 = properties.newBooleanReader(WW2V3, false);
+    economicVictory = properties.newBooleanReader(ECONOMIC_VICTORY, false);
+    triggeredVictory = properties.newBooleanReader(TRIGGERED_VICTORY, false);
+    placementRestrictedByFactory = properties.newBooleanReader(PLACEMENT_RESTRICTED_BY_FACTORY, false);
+    selectableTechRoll = properties.newBooleanReader(SELECTABLE_TECH_ROLL, false);
+    ww2V3TechModel = properties.newBooleanReader(WW2V3_TECH_MODEL, false);
+    techDevelopment = properties.newBooleanReader(TECH_DEVELOPMENT, false);
+    transportUnloadRestricted = properties.newBooleanReader(TRANSPORT_UNLOAD_RESTRICTED, false);
+    randomAaCasualties = properties.newBooleanReader(RANDOM_AA_CASUALTIES, false);
+    rollAaIndividually = properties.newBooleanReader(ROLL_AA_INDIVIDUALLY, false);
+    limitRocketAndSbrDamageToProduction = properties.newBooleanReader(LIMIT_ROCKET_AND_SBR_DAMAGE_TO_PRODUCTION, false);
+    limitSbrDamagePerTurn = properties.newBooleanReader(LIMIT_SBR_DAMAGE_PER_TURN, false);
+    limitRocketDamagePerTurn = properties.newBooleanReader(LIMIT_ROCKET_DAMAGE_PER_TURN, false);
+    puCap = properties.newBooleanReader(PU_CAP, false);
+    sbrVictoryPoints = properties.newBooleanReader(SBR_VICTORY_POINTS, false);
+    rocketAttacksPerFactoryInfinite = properties.newBooleanReader(ROCKET_ATTACKS_PER_FACTORY_INFINITE, false);
+    alliedAirIndependent = properties.newBooleanReader(ALLIED_AIR_INDEPENDENT, false);
+    defendingSubsSneakAttack = properties.newBooleanReader(DEFENDING_SUBS_SNEAK_ATTACK, false);
+    attackerRetreatPlanes = properties.newBooleanReader(ATTACKER_RETREAT_PLANES, false);
+    survivingAirMoveToLand = properties.newBooleanReader(SURVIVING_AIR_MOVE_TO_LAND, false);
+    navalBombardCasualtiesReturnFireRestricted = properties.newBooleanReader(
+        NAVAL_BOMBARD_CASUALTIES_RETURN_FIRE_RESTRICTED, false);
+    blitzThroughFactoriesAndAaRestricted = properties.newBooleanReader(
+        BLITZ_THROUGH_FACTORIES_AND_AA_RESTRICTED, false);
+    unitPlacementInEnemySeas = properties.newBooleanReader(UNIT_PLACEMENT_IN_ENEMY_SEAS, false);
+    subControlSeaZoneRestricted = properties.newBooleanReader(SUB_CONTROL_SEA_ZONE_RESTRICTED, false);
+    transportControlSeaZone = properties.newBooleanReader(TRANSPORT_CONTROL_SEA_ZONE, false);
+    productionPerXTerritoriesRestricted = properties.newBooleanReader(PRODUCTION_PER_X_TERRITORIES_RESTRICTED, false);
+    productionPerValuedTerritoryRestricted = properties.newBooleanReader(
+        PRODUCTION_PER_VALUED_TERRITORY_RESTRICTED, false);
+    placeInAnyTerritory = properties.newBooleanReader(PLACE_IN_ANY_TERRITORY, false);
+    unitPlacementPerTerritoryRestricted = properties.newBooleanReader(UNIT_PLACEMENT_PER_TERRITORY_RESTRICTED, false);
+    movementByTerritoryRestricted = properties.newBooleanReader(MOVEMENT_BY_TERRITORY_RESTRICTED, false);
+    transportCasualtiesRestricted = properties.newBooleanReader(TRANSPORT_CASUALTIES_RESTRICTED, false);
+    ignoreTransportInMovement = properties.newBooleanReader(IGNORE_TRANSPORT_IN_MOVEMENT, false);
+    ignoreSubInMovement = properties.newBooleanReader(IGNORE_SUB_IN_MOVEMENT, false);
+    unplacedUnitsLive = properties.newBooleanReader(UNPLACED_UNITS_LIVE, false);
+    airAttackSubRestricted = properties.newBooleanReader(AIR_ATTACK_SUB_RESTRICTED, false);
+    selectableZeroMovementUnits = properties.newBooleanReader(SELECTABLE_ZERO_MOVEMENT_UNITS, false);
+    paratroopersCanMoveDuringNonCombat = properties.newBooleanReader(PARATROOPERS_CAN_MOVE_DURING_NON_COMBAT, false);
+    subRetreatBeforeBattle = properties.newBooleanReader(SUB_RETREAT_BEFORE_BATTLE, false);
+    shoreBombardPerGroundUnitRestricted = properties.newBooleanReader(SHORE_BOMBARD_PER_GROUND_UNIT_RESTRICTED, false);
+    aaTerritoryRestricted = properties.newBooleanReader(AA_TERRITORY_RESTRICTED, false);
+    multipleAaPerTerritory = properties.newBooleanReader(MULTIPLE_AA_PER_TERRITORY, false);
+    nationalObjectives = properties.newBooleanReader(NATIONAL_OBJECTIVES, false);
+    triggers = properties.newBooleanReader(TRIGGERS, false);
+    alwaysOnAa = properties.newBooleanReader(ALWAYS_ON_AA_PROPERTY, false);
+    lhtrCarrierProductionRules = properties.newBooleanReader(LHTR_CARRIER_PRODUCTION_RULES, false);
+    produceFightersOnCarriers = properties.newBooleanReader(CAN_PRODUCE_FIGHTERS_ON_CARRIERS, false);
+    produceNewFightersOnOldCarriers = properties.newBooleanReader(PRODUCE_NEW_FIGHTERS_ON_OLD_CARRIERS, false);
+    moveExistingFightersToNewCarriers = properties.newBooleanReader(MOVE_EXISTING_FIGHTERS_TO_NEW_CARRIERS, false);
+    landExistingFightersOnNewCarriers = properties.newBooleanReader(LAND_EXISTING_FIGHTERS_ON_NEW_CARRIERS, false);
+    heavyBomberDiceRolls = properties.newIntReader(HEAVY_BOMBER_DICE_ROLLS, 2);
+    battleshipsRepairAtEndOfRound = properties.newBooleanReader(TWO_HIT_BATTLESHIPS_REPAIR_END_OF_TURN, false);
+    battleshipsRepairAtBeginningOfRound = properties.newBooleanReader(
+        TWO_HIT_BATTLESHIPS_REPAIR_BEGINNING_OF_TURN, false);
+    twoHitPointUnitsRequireRepairFacilities = properties.newBooleanReader(
+        TWO_HITPOINT_UNITS_REQUIRE_REPAIR_FACILITIES, false);
+    chooseAaCasualties = properties.newBooleanReader(CHOOSE_AA, false);
+    submersibleSubs = properties.newBooleanReader(SUBMERSIBLE_SUBS, false);
+    useDestroyersAndArtillery = properties.newBooleanReader(USE_DESTROYERS_AND_ARTILLERY, false);
+    useShipyards = properties.newBooleanReader(USE_SHIPYARDS, false);
+    lowLuck = properties.newBooleanReader(LOW_LUCK, false);
+    lowLuckAaOnly = properties.newBooleanReader(LL_AA_ONLY, false);
+    lowLuckTechOnly = properties.newBooleanReader(LL_TECH_ONLY, false);
+    lowLuckDamageOnly = properties.newBooleanReader(LL_DAMAGE_ONLY, false);
+    kamikazeAirplanes = properties.newBooleanReader(KAMIKAZE, false);
+    lhtrHeavyBombers = properties.newBooleanReader(LHTR_HEAVY_BOMBERS, false);
+    superSubDefenseBonus = properties.newIntReader(SUPER_SUB_DEFENSE_BONUS, 0);
+    scrambleRulesInEffect = properties.newBooleanReader(SCRAMBLE_RULES_IN_EFFECT, false);
+    scrambledUnitsReturnToBase = properties.newBooleanReader(SCRAMBLED_UNITS_RETURN_TO_BASE, false);
+    scrambleToSeaOnly = properties.newBooleanReader(SCRAMBLE_TO_SEA_ONLY, false);
+    scrambleFromIslandOnly = properties.newBooleanReader(SCRAMBLE_FROM_ISLAND_ONLY, false);
+    scrambleToAnyAmphibiousAssault = properties.newBooleanReader(SCRAMBLE_TO_ANY_AMPHIBIOUS_ASSAULT, false);
+    puMultiplier = properties.newIntReader(PU_MULTIPLIER, 1);
+    unlimitedConstructions = properties.newBooleanReader(UNLIMITED_CONSTRUCTIONS, false);
+    moreConstructionsWithoutFactory = properties.newBooleanReader(MORE_CONSTRUCTIONS_WITHOUT_FACTORY, false);
+    moreConstructionsWithFactory = properties.newBooleanReader(MORE_CONSTRUCTIONS_WITH_FACTORY, false);
+    unitPlacementRestrictions = properties.newBooleanReader(UNIT_PLACEMENT_RESTRICTIONS, false);
+    giveUnitsByTerritory = properties.newBooleanReader(GIVE_UNITS_BY_TERRITORY, false);
+    unitsCanBeDestroyedInsteadOfCaptured = properties.newBooleanReader(
+        UNITS_CAN_BE_DESTROYED_INSTEAD_OF_CAPTURED, false);
+    suicideAndMunitionCasualtiesRestricted = properties.newBooleanReader(
+        SUICIDE_AND_MUNITION_CASUALTIES_RESTRICTED, false);
+    defendingSuicideAndMunitionUnitsDoNotFire = properties.newBooleanReader(
+        DEFENDING_SUICIDE_AND_MUNITION_UNITS_DO_NOT_FIRE, false);
+    navalUnitsMayNotNonCombatMoveIntoControlledSeaZones = properties.newBooleanReader(
+        NAVAL_UNITS_MAY_NOT_NONCOMBAT_MOVE_INTO_CONTROLLED_SEA_ZONES, false);
+    unitsMayGiveBonusMovement = properties.newBooleanReader(UNITS_MAY_GIVE_BONUS_MOVEMENT, false);
+    captureUnitsOnEnteringTerritory = properties.newBooleanReader(CAPTURE_UNITS_ON_ENTERING_TERRITORY, false);
+    onEnteringUnitsDestroyedInsteadOfCaptured = properties.newBooleanReader(DESTROY_UNITS_ON_ENTERING_TERRITORY, false);
+    neutralFlyoverAllowed = properties.newBooleanReader(NEUTRAL_FLYOVER_ALLOWED, false);
+    unitsCanBeChangedOnCapture = properties.newBooleanReader(UNITS_CAN_BE_CHANGED_ON_CAPTURE, false);
+    usePolitics = properties.newBooleanReader(USE_POLITICS, false);
+    relationshipsLastExtraRounds = properties.newIntReader(RELATIONSHIPS_LAST_EXTRA_ROUNDS, 0);
+    alliancesCanChainTogether = properties.newBooleanReader(ALLIANCES_CAN_CHAIN_TOGETHER, false);
+    raidsMayBePreceededByAirBattles = properties.newBooleanReader(RAIDS_MAY_BE_PRECEEDED_BY_AIR_BATTLES, false);
+    battlesMayBePreceededByAirBattles = properties.newBooleanReader(BATTLES_MAY_BE_PRECEEDED_BY_AIR_BATTLES, false);
+    useKamikazeSuicideAttacks = properties.newBooleanReader(USE_KAMIKAZE_SUICIDE_ATTACKS, false);
+    kamikazeSuicideAttacksDoneByCurrentTerritoryOwner = properties.newBooleanReader(
+        KAMIKAZE_SUICIDE_ATTACKS_DONE_BY_CURRENT_TERRITORY_OWNER, false);
+    forceAaAttacksForLastStepOfFlyOver = properties.newBooleanReader(FORCE_AA_ATTACKS_FOR_LAST_STEP_OF_FLY_OVER, false);
+    paratroopersCanAttackDeepIntoEnemyTerritory = properties.newBooleanReader(
+        PARATROOPERS_CAN_ATTACK_DEEP_INTO_ENEMY_TERRITORY, false);
+    useBombingMaxDiceSidesAndBonus = properties.newBooleanReader(USE_BOMBING_MAX_DICE_SIDES_AND_BONUS, false);
+    convoyBlockadesRollDiceForCost = properties.newBooleanReader(CONVOY_BLOCKADES_ROLL_DICE_FOR_COST, false);
+    airborneAttacksOnlyInExistingBattles = properties.newBooleanReader(
+        AIRBORNE_ATTACKS_ONLY_IN_EXISTING_BATTLES, false);
+    airborneAttacksOnlyInEnemyTerritories = properties.newBooleanReader(
+        AIRBORNE_ATTACKS_ONLY_IN_ENEMY_TERRITORIES, false);
+    subsCanEndNonCombatMoveWithEnemies = properties.newBooleanReader(SUBS_CAN_END_NONCOMBAT_MOVE_WITH_ENEMIES, false);
+    removeAllTechTokensAtEndOfTurn = properties.newBooleanReader(REMOVE_ALL_TECH_TOKENS_AT_END_OF_TURN, false);
+    kamikazeSuicideAttacksOnlyWhereBattlesAre = properties.newBooleanReader(
+        KAMIKAZE_SUICIDE_ATTACKS_ONLY_WHERE_BATTLES_ARE, false);
+    submarinesPreventUnescortedAmphibiousAssaults = properties.newBooleanReader(
+        SUBMARINES_PREVENT_UNESCORTED_AMPHIBIOUS_ASSAULTS, false);
+    submarinesDefendingMaySubmergeOrRetreat = properties.newBooleanReader(
+        SUBMARINES_DEFENDING_MAY_SUBMERGE_OR_RETREAT, false);
+    airBattleRounds = properties.newIntReader(AIR_BATTLE_ROUNDS, 1);
+    seaBattleRounds = properties.newIntReader(SEA_BATTLE_ROUNDS, -1);
+    landBattleRounds = properties.newIntReader(LAND_BATTLE_ROUNDS, -1);
+    airBattleAttackersCanRetreat = properties.newBooleanReader(AIR_BATTLE_ATTACKERS_CAN_RETREAT, false);
+    airBattleDefendersCanRetreat = properties.newBooleanReader(AIR_BATTLE_DEFENDERS_CAN_RETREAT, false);
+    canScrambleIntoAirBattles = properties.newBooleanReader(CAN_SCRAMBLE_INTO_AIR_BATTLES, false);
+    territoriesAreAssignedRandomly = properties.newBooleanReader(TERRITORIES_ARE_ASSIGNED_RANDOMLY, false);
+    useFuelCost = properties.newBooleanReader(USE_FUEL_COST, false);
+    retreatingUnitsRemainInPlace = properties.newBooleanReader(RETREATING_UNITS_REMAIN_IN_PLACE, false);
+    contestedTerritoriesProduceNoIncome = properties.newBooleanReader(CONTESTED_TERRITORIES_PRODUCE_NO_INCOME, false);
+    seaBattlesMayBeIgnored = properties.newBooleanReader(SEA_BATTLES_MAY_BE_IGNORED, false);
+    abandonedTerritoriesMayBeTakenOverImmediately = properties.newBooleanReader(
+        ABANDONED_TERRITORIES_MAY_BE_TAKEN_OVER_IMMEDIATELY, false);
+    disabledPlayersAssetsDeleted = properties.newBooleanReader(DISABLED_PLAYERS_ASSETS_DELETED, false);
+    controlAllCanalsBetweenTerritoriesToPass = properties.newBooleanReader(
+        CONTROL_ALL_CANALS_BETWEEN_TERRITORIES_TO_PASS, false);
+    unitsCanLoadInHostileSeaZones = properties.newBooleanReader(UNITS_CAN_LOAD_IN_HOSTILE_SEA_ZONES, false);  }
+
+  static RulesSnapshot of(final GameData data) {
+    return data.getProperties().getTypedView(RulesSnapshot.class, RulesSnapshot::new);
+  }
+}
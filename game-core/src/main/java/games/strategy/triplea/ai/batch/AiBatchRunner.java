@@ -0,0 +1,241 @@
+package games.strategy.triplea.ai.batch;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkNotNull;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import org.apache.commons.cli.CommandLine;
+import org.apache.commons.cli.DefaultParser;
+import org.apache.commons.cli.HelpFormatter;
+import org.apache.commons.cli.Option;
+import org.apache.commons.cli.Options;
+import org.apache.commons.cli.ParseException;
+
+import com.github.openjson.JSONObject;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+
+import games.strategy.engine.framework.ProcessRunnerUtil;
+
+/**
+ * Plays a batch of games of a map between AIs without a user interface and reports where each game spent its time and
+ * memory.
+ *
+ * <p>
+ * Each game is played in its own JVM, as the Pro AI keeps its state in static fields; several games are played at once
+ * if requested. The report lists, for every game, how it ended and the wall time, bytes allocated and odds calculator
+ * runs of each phase. It is written as CSV if its file name ends with {@code .csv} and as JSON otherwise. The output of
+ * each game is written to a log file in a temporary folder, which is printed when the batch starts.
+ * </p>
+ *
+ * <p>
+ * Like the game itself, the runner must be started from a folder containing {@code game_engine.properties}, e.g.:
+ * {@code java -cp <classpath> games.strategy.triplea.ai.batch.AiBatchRunner --map revised.xml --ai pro --games 20
+ * --rounds 10 --parallel 4 --report revised.csv}
+ * </p>
+ */
+public final class AiBatchRunner {
+  private static final Logger logger = Logger.getLogger(AiBatchRunner.class.getName());
+
+  private static final String MAP_OPTION = "map";
+  private static final String AI_OPTION = "ai";
+  private static final String GAMES_OPTION = "games";
+  private static final String ROUNDS_OPTION = "rounds";
+  private static final String PARALLEL_OPTION = "parallel";
+  private static final String REPORT_OPTION = "report";
+  // used by the runner to have one game played by a new JVM
+  private static final String GAME_OPTION = "game";
+  private static final String RESULT_OPTION = "result";
+
+  private final File mapFile;
+  private final AiGameSimulation.AiType ai;
+  private final int games;
+  private final int rounds;
+  private final int parallel;
+  private final File reportFile;
+
+  private AiBatchRunner(final File mapFile, final AiGameSimulation.AiType ai, final int games, final int rounds,
+      final int parallel, final File reportFile) {
+    checkNotNull(mapFile);
+    checkNotNull(ai);
+    checkArgument(games > 0, "number of games must be positive");
+    checkArgument(rounds > 0, "number of rounds must be positive");
+    checkArgument(parallel > 0, "number of parallel games must be positive");
+    checkNotNull(reportFile);
+
+    this.mapFile = mapFile;
+    this.ai = ai;
+    this.games = games;
+    this.rounds = rounds;
+    this.parallel = parallel;
+    this.reportFile = reportFile;
+  }
+
+  /**
+   * Plays a batch of games as specified by the command line arguments.
+   */
+  public static void main(final String[] args) {
+    final Options options = getOptions();
+    final CommandLine commandLine;
+    try {
+      commandLine = new DefaultParser().parse(options, args);
+    } catch (final ParseException e) {
+      System.err.println(e.getMessage());
+      new HelpFormatter().printHelp(AiBatchRunner.class.getName(), options, true);
+      System.exit(1);
+      return;
+    }
+
+    try {
+      final AiBatchRunner runner = newRunner(commandLine);
+      if (commandLine.hasOption(GAME_OPTION)) {
+        runner.playGame(
+            Integer.parseInt(commandLine.getOptionValue(GAME_OPTION)),
+            new File(commandLine.getOptionValue(RESULT_OPTION)));
+      } else {
+        runner.run();
+      }
+    } catch (final Exception e) {
+      logger.log(Level.SEVERE, "AI batch failed", e);
+      System.exit(1);
+    }
+    // the AIs leave threads running that would keep this JVM alive
+    System.exit(0);
+  }
+
+  private static Options getOptions() {
+    final Options options = new Options();
+    options.addOption(Option.builder().longOpt(MAP_OPTION).hasArg().argName("file").required()
+        .desc("the game XML file of the map to play").build());
+    options.addOption(Option.builder().longOpt(AI_OPTION).hasArg().argName("pro|fast|weak")
+        .desc("the AI that plays every player (default: pro)").build());
+    options.addOption(Option.builder().longOpt(GAMES_OPTION).hasArg().argName("count")
+        .desc("the number of games to play (default: 1)").build());
+    options.addOption(Option.builder().longOpt(ROUNDS_OPTION).hasArg().argName("count")
+        .desc("the number of rounds after which a game is stopped (default: 10)").build());
+    options.addOption(Option.builder().longOpt(PARALLEL_OPTION).hasArg().argName("count")
+        .desc("the number of games to play at once (default: 1)").build());
+    options.addOption(Option.builder().longOpt(REPORT_OPTION).hasArg().argName("file")
+        .desc("the report to write, as CSV if it ends with .csv and as JSON otherwise (default: ai-batch.json)")
+        .build());
+    options.addOption(Option.builder().longOpt(GAME_OPTION).hasArg().build());
+    options.addOption(Option.builder().longOpt(RESULT_OPTION).hasArg().build());
+    return options;
+  }
+
+  private static AiBatchRunner newRunner(final CommandLine commandLine) {
+    return new AiBatchRunner(
+        new File(commandLine.getOptionValue(MAP_OPTION)),
+        AiGameSimulation.AiType.valueOf(commandLine.getOptionValue(AI_OPTION, "pro").toUpperCase(Locale.ROOT)),
+        Integer.parseInt(commandLine.getOptionValue(GAMES_OPTION, "1")),
+        Integer.parseInt(commandLine.getOptionValue(ROUNDS_OPTION, "10")),
+        Integer.parseInt(commandLine.getOptionValue(PARALLEL_OPTION, "1")),
+        new File(commandLine.getOptionValue(REPORT_OPTION, "ai-batch.json")));
+  }
+
+  private void playGame(final int game, final File resultFile) throws Exception {
+    final AiGameReport report = new AiGameSimulation(mapFile, ai, rounds).play(game);
+    Files.write(resultFile.toPath(), report.toJson().toString().getBytes(StandardCharsets.UTF_8));
+  }
+
+  private void run() throws IOException, InterruptedException {
+    final File workFolder = Files.createTempDirectory("triplea-ai-batch").toFile();
+    System.out.println("Playing " + games + " games of " + mapFile + " with the " + ai + " AI, logs in " + workFolder);
+    final long start = System.nanoTime();
+    final ExecutorService executor = Executors.newFixedThreadPool(parallel,
+        new ThreadFactoryBuilder().setNameFormat("AI batch game %d").setDaemon(true).build());
+    final List<Future<AiGameReport>> futures = new ArrayList<>();
+    for (int game = 1; game <= games; game++) {
+      final int gameNumber = game;
+      futures.add(executor.submit(() -> playGameInNewJvm(gameNumber, workFolder)));
+    }
+    final List<AiGameReport> reports = new ArrayList<>();
+    for (final Future<AiGameReport> future : futures) {
+      try {
+        reports.add(future.get());
+      } catch (final ExecutionException e) {
+        throw new IllegalStateException("Failed to play game", e.getCause());
+      }
+    }
+    executor.shutdown();
+    final long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+
+    reports.sort(Comparator.comparingInt(AiGameReport::getGame));
+    writeReport(reports);
+    System.out.println(getThroughput(reports, elapsedMillis));
+    System.out.println("Report written to " + reportFile.getAbsolutePath());
+  }
+
+  private AiGameReport playGameInNewJvm(final int game, final File workFolder)
+      throws IOException, InterruptedException {
+    final File resultFile = new File(workFolder, "game-" + game + ".json");
+    final File logFile = new File(workFolder, "game-" + game + ".log");
+    final List<String> commands = new ArrayList<>();
+    ProcessRunnerUtil.populateBasicJavaArgs(commands);
+    commands.add(AiBatchRunner.class.getName());
+    commands.add("--" + MAP_OPTION);
+    commands.add(mapFile.getAbsolutePath());
+    commands.add("--" + AI_OPTION);
+    commands.add(ai.name());
+    commands.add("--" + ROUNDS_OPTION);
+    commands.add(String.valueOf(rounds));
+    commands.add("--" + GAME_OPTION);
+    commands.add(String.valueOf(game));
+    commands.add("--" + RESULT_OPTION);
+    commands.add(resultFile.getAbsolutePath());
+    final Process process = new ProcessBuilder(commands)
+        .redirectErrorStream(true)
+        .redirectOutput(logFile)
+        .start();
+    final int exitValue = process.waitFor();
+
+    final AiGameReport report;
+    if (exitValue == 0 && resultFile.isFile()) {
+      report = AiGameReport.fromJson(
+          new JSONObject(new String(Files.readAllBytes(resultFile.toPath()), StandardCharsets.UTF_8)));
+      Files.delete(resultFile.toPath());
+    } else {
+      report = AiGameReport.failed(game, ai.name());
+    }
+    System.out.println("Game " + game + " of " + games + ": " + report.getOutcome() + " after " + report.getRounds()
+        + " rounds in " + TimeUnit.MILLISECONDS.toSeconds(report.getTotal().getWallMillis()) + " s"
+        + (report.getWinners().isEmpty() ? "" : ", won by " + String.join(", ", report.getWinners())));
+    return report;
+  }
+
+  private void writeReport(final List<AiGameReport> reports) throws IOException {
+    try (Writer writer = Files.newBufferedWriter(reportFile.toPath(), StandardCharsets.UTF_8)) {
+      if (reportFile.getName().toLowerCase(Locale.ROOT).endsWith(".csv")) {
+        AiGameReport.writeCsv(reports, writer);
+      } else {
+        AiGameReport.writeJson(reports, writer);
+      }
+    }
+  }
+
+  private static String getThroughput(final List<AiGameReport> reports, final long elapsedMillis) {
+    final long playedGames = reports.stream()
+        .filter(report -> report.getOutcome() != AiGameReport.Outcome.FAILED)
+        .count();
+    final long playedRounds = reports.stream().mapToLong(AiGameReport::getRounds).sum();
+    final double hours = Math.max(1, elapsedMillis) / (double) TimeUnit.HOURS.toMillis(1);
+    return String.format(Locale.ROOT, "Played %d of %d games (%d rounds) in %d s: %.1f games/hour, %.1f rounds/hour",
+        playedGames, reports.size(), playedRounds, TimeUnit.MILLISECONDS.toSeconds(elapsedMillis),
+        playedGames / hours, playedRounds / hours);
+  }
+}
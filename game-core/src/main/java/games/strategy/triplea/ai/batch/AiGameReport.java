@@ -0,0 +1,182 @@
+package games.strategy.triplea.ai.batch;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import com.github.openjson.JSONArray;
+import com.github.openjson.JSONObject;
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
+
+import games.strategy.util.OpenJsonUtils;
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.ToString;
+
+/**
+ * The result of one game played by AIs in a batch: how it ended, and where its time and memory went.
+ */
+@AllArgsConstructor
+@EqualsAndHashCode
+@Getter
+@ToString
+public final class AiGameReport {
+  private static final String CSV_HEADER =
+      "game,ai,rounds,outcome,winners,phase,steps,wallMillis,allocatedBytes,oddsCalculations,simulatedBattles";
+  private static final String TOTAL_PHASE = "total";
+
+  /**
+   * How a game ended.
+   */
+  public enum Outcome {
+    VICTORY, ROUND_LIMIT, FAILED
+  }
+
+  private final int game;
+  private final String ai;
+  private final int rounds;
+  private final Outcome outcome;
+  private final List<String> winners;
+  private final Map<String, Integer> productionByPlayer;
+  private final List<Phase> phases;
+
+  /**
+   * The time and memory spent in all steps of a game that run the same delegate, e.g. every purchase step.
+   */
+  @AllArgsConstructor
+  @EqualsAndHashCode
+  @Getter
+  @ToString
+  public static final class Phase {
+    private final String name;
+    private final int steps;
+    private final long wallMillis;
+    private final long allocatedBytes;
+    private final long oddsCalculations;
+    private final long simulatedBattles;
+
+    private JSONObject toJson() {
+      final JSONObject json = new JSONObject();
+      json.put("name", name);
+      json.put("steps", steps);
+      json.put("wallMillis", wallMillis);
+      json.put("allocatedBytes", allocatedBytes);
+      json.put("oddsCalculations", oddsCalculations);
+      json.put("simulatedBattles", simulatedBattles);
+      return json;
+    }
+
+    private static Phase fromJson(final JSONObject json) {
+      return new Phase(
+          json.getString("name"),
+          json.getInt("steps"),
+          json.getLong("wallMillis"),
+          json.getLong("allocatedBytes"),
+          json.getLong("oddsCalculations"),
+          json.getLong("simulatedBattles"));
+    }
+  }
+
+  /**
+   * Returns the sum of all phases of the game.
+   */
+  public Phase getTotal() {
+    return new Phase(
+        TOTAL_PHASE,
+        phases.stream().mapToInt(Phase::getSteps).sum(),
+        phases.stream().mapToLong(Phase::getWallMillis).sum(),
+        phases.stream().mapToLong(Phase::getAllocatedBytes).sum(),
+        phases.stream().mapToLong(Phase::getOddsCalculations).sum(),
+        phases.stream().mapToLong(Phase::getSimulatedBattles).sum());
+  }
+
+  /**
+   * Returns a report of a game that could not be played.
+   */
+  public static AiGameReport failed(final int game, final String ai) {
+    return new AiGameReport(game, ai, 0, Outcome.FAILED, ImmutableList.of(), ImmutableMap.of(), ImmutableList.of());
+  }
+
+  JSONObject toJson() {
+    final JSONObject json = new JSONObject();
+    json.put("game", game);
+    json.put("ai", ai);
+    json.put("rounds", rounds);
+    json.put("outcome", outcome.name());
+    json.put("winners", new JSONArray(winners));
+    json.put("productionByPlayer", new JSONObject(productionByPlayer));
+    json.put("phases", new JSONArray(phases.stream().map(Phase::toJson).collect(Collectors.toList())));
+    return json;
+  }
+
+  static AiGameReport fromJson(final JSONObject json) {
+    checkNotNull(json);
+
+    final JSONObject production = json.getJSONObject("productionByPlayer");
+    final Map<String, Integer> productionByPlayer = new LinkedHashMap<>();
+    for (final String player : production.keySet()) {
+      productionByPlayer.put(player, production.getInt(player));
+    }
+    return new AiGameReport(
+        json.getInt("game"),
+        json.getString("ai"),
+        json.getInt("rounds"),
+        Outcome.valueOf(json.getString("outcome")),
+        OpenJsonUtils.stream(json.getJSONArray("winners")).map(String.class::cast).collect(Collectors.toList()),
+        productionByPlayer,
+        OpenJsonUtils.stream(json.getJSONArray("phases"))
+            .map(JSONObject.class::cast)
+            .map(Phase::fromJson)
+            .collect(Collectors.toList()));
+  }
+
+  /**
+   * Writes the specified reports as a JSON array.
+   */
+  static void writeJson(final Collection<AiGameReport> reports, final Writer writer) throws IOException {
+    final List<JSONObject> games = new ArrayList<>(reports.size());
+    reports.forEach(report -> games.add(report.toJson()));
+    writer.write(new JSONArray(games).toString(2));
+    writer.write(System.lineSeparator());
+  }
+
+  /**
+   * Writes the specified reports as CSV, one row for each phase of each game followed by a row for the whole game.
+   */
+  static void writeCsv(final Collection<AiGameReport> reports, final Writer writer) throws IOException {
+    writer.write(CSV_HEADER);
+    writer.write(System.lineSeparator());
+    for (final AiGameReport report : reports) {
+      for (final Phase phase : report.phases) {
+        report.writeCsvRow(phase, writer);
+      }
+      report.writeCsvRow(report.getTotal(), writer);
+    }
+  }
+
+  private void writeCsvRow(final Phase phase, final Writer writer) throws IOException {
+    writer.write(String.join(",",
+        String.valueOf(game),
+        ai,
+        String.valueOf(rounds),
+        outcome.name(),
+        // winners are separated by semicolons so the column needs no quoting
+        String.join(";", winners).replace(',', ' '),
+        phase.name,
+        String.valueOf(phase.steps),
+        String.valueOf(phase.wallMillis),
+        String.valueOf(phase.allocatedBytes),
+        String.valueOf(phase.oddsCalculations),
+        String.valueOf(phase.simulatedBattles)));
+    writer.write(System.lineSeparator());
+  }
+}
@@ -0,0 +1,351 @@
+package games.strategy.triplea.ai.batch;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkNotNull;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.management.ManagementFactory;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.prefs.AbstractPreferences;
+
+import javax.annotation.Nullable;
+import javax.annotation.concurrent.GuardedBy;
+
+import org.apache.commons.io.FileUtils;
+
+import games.strategy.engine.data.EngineVersionException;
+import games.strategy.engine.data.GameData;
+import games.strategy.engine.data.GameParseException;
+import games.strategy.engine.data.GameParser;
+import games.strategy.engine.data.PlayerID;
+import games.strategy.engine.delegate.IDelegate;
+import games.strategy.engine.framework.GameRunner;
+import games.strategy.engine.framework.ServerGame;
+import games.strategy.engine.gamePlayer.IGamePlayer;
+import games.strategy.engine.random.PlainRandomSource;
+import games.strategy.net.HeadlessServerMessenger;
+import games.strategy.net.Messengers;
+import games.strategy.sound.HeadlessSoundChannel;
+import games.strategy.triplea.TripleA;
+import games.strategy.triplea.delegate.AbstractEndTurnDelegate;
+import games.strategy.triplea.delegate.EndRoundDelegate;
+import games.strategy.triplea.oddsCalculator.ta.ConcurrentOddsCalculator;
+import games.strategy.triplea.settings.ClientSetting;
+import games.strategy.triplea.ui.display.HeadlessDisplay;
+
+/**
+ * Plays one game of a map between AIs, in the current thread, until a side wins or a number of rounds has been played.
+ *
+ * <p>
+ * The Pro AI keeps its state in static fields, so only one game may be played at a time in a JVM; {@link AiBatchRunner}
+ * plays each game of a batch in its own JVM. Playing a game changes the client settings of this JVM so the AIs do not
+ * pause between moves and games are saved automatically to a temporary folder.
+ * </p>
+ */
+final class AiGameSimulation {
+  private static final long POLL_MILLIS = 100;
+
+  private final File mapFile;
+  private final AiType ai;
+  private final int roundLimit;
+  private final AllocationSampler allocationSampler = new AllocationSampler();
+  private final CountDownLatch roundLimitReached = new CountDownLatch(1);
+  @GuardedBy("this")
+  private final Map<String, PhaseRecorder> phases = new LinkedHashMap<>();
+  @GuardedBy("this")
+  private @Nullable PhaseRecorder currentPhase;
+
+  /**
+   * The AIs that can play a batch of games; every player of a game is played by the same AI.
+   */
+  enum AiType {
+    PRO(TripleA.PRO_COMPUTER_PLAYER_TYPE),
+    FAST(TripleA.FAST_COMPUTER_PLAYER_TYPE),
+    WEAK(TripleA.WEAK_COMPUTER_PLAYER_TYPE);
+
+    private final String playerType;
+
+    AiType(final String playerType) {
+      this.playerType = playerType;
+    }
+  }
+
+  AiGameSimulation(final File mapFile, final AiType ai, final int roundLimit) {
+    checkNotNull(mapFile);
+    checkNotNull(ai);
+    checkArgument(roundLimit > 0, "round limit must be positive");
+
+    this.mapFile = mapFile;
+    this.ai = ai;
+    this.roundLimit = roundLimit;
+  }
+
+  /**
+   * Plays the game and returns its report.
+   */
+  AiGameReport play(final int game) throws IOException, GameParseException, EngineVersionException {
+    final File saveGamesFolder = Files.createTempDirectory("triplea-ai-batch").toFile();
+    try {
+      useBatchSettings(saveGamesFolder);
+      return play(game, parseMap());
+    } finally {
+      FileUtils.deleteQuietly(saveGamesFolder);
+    }
+  }
+
+  private static void useBatchSettings(final File saveGamesFolder) {
+    System.setProperty(GameRunner.TRIPLEA_HEADLESS, "true");
+    ClientSetting.setPreferences(new MemoryPreferences());
+    ClientSetting.AI_PAUSE_DURATION.save("0");
+    ClientSetting.SAVE_GAMES_FOLDER_PATH.save(saveGamesFolder.getAbsolutePath());
+  }
+
+  private GameData parseMap() throws IOException, GameParseException, EngineVersionException {
+    try (InputStream stream = new FileInputStream(mapFile)) {
+      return GameParser.parse(mapFile.getAbsolutePath(), stream);
+    }
+  }
+
+  private AiGameReport play(final int game, final GameData data) {
+    final Map<String, String> playerTypes = new HashMap<>();
+    data.getPlayerList().getPlayers().forEach(player -> playerTypes.put(player.getName(), ai.playerType));
+    final Set<IGamePlayer> players = data.getGameLoader().createPlayers(playerTypes);
+    final ServerGame serverGame = new ServerGame(data, players, new HashMap<>(),
+        new Messengers(new HeadlessServerMessenger()));
+    serverGame.setRandomSource(new PlainRandomSource());
+    serverGame.addGameStepListener((stepName, delegateName, player, round, displayName) -> {
+      if (round > roundLimit) {
+        startPhase(null);
+        roundLimitReached.countDown();
+      } else {
+        startPhase(delegateName);
+      }
+    });
+    // the display and sound channel the game loader would add also need the images of the map, which are not used
+    serverGame.addDisplay(new HeadlessDisplay());
+    serverGame.addSoundChannel(new HeadlessSoundChannel());
+
+    final Thread gameThread = new Thread(serverGame::startGame, "AI batch game " + game);
+    gameThread.start();
+    try {
+      while (!roundLimitReached.await(POLL_MILLIS, TimeUnit.MILLISECONDS)
+          && serverGame.isGameSequenceRunning()
+          && gameThread.isAlive()) {
+        // wait for the game to end
+      }
+      startPhase(null);
+      // stop the game from this thread, as stopping it from the game thread would wait for the game thread
+      serverGame.stopGame();
+      gameThread.join();
+    } catch (final InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+    return newReport(game, data, roundLimitReached.getCount() == 0);
+  }
+
+  private synchronized void startPhase(final @Nullable String delegateName) {
+    final long allocatedBytes = allocationSampler.sample();
+    final long now = System.nanoTime();
+    if (currentPhase != null) {
+      currentPhase.end(now, allocatedBytes);
+    }
+    currentPhase = (delegateName == null)
+        ? null
+        : phases.computeIfAbsent(delegateName, PhaseRecorder::new).start(now, allocatedBytes);
+  }
+
+  private AiGameReport newReport(final int game, final GameData data, final boolean isRoundLimitReached) {
+    data.acquireReadLock();
+    try {
+      final Collection<PlayerID> winners = getWinners(data);
+      final AiGameReport.Outcome outcome = (winners != null)
+          ? AiGameReport.Outcome.VICTORY
+          : (isRoundLimitReached ? AiGameReport.Outcome.ROUND_LIMIT : AiGameReport.Outcome.FAILED);
+      final List<String> winnerNames = new ArrayList<>();
+      if (winners != null) {
+        winners.forEach(winner -> winnerNames.add(winner.getName()));
+      }
+      final Map<String, Integer> productionByPlayer = new LinkedHashMap<>();
+      for (final PlayerID player : data.getPlayerList().getPlayers()) {
+        productionByPlayer.put(player.getName(),
+            AbstractEndTurnDelegate.getProduction(data.getMap().getTerritoriesOwnedBy(player), data));
+      }
+      final List<AiGameReport.Phase> phaseReports = new ArrayList<>();
+      synchronized (this) {
+        phases.values().forEach(phase -> phaseReports.add(phase.toPhase()));
+      }
+      return new AiGameReport(game, ai.name(), Math.min(data.getSequence().getRound(), roundLimit), outcome,
+          winnerNames, productionByPlayer, phaseReports);
+    } finally {
+      data.releaseReadLock();
+    }
+  }
+
+  private static @Nullable Collection<PlayerID> getWinners(final GameData data) {
+    for (final IDelegate delegate : data.getDelegateList()) {
+      if (delegate instanceof EndRoundDelegate) {
+        final Collection<PlayerID> winners = ((EndRoundDelegate) delegate).getWinners();
+        if (winners != null) {
+          return winners;
+        }
+      }
+    }
+    return null;
+  }
+
+  /**
+   * Totals the steps of a game that run the same delegate.
+   */
+  private static final class PhaseRecorder {
+    private final String name;
+    private int steps;
+    private long nanos;
+    private long allocatedBytes;
+    private long oddsCalculations;
+    private long simulatedBattles;
+    private long startNanos;
+    private long startAllocatedBytes;
+    private long startOddsCalculations;
+    private long startSimulatedBattles;
+
+    PhaseRecorder(final String name) {
+      this.name = name;
+    }
+
+    PhaseRecorder start(final long nanos, final long allocatedBytes) {
+      startNanos = nanos;
+      startAllocatedBytes = allocatedBytes;
+      startOddsCalculations = ConcurrentOddsCalculator.getCalculationCount();
+      startSimulatedBattles = ConcurrentOddsCalculator.getSimulatedBattleCount();
+      return this;
+    }
+
+    void end(final long nanos, final long allocatedBytes) {
+      steps++;
+      this.nanos += nanos - startNanos;
+      this.allocatedBytes += allocatedBytes - startAllocatedBytes;
+      oddsCalculations += ConcurrentOddsCalculator.getCalculationCount() - startOddsCalculations;
+      simulatedBattles += ConcurrentOddsCalculator.getSimulatedBattleCount() - startSimulatedBattles;
+    }
+
+    AiGameReport.Phase toPhase() {
+      return new AiGameReport.Phase(name, steps, TimeUnit.NANOSECONDS.toMillis(nanos), allocatedBytes,
+          oddsCalculations, simulatedBattles);
+    }
+  }
+
+  /**
+   * Counts the bytes allocated by all threads of this JVM since the sampler was created. A thread running when the
+   * sampler is created is counted from then on; a thread started afterwards is counted from its start, since it is
+   * first seen by a sample. Bytes allocated by a thread after the last sample before it ends are not counted.
+   */
+  private static final class AllocationSampler {
+    private final @Nullable com.sun.management.ThreadMXBean threadMxBean = getThreadMxBean();
+    private final Map<Long, Long> allocatedBytesByThread = new HashMap<>();
+    private long allocatedBytes;
+
+    AllocationSampler() {
+      sample();
+      allocatedBytes = 0;
+    }
+
+    private static @Nullable com.sun.management.ThreadMXBean getThreadMxBean() {
+      final java.lang.management.ThreadMXBean threadMxBean = ManagementFactory.getThreadMXBean();
+      if (threadMxBean instanceof com.sun.management.ThreadMXBean
+          && ((com.sun.management.ThreadMXBean) threadMxBean).isThreadAllocatedMemorySupported()) {
+        ((com.sun.management.ThreadMXBean) threadMxBean).setThreadAllocatedMemoryEnabled(true);
+        return (com.sun.management.ThreadMXBean) threadMxBean;
+      }
+      return null;
+    }
+
+    /**
+     * Returns the bytes allocated since this sampler was created, or 0 if this JVM does not count allocations.
+     */
+    long sample() {
+      if (threadMxBean == null) {
+        return 0;
+      }
+      final long[] threadIds = threadMxBean.getAllThreadIds();
+      final long[] threadAllocatedBytes = threadMxBean.getThreadAllocatedBytes(threadIds);
+      final Map<Long, Long> previousAllocatedBytesByThread = new HashMap<>(allocatedBytesByThread);
+      allocatedBytesByThread.clear();
+      for (int i = 0; i < threadIds.length; i++) {
+        // a thread that ended after its id was read is reported as having allocated -1 bytes
+        if (threadAllocatedBytes[i] >= 0) {
+          allocatedBytes += threadAllocatedBytes[i] - previousAllocatedBytesByThread.getOrDefault(threadIds[i], 0L);
+          allocatedBytesByThread.put(threadIds[i], threadAllocatedBytes[i]);
+        }
+      }
+      return allocatedBytes;
+    }
+  }
+
+  /**
+   * Preferences that are kept in memory, so the client settings used to play a batch of games do not change the
+   * settings of the user.
+   */
+  private static final class MemoryPreferences extends AbstractPreferences {
+    private final Map<String, String> values = new HashMap<>();
+    private final Map<String, MemoryPreferences> children = new HashMap<>();
+
+    MemoryPreferences() {
+      this(null, "");
+    }
+
+    private MemoryPreferences(final @Nullable MemoryPreferences parent, final String name) {
+      super(parent, name);
+    }
+
+    @Override
+    protected void putSpi(final String key, final String value) {
+      values.put(key, value);
+    }
+
+    @Override
+    protected String getSpi(final String key) {
+      return values.get(key);
+    }
+
+    @Override
+    protected void removeSpi(final String key) {
+      values.remove(key);
+    }
+
+    @Override
+    protected void removeNodeSpi() {}
+
+    @Override
+    protected String[] keysSpi() {
+      return values.keySet().toArray(new String[0]);
+    }
+
+    @Override
+    protected String[] childrenNamesSpi() {
+      return children.keySet().toArray(new String[0]);
+    }
+
+    @Override
+    protected AbstractPreferences childSpi(final String name) {
+      return children.computeIfAbsent(name, childName -> new MemoryPreferences(this, childName));
+    }
+
+    @Override
+    protected void syncSpi() {}
+
+    @Override
+    protected void flushSpi() {}
+  }
+}
@@ -23,6 +23,9 @@ public class FastOddsEstimator implements IOddsCalculator {
   @Override
   public void setGameData(final GameData data) {}
 
+  @Override
+  public void setSerializedGameData(final byte[] serializedGameData) {}
+
   @Override
   public void setCalculateData(final PlayerID attacker, final PlayerID defender, final Territory location,
       final Collection<Unit> attackingUnits, final Collection<Unit> defendingUnits,
@@ -13,12 +13,15 @@ import games.strategy.engine.data.GameStep;
 import games.strategy.engine.data.PlayerID;
 import games.strategy.engine.data.Territory;
 import games.strategy.engine.data.Unit;
+import games.strategy.engine.data.events.TerritoryListener;
 import games.strategy.engine.delegate.IDelegateBridge;
 import games.strategy.engine.framework.GameDataUtils;
+import games.strategy.engine.gamePlayer.IPlayerBridge;
 import games.strategy.net.GUID;
 import games.strategy.triplea.Properties;
 import games.strategy.triplea.ai.AbstractAi;
 import games.strategy.triplea.ai.pro.data.ProBattleResult;
+import games.strategy.triplea.ai.pro.data.ProMapDistances;
 import games.strategy.triplea.ai.pro.data.ProPurchaseTerritory;
 import games.strategy.triplea.ai.pro.data.ProTerritory;
 import games.strategy.triplea.ai.pro.logging.ProLogUi;
@@ -67,6 +70,23 @@ public class ProAi extends AbstractAi {
   private final ProScrambleAi scrambleAi;
   private final ProPoliticsAi politicsAi;
 
+  // Map searches kept across turns and refreshed while other players move
+  private final ProMapDistances mapDistances = new ProMapDistances();
+  private final TerritoryListener mapDistancesRefresher = new TerritoryListener() {
+    @Override
+    public void unitsChanged(final Territory territory) {}
+
+    @Override
+    public void ownerChanged(final Territory territory) {
+      mapDistances.refreshInBackground(getGameData(), getPlayerId());
+    }
+
+    @Override
+    public void attachmentChanged(final Territory territory) {
+      mapDistances.refreshInBackground(getGameData(), getPlayerId());
+    }
+  };
+
   // Data shared across phases
   private Map<Territory, ProTerritory> storedCombatMoveMap;
   private Map<Territory, ProTerritory> storedFactoryMoveMap;
@@ -98,6 +118,10 @@ public class ProAi extends AbstractAi {
     return calc;
   }
 
+  public ProMapDistances getMapDistances() {
+    return mapDistances;
+  }
+
   public static void initialize(final TripleAFrame frame) {
     ProLogUi.initialize(frame);
     ProLogger.info("Initialized Hard AI");
@@ -114,10 +138,18 @@ public class ProAi extends AbstractAi {
     ProLogUi.clearCachedInstances();
   }
 
+  @Override
+  public void initialize(final IPlayerBridge playerBridge, final PlayerID playerId) {
+    super.initialize(playerBridge, playerId);
+    getGameData().addTerritoryListener(mapDistancesRefresher);
+    mapDistances.refreshInBackground(getGameData(), playerId);
+  }
+
   @Override
   public void stopGame() {
     super.stopGame(); // absolutely MUST call super.stopGame() first
     calc.cancelCalcs();
+    getGameData().removeTerritoryListener(mapDistancesRefresher);
   }
 
   private void initializeData() {
@@ -177,18 +209,23 @@ public class ProAi extends AbstractAi {
       }
       ProLogger.info("Starting simulation for purchase phase");
 
-      // Setup data copy and delegates
-      GameData dataCopy;
+      // Setup data copy and delegates, serializing the game once for both the copy and the odds calculator
+      final byte[] serializedData;
       try {
-        data.acquireWriteLock();
-        dataCopy = GameDataUtils.cloneGameDataWithoutHistory(data, true);
+        data.acquireReadLock();
+        serializedData = GameDataUtils.serializeGameDataWithoutHistory(data, true);
       } catch (final Throwable t) {
         ProLogger.log(Level.WARNING, "Error trying to clone game data for simulating phases", t);
         return;
       } finally {
-        data.releaseWriteLock();
+        data.releaseReadLock();
+      }
+      final GameData dataCopy = serializedData == null ? null : GameDataUtils.deserializeGameData(serializedData);
+      if (dataCopy == null) {
+        ProLogger.warn("Failed to clone game data for simulating phases");
+        return;
       }
-      calc.setData(dataCopy);
+      calc.setSerializedData(serializedData);
       final PlayerID playerCopy = dataCopy.getPlayerList().getPlayerId(player.getName());
       final IMoveDelegate moveDel = DelegateFinder.moveDelegate(dataCopy);
       final IDelegateBridge bridge = new ProDummyDelegateBridge(this, playerCopy, dataCopy);
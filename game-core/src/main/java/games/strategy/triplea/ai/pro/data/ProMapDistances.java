@@ -0,0 +1,319 @@
+package games.strategy.triplea.ai.pro.data;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Predicate;
+import java.util.logging.Level;
+
+import javax.annotation.Nullable;
+import javax.annotation.concurrent.GuardedBy;
+import javax.annotation.concurrent.ThreadSafe;
+
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+
+import games.strategy.engine.data.GameData;
+import games.strategy.engine.data.PlayerID;
+import games.strategy.engine.data.Territory;
+import games.strategy.triplea.ai.pro.logging.ProLogger;
+import games.strategy.triplea.ai.pro.util.ProMatches;
+
+/**
+ * Distances between the territories of a map, which the Pro AI searches for every territory it values.
+ *
+ * <p>
+ * The distances from a territory are searched once and kept between turns, and {@link #refreshInBackground(GameData,
+ * PlayerID)} searches them while other players take their turns. Distances over all territories depend only on the
+ * connections of the map. Distances over the territories a player could potentially move land units through also
+ * depend on which territories those are; the search from each territory records the territories it tested, and only
+ * the searches that tested a territory that changed are done again.
+ * </p>
+ */
+@ThreadSafe
+public final class ProMapDistances {
+  private static final short UNREACHABLE = -1;
+  private static final ExecutorService backgroundExecutor = Executors.newSingleThreadExecutor(
+      new ThreadFactoryBuilder().setNameFormat("ProAi map distances").setDaemon(true).build());
+
+  private final AtomicBoolean isRefreshPending = new AtomicBoolean();
+  @GuardedBy("this")
+  private int[][] connections = new int[0][];
+  @GuardedBy("this")
+  private short[][] distances = new short[0][];
+  @GuardedBy("this")
+  private BitSet landPassable = new BitSet();
+  @GuardedBy("this")
+  private short[][] landDistances = new short[0][];
+  @GuardedBy("this")
+  private BitSet[] landTested = new BitSet[0];
+
+  /**
+   * Returns the distances between the territories of the specified game data for the specified player, searching again
+   * the distances that changed since they were last searched.
+   */
+  public Lookup forGame(final GameData data, final PlayerID player) {
+    checkNotNull(data);
+    checkNotNull(player);
+
+    final List<Territory> territories = data.getMap().getTerritories();
+    update(data, readLandPassable(data, player));
+    return new Lookup(territories);
+  }
+
+  /**
+   * Searches the distances of the specified game data for the specified player on a background thread. Does nothing if
+   * a search is already waiting to start.
+   */
+  public void refreshInBackground(final GameData data, final PlayerID player) {
+    checkNotNull(data);
+    checkNotNull(player);
+
+    if (isRefreshPending.compareAndSet(false, true)) {
+      backgroundExecutor.execute(() -> {
+        isRefreshPending.set(false);
+        try {
+          refresh(data, player);
+        } catch (final RuntimeException e) {
+          ProLogger.log(Level.WARNING, "Failed to search map distances", e);
+        }
+      });
+    }
+  }
+
+  @VisibleForTesting
+  void refresh(final GameData data, final PlayerID player) {
+    final int territoryCount;
+    data.acquireReadLock();
+    try {
+      territoryCount = data.getMap().getTerritories().size();
+      update(data, readLandPassable(data, player));
+    } finally {
+      data.releaseReadLock();
+    }
+    // search one territory at a time so the AI is not kept waiting if its turn starts
+    for (int i = 0; i < territoryCount; i++) {
+      synchronized (this) {
+        if (i < connections.length) {
+          getDistances(i);
+          getLandDistances(i);
+        }
+      }
+    }
+  }
+
+  private static BitSet readLandPassable(final GameData data, final PlayerID player) {
+    final Predicate<Territory> canPotentiallyMoveLandUnits = ProMatches.territoryCanPotentiallyMoveLandUnits(player,
+        data);
+    final List<Territory> territories = data.getMap().getTerritories();
+    final BitSet landPassable = new BitSet(territories.size());
+    for (int i = 0; i < territories.size(); i++) {
+      landPassable.set(i, canPotentiallyMoveLandUnits.test(territories.get(i)));
+    }
+    return landPassable;
+  }
+
+  private static int[][] readConnections(final GameData data) {
+    final List<Territory> territories = data.getMap().getTerritories();
+    final Map<Territory, Integer> indexes = indexTerritories(territories);
+    final int[][] connections = new int[territories.size()][];
+    for (int i = 0; i < territories.size(); i++) {
+      connections[i] = data.getMap().getNeighbors(territories.get(i)).stream().mapToInt(indexes::get).toArray();
+    }
+    return connections;
+  }
+
+  private static Map<Territory, Integer> indexTerritories(final List<Territory> territories) {
+    final Map<Territory, Integer> indexes = new HashMap<>(territories.size() * 4 / 3 + 1);
+    for (int i = 0; i < territories.size(); i++) {
+      indexes.put(territories.get(i), i);
+    }
+    return indexes;
+  }
+
+  private synchronized void update(final GameData data, final BitSet landPassable) {
+    if (connections.length != data.getMap().getTerritories().size()) {
+      connections = readConnections(data);
+      distances = new short[connections.length][];
+      landDistances = new short[connections.length][];
+      landTested = new BitSet[connections.length];
+    } else {
+      final BitSet changed = (BitSet) this.landPassable.clone();
+      changed.xor(landPassable);
+      if (!changed.isEmpty()) {
+        for (int i = 0; i < landTested.length; i++) {
+          if (landTested[i] != null && landTested[i].intersects(changed)) {
+            landDistances[i] = null;
+            landTested[i] = null;
+          }
+        }
+      }
+    }
+    this.landPassable = landPassable;
+  }
+
+  @GuardedBy("this")
+  private short[] getDistances(final int from) {
+    if (distances[from] == null) {
+      distances[from] = search(from, null, null);
+    }
+    return distances[from];
+  }
+
+  @GuardedBy("this")
+  private short[] getLandDistances(final int from) {
+    if (landDistances[from] == null) {
+      final BitSet tested = new BitSet(connections.length);
+      landDistances[from] = search(from, landPassable, tested);
+      landTested[from] = tested;
+    }
+    return landDistances[from];
+  }
+
+  /**
+   * Searches the distances from the specified territory, through territories that are passable if specified. As in
+   * {@link games.strategy.engine.data.GameMap#getDistance(Territory, Territory, Predicate)}, the territory searched
+   * from need not be passable.
+   */
+  @GuardedBy("this")
+  private short[] search(final int from, final @Nullable BitSet passable, final @Nullable BitSet tested) {
+    final short[] result = new short[connections.length];
+    Arrays.fill(result, UNREACHABLE);
+    result[from] = 0;
+    final int[] queue = new int[connections.length];
+    int head = 0;
+    int tail = 0;
+    queue[tail++] = from;
+    while (head < tail) {
+      final int current = queue[head++];
+      for (final int neighbor : connections[current]) {
+        if (tested != null) {
+          tested.set(neighbor);
+        }
+        if (result[neighbor] == UNREACHABLE && (passable == null || passable.get(neighbor))) {
+          result[neighbor] = (short) Math.min(Short.MAX_VALUE, result[current] + 1);
+          queue[tail++] = neighbor;
+        }
+      }
+    }
+    return result;
+  }
+
+  /**
+   * The distances between the territories of a game. The methods named after land units only move through territories
+   * that match {@link ProMatches#territoryCanPotentiallyMoveLandUnits(PlayerID, GameData)}.
+   */
+  public final class Lookup {
+    private final List<Territory> territories;
+    private final Map<Territory, Integer> indexes;
+
+    private Lookup(final List<Territory> territories) {
+      this.territories = territories;
+      indexes = indexTerritories(territories);
+    }
+
+    private int indexOf(final Territory territory) {
+      final Integer index = indexes.get(territory);
+      checkNotNull(index, "Unknown territory: %s", territory);
+      return index;
+    }
+
+    /**
+     * Returns the land distance between the specified territories, or -1 if they are not connected by land.
+     */
+    public int getLandDistance(final Territory from, final Territory to) {
+      synchronized (ProMapDistances.this) {
+        return getLandDistances(indexOf(from))[indexOf(to)];
+      }
+    }
+
+    /**
+     * Returns the territories within the specified land distance of the specified territory, excluding it.
+     */
+    public Set<Territory> getLandNeighbors(final Territory territory, final int distance) {
+      synchronized (ProMapDistances.this) {
+        return collect(indexOf(territory), getLandDistances(indexOf(territory)), distance);
+      }
+    }
+
+    /**
+     * Returns the number of territories within the specified land distance of the specified territory, excluding it.
+     */
+    public int countLandNeighbors(final Territory territory, final int distance) {
+      final int from = indexOf(territory);
+      synchronized (ProMapDistances.this) {
+        final short[] fromDistances = getLandDistances(from);
+        int count = 0;
+        for (int i = 0; i < fromDistances.length; i++) {
+          if (i != from && isWithin(fromDistances[i], distance)) {
+            count++;
+          }
+        }
+        return count;
+      }
+    }
+
+    /**
+     * Returns the territories within the specified distance of the specified territory, excluding it.
+     */
+    public Set<Territory> getNeighbors(final Territory territory, final int distance) {
+      synchronized (ProMapDistances.this) {
+        return collect(indexOf(territory), getDistances(indexOf(territory)), distance);
+      }
+    }
+
+    /**
+     * Returns the targets within {@code minDistance} of the specified territory or, if there are none, the nearest
+     * targets within {@code maxDistance} of it. The territory itself is never returned.
+     */
+    public Set<Territory> getNearest(final Territory territory, final Set<Territory> targets, final int minDistance,
+        final int maxDistance) {
+      final int from = indexOf(territory);
+      synchronized (ProMapDistances.this) {
+        final short[] fromDistances = getDistances(from);
+        int nearest = Integer.MAX_VALUE;
+        for (final Territory target : targets) {
+          final int index = indexOf(target);
+          if (index != from && fromDistances[index] != UNREACHABLE) {
+            nearest = Math.min(nearest, fromDistances[index]);
+          }
+        }
+        final Set<Territory> nearestTargets = new HashSet<>();
+        if (nearest > maxDistance) {
+          return nearestTargets;
+        }
+        final int distance = Math.max(nearest, minDistance);
+        for (final Territory target : targets) {
+          final int index = indexOf(target);
+          if (index != from && isWithin(fromDistances[index], distance)) {
+            nearestTargets.add(target);
+          }
+        }
+        return nearestTargets;
+      }
+    }
+
+    private Set<Territory> collect(final int from, final short[] fromDistances, final int distance) {
+      final Set<Territory> result = new HashSet<>();
+      for (int i = 0; i < fromDistances.length; i++) {
+        if (i != from && isWithin(fromDistances[i], distance)) {
+          result.add(territories.get(i));
+        }
+      }
+      return result;
+    }
+
+    private boolean isWithin(final short distance, final int maxDistance) {
+      return distance != UNREACHABLE && distance <= maxDistance;
+    }
+  }
+}
@@ -34,6 +34,10 @@ public class ProOddsCalculator {
     calc.setGameData(data);
   }
 
+  public void setSerializedData(final byte[] serializedData) {
+    calc.setSerializedGameData(serializedData);
+  }
+
   public void cancelCalcs() {
     calc.cancel();
     isCanceled = true;
@@ -13,6 +13,7 @@ import games.strategy.engine.data.PlayerID;
 import games.strategy.engine.data.Route;
 import games.strategy.engine.data.Territory;
 import games.strategy.triplea.ai.pro.ProData;
+import games.strategy.triplea.ai.pro.data.ProMapDistances;
 import games.strategy.triplea.attachments.TerritoryAttachment;
 import games.strategy.triplea.delegate.Matches;
 import games.strategy.triplea.delegate.MoveValidator;
@@ -53,15 +54,16 @@ public class ProTerritoryValueUtils {
       final List<Territory> territoriesThatCantBeHeld, final List<Territory> territoriesToAttack,
       final Set<Territory> territoriesToCheck) {
 
-    final int maxLandMassSize = findMaxLandMassSize(player);
+    final ProMapDistances.Lookup distances = ProData.getProAi().getMapDistances().forGame(ProData.getData(), player);
+    final int maxLandMassSize = findMaxLandMassSize(distances);
 
-    final Map<Territory, Double> enemyCapitalsAndFactoriesMap =
-        findEnemyCapitalsAndFactoriesValue(player, maxLandMassSize, territoriesThatCantBeHeld, territoriesToAttack);
+    final Map<Territory, Double> enemyCapitalsAndFactoriesMap = findEnemyCapitalsAndFactoriesValue(player, distances,
+        maxLandMassSize, territoriesThatCantBeHeld, territoriesToAttack);
 
     final Map<Territory, Double> territoryValueMap = new HashMap<>();
     for (final Territory t : territoriesToCheck) {
       if (!t.isWater()) {
-        final double value = findLandValue(t, player, maxLandMassSize, enemyCapitalsAndFactoriesMap,
+        final double value = findLandValue(t, player, distances, maxLandMassSize, enemyCapitalsAndFactoriesMap,
             territoriesThatCantBeHeld, territoriesToAttack);
         territoryValueMap.put(t, value);
       }
@@ -69,7 +71,7 @@ public class ProTerritoryValueUtils {
 
     for (final Territory t : territoriesToCheck) {
       if (t.isWater()) {
-        final double value = findWaterValue(t, player, maxLandMassSize, enemyCapitalsAndFactoriesMap,
+        final double value = findWaterValue(t, player, distances, maxLandMassSize, enemyCapitalsAndFactoriesMap,
             territoriesThatCantBeHeld, territoriesToAttack, territoryValueMap);
         territoryValueMap.put(t, value);
       }
@@ -136,13 +138,12 @@ public class ProTerritoryValueUtils {
     return territoryValueMap;
   }
 
-  private static int findMaxLandMassSize(final PlayerID player) {
+  private static int findMaxLandMassSize(final ProMapDistances.Lookup distances) {
     int maxLandMassSize = 1;
     final GameData data = ProData.getData();
     for (final Territory t : data.getMap().getTerritories()) {
       if (!t.isWater()) {
-        final int landMassSize = 1 + data.getMap()
-            .getNeighbors(t, 6, ProMatches.territoryCanPotentiallyMoveLandUnits(player, data)).size();
+        final int landMassSize = 1 + distances.countLandNeighbors(t, 6);
         if (landMassSize > maxLandMassSize) {
           maxLandMassSize = landMassSize;
         }
@@ -153,8 +154,8 @@ public class ProTerritoryValueUtils {
   }
 
   private static Map<Territory, Double> findEnemyCapitalsAndFactoriesValue(final PlayerID player,
-      final int maxLandMassSize, final List<Territory> territoriesThatCantBeHeld,
-      final List<Territory> territoriesToAttack) {
+      final ProMapDistances.Lookup distances, final int maxLandMassSize,
+      final List<Territory> territoriesThatCantBeHeld, final List<Territory> territoriesToAttack) {
 
     // Get all enemy factories and capitals (check if most territories have factories and if so remove them)
     final GameData data = ProData.getData();
@@ -189,8 +190,7 @@ public class ProTerritoryValueUtils {
 
       // Calculate value
       final int isNeutral = ProUtils.isNeutralLand(t) ? 1 : 0;
-      final int landMassSize = 1 + data.getMap()
-          .getNeighbors(t, 6, ProMatches.territoryCanPotentiallyMoveLandUnits(player, data)).size();
+      final int landMassSize = 1 + distances.countLandNeighbors(t, 6);
       final double value = Math.sqrt(factoryProduction + Math.sqrt(playerProduction)) * 32 / (1 + 3 * isNeutral)
           * landMassSize / maxLandMassSize;
       enemyCapitalsAndFactoriesMap.put(t, value);
@@ -199,7 +199,8 @@ public class ProTerritoryValueUtils {
     return enemyCapitalsAndFactoriesMap;
   }
 
-  private static double findLandValue(final Territory t, final PlayerID player, final int maxLandMassSize,
+  private static double findLandValue(final Territory t, final PlayerID player,
+      final ProMapDistances.Lookup distances, final int maxLandMassSize,
       final Map<Territory, Double> enemyCapitalsAndFactoriesMap, final List<Territory> territoriesThatCantBeHeld,
       final List<Territory> territoriesToAttack) {
 
@@ -211,10 +212,9 @@ public class ProTerritoryValueUtils {
     final List<Double> values = new ArrayList<>();
     final GameData data = ProData.getData();
     final Set<Territory> nearbyEnemyCapitalsAndFactories =
-        findNearbyEnemyCapitalsAndFactories(t, enemyCapitalsAndFactoriesMap);
+        findNearbyEnemyCapitalsAndFactories(t, distances, enemyCapitalsAndFactoriesMap);
     for (final Territory enemyCapitalOrFactory : nearbyEnemyCapitalsAndFactories) {
-      final int distance = data.getMap().getDistance(t, enemyCapitalOrFactory,
-          ProMatches.territoryCanPotentiallyMoveLandUnits(player, data));
+      final int distance = distances.getLandDistance(t, enemyCapitalOrFactory);
       if (distance > 0) {
         values.add(enemyCapitalsAndFactoriesMap.get(enemyCapitalOrFactory) / Math.pow(2, distance));
       }
@@ -227,14 +227,12 @@ public class ProTerritoryValueUtils {
 
     // Determine value based on nearby territory production
     double nearbyEnemyValue = 0;
-    final Set<Territory> nearbyTerritories =
-        data.getMap().getNeighbors(t, 2, ProMatches.territoryCanPotentiallyMoveLandUnits(player, data));
+    final Set<Territory> nearbyTerritories = distances.getLandNeighbors(t, 2);
     final List<Territory> nearbyEnemyTerritories = CollectionUtils.getMatches(nearbyTerritories,
         ProMatches.territoryIsEnemyOrCantBeHeld(player, data, territoriesThatCantBeHeld));
     nearbyEnemyTerritories.removeAll(territoriesToAttack);
     for (final Territory nearbyEnemyTerritory : nearbyEnemyTerritories) {
-      final int distance = data.getMap().getDistance(t, nearbyEnemyTerritory,
-          ProMatches.territoryCanPotentiallyMoveLandUnits(player, data));
+      final int distance = distances.getLandDistance(t, nearbyEnemyTerritory);
       if (distance > 0) {
         double value = TerritoryAttachment.getProduction(nearbyEnemyTerritory);
         if (ProUtils.isNeutralLand(nearbyEnemyTerritory)) {
@@ -247,8 +245,7 @@ public class ProTerritoryValueUtils {
         }
       }
     }
-    final int landMassSize = 1
-        + data.getMap().getNeighbors(t, 6, ProMatches.territoryCanPotentiallyMoveLandUnits(player, data)).size();
+    final int landMassSize = 1 + distances.countLandNeighbors(t, 6);
     double value = nearbyEnemyValue * landMassSize / maxLandMassSize + capitalOrFactoryValue;
     if (ProMatches.territoryHasInfraFactoryAndIsLand().test(t)) {
       value *= 1.1; // prefer territories with factories
@@ -257,7 +254,8 @@ public class ProTerritoryValueUtils {
     return value;
   }
 
-  private static double findWaterValue(final Territory t, final PlayerID player, final int maxLandMassSize,
+  private static double findWaterValue(final Territory t, final PlayerID player,
+      final ProMapDistances.Lookup distances, final int maxLandMassSize,
       final Map<Territory, Double> enemyCapitalsAndFactoriesMap, final List<Territory> territoriesThatCantBeHeld,
       final List<Territory> territoriesToAttack, final Map<Territory, Double> territoryValueMap) {
 
@@ -269,7 +267,7 @@ public class ProTerritoryValueUtils {
     // Determine value based on enemy factory distance
     final List<Double> values = new ArrayList<>();
     final Set<Territory> nearbyEnemyCapitalsAndFactories =
-        findNearbyEnemyCapitalsAndFactories(t, enemyCapitalsAndFactoriesMap);
+        findNearbyEnemyCapitalsAndFactories(t, distances, enemyCapitalsAndFactoriesMap);
     for (final Territory enemyCapitalOrFactory : nearbyEnemyCapitalsAndFactories) {
       final Route route = data.getMap().getRoute_IgnoreEnd(t, enemyCapitalOrFactory,
           ProMatches.territoryCanMoveSeaUnits(player, data, true));
@@ -289,7 +287,7 @@ public class ProTerritoryValueUtils {
 
     // Determine value based on nearby territory production
     double nearbyLandValue = 0;
-    final Set<Territory> nearbyTerritories = data.getMap().getNeighbors(t, 3);
+    final Set<Territory> nearbyTerritories = distances.getNeighbors(t, 3);
     final List<Territory> nearbyLandTerritories =
         CollectionUtils.getMatches(nearbyTerritories, ProMatches.territoryCanPotentiallyMoveLandUnits(player, data));
     nearbyLandTerritories.removeAll(territoriesToAttack);
@@ -310,8 +308,8 @@ public class ProTerritoryValueUtils {
           nearbyLandValue += value;
         }
         if (!territoryValueMap.containsKey(nearbyLandTerritory)) {
-          final double value = findLandValue(nearbyLandTerritory, player, maxLandMassSize, enemyCapitalsAndFactoriesMap,
-              territoriesThatCantBeHeld, territoriesToAttack);
+          final double value = findLandValue(nearbyLandTerritory, player, distances, maxLandMassSize,
+              enemyCapitalsAndFactoriesMap, territoriesThatCantBeHeld, territoriesToAttack);
           territoryValueMap.put(nearbyLandTerritory, value);
         }
         nearbyLandValue += territoryValueMap.get(nearbyLandTerritory);
@@ -322,18 +320,9 @@ public class ProTerritoryValueUtils {
   }
 
   private static Set<Territory> findNearbyEnemyCapitalsAndFactories(final Territory t,
-      final Map<Territory, Double> enemyCapitalsAndFactoriesMap) {
-
-    Set<Territory> nearbyEnemyCapitalsAndFactories = new HashSet<>();
-    for (int i = MIN_FACTORY_CHECK_DISTANCE; i <= MAX_FACTORY_CHECK_DISTANCE; i++) {
-      nearbyEnemyCapitalsAndFactories = ProData.getData().getMap().getNeighbors(t, i);
-      nearbyEnemyCapitalsAndFactories.retainAll(enemyCapitalsAndFactoriesMap.keySet());
-      if (!nearbyEnemyCapitalsAndFactories.isEmpty()) {
-        break;
-      }
-    }
-
-    return nearbyEnemyCapitalsAndFactories;
+      final ProMapDistances.Lookup distances, final Map<Territory, Double> enemyCapitalsAndFactoriesMap) {
+    return distances.getNearest(t, enemyCapitalsAndFactoriesMap.keySet(), MIN_FACTORY_CHECK_DISTANCE,
+        MAX_FACTORY_CHECK_DISTANCE);
   }
 
 }
@@ -121,10 +121,12 @@ public abstract class AbstractTriggerAttachment extends AbstractConditionsAttach
       throw new GameParseException("when must start with: " + BEFORE + " or " + AFTER + thisErrorMsg());
     }
     m_when.add(Tuple.of(s[0], s[1]));
+    TriggerIndex.invalidate(getData());
   }
 
   private void setWhen(final List<Tuple<String, String>> value) {
     m_when = value;
+    TriggerIndex.invalidate(getData());
   }
 
   protected List<Tuple<String, String>> getWhen() {
@@ -133,6 +135,7 @@ public abstract class AbstractTriggerAttachment extends AbstractConditionsAttach
 
   private void resetWhen() {
     m_when = new ArrayList<>();
+    TriggerIndex.invalidate(getData());
   }
 
   private void setNotification(final String notification) {
@@ -6,15 +6,21 @@ import static com.google.common.base.Preconditions.checkState;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
+import java.util.EnumSet;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
 
+import javax.annotation.Nullable;
+import javax.annotation.concurrent.Immutable;
+
 import com.google.common.collect.ImmutableMap;
 
 import games.strategy.engine.data.Attachable;
 import games.strategy.engine.data.BattleRecordsList;
+import games.strategy.engine.data.ChangeTracker;
+import games.strategy.engine.data.ChangeTracker.Aspect;
 import games.strategy.engine.data.GameData;
 import games.strategy.engine.data.GameMap;
 import games.strategy.engine.data.GameParseException;
@@ -45,6 +51,8 @@ import games.strategy.util.Tuple;
 @MapSupport
 public class RulesAttachment extends AbstractPlayerRulesAttachment {
   private static final long serialVersionUID = 7301965634079412516L;
+  private static final String USES_PROPERTY = "uses";
+  private static final String USED_THIS_ROUND_PROPERTY = "usedThisRound";
 
   // condition for having techs
   private List<TechAdvance> m_techs = null;
@@ -78,6 +86,9 @@ public class RulesAttachment extends AbstractPlayerRulesAttachment {
   private String[] m_enemyPresenceTerritories = null;
   // used with above 3 to determine the type of unit that must be present
   private IntegerMap<String> m_unitPresence = new IntegerMap<>();
+  // the result of the last test of this condition, reused until the game data this condition reads changes
+  @InternalDoNotExport
+  private transient volatile TestResult lastTestResult;
 
 
   /** Creates new RulesAttachment. */
@@ -602,12 +613,81 @@ public class RulesAttachment extends AbstractPlayerRulesAttachment {
   }
 
   @Override
-  public boolean isSatisfied(Map<ICondition, Boolean> testedConditions, final IDelegateBridge delegateBridge) {
+  public boolean isSatisfied(final Map<ICondition, Boolean> testedConditions, final IDelegateBridge delegateBridge) {
     if (testedConditions != null) {
       if (testedConditions.containsKey(this)) {
         return testedConditions.get(this);
       }
     }
+    final GameData data = delegateBridge.getData();
+    final Set<Aspect> dependencies = getTestDependencies(new HashSet<>());
+    if (dependencies == null) {
+      return testSatisfied(testedConditions, delegateBridge);
+    }
+    final ChangeTracker changeTracker = data.getChangeTracker();
+    final int round = data.getSequence().getRound();
+    final long version = getTestVersion(changeTracker, dependencies);
+    final TestResult lastResult = lastTestResult;
+    if (lastResult != null && lastResult.isCurrent(changeTracker, round, version)) {
+      return lastResult.satisfied;
+    }
+    final boolean satisfied = testSatisfied(testedConditions, delegateBridge);
+    lastTestResult = new TestResult(changeTracker, round, version, satisfied);
+    return satisfied;
+  }
+
+  /**
+   * Returns the aspects of the game data read when testing this condition and its sub-conditions, or {@code null} if
+   * the result of a test must never be reused because the condition rolls dice.
+   */
+  private @Nullable Set<Aspect> getTestDependencies(final Set<RulesAttachment> visited) {
+    if (!visited.add(this)) {
+      return EnumSet.noneOf(Aspect.class);
+    }
+    if (getChanceToHit() != getChanceDiceSides() || getChanceIncrementOnFailure() != 0
+        || getChanceDecrementOnSuccess() != 0) {
+      return null;
+    }
+    // the switch, the players and the territory lists ("original", "controlled", ...) are read from attachments
+    final Set<Aspect> dependencies = EnumSet.of(Aspect.ATTACHMENTS, Aspect.TERRITORY_OWNERSHIP);
+    if (m_gameProperty != null) {
+      dependencies.add(Aspect.GAME_PROPERTIES);
+    }
+    if (m_directPresenceTerritories != null || m_alliedPresenceTerritories != null
+        || m_enemyPresenceTerritories != null || m_directExclusionTerritories != null
+        || m_alliedExclusionTerritories != null || m_enemyExclusionTerritories != null
+        || m_enemySurfaceExclusionTerritories != null) {
+      dependencies.add(Aspect.UNITS);
+      dependencies.add(Aspect.RELATIONSHIPS);
+    }
+    if (m_alliedOwnershipTerritories != null || m_directOwnershipTerritories != null || m_atWarPlayers != null
+        || !m_relationship.isEmpty()) {
+      dependencies.add(Aspect.RELATIONSHIPS);
+    }
+    if (m_techs != null) {
+      dependencies.add(Aspect.TECHNOLOGY);
+    }
+    if (m_destroyedTUV != null || !m_battle.isEmpty()) {
+      dependencies.add(Aspect.BATTLE_RECORDS);
+    }
+    for (final RulesAttachment condition : m_conditions) {
+      final Set<Aspect> conditionDependencies = condition.getTestDependencies(visited);
+      if (conditionDependencies == null) {
+        return null;
+      }
+      dependencies.addAll(conditionDependencies);
+    }
+    return dependencies;
+  }
+
+  private static long getTestVersion(final ChangeTracker changeTracker, final Set<Aspect> dependencies) {
+    // trigger bookkeeping is never read by conditions, so it must not invalidate previous test results
+    return changeTracker.getVersion(dependencies)
+        - changeTracker.getAttachmentPropertyVersion(USES_PROPERTY)
+        - changeTracker.getAttachmentPropertyVersion(USED_THIS_ROUND_PROPERTY);
+  }
+
+  private boolean testSatisfied(Map<ICondition, Boolean> testedConditions, final IDelegateBridge delegateBridge) {
     boolean objectiveMet = true;
     final List<PlayerID> players = getPlayers();
     final GameData data = delegateBridge.getData();
@@ -1213,4 +1293,23 @@ public class RulesAttachment extends AbstractPlayerRulesAttachment {
                 this::resetUnitPresence))
         .build();
   }
+
+  @Immutable
+  private static final class TestResult {
+    private final ChangeTracker changeTracker;
+    private final int round;
+    private final long version;
+    final boolean satisfied;
+
+    TestResult(final ChangeTracker changeTracker, final int round, final long version, final boolean satisfied) {
+      this.changeTracker = changeTracker;
+      this.round = round;
+      this.version = version;
+      this.satisfied = satisfied;
+    }
+
+    boolean isCurrent(final ChangeTracker changeTracker, final int round, final long version) {
+      return this.changeTracker == changeTracker && this.round == round && this.version == version;
+    }
+  }
 }
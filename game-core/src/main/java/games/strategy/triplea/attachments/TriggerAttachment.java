@@ -19,7 +19,6 @@ import games.strategy.engine.data.Change;
 import games.strategy.engine.data.CompositeChange;
 import games.strategy.engine.data.GameData;
 import games.strategy.engine.data.GameParseException;
-import games.strategy.engine.data.IAttachment;
 import games.strategy.engine.data.MutableProperty;
 import games.strategy.engine.data.PlayerID;
 import games.strategy.engine.data.ProductionFrontier;
@@ -140,25 +139,32 @@ public class TriggerAttachment extends AbstractTriggerAttachment {
    */
   static Set<TriggerAttachment> getTriggers(final PlayerID player, final Predicate<TriggerAttachment> cond) {
     final Set<TriggerAttachment> trigs = new HashSet<>();
-    for (final IAttachment a : player.getAttachments().values()) {
-      if (a instanceof TriggerAttachment) {
-        if (cond == null || cond.test((TriggerAttachment) a)) {
-          trigs.add((TriggerAttachment) a);
-        }
+    for (final TriggerAttachment ta : TriggerIndex.get(player.getData()).getTriggers(player)) {
+      if (cond == null || cond.test(ta)) {
+        trigs.add(ta);
       }
     }
     return trigs;
   }
 
   /**
-   * This will collect all triggers for the desired players, based on a match provided,
+   * This will collect all triggers for the desired players that fire {@code beforeOrAfter} the step named
+   * {@code stepName}, based on a match provided,
    * and then it will gather all the conditions necessary, then test all the conditions,
    * and then it will fire all the conditions which are satisfied.
    */
   public static void collectAndFireTriggers(final HashSet<PlayerID> players,
       final Predicate<TriggerAttachment> triggerMatch, final IDelegateBridge bridge, final String beforeOrAfter,
       final String stepName) {
-    final HashSet<TriggerAttachment> toFirePossible = collectForAllTriggersMatching(players, triggerMatch);
+    final HashSet<TriggerAttachment> toFirePossible = new HashSet<>();
+    final TriggerIndex triggerIndex = TriggerIndex.get(bridge.getData());
+    for (final PlayerID player : players) {
+      for (final TriggerAttachment ta : triggerIndex.getTriggers(player, beforeOrAfter, stepName)) {
+        if (triggerMatch.test(ta)) {
+          toFirePossible.add(ta);
+        }
+      }
+    }
     if (toFirePossible.isEmpty()) {
       return;
     }
@@ -0,0 +1,110 @@
+package games.strategy.triplea.attachments;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.WeakHashMap;
+
+import javax.annotation.Nullable;
+import javax.annotation.concurrent.Immutable;
+
+import games.strategy.engine.data.ChangeTracker;
+import games.strategy.engine.data.GameData;
+import games.strategy.engine.data.IAttachment;
+import games.strategy.engine.data.PlayerID;
+import games.strategy.util.Tuple;
+
+/**
+ * An index of the trigger attachments of a game by player, and by player and the step ("when") they fire in.
+ *
+ * <p>
+ * The index of a game is built the first time it is requested and is reused until an attachment is added to or
+ * removed from a player, or the {@code when} property of a trigger is changed. Other changes, such as a trigger
+ * consuming one of its uses, do not invalidate the index.
+ * </p>
+ */
+@Immutable
+final class TriggerIndex {
+  private static final Map<GameData, TriggerIndex> indexesByGameData =
+      Collections.synchronizedMap(new WeakHashMap<>());
+
+  private final long attachmentStructureVersion;
+  private final Map<PlayerID, List<TriggerAttachment>> triggersByPlayer = new HashMap<>();
+  private final Map<Tuple<String, String>, Map<PlayerID, List<TriggerAttachment>>> triggersByWhen = new HashMap<>();
+
+  private TriggerIndex(final GameData data) {
+    attachmentStructureVersion = data.getChangeTracker().getVersion(ChangeTracker.Aspect.ATTACHMENT_STRUCTURE);
+    for (final PlayerID player : data.getPlayerList().getPlayers()) {
+      triggersByPlayer.put(player, findTriggers(player));
+    }
+    triggersByPlayer.forEach((player, triggers) -> {
+      for (final TriggerAttachment trigger : triggers) {
+        for (final Tuple<String, String> when : trigger.getWhen()) {
+          triggersByWhen.computeIfAbsent(when, k -> new HashMap<>())
+              .computeIfAbsent(player, k -> new ArrayList<>())
+              .add(trigger);
+        }
+      }
+    });
+  }
+
+  private static List<TriggerAttachment> findTriggers(final PlayerID player) {
+    final List<TriggerAttachment> triggers = new ArrayList<>();
+    for (final IAttachment attachment : player.getAttachments().values()) {
+      if (attachment instanceof TriggerAttachment) {
+        triggers.add((TriggerAttachment) attachment);
+      }
+    }
+    return triggers;
+  }
+
+  private boolean isCurrent(final ChangeTracker changeTracker) {
+    return attachmentStructureVersion == changeTracker.getVersion(ChangeTracker.Aspect.ATTACHMENT_STRUCTURE);
+  }
+
+  /**
+   * Returns the current trigger index of the specified game, rebuilding it if it is out of date.
+   */
+  static TriggerIndex get(final GameData data) {
+    final ChangeTracker changeTracker = data.getChangeTracker();
+    synchronized (indexesByGameData) {
+      TriggerIndex index = indexesByGameData.get(data);
+      if (index == null || !index.isCurrent(changeTracker)) {
+        index = new TriggerIndex(data);
+        indexesByGameData.put(data, index);
+      }
+      return index;
+    }
+  }
+
+  /**
+   * Discards the trigger index of the specified game; called whenever the {@code when} property of a trigger changes.
+   */
+  static void invalidate(final @Nullable GameData data) {
+    if (data != null) {
+      indexesByGameData.remove(data);
+    }
+  }
+
+  /**
+   * Returns all trigger attachments attached to the specified player.
+   */
+  List<TriggerAttachment> getTriggers(final PlayerID player) {
+    final List<TriggerAttachment> triggers = triggersByPlayer.get(player);
+    // players outside of the player list (e.g. the null player) are not indexed
+    return (triggers != null) ? Collections.unmodifiableList(triggers) : findTriggers(player);
+  }
+
+  /**
+   * Returns the trigger attachments attached to the specified player that fire {@code beforeOrAfter} the step with
+   * the specified name.
+   */
+  List<TriggerAttachment> getTriggers(final PlayerID player, final String beforeOrAfter, final String stepName) {
+    final List<TriggerAttachment> triggers = triggersByWhen
+        .getOrDefault(Tuple.of(beforeOrAfter, stepName), Collections.emptyMap())
+        .get(player);
+    return (triggers != null) ? Collections.unmodifiableList(triggers) : Collections.emptyList();
+  }
+}
@@ -24,6 +24,8 @@ import games.strategy.triplea.delegate.remote.IMoveDelegate;
 public abstract class AbstractMoveDelegate extends BaseTripleADelegate implements IMoveDelegate {
   // A collection of UndoableMoves
   protected List<UndoableMove> movesToUndo = new ArrayList<>();
+  // the moves in movesToUndo, indexed to find the moves a new move depends on
+  private final UndoDependencyIndex undoDependencyIndex = new UndoDependencyIndex();
   // protected final TransportTracker m_transportTracker = new TransportTracker();
   // if we are in the process of doing a move. this instance will allow us to resume the move
   protected MovePerformer tempMovePerformer;
@@ -48,6 +50,7 @@ public abstract class AbstractMoveDelegate extends BaseTripleADelegate implement
   public void end() {
     super.end();
     movesToUndo.clear();
+    undoDependencyIndex.clear();
   }
 
   @Override
@@ -68,6 +71,8 @@ public abstract class AbstractMoveDelegate extends BaseTripleADelegate implement
     // move
     if (s.m_movesToUndo != null) {
       movesToUndo = s.m_movesToUndo;
+      undoDependencyIndex.clear();
+      movesToUndo.forEach(undoDependencyIndex::add);
     }
     tempMovePerformer = s.m_tempMovePerformer;
   }
@@ -91,20 +96,21 @@ public abstract class AbstractMoveDelegate extends BaseTripleADelegate implement
     }
     moveToUndo.undo(bridge);
     movesToUndo.remove(moveIndex);
-    updateUndoableMoveIndexes();
-    return null;
-  }
-
-  private void updateUndoableMoveIndexes() {
-    for (int i = 0; i < movesToUndo.size(); i++) {
+    undoDependencyIndex.remove(moveToUndo);
+    // only the moves after the one undone change position
+    for (int i = moveIndex; i < movesToUndo.size(); i++) {
       movesToUndo.get(i).setIndex(i);
     }
+    return null;
   }
 
   protected void updateUndoableMoves(final UndoableMove currentMove) {
-    currentMove.initializeDependencies(movesToUndo);
+    for (final UndoableMove other : undoDependencyIndex.getMovesDependedOnBy(currentMove)) {
+      currentMove.addDependency(other);
+    }
+    currentMove.setIndex(movesToUndo.size());
     movesToUndo.add(currentMove);
-    updateUndoableMoveIndexes();
+    undoDependencyIndex.add(currentMove);
   }
 
   protected PlayerID getUnitsOwner(final Collection<Unit> units) {
@@ -410,7 +410,7 @@ public class BattleDelegate extends BaseTripleADelegate implements IBattleDelega
         .and(Matches.territoryHasUnitsOwnedBy(player));
     final Predicate<Territory> enemyUnitsOrEnemyTerritory = anyTerritoryWithOwnAndEnemy.or(enemyTerritoryAndOwnUnits);
     final List<Territory> battleTerritories =
-        CollectionUtils.getMatches(data.getMap().getTerritories(), enemyUnitsOrEnemyTerritory);
+        CollectionUtils.getMatches(data.getContestedTerritories(), enemyUnitsOrEnemyTerritory);
     for (final Territory territory : battleTerritories) {
       final List<Unit> attackingUnits = territory.getUnits().getMatches(Matches.unitIsOwnedBy(player));
       // now make sure to add any units that must move with these attacking units, so that they get included as
@@ -551,7 +551,7 @@ public class BattleDelegate extends BaseTripleADelegate implements IBattleDelega
       return;
     }
     final PlayerID player = bridge.getPlayerId();
-    final List<Territory> battleTerritories = CollectionUtils.getMatches(data.getMap().getTerritories(),
+    final List<Territory> battleTerritories = CollectionUtils.getMatches(data.getContestedTerritories(),
         Matches.territoryIsNotUnownedWater()
             .and(Matches.territoryHasEnemyUnitsThatCanCaptureItAndIsOwnedByTheirEnemy(player, data)));
     // all territories that contain enemy units, where the territory is owned by an enemy of these units
@@ -501,8 +501,12 @@ public final class Matches {
     return unit -> UnitAttachment.get(unit.getType()).getCarrierCapacity() != -1;
   }
 
+  private static Predicate<UnitType> unitTypeIsCarrier() {
+    return type -> UnitAttachment.get(type).getCarrierCapacity() != -1;
+  }
+
   static Predicate<Territory> territoryHasOwnedCarrier(final PlayerID player) {
-    return t -> t.getUnits().anyMatch(unitIsOwnedBy(player).and(unitIsCarrier()));
+    return t -> t.getUnits().anyMatch(player::equals, unitTypeIsCarrier());
   }
 
   public static Predicate<Unit> unitIsAlliedCarrier(final PlayerID player, final GameData data) {
@@ -855,7 +859,7 @@ public final class Matches {
   }
 
   public static Predicate<Territory> territoryHasOwnedIsFactoryOrCanProduceUnits(final PlayerID player) {
-    return t -> t.getOwner().equals(player) && t.getUnits().anyMatch(unitCanProduceUnits());
+    return t -> t.getOwner().equals(player) && t.getUnits().anyMatch(owner -> true, unitTypeCanProduceUnits());
   }
 
   private static Predicate<Territory> territoryHasOwnedAtBeginningOfTurnIsFactoryOrCanProduceUnits(final GameData data,
@@ -1155,14 +1159,6 @@ public final class Matches {
         || data.getRelationshipTracker().isAllied(player, t.getOwner());
   }
 
-  private static Predicate<Unit> unitIsEnemyAaForAnything(final PlayerID player, final GameData data) {
-    return unitIsAaForAnything().and(enemyUnit(player, data));
-  }
-
-  private static Predicate<Unit> unitIsEnemyAaForCombat(final PlayerID player, final GameData data) {
-    return unitIsAaForCombatOnly().and(enemyUnit(player, data));
-  }
-
   static Predicate<Unit> unitIsInTerritory(final Territory territory) {
     return o -> territory.getUnits().getUnits().contains(o);
   }
@@ -1273,12 +1269,11 @@ public final class Matches {
   }
 
   public static Predicate<Territory> territoryHasLandUnitsOwnedBy(final PlayerID player) {
-    return t -> t.getUnits().anyMatch(unitIsOwnedBy(player).and(unitIsLand()));
+    return t -> t.getUnits().anyMatch(player::equals, unitTypeIsLand());
   }
 
   public static Predicate<Territory> territoryHasUnitsOwnedBy(final PlayerID player) {
-    final Predicate<Unit> unitOwnedBy = unitIsOwnedBy(player);
-    return t -> t.getUnits().anyMatch(unitOwnedBy);
+    return t -> t.getUnits().anyMatch(player::equals, type -> true);
   }
 
   public static Predicate<Territory> territoryHasUnitsThatMatch(final Predicate<Unit> cond) {
@@ -1286,19 +1281,20 @@ public final class Matches {
   }
 
   public static Predicate<Territory> territoryHasEnemyAaForAnything(final PlayerID player, final GameData data) {
-    return t -> t.getUnits().anyMatch(unitIsEnemyAaForAnything(player, data));
+    return t -> t.getUnits().anyMatch(isEnemyOwner(player, data), unitTypeIsAaForAnything());
   }
 
   public static Predicate<Territory> territoryHasEnemyAaForCombatOnly(final PlayerID player, final GameData data) {
-    return t -> t.getUnits().anyMatch(unitIsEnemyAaForCombat(player, data));
+    return t -> t.getUnits().anyMatch(isEnemyOwner(player, data), unitTypeIsAaForCombatOnly());
   }
 
   public static Predicate<Territory> territoryHasNoEnemyUnits(final PlayerID player, final GameData data) {
-    return t -> !t.getUnits().anyMatch(enemyUnit(player, data));
+    return t -> !t.getUnits().anyMatch(isEnemyOwner(player, data), type -> true);
   }
 
   public static Predicate<Territory> territoryHasAlliedUnits(final PlayerID player, final GameData data) {
-    return t -> t.getUnits().anyMatch(alliedUnit(player, data));
+    return t -> t.getUnits().anyMatch(
+        owner -> owner.equals(player) || data.getRelationshipTracker().isAllied(player, owner), type -> true);
   }
 
   static Predicate<Territory> territoryHasNonSubmergedEnemyUnits(final PlayerID player, final GameData data) {
@@ -1307,15 +1303,20 @@ public final class Matches {
   }
 
   public static Predicate<Territory> territoryHasEnemyLandUnits(final PlayerID player, final GameData data) {
-    return t -> t.getUnits().anyMatch(enemyUnit(player, data).and(unitIsLand()));
+    return t -> t.getUnits().anyMatch(isEnemyOwner(player, data), unitTypeIsLand());
   }
 
   public static Predicate<Territory> territoryHasEnemySeaUnits(final PlayerID player, final GameData data) {
-    return t -> t.getUnits().anyMatch(enemyUnit(player, data).and(unitIsSea()));
+    return t -> t.getUnits().anyMatch(isEnemyOwner(player, data), unitTypeIsSea());
   }
 
   public static Predicate<Territory> territoryHasEnemyUnits(final PlayerID player, final GameData data) {
-    return t -> t.getUnits().anyMatch(enemyUnit(player, data));
+    return t -> t.getUnits().anyMatch(isEnemyOwner(player, data), type -> true);
+  }
+
+  // the same test as enemyUnit, for use with UnitCollection.anyMatch(Predicate<PlayerID>, Predicate<UnitType>)
+  private static Predicate<PlayerID> isEnemyOwner(final PlayerID player, final GameData data) {
+    return owner -> data.getRelationshipTracker().isAtWar(player, owner);
   }
 
   static Predicate<Territory> territoryIsNotUnownedWater() {
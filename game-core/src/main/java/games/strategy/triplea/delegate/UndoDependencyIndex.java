@@ -0,0 +1,84 @@
+package games.strategy.triplea.delegate;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+
+import games.strategy.engine.data.Territory;
+import games.strategy.engine.data.Unit;
+
+/**
+ * Indexes the moves made in a phase by the units they moved, the transports they unloaded and the territories they
+ * conquered, so the earlier moves a new move depends on are found by looking up its own units and territories instead
+ * of comparing it with every earlier move.
+ */
+final class UndoDependencyIndex {
+  private final Map<Unit, Set<UndoableMove>> movesByUnit = new HashMap<>();
+  private final Map<Unit, Set<UndoableMove>> movesByUnloadedTransport = new HashMap<>();
+  private final Map<Territory, Set<UndoableMove>> movesByConqueredTerritory = new HashMap<>();
+
+  void add(final UndoableMove move) {
+    addAll(movesByUnit, move.getUnits(), move);
+    addAll(movesByUnloadedTransport, move.getUnloadedTransports(), move);
+    addAll(movesByConqueredTerritory, move.getConqueredTerritories(), move);
+  }
+
+  private static <K> void addAll(final Map<K, Set<UndoableMove>> index, final Collection<K> keys,
+      final UndoableMove move) {
+    for (final K key : keys) {
+      index.computeIfAbsent(key, k -> new HashSet<>()).add(move);
+    }
+  }
+
+  void remove(final UndoableMove move) {
+    removeAll(movesByUnit, move.getUnits(), move);
+    removeAll(movesByUnloadedTransport, move.getUnloadedTransports(), move);
+    removeAll(movesByConqueredTerritory, move.getConqueredTerritories(), move);
+  }
+
+  private static <K> void removeAll(final Map<K, Set<UndoableMove>> index, final Collection<K> keys,
+      final UndoableMove move) {
+    for (final K key : keys) {
+      final Set<UndoableMove> moves = index.get(key);
+      if (moves != null && moves.remove(move) && moves.isEmpty()) {
+        index.remove(key);
+      }
+    }
+  }
+
+  void clear() {
+    movesByUnit.clear();
+    movesByUnloadedTransport.clear();
+    movesByConqueredTerritory.clear();
+  }
+
+  /**
+   * Returns the indexed moves that must not be undone before the specified move, which are those that:
+   * <ul>
+   * <li>moved any of the same units,</li>
+   * <li>moved a transport the move loads or unloads,</li>
+   * <li>unloaded a transport the move unloads, or</li>
+   * <li>conquered a territory on the route of the move.</li>
+   * </ul>
+   */
+  Set<UndoableMove> getMovesDependedOnBy(final UndoableMove move) {
+    final Set<UndoableMove> moves = new HashSet<>();
+    addMatches(moves, movesByUnit, move.getUnits());
+    addMatches(moves, movesByUnit, move.getLoadedTransports());
+    addMatches(moves, movesByUnit, move.getUnloadedTransports());
+    addMatches(moves, movesByUnloadedTransport, move.getUnloadedTransports());
+    addMatches(moves, movesByConqueredTerritory, move.getRoute().getAllTerritories());
+    moves.remove(move);
+    return moves;
+  }
+
+  private static <K> void addMatches(final Set<UndoableMove> moves, final Map<K, Set<UndoableMove>> index,
+      final Collection<K> keys) {
+    for (final K key : keys) {
+      moves.addAll(index.getOrDefault(key, Collections.emptySet()));
+    }
+  }
+}
@@ -4,7 +4,6 @@ import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
-import java.util.List;
 import java.util.Set;
 
 import games.strategy.engine.data.Change;
@@ -153,42 +152,24 @@ public class UndoableMove extends AbstractUndoableMove {
     MovePanel.clearDependents(m_units);
   }
 
-  /**
-   * Update the dependencies.
-   *
-   * @param undoableMoves
-   *        list of moves that should be undone
-   */
-  public void initializeDependencies(final List<UndoableMove> undoableMoves) {
-    for (final UndoableMove other : undoableMoves) {
-      if (other == null) {
-        System.err.println(undoableMoves);
-        throw new IllegalStateException("other should not be null");
-      }
-      // if the other move has moves that depend on this
-      if (!CollectionUtils.intersection(other.getUnits(), this.getUnits()).isEmpty()
-          // if the other move has transports that we are loading
-          || !CollectionUtils.intersection(other.m_units, this.m_loaded).isEmpty()
-          // or we are moving through a previously conqueured territory
-          // we should be able to take this out later
-          // we need to add logic for this move to take over the same territories
-          // when the other move is undone
-          || !CollectionUtils.intersection(other.m_conquered, m_route.getAllTerritories()).isEmpty()
-          // or we are unloading transports that have moved in another turn
-          || !CollectionUtils.intersection(other.m_units, this.m_unloaded).isEmpty()
-          || !CollectionUtils.intersection(other.m_unloaded, this.m_unloaded).isEmpty()) {
-        m_iDependOn.add(other);
-        other.m_dependOnMe.add(this);
-      }
-    }
-  }
-
   // for use with airborne moving
   public void addDependency(final UndoableMove undoableMove) {
     m_iDependOn.add(undoableMove);
     undoableMove.m_dependOnMe.add(this);
   }
 
+  Set<Unit> getLoadedTransports() {
+    return m_loaded;
+  }
+
+  Set<Unit> getUnloadedTransports() {
+    return m_unloaded;
+  }
+
+  Set<Territory> getConqueredTerritories() {
+    return m_conquered;
+  }
+
   public boolean wasTransportUnloaded(final Unit transport) {
     return m_unloaded.contains(transport);
   }
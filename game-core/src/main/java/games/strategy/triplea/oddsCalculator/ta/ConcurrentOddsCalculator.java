@@ -13,9 +13,13 @@ import java.util.concurrent.ExecutionException;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
+import javax.annotation.Nullable;
+
 import games.strategy.engine.data.GameData;
 import games.strategy.engine.data.PlayerID;
 import games.strategy.engine.data.Territory;
@@ -32,6 +36,8 @@ import games.strategy.util.Interruptibles;
 public class ConcurrentOddsCalculator implements IOddsCalculator {
   private static final Logger logger = Logger.getLogger(ConcurrentOddsCalculator.class.getName());
   private static final int MAX_THREADS = Math.max(1, Runtime.getRuntime().availableProcessors());
+  private static final AtomicLong calculationCount = new AtomicLong();
+  private static final AtomicLong simulatedBattleCount = new AtomicLong();
 
   private int currentThreads = MAX_THREADS;
   private final ExecutorService executor;
@@ -69,6 +75,19 @@ public class ConcurrentOddsCalculator implements IOddsCalculator {
 
   @Override
   public void setGameData(final GameData data) {
+    // serialize without the history on a worker thread, which needs only the read lock of the data
+    setGameData(data == null ? null : () -> GameDataUtils.serializeGameDataWithoutHistory(data, false));
+  }
+
+  /**
+   * Creates every worker from the specified copy of the game data, so the game data is not serialized again.
+   */
+  @Override
+  public void setSerializedGameData(final byte[] serializedGameData) {
+    setGameData(serializedGameData == null ? null : () -> serializedGameData);
+  }
+
+  private void setGameData(final @Nullable Supplier<byte[]> serializer) {
     // increment so that a new calc doesn't take place (since they all wait on this latch)
     latchSetData.increment();
     // cancel any current setting of data
@@ -86,7 +105,7 @@ public class ConcurrentOddsCalculator implements IOddsCalculator {
       cancel();
       isDataSet = false;
       isCalcSet = false;
-      if (data == null || isShutDown) {
+      if (serializer == null || isShutDown) {
         workers.clear();
         ++cancelCurrentOperation;
         // allow calcing and other stuff to go ahead
@@ -95,7 +114,7 @@ public class ConcurrentOddsCalculator implements IOddsCalculator {
         ++cancelCurrentOperation;
         // increment our token, so that we can set the data in a different thread and return from this one
         latchWorkerThreadsCreation.increment();
-        executor.submit(() -> createWorkers(data));
+        executor.submit(() -> createWorkers(serializer));
       }
     }
   }
@@ -131,34 +150,28 @@ public class ConcurrentOddsCalculator implements IOddsCalculator {
     return Math.min(numberOfTimesWeCanCopyMax, MAX_THREADS);
   }
 
-  private void createWorkers(final GameData data) {
+  private void createWorkers(final Supplier<byte[]> serializer) {
     workers.clear();
-    if (data != null && cancelCurrentOperation >= 0) {
+    boolean isDataCopied = false;
+    if (cancelCurrentOperation >= 0) {
       // see how long 1 copy takes (some games can get REALLY big)
       final long startTime = System.currentTimeMillis();
       final long startMemory = Runtime.getRuntime().totalMemory() - Runtime.getRuntime().freeMemory();
-      final GameData newData;
-      try {
-        // make first copy, then release lock on it so game can continue (ie: we don't want to lock on it while we copy
-        // it 16 times, when once is enough) don't let the data change while we make the first copy
-        data.acquireWriteLock();
-        newData = GameDataUtils.cloneGameDataWithoutHistory(data, false);
-      } finally {
-        data.releaseWriteLock();
-      }
-      currentThreads = getThreadsToUse((System.currentTimeMillis() - startTime), startMemory);
-      try {
-        // make sure all workers are using the same data
-        newData.acquireReadLock();
+      // serialize the game once, every worker makes its own copy from the same bytes
+      final byte[] bytes = serializer.get();
+      final GameData newData = bytes == null ? null : GameDataUtils.deserializeGameData(bytes);
+      isDataCopied = newData != null;
+      if (isDataCopied) {
+        currentThreads = getThreadsToUse((System.currentTimeMillis() - startTime), startMemory);
         int i = 0;
         // we are already in 1 executor thread, so we have MAX_THREADS-1 threads left to use
         if (currentThreads <= 2 || MAX_THREADS <= 2) {
           // if 2 or fewer threads, do not multi-thread the copying (we have already copied it once above, so at most
-          // only 1 more copy to
-          // make)
+          // only 1 more copy to make)
           while (cancelCurrentOperation >= 0 && i < currentThreads) {
             // the last one will use our already copied data from above, without copying it again
-            workers.add(new OddsCalculator(newData, (currentThreads == ++i)));
+            workers.add(new OddsCalculator((currentThreads == ++i) ? newData : GameDataUtils.deserializeGameData(bytes),
+                true));
           }
         } else { // multi-thread our copying, cus why the heck not (it increases the speed of copying by about double)
           final CountDownLatch workerLatch = new CountDownLatch(currentThreads - 1);
@@ -166,7 +179,7 @@ public class ConcurrentOddsCalculator implements IOddsCalculator {
             ++i;
             executor.submit(() -> {
               if (cancelCurrentOperation >= 0) {
-                workers.add(new OddsCalculator(newData, false));
+                workers.add(new OddsCalculator(GameDataUtils.deserializeGameData(bytes), true));
               }
               workerLatch.countDown();
             });
@@ -175,11 +188,9 @@ public class ConcurrentOddsCalculator implements IOddsCalculator {
           workers.add(new OddsCalculator(newData, true));
           Interruptibles.await(workerLatch);
         }
-      } finally {
-        newData.releaseReadLock();
       }
     }
-    if (cancelCurrentOperation < 0 || data == null) {
+    if (cancelCurrentOperation < 0 || !isDataCopied) {
       // we could have cancelled while setting data, so clear the workers again if so
       workers.clear();
       isDataSet = false;
@@ -305,10 +316,27 @@ public class ConcurrentOddsCalculator implements IOddsCalculator {
         }
       }
       results.setTime(System.currentTimeMillis() - start);
+      calculationCount.incrementAndGet();
+      simulatedBattleCount.addAndGet(totalRunCount);
       return results;
     }
   }
 
+  /**
+   * Returns the number of calculations completed by all concurrent odds calculators in this JVM.
+   */
+  public static long getCalculationCount() {
+    return calculationCount.get();
+  }
+
+  /**
+   * Returns the number of battles simulated by the calculations completed by all concurrent odds calculators in this
+   * JVM.
+   */
+  public static long getSimulatedBattleCount() {
+    return simulatedBattleCount.get();
+  }
+
   @Override
   public AggregateResults setCalculateDataAndCalculate(final PlayerID attacker, final PlayerID defender,
       final Territory location, final Collection<Unit> attacking, final Collection<Unit> defending,
@@ -7,6 +7,7 @@ import games.strategy.engine.data.PlayerID;
 import games.strategy.engine.data.Territory;
 import games.strategy.engine.data.TerritoryEffect;
 import games.strategy.engine.data.Unit;
+import games.strategy.engine.framework.GameDataUtils;
 
 /**
  * Interface to ensure different implementations of the odds calculator all have the same public methods.
@@ -14,6 +15,14 @@ import games.strategy.engine.data.Unit;
 public interface IOddsCalculator {
   void setGameData(final GameData data);
 
+  /**
+   * Sets the game data from a copy made by {@link GameDataUtils#serializeGameDataWithoutHistory(GameData, boolean)},
+   * which saves serializing the game again when the caller already has such a copy.
+   */
+  default void setSerializedGameData(final byte[] serializedGameData) {
+    setGameData(serializedGameData == null ? null : GameDataUtils.deserializeGameData(serializedGameData));
+  }
+
   void setCalculateData(final PlayerID attacker, final PlayerID defender, final Territory location,
       final Collection<Unit> attacking, final Collection<Unit> defending, final Collection<Unit> bombarding,
       final Collection<TerritoryEffect> territoryEffects, final int runCount);
@@ -4,6 +4,7 @@ import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
 import java.util.concurrent.Callable;
+import java.util.function.Supplier;
 
 import games.strategy.engine.data.CompositeChange;
 import games.strategy.engine.data.GameData;
@@ -13,6 +14,8 @@ import games.strategy.engine.data.TerritoryEffect;
 import games.strategy.engine.data.Unit;
 import games.strategy.engine.data.changefactory.ChangeFactory;
 import games.strategy.engine.framework.GameDataUtils;
+import games.strategy.performance.Meter;
+import games.strategy.performance.MetricRegistry;
 import games.strategy.triplea.delegate.BattleTracker;
 import games.strategy.triplea.delegate.GameDelegateBridge;
 import games.strategy.triplea.delegate.MustFightBattle;
@@ -20,6 +23,9 @@ import games.strategy.triplea.odds.calculator.DummyDelegateBridge;
 import games.strategy.triplea.odds.calculator.OrderOfLossesInputPanel;
 
 class OddsCalculator implements IOddsCalculator, Callable<AggregateResults> {
+  // the battles simulated by every calculator of this process
+  private static final Meter runs = MetricRegistry.getInstance().meter("triplea_odds_calculator_runs");
+
   private GameData gameData = null;
   private PlayerID attacker = null;
   private PlayerID defender = null;
@@ -54,12 +60,21 @@ class OddsCalculator implements IOddsCalculator, Callable<AggregateResults> {
 
   @Override
   public void setGameData(final GameData data) {
+    resetGameData(() -> data == null ? null : GameDataUtils.cloneGameData(data, false));
+  }
+
+  @Override
+  public void setSerializedGameData(final byte[] serializedGameData) {
+    resetGameData(() -> serializedGameData == null ? null : GameDataUtils.deserializeGameData(serializedGameData));
+  }
+
+  private void resetGameData(final Supplier<GameData> copier) {
     if (isRunning) {
       return;
     }
     isDataSet = false;
     isCalcSet = false;
-    gameData = (data == null ? null : GameDataUtils.cloneGameData(data, false));
+    gameData = copier.get();
     // reset old data
     attacker = null;
     defender = null;
@@ -69,7 +84,7 @@ class OddsCalculator implements IOddsCalculator, Callable<AggregateResults> {
     bombardingUnits = new ArrayList<>();
     territoryEffects = new ArrayList<>();
     runCount = 0;
-    isDataSet = data != null;
+    isDataSet = gameData != null;
   }
 
   /**
@@ -150,6 +165,7 @@ class OddsCalculator implements IOddsCalculator, Callable<AggregateResults> {
       gameData.performChange(allChanges.invert());
       battleTracker.clear();
       battleTracker.clearBattleRecords();
+      runs.mark();
     }
     aggregateResults.setTime(System.currentTimeMillis() - start);
     isRunning = false;
@@ -60,7 +60,7 @@ public abstract class AbstractStatPanel extends JPanel {
     return players;
   }
 
-  static class ResourceStat extends AbstractStat {
+  static class ResourceStat extends AbstractStat implements StatPanel.TrackedStat {
     final Resource resource;
 
     ResourceStat(final Resource resource) {
@@ -77,5 +77,10 @@ public abstract class AbstractStatPanel extends JPanel {
     public double getValue(final PlayerID player, final GameData data) {
       return player.getResources().getQuantity(resource);
     }
+
+    @Override
+    public double getValue(final PlayerID player, final PlayerStatsTracker.Totals totals) {
+      return totals.getResourceQuantity(player, resource);
+    }
   }
 }
@@ -0,0 +1,143 @@
+package games.strategy.triplea.ui;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+
+import java.awt.Component;
+import java.awt.event.HierarchyEvent;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+import javax.annotation.Nullable;
+import javax.annotation.concurrent.GuardedBy;
+import javax.swing.SwingUtilities;
+import javax.swing.table.AbstractTableModel;
+
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+
+import games.strategy.debug.ClientLogger;
+import games.strategy.engine.data.Change;
+import games.strategy.engine.data.events.GameDataChangeListener;
+
+/**
+ * A table model of a stats panel whose rows are computed from the game data on a background thread.
+ *
+ * <p>
+ * A change to the game data only schedules a refresh; the rows are computed by {@link #loadData()} on a thread shared
+ * by all stats panels, and the result is published to the event dispatch thread as a snapshot, so painting the table
+ * never waits for the game data. Changes arriving while a refresh is pending are coalesced into it, and no refresh is
+ * done while the panel is not showing; the rows are refreshed as soon as it is shown again.
+ * </p>
+ */
+abstract class AbstractStatTableModel extends AbstractTableModel implements GameDataChangeListener {
+  private static final long serialVersionUID = -2532938431530519389L;
+
+  private static final ScheduledExecutorService executor = Executors.newSingleThreadScheduledExecutor(
+      new ThreadFactoryBuilder().setNameFormat("Stats panel refresh").setDaemon(true).build());
+
+  private final Component view;
+  private final long minimumIntervalNanos;
+  @GuardedBy("this")
+  private @Nullable ScheduledFuture<?> pendingRefresh;
+  @GuardedBy("this")
+  private long lastRefreshNanos;
+  @GuardedBy("this")
+  private boolean isStale = true;
+  /* Underlying data for the table, only accessed on the event dispatch thread; null until first loaded */
+  private @Nullable String[][] collectedData;
+
+  /**
+   * @param view The component displaying the table; the rows are only refreshed while it is showing.
+   * @param minimumInterval The minimum time between the start of two refreshes caused by changes to the game data.
+   */
+  AbstractStatTableModel(final Component view, final long minimumInterval, final TimeUnit unit) {
+    checkNotNull(view);
+    checkNotNull(unit);
+
+    this.view = view;
+    minimumIntervalNanos = unit.toNanos(minimumInterval);
+    lastRefreshNanos = System.nanoTime() - minimumIntervalNanos;
+    view.addHierarchyListener(e -> {
+      if ((e.getChangeFlags() & HierarchyEvent.SHOWING_CHANGED) != 0 && view.isShowing()) {
+        refreshIfStale();
+      }
+    });
+  }
+
+  /**
+   * Computes the rows of the table from the current game data. Called on a background thread; implementations must
+   * acquire the read lock of the game data themselves.
+   */
+  protected abstract String[][] loadData();
+
+  @Override
+  public void gameDataChanged(final Change change) {
+    refresh(false);
+  }
+
+  private synchronized void refreshIfStale() {
+    if (isStale) {
+      refresh(true);
+    }
+  }
+
+  /**
+   * Schedules a refresh of the rows of the table.
+   *
+   * @param immediately {@code true} to refresh the rows as soon as possible, even if the panel is not showing or the
+   *        last refresh was less than the minimum interval ago.
+   */
+  synchronized void refresh(final boolean immediately) {
+    isStale = true;
+    if (!immediately && !view.isShowing()) {
+      return;
+    }
+    final long delayNanos =
+        immediately ? 0 : Math.max(0, lastRefreshNanos + minimumIntervalNanos - System.nanoTime());
+    if (pendingRefresh != null) {
+      // a pending refresh has not started yet, as it clears this field first, and will see this change
+      if (pendingRefresh.getDelay(TimeUnit.NANOSECONDS) <= delayNanos || !pendingRefresh.cancel(false)) {
+        return;
+      }
+    }
+    pendingRefresh = executor.schedule(this::refreshNow, delayNanos, TimeUnit.NANOSECONDS);
+  }
+
+  private void refreshNow() {
+    synchronized (this) {
+      pendingRefresh = null;
+      lastRefreshNanos = System.nanoTime();
+      isStale = false;
+    }
+    try {
+      final String[][] data = loadData();
+      SwingUtilities.invokeLater(() -> {
+        collectedData = data;
+        fireTableDataChanged();
+      });
+    } catch (final RuntimeException e) {
+      ClientLogger.logQuietly("Failed to refresh stats", e);
+    }
+  }
+
+  /**
+   * Indicates whether the rows of the table have been loaded. Must be called on the event dispatch thread.
+   */
+  boolean isLoaded() {
+    return collectedData != null;
+  }
+
+  /**
+   * Returns the value of the specified cell, or an empty string if its row has not been loaded yet.
+   */
+  @Override
+  public Object getValueAt(final int row, final int col) {
+    return (collectedData == null || row >= collectedData.length) ? "" : collectedData[row][col];
+  }
+
+  @Override
+  public int getRowCount() {
+    return (collectedData == null) ? 0 : collectedData.length;
+  }
+}
@@ -2,27 +2,22 @@ package games.strategy.triplea.ui;
 
 import java.awt.GridLayout;
 import java.util.ArrayList;
-import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Set;
+import java.util.concurrent.TimeUnit;
 
 import javax.swing.JLabel;
 import javax.swing.JScrollPane;
 import javax.swing.JTable;
-import javax.swing.SwingUtilities;
-import javax.swing.table.AbstractTableModel;
 import javax.swing.table.DefaultTableCellRenderer;
 import javax.swing.table.TableColumn;
 
-import games.strategy.engine.data.Change;
 import games.strategy.engine.data.GameData;
 import games.strategy.engine.data.PlayerID;
 import games.strategy.engine.data.Resource;
-import games.strategy.engine.data.events.GameDataChangeListener;
 import games.strategy.triplea.Constants;
-import games.strategy.triplea.delegate.AbstractEndTurnDelegate;
 import games.strategy.util.IntegerMap;
 
 public class EconomyPanel extends AbstractStatPanel {
@@ -59,12 +54,13 @@ public class EconomyPanel extends AbstractStatPanel {
     add(scroll);
   }
 
-  class ResourceTableModel extends AbstractTableModel implements GameDataChangeListener {
+  class ResourceTableModel extends AbstractStatTableModel {
     private static final long serialVersionUID = 5197895788633898324L;
-    private boolean isDirty = true;
-    private String[][] collectedData;
+    /* Only accessed by the thread loading the data */
+    private transient PlayerStatsTracker tracker;
 
     public ResourceTableModel() {
+      super(EconomyPanel.this, 0, TimeUnit.MILLISECONDS);
       setResourceColumns();
       gameData.addDataChangeListener(this);
     }
@@ -79,29 +75,28 @@ public class EconomyPanel extends AbstractStatPanel {
     }
 
     @Override
-    public synchronized Object getValueAt(final int row, final int col) {
-      if (isDirty) {
-        loadData();
-        isDirty = false;
-      }
-      return collectedData[row][col];
-    }
-
-    private synchronized void loadData() {
+    protected String[][] loadData() {
+      // copy so the same object is read if the game data is replaced
+      final GameData gameData = EconomyPanel.this.gameData;
       gameData.acquireReadLock();
       try {
+        if (tracker == null || !tracker.isFor(gameData)) {
+          if (tracker != null) {
+            tracker.dispose();
+          }
+          tracker = new PlayerStatsTracker(gameData, true);
+        }
+        final PlayerStatsTracker.Totals totals = tracker.update();
         final List<PlayerID> players = getPlayers();
         final Map<String, Set<PlayerID>> allianceMap = getAllianceMap();
-        collectedData = new String[players.size() + allianceMap.size()][resourceStats.size() + 1];
+        final String[][] collectedData = new String[players.size() + allianceMap.size()][resourceStats.size() + 1];
         int row = 0;
-        final Map<PlayerID, IntegerMap<Resource>> resourceIncomeMap = new HashMap<>();
         for (final PlayerID player : players) {
           collectedData[row][0] = player.getName();
-          final IntegerMap<Resource> resourceIncomes = AbstractEndTurnDelegate.findEstimatedIncome(player, gameData);
-          resourceIncomeMap.put(player, resourceIncomes);
+          final IntegerMap<Resource> resourceIncomes = totals.getEstimatedIncome(player);
           for (int i = 0; i < resourceStats.size(); i++) {
             final ResourceStat resourceStat = resourceStats.get(i);
-            final double amount = resourceStat.getValue(player, gameData);
+            final double amount = resourceStat.getValue(player, totals);
             final int income = resourceIncomes.getInt(resourceStat.resource);
             collectedData[row][i + 1] = getResourceAmountAndIncome(resourceStat, amount, income);
           }
@@ -111,13 +106,15 @@ public class EconomyPanel extends AbstractStatPanel {
           collectedData[row][0] = alliance.getKey();
           for (int i = 0; i < resourceStats.size(); i++) {
             final ResourceStat resourceStat = resourceStats.get(i);
-            final double amount = resourceStat.getValue(alliance.getKey(), gameData);
+            final double amount = alliance.getValue().stream()
+                .mapToDouble(p -> resourceStat.getValue(p, totals)).sum();
             final int income = alliance.getValue().stream()
-                .mapToInt(p -> resourceIncomeMap.get(p).getInt(resourceStat.resource)).sum();
+                .mapToInt(p -> totals.getEstimatedIncome(p).getInt(resourceStat.resource)).sum();
             collectedData[row][i + 1] = getResourceAmountAndIncome(resourceStat, amount, income);
           }
           row++;
         }
+        return collectedData;
       } finally {
         gameData.releaseReadLock();
       }
@@ -134,14 +131,6 @@ public class EconomyPanel extends AbstractStatPanel {
       return resourceAmountAndIncome.toString();
     }
 
-    @Override
-    public void gameDataChanged(final Change change) {
-      synchronized (this) {
-        isDirty = true;
-      }
-      SwingUtilities.invokeLater(EconomyPanel.this::repaint);
-    }
-
     @Override
     public String getColumnName(final int col) {
       return "";
@@ -152,28 +141,10 @@ public class EconomyPanel extends AbstractStatPanel {
       return resourceStats.size() + 1;
     }
 
-    @Override
-    public synchronized int getRowCount() {
-      if (!isDirty) {
-        return collectedData.length;
-      }
-
-      gameData.acquireReadLock();
-      try {
-        return gameData.getPlayerList().size() + getAlliances().size();
-      } finally {
-        gameData.releaseReadLock();
-      }
-    }
-
-    public synchronized void setGameData(final GameData data) {
-      synchronized (this) {
-        gameData.removeDataChangeListener(this);
-        gameData = data;
-        gameData.addDataChangeListener(this);
-        isDirty = true;
-      }
-      repaint();
+    public void setGameData(final GameData data) {
+      gameData.removeDataChangeListener(this);
+      gameData = data;
+      gameData.addDataChangeListener(this);
     }
   }
 
@@ -181,6 +152,6 @@ public class EconomyPanel extends AbstractStatPanel {
   public void setGameData(final GameData data) {
     gameData = data;
     resourceModel.setGameData(data);
-    resourceModel.gameDataChanged(null);
+    resourceModel.refresh(false);
   }
 }
@@ -738,13 +738,9 @@ public class MapPanel extends ImageScrollerLargeView {
         .getMinAndMaxMovementLeft(CollectionUtils.getMatches(units, Matches.unitIsBeingTransported().negate()));
     movementLeftForCurrentUnits =
         movementLeft.getFirst() + (movementLeft.getSecond() > movementLeft.getFirst() ? "+" : "");
-    gameData.acquireReadLock();
-    try {
-      movementFuelCost = Route.getMovementFuelCostCharge(units, routeDescription.getRoute(),
-          units.iterator().next().getOwner(), gameData);
-    } finally {
-      gameData.releaseReadLock();
-    }
+    final GameData gameData = this.gameData;
+    movementFuelCost = gameData.readOptimistically(() -> Route.getMovementFuelCostCharge(units,
+        routeDescription.getRoute(), units.iterator().next().getOwner(), gameData));
 
     final Set<UnitCategory> categories = UnitSeperator.categorize(units);
     final int iconWidth = uiContext.getUnitImageFactory().getUnitImageWidth();
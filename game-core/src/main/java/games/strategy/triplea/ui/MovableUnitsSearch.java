@@ -0,0 +1,46 @@
+package games.strategy.triplea.ui;
+
+import static com.google.common.base.Preconditions.checkArgument;
+
+import java.util.function.IntPredicate;
+
+/**
+ * Finds the largest group of units that can make a move, when the units are ordered so that those at the front are
+ * the first to be left behind.
+ */
+final class MovableUnitsSearch {
+  private MovableUnitsSearch() {}
+
+  /**
+   * Returns the smallest index {@code i} in {@code [1, size]} for which the units from {@code i} to the end can make
+   * the move, or {@code size} if no non-empty group of them can. The units from index 0 must already be known to be
+   * unable to make the move.
+   *
+   * <p>
+   * This is a binary search, so it tests {@code O(log size)} groups instead of dropping one unit at a time. It assumes
+   * that a group which can make the move can still make it with fewer units, which holds for the limits a move is
+   * validated against (movement, transport capacity, stacking); when it does not, the index found is still one whose
+   * group can make the move, but it may not be the smallest.
+   * </p>
+   *
+   * @param size The number of units.
+   * @param canMoveFrom Tests whether the units from the specified index to the end can make the move; never called with
+   *        {@code 0} or {@code size}.
+   */
+  static int indexOfLargestMovableSuffix(final int size, final IntPredicate canMoveFrom) {
+    checkArgument(size >= 0, "size must not be negative");
+
+    // invariant: the group from low cannot make the move, the group from high (or the empty group) can
+    int low = 0;
+    int high = size;
+    while (high - low > 1) {
+      final int middle = (low + high) >>> 1;
+      if (canMoveFrom.test(middle)) {
+        high = middle;
+      } else {
+        low = middle;
+      }
+    }
+    return high;
+  }
+}
@@ -6,6 +6,7 @@ import java.awt.event.KeyEvent;
 import java.awt.event.KeyListener;
 import java.awt.event.MouseEvent;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.Comparator;
@@ -16,9 +17,19 @@ import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BooleanSupplier;
 import java.util.function.Predicate;
 
+import javax.annotation.Nullable;
 import javax.swing.JOptionPane;
+import javax.swing.SwingUtilities;
+
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
 
 import games.strategy.debug.ClientLogger;
 import games.strategy.engine.data.GameData;
@@ -38,6 +49,7 @@ import games.strategy.triplea.delegate.GameStepPropertiesHelper;
 import games.strategy.triplea.delegate.Matches;
 import games.strategy.triplea.delegate.MoveValidator;
 import games.strategy.triplea.delegate.TransportTracker;
+import games.strategy.triplea.delegate.UndoableMove;
 import games.strategy.triplea.delegate.UnitComparator;
 import games.strategy.triplea.delegate.dataObjects.MoveDescription;
 import games.strategy.triplea.delegate.dataObjects.MoveValidationResult;
@@ -57,6 +69,10 @@ public class MovePanel extends AbstractMovePanel {
    * changed it after feedback).
    */
   private static final int deselectNumber = 10;
+  // wait this long after the mouse enters a territory before validating the route to it
+  private static final long ROUTE_VALIDATION_DELAY_MILLIS = 50;
+  private static final ScheduledExecutorService routeValidationExecutor = Executors.newSingleThreadScheduledExecutor(
+      new ThreadFactoryBuilder().setNameFormat("Move validation").setDaemon(true).build());
   // access only through getter and setter!
   private Territory firstSelectedTerritory;
   private Territory selectedEndpointTerritory;
@@ -78,6 +94,8 @@ public class MovePanel extends AbstractMovePanel {
   private List<Unit> unitsThatCanMoveOnRoute;
   private Image currentCursorImage;
   private Route routeCached = null;
+  // the validation of the route the mouse is over that has not yet been applied; read by the validation thread
+  private volatile @Nullable RouteValidationTask pendingRouteValidation;
   private String displayText = "Combat Move";
   private MoveType moveType = MoveType.DEFAULT;
 
@@ -429,6 +447,7 @@ public class MovePanel extends AbstractMovePanel {
   }
 
   private void updateUnitsThatCanMoveOnRoute(final Collection<Unit> units, final Route route) {
+    cancelRouteValidation();
     if (route == null || route.hasNoSteps()) {
       clearStatusMessage();
       getMap().showMouseCursor();
@@ -437,50 +456,21 @@ public class MovePanel extends AbstractMovePanel {
       return;
     }
     getMap().hideMouseCursor();
-    // TODO kev check for already loaded airTransports
-    Collection<Unit> transportsToLoad = Collections.emptyList();
-    if (MoveValidator.isLoad(units, dependentUnits, route, getData(), getCurrentPlayer())) {
-      transportsToLoad = route.getEnd().getUnits().getMatches(
-          Matches.unitIsTransport().and(Matches.alliedUnit(getCurrentPlayer(), getData())));
-    }
-    List<Unit> best = new ArrayList<>(units);
-    // if the player selects a land unit and other units
-    // when the
-    // only consider the non land units
-    if (route.getStart().isWater() && route.getEnd() != null && route.getEnd().isWater() && !route.isLoad()) {
-      best = CollectionUtils.getMatches(best, Matches.unitIsLand().negate());
-    }
-    sortUnitsToMove(best, route);
-    Collections.reverse(best);
-    List<Unit> bestWithDependents = addMustMoveWith(best);
-    MoveValidationResult allResults;
+    final RouteValidation validation;
     getData().acquireReadLock();
     try {
-      allResults = AbstractMoveDelegate.validateMove(moveType, bestWithDependents, route, getCurrentPlayer(),
-          transportsToLoad, dependentUnits, nonCombat, getUndoableMoves(), getData());
+      validation = new RouteValidator().validate(units, route, () -> false);
     } finally {
       getData().releaseReadLock();
     }
-    MoveValidationResult lastResults = allResults;
-    if (!allResults.isMoveValid()) {
-      // if the player is invading only consider units that can invade
-      if (!nonCombat && route.isUnload()
-          && Matches.isTerritoryEnemy(getCurrentPlayer(), getData()).test(route.getEnd())) {
-        best = CollectionUtils.getMatches(best, Matches.unitCanInvade());
-        bestWithDependents = addMustMoveWith(best);
-        lastResults = AbstractMoveDelegate.validateMove(moveType, bestWithDependents, route, getCurrentPlayer(),
-            transportsToLoad, dependentUnits, nonCombat, getUndoableMoves(), getData());
-      }
-      while (!best.isEmpty() && !lastResults.isMoveValid()) {
-        best = best.subList(1, best.size());
-        bestWithDependents = addMustMoveWith(best);
-        lastResults = AbstractMoveDelegate.validateMove(moveType, bestWithDependents, route, getCurrentPlayer(),
-            transportsToLoad, dependentUnits, nonCombat, getUndoableMoves(), getData());
-      }
-    }
+    applyRouteValidation(validation);
+  }
+
+  private void applyRouteValidation(final RouteValidation validation) {
+    final MoveValidationResult allResults = validation.allResults;
     if (allResults.isMoveValid()) {
       // valid move
-      if (bestWithDependents.containsAll(selectedUnits)) {
+      if (validation.unitsThatCanMove.containsAll(selectedUnits)) {
         clearStatusMessage();
         currentCursorImage = null;
       } else {
@@ -495,7 +485,7 @@ public class MovePanel extends AbstractMovePanel {
       if (message == null) {
         message = allResults.getUnresolvedUnitWarning(0);
       }
-      if (!lastResults.isMoveValid()) {
+      if (!validation.lastResults.isMoveValid()) {
         setStatusErrorMessage(message);
         currentCursorImage = getMap().getErrorImage().orElse(null);
       } else {
@@ -507,10 +497,230 @@ public class MovePanel extends AbstractMovePanel {
       cancelMove();
       return;
     }
-    unitsThatCanMoveOnRoute = new ArrayList<>(bestWithDependents);
+    unitsThatCanMoveOnRoute = new ArrayList<>(validation.unitsThatCanMove);
+  }
+
+  /**
+   * Validates the units selected for a move against the route the mouse is over on a background thread, so moving the
+   * mouse over a large stack does not block the EDT. The route is drawn at once; the units that can move on it and the
+   * status message are updated when the validation completes, unless the mouse has moved to another territory or the
+   * selection has changed by then.
+   */
+  private void scheduleRouteValidation(final Territory territory, final Route route) {
+    if (route == null || route.hasNoSteps()) {
+      updateUnitsThatCanMoveOnRoute(selectedUnits, route);
+      return;
+    }
+    cancelRouteValidation();
+    getMap().hideMouseCursor();
+    final Collection<Unit> units = new ArrayList<>(selectedUnits);
+    // the air units may have a better route; find it now, while the route state can be read safely
+    final Collection<Unit> airUnits = CollectionUtils.getMatches(units, Matches.unitIsAir());
+    final Route airRoute = (airUnits.isEmpty() || airUnits.size() == units.size())
+        ? null
+        : getRoute(getFirstSelectedTerritory(), territory, airUnits);
+    final RouteValidationTask task = new RouteValidationTask(units, route, airUnits, airRoute);
+    pendingRouteValidation = task;
+    task.future = routeValidationExecutor.schedule(task, ROUTE_VALIDATION_DELAY_MILLIS, TimeUnit.MILLISECONDS);
+  }
+
+  private void cancelRouteValidation() {
+    final RouteValidationTask task = pendingRouteValidation;
+    if (task != null) {
+      pendingRouteValidation = null;
+      task.future.cancel(false);
+    }
+  }
+
+  /**
+   * Completes a route validation still pending on the EDT, so the units that can move on the route are current.
+   */
+  private void completeRouteValidation() {
+    final RouteValidationTask task = pendingRouteValidation;
+    if (task != null) {
+      task.future.cancel(false);
+      final List<RouteValidation> validations;
+      getData().acquireReadLock();
+      try {
+        validations = task.validate();
+      } finally {
+        getData().releaseReadLock();
+      }
+      pendingRouteValidation = null;
+      task.apply(validations);
+    }
+  }
+
+  /**
+   * The outcome of validating a move of some units along a route.
+   */
+  private static final class RouteValidation {
+    final List<Unit> unitsThatCanMove;
+    // the results for all units, and for the units that can move
+    final MoveValidationResult allResults;
+    final MoveValidationResult lastResults;
+
+    RouteValidation(final List<Unit> unitsThatCanMove, final MoveValidationResult allResults,
+        final MoveValidationResult lastResults) {
+      this.unitsThatCanMove = unitsThatCanMove;
+      this.allResults = allResults;
+      this.lastResults = lastResults;
+    }
+  }
+
+  /**
+   * Validates moves against a copy of the state of this panel taken when it is created, so it can be used off the EDT.
+   * The caller must hold the game data read lock.
+   */
+  private final class RouteValidator {
+    private final PlayerID player = getCurrentPlayer();
+    private final MoveType moveType = MovePanel.this.moveType;
+    private final boolean nonCombat = MovePanel.this.nonCombat;
+    private final Map<Unit, Collection<Unit>> dependents = new HashMap<>(dependentUnits);
+    private final List<UndoableMove> undoableMoves = new ArrayList<>(getUndoableMoves());
+    private final MustMoveWithDetails mustMoveWith = mustMoveWithDetails;
+
+    /**
+     * Returns the validation of the largest group of the specified units that can move on the route.
+     *
+     * @throws CancellationException If {@code cancelled} becomes true before the validation completes.
+     */
+    RouteValidation validate(final Collection<Unit> units, final Route route, final BooleanSupplier cancelled) {
+      // TODO kev check for already loaded airTransports
+      final Collection<Unit> transportsToLoad =
+          MoveValidator.isLoad(units, dependents, route, getData(), player)
+              ? route.getEnd().getUnits().getMatches(
+                  Matches.unitIsTransport().and(Matches.alliedUnit(player, getData())))
+              : Collections.emptyList();
+      List<Unit> best = new ArrayList<>(units);
+      // if the player selects a land unit and other units
+      // when the
+      // only consider the non land units
+      if (route.getStart().isWater() && route.getEnd() != null && route.getEnd().isWater() && !route.isLoad()) {
+        best = CollectionUtils.getMatches(best, Matches.unitIsLand().negate());
+      }
+      sortUnitsToMove(best, route);
+      Collections.reverse(best);
+      List<Unit> bestWithDependents = addMustMoveWith(best, mustMoveWith);
+      final MoveValidationResult allResults = validateMove(bestWithDependents, route, transportsToLoad);
+      MoveValidationResult lastResults = allResults;
+      if (!allResults.isMoveValid()) {
+        // if the player is invading only consider units that can invade
+        if (!nonCombat && route.isUnload() && Matches.isTerritoryEnemy(player, getData()).test(route.getEnd())) {
+          best = CollectionUtils.getMatches(best, Matches.unitCanInvade());
+          bestWithDependents = addMustMoveWith(best, mustMoveWith);
+          lastResults = validateMove(bestWithDependents, route, transportsToLoad);
+        }
+        if (!lastResults.isMoveValid()) {
+          // the units at the front are the first to be left behind
+          final List<Unit> candidates = best;
+          final Map<Integer, MoveValidationResult> results = new HashMap<>();
+          final int index = MovableUnitsSearch.indexOfLargestMovableSuffix(candidates.size(), i -> {
+            if (cancelled.getAsBoolean()) {
+              throw new CancellationException();
+            }
+            final MoveValidationResult result = validateMove(
+                addMustMoveWith(candidates.subList(i, candidates.size()), mustMoveWith), route, transportsToLoad);
+            results.put(i, result);
+            return result.isMoveValid();
+          });
+          best = candidates.subList(index, candidates.size());
+          bestWithDependents = addMustMoveWith(best, mustMoveWith);
+          lastResults = results.containsKey(index)
+              ? results.get(index)
+              : validateMove(bestWithDependents, route, transportsToLoad);
+        }
+      }
+      return new RouteValidation(bestWithDependents, allResults, lastResults);
+    }
+
+    private MoveValidationResult validateMove(final List<Unit> units, final Route route,
+        final Collection<Unit> transportsToLoad) {
+      return AbstractMoveDelegate.validateMove(moveType, units, route, player, transportsToLoad, dependents, nonCombat,
+          undoableMoves, getData());
+    }
+  }
+
+  /**
+   * Validates the selected units against the route the mouse is over and, if only air units can move there, the air
+   * units against their own route.
+   */
+  private final class RouteValidationTask implements Runnable {
+    private final RouteValidator validator = new RouteValidator();
+    private final Collection<Unit> units;
+    private final Route route;
+    private final Collection<Unit> airUnits;
+    private final @Nullable Route airRoute;
+    private ScheduledFuture<?> future;
+
+    RouteValidationTask(final Collection<Unit> units, final Route route, final Collection<Unit> airUnits,
+        final @Nullable Route airRoute) {
+      this.units = units;
+      this.route = route;
+      this.airUnits = airUnits;
+      this.airRoute = airRoute;
+    }
+
+    private boolean isCancelled() {
+      return pendingRouteValidation != this;
+    }
+
+    @Override
+    public void run() {
+      final List<RouteValidation> validations;
+      getData().acquireReadLock();
+      try {
+        validations = validate();
+      } catch (final CancellationException e) {
+        return;
+      } catch (final RuntimeException e) {
+        ClientLogger.logQuietly("Failed to validate move", e);
+        return;
+      } finally {
+        getData().releaseReadLock();
+      }
+      SwingUtilities.invokeLater(() -> {
+        if (!isCancelled()) {
+          pendingRouteValidation = null;
+          apply(validations);
+        }
+      });
+    }
+
+    /**
+     * Returns the validation of the selected units followed, if only air units can move on the route, by that of the
+     * air units on their own route ({@code null} if that route has no steps).
+     */
+    List<RouteValidation> validate() {
+      final RouteValidation validation = validator.validate(units, route, this::isCancelled);
+      // now, check if there is a better route for just the units that can get there (we check only air since that is
+      // the only one for which the route may actually change much)
+      if (airRoute != null && validation.unitsThatCanMove.size() < units.size()
+          && validation.unitsThatCanMove.stream().allMatch(Matches.unitIsAir())) {
+        return Arrays.asList(validation,
+            airRoute.hasNoSteps() ? null : validator.validate(airUnits, airRoute, this::isCancelled));
+      }
+      return Collections.singletonList(validation);
+    }
+
+    void apply(final List<RouteValidation> validations) {
+      applyRouteValidation(validations.get(0));
+      Route drawnRoute = route;
+      if (validations.size() > 1) {
+        drawnRoute = airRoute;
+        if (validations.get(1) == null) {
+          updateUnitsThatCanMoveOnRoute(airUnits, airRoute);
+        } else {
+          applyRouteValidation(validations.get(1));
+        }
+      }
+      if (getFirstSelectedTerritory() != null) {
+        updateRouteAndMouseShadowUnits(drawnRoute);
+      }
+    }
   }
 
-  private List<Unit> addMustMoveWith(final List<Unit> best) {
+  private static List<Unit> addMustMoveWith(final List<Unit> best, final MustMoveWithDetails mustMoveWithDetails) {
     final List<Unit> bestWithDependents = new ArrayList<>(best);
     for (final Unit u : best) {
       if (mustMoveWithDetails.getMustMoveWith().containsKey(u)) {
@@ -1068,6 +1278,7 @@ public class MovePanel extends AbstractMovePanel {
     }
 
     private void selectEndPoint(final Territory territory) {
+      completeRouteValidation();
       final Route route = getRoute(getFirstSelectedTerritory(), territory, selectedUnits);
       final List<Unit> units = unitsThatCanMoveOnRoute;
       setSelectedEndpointTerritory(territory);
@@ -1241,23 +1452,7 @@ public class MovePanel extends AbstractMovePanel {
         if (mouseCurrentTerritory == null || !mouseCurrentTerritory.equals(territory)
             || mouseCurrentPoint.equals(mouseLastUpdatePoint)) {
           route = getRoute(getFirstSelectedTerritory(), territory, selectedUnits);
-          getData().acquireReadLock();
-          try {
-            updateUnitsThatCanMoveOnRoute(selectedUnits, route);
-            // now, check if there is a better route for just the units that can get there (we check only air since that
-            // is the only one for
-            // which the route may actually change much)
-            if (unitsThatCanMoveOnRoute.size() < selectedUnits.size() && (unitsThatCanMoveOnRoute.size() == 0
-                || unitsThatCanMoveOnRoute.stream().allMatch(Matches.unitIsAir()))) {
-              final Collection<Unit> airUnits = CollectionUtils.getMatches(selectedUnits, Matches.unitIsAir());
-              if (airUnits.size() > 0) {
-                route = getRoute(getFirstSelectedTerritory(), territory, airUnits);
-                updateUnitsThatCanMoveOnRoute(airUnits, route);
-              }
-            }
-          } finally {
-            getData().releaseReadLock();
-          }
+          scheduleRouteValidation(territory, route);
         } else {
           route = routeCached;
         }
@@ -1321,6 +1516,7 @@ public class MovePanel extends AbstractMovePanel {
 
   @Override
   protected final void cleanUpSpecific() {
+    cancelRouteValidation();
     getMap().removeMapSelectionListener(mapSelectionListener);
     getMap().removeUnitSelectionListener(unitSelectionListener);
     getMap().removeMouseOverUnitListener(mouseOverUnitListener);
@@ -1333,6 +1529,7 @@ public class MovePanel extends AbstractMovePanel {
 
   @Override
   protected final void cancelMoveAction() {
+    cancelRouteValidation();
     setFirstSelectedTerritory(null);
     setSelectedEndpointTerritory(null);
     mouseCurrentTerritory = null;
@@ -20,6 +20,7 @@ import java.util.Optional;
 import java.util.Properties;
 import java.util.Set;
 import java.util.TreeSet;
+import java.util.concurrent.TimeUnit;
 
 import javax.swing.BorderFactory;
 import javax.swing.Box;
@@ -32,18 +33,14 @@ import javax.swing.JScrollPane;
 import javax.swing.JTable;
 import javax.swing.JTextField;
 import javax.swing.SwingConstants;
-import javax.swing.SwingUtilities;
-import javax.swing.table.AbstractTableModel;
 import javax.swing.table.DefaultTableCellRenderer;
 import javax.swing.table.TableCellRenderer;
 import javax.swing.table.TableColumn;
 import javax.swing.table.TableColumnModel;
 
-import games.strategy.engine.data.Change;
 import games.strategy.engine.data.GameData;
 import games.strategy.engine.data.IAttachment;
 import games.strategy.engine.data.PlayerID;
-import games.strategy.engine.data.events.GameDataChangeListener;
 import games.strategy.engine.delegate.IDelegateBridge;
 import games.strategy.triplea.Constants;
 import games.strategy.triplea.ResourceLoader;
@@ -102,25 +99,21 @@ public class ObjectivePanel extends AbstractStatPanel {
     final JScrollPane scroll = new JScrollPane(table);
     final JButton refresh = new JButton("Refresh Objectives");
     refresh.setAlignmentY(Component.CENTER_ALIGNMENT);
-    refresh.addActionListener(SwingAction.of("Refresh Objectives", e -> {
-      objectiveModel.loadData();
-      SwingUtilities.invokeLater(table::repaint);
-    }));
+    refresh.addActionListener(SwingAction.of("Refresh Objectives", e -> objectiveModel.refresh(true)));
     add(Box.createVerticalStrut(6));
     add(refresh);
     add(Box.createVerticalStrut(6));
     add(scroll);
   }
 
-  class ObjectiveTableModel extends AbstractTableModel implements GameDataChangeListener {
+  class ObjectiveTableModel extends AbstractStatTableModel {
     private static final long serialVersionUID = 2259315408905271333L;
     private static final int COLUMNS_TOTAL = 2;
-    private boolean isDirty = true;
-    private String[][] collectedData;
     final Map<String, List<String>> sections = new LinkedHashMap<>();
-    private Instant timestamp = Instant.EPOCH;
 
     public ObjectiveTableModel() {
+      // do not refresh too often, or else it will slow the game down seriously
+      super(ObjectivePanel.this, 10, TimeUnit.SECONDS);
       setObjectiveStats();
       gameData.addDataChangeListener(this);
     }
@@ -262,21 +255,13 @@ public class ObjectivePanel extends AbstractStatPanel {
     }
 
     @Override
-    public synchronized Object getValueAt(final int row, final int col) {
-      // do not refresh too often, or else it will slow the game down seriously
-      if (isDirty && timestamp.plusSeconds(10).isBefore(Instant.now())) {
-        loadData();
-        isDirty = false;
-        timestamp = Instant.now();
-      }
-      return collectedData[row][col];
-    }
-
-    private synchronized void loadData() {
+    protected synchronized String[][] loadData() {
+      // copy so the same object is read if the game data is replaced
+      final GameData gameData = ObjectivePanel.this.gameData;
       gameData.acquireReadLock();
       try {
         final HashMap<ICondition, String> conditions = getConditionComment(getTestedConditions());
-        collectedData = new String[getRowTotal()][COLUMNS_TOTAL];
+        final String[][] collectedData = new String[getRowTotal()][COLUMNS_TOTAL];
         int row = 0;
         for (final Entry<String, Map<ICondition, String>> mapEntry : statsObjective.entrySet()) {
           collectedData[row][1] =
@@ -290,6 +275,7 @@ public class ObjectivePanel extends AbstractStatPanel {
           collectedData[row][1] = "--------------------";
           row++;
         }
+        return collectedData;
       } finally {
         gameData.releaseReadLock();
       }
@@ -344,14 +330,6 @@ public class ObjectivePanel extends AbstractStatPanel {
       return AbstractConditionsAttachment.testAllConditionsRecursive(allConditionsNeeded, null, dummyDelegate);
     }
 
-    @Override
-    public void gameDataChanged(final Change change) {
-      synchronized (this) {
-        isDirty = true;
-      }
-      SwingUtilities.invokeLater(ObjectivePanel.this::repaint);
-    }
-
     @Override
     public String getColumnName(final int col) {
       return (col == 0) ? "Done" : "Objective Name";
@@ -362,20 +340,6 @@ public class ObjectivePanel extends AbstractStatPanel {
       return COLUMNS_TOTAL;
     }
 
-    @Override
-    public synchronized int getRowCount() {
-      if (!isDirty) {
-        return collectedData.length;
-      }
-
-      gameData.acquireReadLock();
-      try {
-        return getRowTotal();
-      } finally {
-        gameData.releaseReadLock();
-      }
-    }
-
     private int getRowTotal() {
       int rowsTotal = sections.size() * 2; // we include a space between sections as well
       for (final Map<ICondition, String> map : statsObjective.values()) {
@@ -385,14 +349,10 @@ public class ObjectivePanel extends AbstractStatPanel {
     }
 
     public synchronized void setGameData(final GameData data) {
-      synchronized (this) {
-        gameData.removeDataChangeListener(this);
-        gameData = data;
-        setObjectiveStats();
-        gameData.addDataChangeListener(this);
-        isDirty = true;
-      }
-      repaint();
+      gameData.removeDataChangeListener(this);
+      gameData = data;
+      setObjectiveStats();
+      gameData.addDataChangeListener(this);
     }
   }
 
@@ -401,7 +361,7 @@ public class ObjectivePanel extends AbstractStatPanel {
     dummyDelegate = new ObjectiveDummyDelegateBridge(data);
     gameData = data;
     objectiveModel.setGameData(data);
-    objectiveModel.gameDataChanged(null);
+    objectiveModel.refresh(false);
   }
 
   private static final class ColorTableCellRenderer extends DefaultTableCellRenderer {
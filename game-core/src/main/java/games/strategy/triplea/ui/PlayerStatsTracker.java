@@ -0,0 +1,338 @@
+package games.strategy.triplea.ui;
+
+import static com.google.common.base.Preconditions.checkState;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import javax.annotation.Nullable;
+
+import javax.annotation.concurrent.GuardedBy;
+import javax.annotation.concurrent.ThreadSafe;
+
+import com.google.common.collect.Sets;
+
+import games.strategy.engine.data.ChangeTracker;
+import games.strategy.engine.data.ChangeTracker.Aspect;
+import games.strategy.engine.data.GameData;
+import games.strategy.engine.data.GameStep;
+import games.strategy.engine.data.PlayerID;
+import games.strategy.engine.data.Resource;
+import games.strategy.engine.data.ResourceCollection;
+import games.strategy.engine.data.Territory;
+import games.strategy.engine.data.UnitType;
+import games.strategy.engine.data.events.TerritoryListener;
+import games.strategy.triplea.Constants;
+import games.strategy.triplea.Properties;
+import games.strategy.triplea.attachments.TerritoryAttachment;
+import games.strategy.triplea.attachments.UnitAttachment;
+import games.strategy.triplea.delegate.EndTurnDelegate;
+import games.strategy.triplea.delegate.Matches;
+import games.strategy.triplea.util.TuvUtils;
+import games.strategy.util.IntegerMap;
+
+/**
+ * Totals the units, unit value, production, victory cities and resources of each player over the territories of a
+ * game.
+ *
+ * <p>
+ * The units of each player are totalled by type, and the totals are kept up to date by counting again only the units
+ * of the territories whose units changed since the last update. Production and victory cities depend on the owners of
+ * other territories and on the relationships between players, of which no territory is notified, so they are totalled
+ * again in a single pass over the territories, but only when the {@link ChangeTracker} of the game shows that
+ * something they depend on has changed. Unit costs are likewise only read again after the production frontiers or
+ * attachments changed.
+ * </p>
+ *
+ * <p>
+ * The resources of each player are copied again only after resources changed. When tracking income, the income from
+ * territories is totalled in the same pass as production, and the income from units is derived from the unit totals.
+ * Only the income from national objectives and triggers, whose conditions may depend on anything, is found again from
+ * the game after any change.
+ * </p>
+ */
+@ThreadSafe
+final class PlayerStatsTracker implements TerritoryListener {
+  private static final Set<Aspect> COST_ASPECTS =
+      Sets.immutableEnumSet(Aspect.ATTACHMENTS, Aspect.ATTACHMENT_STRUCTURE, Aspect.OTHER);
+  private static final Set<Aspect> ALL_ASPECTS = Sets.immutableEnumSet(EnumSet.allOf(Aspect.class));
+
+  private final GameData data;
+  private final List<Territory> territories;
+  private final Map<Territory, Integer> positions;
+  private final boolean tracksIncome;
+  @GuardedBy("this")
+  private final BitSet changed;
+  @GuardedBy("this")
+  private final List<Map<PlayerID, IntegerMap<UnitType>>> unitsByTerritory;
+  @GuardedBy("this")
+  private final Map<PlayerID, IntegerMap<UnitType>> units = new HashMap<>();
+  @GuardedBy("this")
+  private long territoryVersion = -1;
+  @GuardedBy("this")
+  private IntegerMap<PlayerID> production = new IntegerMap<>();
+  @GuardedBy("this")
+  private IntegerMap<PlayerID> victoryCities = new IntegerMap<>();
+  @GuardedBy("this")
+  private Map<PlayerID, IntegerMap<Resource>> territoryIncome = new HashMap<>();
+  @GuardedBy("this")
+  private long costVersion = -1;
+  @GuardedBy("this")
+  private Map<PlayerID, IntegerMap<UnitType>> costs = new HashMap<>();
+  @GuardedBy("this")
+  private long resourceVersion = -1;
+  @GuardedBy("this")
+  private Map<PlayerID, IntegerMap<Resource>> resources = new HashMap<>();
+  @GuardedBy("this")
+  private long objectiveVersion = -1;
+  @GuardedBy("this")
+  private Map<PlayerID, IntegerMap<Resource>> objectiveIncome = new HashMap<>();
+
+  /**
+   * @param tracksIncome {@code true} if the totals must include the estimated income of each player.
+   */
+  PlayerStatsTracker(final GameData data, final boolean tracksIncome) {
+    this.data = data;
+    this.tracksIncome = tracksIncome;
+    territories = data.getMap().getTerritories();
+    positions = new HashMap<>(territories.size() * 4 / 3 + 1);
+    for (int i = 0; i < territories.size(); i++) {
+      positions.put(territories.get(i), i);
+    }
+    changed = new BitSet(territories.size());
+    changed.set(0, territories.size());
+    unitsByTerritory = new ArrayList<>(Collections.nCopies(territories.size(), null));
+    data.addTerritoryListener(this);
+  }
+
+  /**
+   * Stops tracking the changes to the game.
+   */
+  void dispose() {
+    data.removeTerritoryListener(this);
+  }
+
+  /**
+   * Indicates whether this tracker totals the specified game data; it must be replaced after territories are added to
+   * the map.
+   */
+  boolean isFor(final GameData data) {
+    return this.data == data && territories.size() == data.getMap().getTerritories().size();
+  }
+
+  @Override
+  public synchronized void unitsChanged(final Territory territory) {
+    final Integer position = positions.get(territory);
+    if (position != null) {
+      changed.set(position);
+    }
+  }
+
+  @Override
+  public void ownerChanged(final Territory territory) {}
+
+  @Override
+  public void attachmentChanged(final Territory territory) {}
+
+  /**
+   * Returns the totals of each player. The caller must hold the read lock of the game data.
+   */
+  synchronized Totals update() {
+    final ChangeTracker changeTracker = data.getChangeTracker();
+    final long territoryVersion = changeTracker.getVersion(getTerritoryAspects());
+    if (territoryVersion != this.territoryVersion) {
+      updateTerritories();
+      this.territoryVersion = territoryVersion;
+    }
+    final long costVersion = changeTracker.getVersion(COST_ASPECTS);
+    if (costVersion != this.costVersion) {
+      costs = new HashMap<>();
+      for (final PlayerID player : data.getPlayerList().getPlayers()) {
+        costs.put(player, TuvUtils.getCostsForTuv(player, data));
+      }
+      this.costVersion = costVersion;
+    }
+    final long resourceVersion = changeTracker.getVersion(Aspect.RESOURCES);
+    if (resourceVersion != this.resourceVersion) {
+      resources = new HashMap<>();
+      for (final PlayerID player : data.getPlayerList().getPlayers()) {
+        resources.put(player, player.getResources().getResourcesCopy());
+      }
+      this.resourceVersion = resourceVersion;
+    }
+    final Map<PlayerID, IntegerMap<UnitType>> units = updateUnits();
+    final int puMultiplier = Properties.getPuMultiplier(data);
+    return new Totals(units, production, victoryCities, costs, resources,
+        tracksIncome ? getIncome(units, puMultiplier) : null, puMultiplier);
+  }
+
+  @GuardedBy("this")
+  private Map<PlayerID, IntegerMap<Resource>> getIncome(final Map<PlayerID, IntegerMap<UnitType>> units,
+      final int puMultiplier) {
+    final long objectiveVersion = data.getChangeTracker().getVersion(ALL_ASPECTS);
+    if (objectiveVersion != this.objectiveVersion) {
+      objectiveIncome = new HashMap<>();
+      for (final PlayerID player : data.getPlayerList().getPlayers()) {
+        objectiveIncome.put(player, EndTurnDelegate.findNationalObjectiveAndTriggerResources(player, data));
+      }
+      this.objectiveVersion = objectiveVersion;
+    }
+    // only players ending their turn with an income collecting step collect income from their territories
+    final Set<PlayerID> collectingPlayers = new HashSet<>();
+    for (final GameStep step : data.getSequence()) {
+      if (step.getPlayerId() != null && step.getDelegate() != null
+          && step.getDelegate().getName().equals("endTurn")) {
+        collectingPlayers.add(step.getPlayerId());
+      }
+    }
+    final Resource pus = data.getResourceList().getResource(Constants.PUS);
+    final Map<PlayerID, IntegerMap<Resource>> income = new HashMap<>();
+    for (final PlayerID player : data.getPlayerList().getPlayers()) {
+      final IntegerMap<Resource> playerIncome = new IntegerMap<>();
+      if (collectingPlayers.contains(player)) {
+        playerIncome.add(pus, production.getInt(player) * puMultiplier);
+        playerIncome.add(territoryIncome.getOrDefault(player, new IntegerMap<>()));
+      }
+      final IntegerMap<UnitType> types = units.getOrDefault(player, new IntegerMap<>());
+      final IntegerMap<Resource> unitIncome = new IntegerMap<>();
+      for (final UnitType type : types.keySet()) {
+        final UnitAttachment attachment = UnitAttachment.get(type);
+        if (attachment != null && attachment.getCreatesResourcesList() != null) {
+          unitIncome.addMultiple(attachment.getCreatesResourcesList(), types.getInt(type));
+        }
+      }
+      if (unitIncome.containsKey(pus)) {
+        unitIncome.put(pus, unitIncome.getInt(pus) * puMultiplier);
+      }
+      playerIncome.add(unitIncome);
+      playerIncome.add(objectiveIncome.get(player));
+      income.put(player, playerIncome);
+    }
+    return income;
+  }
+
+  private Set<Aspect> getTerritoryAspects() {
+    final Set<Aspect> aspects = EnumSet.of(Aspect.TERRITORY_OWNERSHIP, Aspect.RELATIONSHIPS, Aspect.ATTACHMENTS,
+        Aspect.ATTACHMENT_STRUCTURE, Aspect.GAME_PROPERTIES);
+    // contested territories may produce no income, which depends on the units in them
+    if (Properties.getContestedTerritoriesProduceNoIncome(data)) {
+      aspects.add(Aspect.UNITS);
+    }
+    return aspects;
+  }
+
+  @GuardedBy("this")
+  private void updateTerritories() {
+    production = new IntegerMap<>();
+    victoryCities = new IntegerMap<>();
+    territoryIncome = new HashMap<>();
+    for (final Territory territory : territories) {
+      final PlayerID owner = territory.getOwner();
+      final TerritoryAttachment attachment = TerritoryAttachment.get(territory);
+      if (attachment != null) {
+        if (Matches.territoryCanCollectIncomeFrom(owner, data).test(territory)) {
+          production.add(owner, attachment.getProduction());
+          final ResourceCollection resources = attachment.getResources();
+          if (resources != null) {
+            territoryIncome.computeIfAbsent(owner, k -> new IntegerMap<>()).add(resources.getResourcesCopy());
+          }
+        }
+        victoryCities.add(owner, attachment.getVictoryCity());
+      }
+    }
+  }
+
+  @GuardedBy("this")
+  private Map<PlayerID, IntegerMap<UnitType>> updateUnits() {
+    for (int i = changed.nextSetBit(0); i >= 0; i = changed.nextSetBit(i + 1)) {
+      if (unitsByTerritory.get(i) != null) {
+        unitsByTerritory.get(i).forEach((owner, types) -> units.get(owner).subtract(types));
+      }
+      final Map<PlayerID, IntegerMap<UnitType>> territoryUnits = new HashMap<>();
+      for (final PlayerID owner : territories.get(i).getUnits().getPlayersWithUnits()) {
+        final IntegerMap<UnitType> types = territories.get(i).getUnits().getUnitsByType(owner);
+        territoryUnits.put(owner, types);
+        units.computeIfAbsent(owner, k -> new IntegerMap<>()).add(types);
+      }
+      unitsByTerritory.set(i, territoryUnits);
+    }
+    changed.clear();
+    final Map<PlayerID, IntegerMap<UnitType>> copy = new HashMap<>();
+    units.forEach((owner, types) -> copy.put(owner, new IntegerMap<>(types)));
+    return copy;
+  }
+
+  /**
+   * The totals of each player at the time of an update.
+   */
+  static final class Totals {
+    private final Map<PlayerID, IntegerMap<UnitType>> units;
+    private final IntegerMap<PlayerID> production;
+    private final IntegerMap<PlayerID> victoryCities;
+    private final Map<PlayerID, IntegerMap<UnitType>> costs;
+    private final Map<PlayerID, IntegerMap<Resource>> resources;
+    private final @Nullable Map<PlayerID, IntegerMap<Resource>> income;
+    private final int puMultiplier;
+
+    Totals(final Map<PlayerID, IntegerMap<UnitType>> units, final IntegerMap<PlayerID> production,
+        final IntegerMap<PlayerID> victoryCities, final Map<PlayerID, IntegerMap<UnitType>> costs,
+        final Map<PlayerID, IntegerMap<Resource>> resources, final @Nullable Map<PlayerID, IntegerMap<Resource>> income,
+        final int puMultiplier) {
+      this.units = units;
+      this.production = production;
+      this.victoryCities = victoryCities;
+      this.costs = costs;
+      this.resources = resources;
+      this.income = income;
+      this.puMultiplier = puMultiplier;
+    }
+
+    int getUnitCount(final PlayerID player) {
+      final IntegerMap<UnitType> types = units.get(player);
+      return (types == null) ? 0 : types.totalValues();
+    }
+
+    int getTuv(final PlayerID player) {
+      final IntegerMap<UnitType> types = units.get(player);
+      final IntegerMap<UnitType> playerCosts = costs.get(player);
+      if (types == null || playerCosts == null) {
+        return 0;
+      }
+      int tuv = 0;
+      for (final UnitType type : types.keySet()) {
+        tuv += types.getInt(type) * playerCosts.getInt(type);
+      }
+      return tuv;
+    }
+
+    int getProduction(final PlayerID player) {
+      return production.getInt(player) * puMultiplier;
+    }
+
+    int getVictoryCities(final PlayerID player) {
+      return victoryCities.getInt(player);
+    }
+
+    int getResourceQuantity(final PlayerID player, final Resource resource) {
+      final IntegerMap<Resource> playerResources = resources.get(player);
+      return (playerResources == null) ? 0 : playerResources.getInt(resource);
+    }
+
+    /**
+     * Returns the income the specified player is estimated to collect at the end of their turn; only available if the
+     * tracker tracks income.
+     */
+    IntegerMap<Resource> getEstimatedIncome(final PlayerID player) {
+      checkState(income != null, "income is not tracked");
+      final IntegerMap<Resource> playerIncome = income.get(player);
+      return (playerIncome == null) ? new IntegerMap<>() : playerIncome;
+    }
+  }
+}
@@ -5,11 +5,13 @@ import java.awt.GridLayout;
 import java.awt.Image;
 import java.util.ArrayList;
 import java.util.Arrays;
-import java.util.Collection;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Map.Entry;
 import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
 import java.util.function.Predicate;
 
 import javax.swing.ImageIcon;
@@ -95,7 +97,7 @@ public class StatPanel extends AbstractStatPanel {
     gameData = data;
     dataModel.setGameData(data);
     techModel.setGameData(data);
-    dataModel.gameDataChanged(null);
+    dataModel.refresh(false);
     techModel.gameDataChanged(null);
   }
 
@@ -143,15 +145,13 @@ public class StatPanel extends AbstractStatPanel {
    * Custom table model.
    * This model is thread safe.
    */
-  class StatTableModel extends AbstractTableModel implements GameDataChangeListener {
+  class StatTableModel extends AbstractStatTableModel {
     private static final long serialVersionUID = -6156153062049822444L;
-    /* Flag to indicate whether data needs to be recalculated */
-    private boolean isDirty = true;
-    /* Column Header Names */
-    /* Underlying data for the table */
-    private String[][] collectedData;
+    /* Only accessed by the thread loading the data */
+    private transient PlayerStatsTracker tracker;
 
     public StatTableModel() {
+      super(StatPanel.this, 0, TimeUnit.MILLISECONDS);
       setStatCollums();
       gameData.addDataChangeListener(this);
     }
@@ -171,51 +171,53 @@ public class StatPanel extends AbstractStatPanel {
       }
     }
 
-    private synchronized void loadData() {
+    @Override
+    protected String[][] loadData() {
+      // copy so the same object is read if the game data is replaced
+      final GameData gameData = StatPanel.this.gameData;
       gameData.acquireReadLock();
       try {
+        if (tracker == null || !tracker.isFor(gameData)) {
+          if (tracker != null) {
+            tracker.dispose();
+          }
+          tracker = new PlayerStatsTracker(gameData, false);
+        }
+        final PlayerStatsTracker.Totals totals = tracker.update();
         final List<PlayerID> players = getPlayers();
-        final Collection<String> alliances = getAlliances();
-        collectedData = new String[players.size() + alliances.size()][stats.length + 1];
+        final Map<String, Set<PlayerID>> allianceMap = getAllianceMap();
+        final String[][] collectedData = new String[players.size() + allianceMap.size()][stats.length + 1];
         int row = 0;
         for (final PlayerID player : players) {
           collectedData[row][0] = player.getName();
           for (int i = 0; i < stats.length; i++) {
-            collectedData[row][i + 1] = stats[i].getFormatter().format(stats[i].getValue(player, gameData));
+            final double value = getValue(stats[i], player, gameData, totals);
+            collectedData[row][i + 1] = stats[i].getFormatter().format(value);
           }
           row++;
         }
-        for (final String alliance : alliances) {
-          collectedData[row][0] = alliance;
+        for (final Entry<String, Set<PlayerID>> alliance : allianceMap.entrySet()) {
+          collectedData[row][0] = alliance.getKey();
           for (int i = 0; i < stats.length; i++) {
-            collectedData[row][i + 1] = stats[i].getFormatter().format(stats[i].getValue(alliance, gameData));
+            final IStat stat = stats[i];
+            final double value = alliance.getValue().stream()
+                .mapToDouble(player -> getValue(stat, player, gameData, totals))
+                .sum();
+            collectedData[row][i + 1] = stat.getFormatter().format(value);
           }
           row++;
         }
+        return collectedData;
       } finally {
         gameData.releaseReadLock();
       }
     }
 
-    @Override
-    public void gameDataChanged(final Change change) {
-      synchronized (this) {
-        isDirty = true;
-      }
-      SwingUtilities.invokeLater(StatPanel.this::repaint);
-    }
-
-    /*
-     * Recalcs the underlying data in a lazy manner Limitation: This is not
-     * a threadsafe implementation
-     */
-    @Override
-    public synchronized Object getValueAt(final int row, final int col) {
-      if (isDirty) {
-        loadData();
-        isDirty = false;
-      }
-      return collectedData[row][col];
+    private double getValue(final IStat stat, final PlayerID player, final GameData gameData,
+        final PlayerStatsTracker.Totals totals) {
+      return (stat instanceof TrackedStat)
+          ? ((TrackedStat) stat).getValue(player, totals)
+          : stat.getValue(player, gameData);
     }
 
     // Trivial implementations of required methods
@@ -233,30 +235,23 @@ public class StatPanel extends AbstractStatPanel {
     }
 
     @Override
-    public synchronized int getRowCount() {
-      if (!isDirty) {
-        return collectedData.length;
+    public int getRowCount() {
+      if (isLoaded()) {
+        return super.getRowCount();
       }
 
-      // no need to recalculate all the stats just to get the row count
+      // no need to wait for all the stats just to get the row count
       // getting the row count is a fairly frequent operation, and will
       // happen even if we are not displayed!
-      gameData.acquireReadLock();
-      try {
-        return gameData.getPlayerList().size() + getAlliances().size();
-      } finally {
-        gameData.releaseReadLock();
-      }
+      // copy so the same object is read if the game data is replaced
+      final GameData gameData = StatPanel.this.gameData;
+      return gameData.readOptimistically(() -> gameData.getPlayerList().size() + getAlliances().size());
     }
 
-    public synchronized void setGameData(final GameData data) {
-      synchronized (this) {
-        gameData.removeDataChangeListener(this);
-        gameData = data;
-        gameData.addDataChangeListener(this);
-        isDirty = true;
-      }
-      repaint();
+    public void setGameData(final GameData data) {
+      gameData.removeDataChangeListener(this);
+      gameData = data;
+      gameData.addDataChangeListener(this);
     }
   }
 
@@ -411,7 +406,15 @@ public class StatPanel extends AbstractStatPanel {
     }
   }
 
-  static class ProductionStat extends AbstractStat {
+  /**
+   * A stat whose value can be read from the totals of a {@link PlayerStatsTracker} instead of being computed from the
+   * territories of the game.
+   */
+  interface TrackedStat extends IStat {
+    double getValue(PlayerID player, PlayerStatsTracker.Totals totals);
+  }
+
+  static class ProductionStat extends AbstractStat implements TrackedStat {
     @Override
     public String getName() {
       return "Production";
@@ -429,6 +432,11 @@ public class StatPanel extends AbstractStatPanel {
        */
       return production * Properties.getPuMultiplier(data);
     }
+
+    @Override
+    public double getValue(final PlayerID player, final PlayerStatsTracker.Totals totals) {
+      return totals.getProduction(player);
+    }
   }
 
   class PuStat extends ResourceStat {
@@ -437,7 +445,7 @@ public class StatPanel extends AbstractStatPanel {
     }
   }
 
-  static class UnitsStat extends AbstractStat {
+  static class UnitsStat extends AbstractStat implements TrackedStat {
     @Override
     public String getName() {
       return "Units";
@@ -452,9 +460,14 @@ public class StatPanel extends AbstractStatPanel {
           .mapToInt(units -> units.countMatches(ownedBy))
           .sum();
     }
+
+    @Override
+    public double getValue(final PlayerID player, final PlayerStatsTracker.Totals totals) {
+      return totals.getUnitCount(player);
+    }
   }
 
-  static class TuvStat extends AbstractStat {
+  static class TuvStat extends AbstractStat implements TrackedStat {
     @Override
     public String getName() {
       return "TUV";
@@ -470,9 +483,14 @@ public class StatPanel extends AbstractStatPanel {
           .mapToInt(owned -> TuvUtils.getTuv(owned, costs))
           .sum();
     }
+
+    @Override
+    public double getValue(final PlayerID player, final PlayerStatsTracker.Totals totals) {
+      return totals.getTuv(player);
+    }
   }
 
-  static class VictoryCityStat extends AbstractStat {
+  static class VictoryCityStat extends AbstractStat implements TrackedStat {
     @Override
     public String getName() {
       return "VC";
@@ -488,6 +506,11 @@ public class StatPanel extends AbstractStatPanel {
           .mapToInt(TerritoryAttachment::getVictoryCity)
           .sum();
     }
+
+    @Override
+    public double getValue(final PlayerID player, final PlayerStatsTracker.Totals totals) {
+      return totals.getVictoryCities(player);
+    }
   }
 
   static class VpStat extends AbstractStat {
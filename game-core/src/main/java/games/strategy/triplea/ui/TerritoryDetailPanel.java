@@ -84,13 +84,7 @@ public class TerritoryDetailPanel extends AbstractStatPanel {
       labelText = "<html>" + ta.toStringForInfo(true, true) + "<br></html>";
     }
     add(new JLabel(labelText));
-    gameData.acquireReadLock();
-    Collection<Unit> unitsInTerritory;
-    try {
-      unitsInTerritory = territory.getUnits().getUnits();
-    } finally {
-      gameData.releaseReadLock();
-    }
+    final Collection<Unit> unitsInTerritory = gameData.readOptimistically(() -> territory.getUnits().getUnits());
     add(new JLabel("Units: " + unitsInTerritory.size()));
     final JScrollPane scroll = new JScrollPane(unitsInTerritoryPanel(unitsInTerritory, uiContext));
     scroll.setBorder(BorderFactory.createEmptyBorder());
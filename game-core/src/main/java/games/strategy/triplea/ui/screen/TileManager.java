@@ -529,8 +529,7 @@ public class TileManager {
     if (units == null) {
       return null;
     }
-    data.acquireReadLock();
-    try {
+    return data.readOptimistically(() -> {
       acquireLock();
       try {
         for (final UnitsDrawer drawer : allUnitDrawables) {
@@ -546,14 +545,11 @@ public class TileManager {
       } finally {
         releaseLock();
       }
-    } finally {
-      data.releaseReadLock();
-    }
+    });
   }
 
   public Tuple<Territory, List<Unit>> getUnitsAtPoint(final double x, final double y, final GameData gameData) {
-    gameData.acquireReadLock();
-    try {
+    return gameData.readOptimistically(() -> {
       acquireLock();
       try {
         for (final UnitsDrawer drawer : allUnitDrawables) {
@@ -568,9 +564,7 @@ public class TileManager {
       } finally {
         releaseLock();
       }
-    } finally {
-      gameData.releaseReadLock();
-    }
+    });
   }
 
   public void setTerritoryOverlay(final Territory territory, final Color color, final int alpha, final GameData data,
@@ -25,24 +25,12 @@ public class PlayerOrderComparator implements Comparator<PlayerID>, Serializable
     if (p1.equals(p2)) {
       return 0;
     }
-    gameData.acquireReadLock();
-    final GameSequence sequence;
-    try {
-      sequence = gameData.getSequence();
-    } finally {
-      gameData.releaseReadLock();
-    }
+    final GameSequence sequence = gameData.readOptimistically(gameData::getSequence);
     for (final GameStep s : sequence) {
       if (s.getPlayerId() == null) {
         continue;
       }
-      gameData.acquireReadLock();
-      final IDelegate delegate;
-      try {
-        delegate = s.getDelegate();
-      } finally {
-        gameData.releaseReadLock();
-      }
+      final IDelegate delegate = gameData.readOptimistically(s::getDelegate);
       if (delegate != null && delegate.getClass() != null) {
         final String delegateClassName = delegate.getClass().getName();
         if (delegateClassName.equals("games.strategy.triplea.delegate.InitializationDelegate")
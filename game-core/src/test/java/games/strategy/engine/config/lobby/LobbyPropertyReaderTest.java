@@ -15,6 +15,36 @@ public final class LobbyPropertyReaderTest {
   private final MemoryPropertyReader memoryPropertyReader = new MemoryPropertyReader();
   private final LobbyPropertyReader lobbyPropertyReader = new LobbyPropertyReader(memoryPropertyReader);
 
+  @Nested
+  public final class WithDefaultsTest {
+    @Test
+    public void shouldReturnReaderOfDefaultValues() {
+      final LobbyPropertyReader lobbyPropertyReader = LobbyPropertyReader.withDefaults();
+
+      assertThat(lobbyPropertyReader.getPort(), is(DefaultValues.PORT));
+      assertThat(lobbyPropertyReader.getMetricsPort(), is(DefaultValues.METRICS_PORT));
+      assertThat(lobbyPropertyReader.isMaintenanceMode(), is(DefaultValues.MAINTENANCE_MODE));
+    }
+  }
+
+  @Nested
+  public final class GetMetricsPortTest {
+    @Test
+    public void shouldReturnValueWhenPresent() {
+      final int value = 9100;
+      memoryPropertyReader.setProperty(PropertyKeys.METRICS_PORT, String.valueOf(value));
+
+      assertThat(lobbyPropertyReader.getMetricsPort(), is(value));
+    }
+
+    @Test
+    public void shouldReturnDefaultValueWhenAbsent() {
+      memoryPropertyReader.setProperty(PropertyKeys.METRICS_PORT, "");
+
+      assertThat(lobbyPropertyReader.getMetricsPort(), is(DefaultValues.METRICS_PORT));
+    }
+  }
+
   @Nested
   public final class GetPortTest {
     @Test
@@ -0,0 +1,66 @@
+package games.strategy.engine.data;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+
+import java.util.EnumSet;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import games.strategy.engine.data.ChangeTracker.Aspect;
+import games.strategy.engine.data.changefactory.ChangeFactory;
+import games.strategy.triplea.Constants;
+import games.strategy.triplea.xml.TestMapGameData;
+
+public final class ChangeTrackerTest {
+  private GameData gameData;
+  private ChangeTracker changeTracker;
+
+  @BeforeEach
+  public void setUp() throws Exception {
+    gameData = TestMapGameData.TEST.getGameData();
+    changeTracker = gameData.getChangeTracker();
+  }
+
+  @Test
+  public void performChange_ShouldOnlyIncrementVersionOfTouchedAspects() {
+    final Territory canada = gameData.getMap().getTerritory("canada");
+    final long ownershipVersion = changeTracker.getVersion(Aspect.TERRITORY_OWNERSHIP);
+    final long unitsVersion = changeTracker.getVersion(Aspect.UNITS);
+
+    gameData.performChange(ChangeFactory.addUnits(canada,
+        gameData.getUnitTypeList().getUnitType(Constants.UNIT_TYPE_INF).create(2, null)));
+
+    assertThat(changeTracker.getVersion(Aspect.UNITS), is(unitsVersion + 1));
+    assertThat(changeTracker.getVersion(Aspect.TERRITORY_OWNERSHIP), is(ownershipVersion));
+  }
+
+  @Test
+  public void performChange_ShouldRecordEachChangeOfCompositeChange() {
+    final Territory canada = gameData.getMap().getTerritory("canada");
+    final PlayerID player = gameData.getPlayerList().getPlayers().iterator().next();
+    final long version = changeTracker.getVersion(EnumSet.of(Aspect.UNITS, Aspect.TERRITORY_OWNERSHIP));
+
+    gameData.performChange(new CompositeChange(
+        ChangeFactory.changeOwner(canada, player),
+        ChangeFactory.addUnits(canada, gameData.getUnitTypeList().getUnitType(Constants.UNIT_TYPE_INF).create(1,
+            null))));
+
+    assertThat(changeTracker.getVersion(EnumSet.of(Aspect.UNITS, Aspect.TERRITORY_OWNERSHIP)), is(version + 2));
+  }
+
+  @Test
+  public void directModification_ShouldIncrementVersionOfModifiedAspect() {
+    final Territory canada = gameData.getMap().getTerritory("canada");
+    final PlayerID player = gameData.getPlayerList().getPlayers().iterator().next();
+    final long ownershipVersion = changeTracker.getVersion(Aspect.TERRITORY_OWNERSHIP);
+    final long unitsVersion = changeTracker.getVersion(Aspect.UNITS);
+
+    canada.setOwner(player);
+    canada.getUnits().addAll(gameData.getUnitTypeList().getUnitType(Constants.UNIT_TYPE_INF).create(1, null));
+
+    assertThat(changeTracker.getVersion(Aspect.TERRITORY_OWNERSHIP), is(ownershipVersion + 1));
+    assertThat(changeTracker.getVersion(Aspect.UNITS), is(unitsVersion + 1));
+  }
+}
@@ -0,0 +1,83 @@
+package games.strategy.engine.data;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.hasItem;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.not;
+
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import games.strategy.engine.data.changefactory.ChangeFactory;
+import games.strategy.triplea.Constants;
+import games.strategy.triplea.xml.TestMapGameData;
+
+public final class ContestedTerritoryIndexTest {
+  private GameData gameData;
+  private Territory canada;
+  private Territory us;
+  private PlayerID bush;
+  private PlayerID chretian;
+
+  @BeforeEach
+  public void setUp() throws Exception {
+    gameData = TestMapGameData.TEST.getGameData();
+    canada = gameData.getMap().getTerritory("canada");
+    us = gameData.getMap().getTerritory("us");
+    bush = gameData.getPlayerList().getPlayerId("bush");
+    chretian = gameData.getPlayerList().getPlayerId("chretian");
+  }
+
+  private Change addInfantry(final Territory territory, final PlayerID owner) {
+    return ChangeFactory.addUnits(territory,
+        gameData.getUnitTypeList().getUnitType(Constants.UNIT_TYPE_INF).create(2, owner));
+  }
+
+  private void assertContestedTerritoriesMatchMap() {
+    assertThat(gameData.getContestedTerritories(), is(gameData.getMap().getTerritories().stream()
+        .filter(t -> t.getUnits().getUnits().stream().anyMatch(u -> !u.getOwner().equals(t.getOwner())))
+        .collect(Collectors.toList())));
+  }
+
+  @Test
+  public void getContestedTerritories_ShouldTrackUnitsMovedIntoAndOutOfTerritories() {
+    gameData.performChange(ChangeFactory.removeUnits(canada, canada.getUnits().getUnits()));
+    assertThat(gameData.getContestedTerritories(), not(hasItem(canada)));
+
+    final Change change = addInfantry(canada, bush);
+    gameData.performChange(change);
+    assertThat(gameData.getContestedTerritories(), hasItem(canada));
+    assertContestedTerritoriesMatchMap();
+
+    gameData.performChange(change.invert());
+    assertThat(gameData.getContestedTerritories(), not(hasItem(canada)));
+    assertContestedTerritoriesMatchMap();
+  }
+
+  @Test
+  public void getContestedTerritories_ShouldTrackTerritoryOwnerChanges() {
+    gameData.performChange(ChangeFactory.removeUnits(us, us.getUnits().getUnits()));
+    gameData.performChange(addInfantry(us, bush));
+    assertThat(gameData.getContestedTerritories(), not(hasItem(us)));
+
+    final Change change = ChangeFactory.changeOwner(us, chretian);
+    gameData.performChange(change);
+    assertThat(gameData.getContestedTerritories(), hasItem(us));
+    assertContestedTerritoriesMatchMap();
+
+    gameData.performChange(change.invert());
+    assertThat(gameData.getContestedTerritories(), not(hasItem(us)));
+    assertContestedTerritoriesMatchMap();
+  }
+
+  @Test
+  public void getContestedTerritories_ShouldReturnTerritoriesInMapOrder() {
+    gameData.getContestedTerritories();
+    gameData.performChange(addInfantry(us, chretian));
+    gameData.performChange(addInfantry(canada, bush));
+
+    assertContestedTerritoriesMatchMap();
+  }
+}
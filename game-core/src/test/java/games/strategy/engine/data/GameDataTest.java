@@ -0,0 +1,90 @@
+package games.strategy.engine.data;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+
+public final class GameDataTest {
+  private final GameData gameData = new GameData();
+
+  private void writeFromAnotherThread() {
+    final Thread writer = new Thread(() -> {
+      gameData.acquireWriteLock();
+      gameData.releaseWriteLock();
+    });
+    writer.start();
+    try {
+      writer.join();
+    } catch (final InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new AssertionError(e);
+    }
+  }
+
+  @Test
+  public void readOptimistically_ShouldRunReaderOnceWhenNoWriteHappens() {
+    final AtomicInteger runs = new AtomicInteger();
+
+    assertThat(gameData.readOptimistically(runs::incrementAndGet), is(1));
+    assertThat(runs.get(), is(1));
+  }
+
+  @Test
+  public void readOptimistically_ShouldRunReaderAgainWhenWriteHappens() {
+    final AtomicInteger runs = new AtomicInteger();
+
+    final int value = gameData.readOptimistically(() -> {
+      if (runs.incrementAndGet() == 1) {
+        writeFromAnotherThread();
+      }
+      return runs.get();
+    });
+
+    assertThat(value, is(2));
+  }
+
+  @Test
+  public void readOptimistically_ShouldDiscardExceptionWhenWriteHappens() {
+    final AtomicInteger runs = new AtomicInteger();
+
+    final int value = gameData.readOptimistically(() -> {
+      if (runs.incrementAndGet() == 1) {
+        writeFromAnotherThread();
+        throw new IllegalStateException("inconsistent read");
+      }
+      return runs.get();
+    });
+
+    assertThat(value, is(2));
+  }
+
+  @Test
+  public void readOptimistically_ShouldRethrowExceptionWhenNoWriteHappens() {
+    final AtomicInteger runs = new AtomicInteger();
+
+    assertThrows(IllegalStateException.class, () -> gameData.readOptimistically(() -> {
+      runs.incrementAndGet();
+      throw new IllegalStateException();
+    }));
+    assertThat(runs.get(), is(1));
+  }
+
+  @Test
+  public void readOptimistically_ShouldRunReaderOnceWhenWriteLockIsHeld() {
+    final AtomicInteger runs = new AtomicInteger();
+
+    gameData.acquireWriteLock();
+    try {
+      assertThat(gameData.readOptimistically(runs::incrementAndGet), is(1));
+      gameData.acquireWriteLock();
+      gameData.releaseWriteLock();
+    } finally {
+      gameData.releaseWriteLock();
+    }
+    assertThat(gameData.readOptimistically(runs::incrementAndGet), is(2));
+  }
+}
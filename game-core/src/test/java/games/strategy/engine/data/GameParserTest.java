@@ -3,7 +3,14 @@ package games.strategy.engine.data;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.is;
 
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.InputStream;
+import java.nio.file.Paths;
 import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+import java.util.stream.Collectors;
 
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
@@ -31,4 +38,65 @@ public final class GameParserTest {
           });
     }
   }
+
+  @Nested
+  public final class ParseTest {
+    private List<File> getTestGameFiles() {
+      return Arrays.stream(Paths.get("src", "test", "resources").toFile().listFiles())
+          .filter(file -> file.getName().endsWith(".xml"))
+          .collect(Collectors.toList());
+    }
+
+    private String describe(final GameData data) {
+      final StringBuilder description = new StringBuilder(data.getGameName()).append('\n');
+      data.getPlayerList().forEach(player -> description.append(player.getName()).append(' ')
+          .append(player.getProductionFrontier()).append('\n'));
+      data.getMap().forEach(territory -> description.append(territory.getName()).append(' ')
+          .append(territory.getOwner().getName()).append(' ').append(territory.getUnits().size()).append(' ')
+          .append(data.getMap().getNeighbors(territory).size()).append('\n'));
+      data.getSequence().forEach(step -> description.append(step.getName()).append('\n'));
+      data.getAttachmentOrderAndValues().forEach(attachmentAndValues -> description
+          .append(attachmentAndValues.getFirst().getName()).append(' ')
+          .append(attachmentAndValues.getFirst().getAttachedTo()).append(' ')
+          .append(attachmentAndValues.getSecond()).append('\n'));
+      data.getProperties().getEditableProperties().forEach(property -> description.append(property.getName())
+          .append('=').append(property.getValue()).append('\n'));
+      return description.toString();
+    }
+
+    @Test
+    public void shouldProduceSameGameDataAsDomParser() throws Exception {
+      for (final File file : getTestGameFiles()) {
+        final GameData streamed;
+        try (InputStream is = new FileInputStream(file)) {
+          streamed = GameParser.parse(file.getName(), is);
+        }
+        final GameData parsedWithDom;
+        try (InputStream is = new FileInputStream(file)) {
+          parsedWithDom = GameParser.parseWithDom(file.getName(), is);
+        }
+
+        assertThat(file.getName(), describe(streamed), is(describe(parsedWithDom)));
+      }
+    }
+
+    @Test
+    public void parseShallow_ShouldReadGameMetadata() throws Exception {
+      for (final File file : getTestGameFiles()) {
+        final GameData shallow;
+        try (InputStream is = new FileInputStream(file)) {
+          shallow = GameParser.parseShallow(file.getName(), is);
+        }
+        final GameData parsedWithDom;
+        try (InputStream is = new FileInputStream(file)) {
+          parsedWithDom = GameParser.parseWithDom(file.getName(), is);
+        }
+
+        assertThat(file.getName(), shallow.getGameName(), is(parsedWithDom.getGameName()));
+        assertThat(file.getName(), shallow.getPlayerList().size(), is(parsedWithDom.getPlayerList().size()));
+        assertThat(file.getName(), Objects.equals(shallow.getProperties().get("notes"),
+            parsedWithDom.getProperties().get("notes")), is(true));
+      }
+    }
+  }
 }
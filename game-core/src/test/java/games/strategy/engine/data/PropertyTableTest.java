@@ -0,0 +1,52 @@
+package games.strategy.engine.data;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.sameInstance;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import games.strategy.triplea.xml.TestMapGameData;
+import games.strategy.util.Tuple;
+
+public final class PropertyTableTest {
+  @Test
+  public void shouldAssignSameOrdinalsToPropertiesOfEveryInstanceOfClass() throws Exception {
+    final GameData gameData = TestMapGameData.GLOBAL1940.getGameData();
+
+    for (final Tuple<IAttachment, ArrayList<Tuple<String, String>>> attachmentAndValues : gameData
+        .getAttachmentOrderAndValues()) {
+      final IAttachment attachment = attachmentAndValues.getFirst();
+      final PropertyTable table = attachment.getPropertyTable();
+      final List<String> names = new ArrayList<>(attachment.getPropertyMap().keySet());
+      assertThat(table.size(), is(names.size()));
+      for (int ordinal = 0; ordinal < names.size(); ordinal++) {
+        assertThat(table.getName(ordinal), is(names.get(ordinal)));
+        assertThat(table.getOrdinal(names.get(ordinal)), is(ordinal));
+        assertThat(attachment.getPropertyOrThrow(names.get(ordinal)),
+            is(sameInstance(attachment.getPropertyOrThrow(ordinal))));
+      }
+    }
+  }
+
+  @Test
+  public void getOrdinal_ShouldReturnUnknownOrdinalWhenPropertyDoesNotExist() throws Exception {
+    final IAttachment attachment = TestMapGameData.TEST.getGameData().getAttachmentOrderAndValues().get(0).getFirst();
+
+    assertThat(attachment.getPropertyTable().getOrdinal("noSuchProperty"), is(PropertyTable.UNKNOWN_ORDINAL));
+  }
+
+  @Test
+  public void getPropertyOrThrow_ShouldFallBackToNameWhenOrdinalIdentifiesAnotherProperty() throws Exception {
+    final IAttachment attachment = TestMapGameData.TEST.getGameData().getAttachmentOrderAndValues().get(0).getFirst();
+    final PropertyTable table = attachment.getPropertyTable();
+    final String name = table.getName(table.size() - 1);
+
+    assertThat(attachment.getPropertyOrThrow(0, name), is(sameInstance(attachment.getPropertyOrThrow(name))));
+    assertThat(attachment.getPropertyOrThrow(PropertyTable.UNKNOWN_ORDINAL, name),
+        is(sameInstance(attachment.getPropertyOrThrow(name))));
+  }
+}
@@ -440,4 +440,44 @@ public class UnitCollectionTest {
     unitCollectionIterator.forEachRemaining(u -> assertThat(u, is(collectionIterator.next())));
   }
 
+  @Test
+  public void anyMatchByOwnerAndType() {
+    addAllDefaultPlayerUnitsOfUnitTypeOneToUnitCollection(unitCollection);
+    unitCollection.addAll(getOtherPlayerUnitsOfUnitTypeTwo());
+
+    assertThat(unitCollection.anyMatch(defaultPlayerId::equals, unitTypeOne::equals), is(equalTo(true)));
+    assertThat(unitCollection.anyMatch(defaultPlayerId::equals, unitTypeTwo::equals), is(equalTo(false)));
+    assertThat(unitCollection.anyMatch(otherPlayerId::equals, unitTypeTwo::equals), is(equalTo(true)));
+    assertThat(unitCollection.anyMatch(otherPlayerId::equals, unitTypeOne::equals), is(equalTo(false)));
+  }
+
+  @Test
+  public void unitCountsShouldFollowRemovals() {
+    final UnitCollection allPlayersUnitCollection = addAllPlayerUnitsToUnitCollection(unitCollection);
+    assertThat(allPlayersUnitCollection.getUnitCount(otherPlayerId), is(equalTo(unitCountOtherPlayer)));
+
+    allPlayersUnitCollection.removeAll(getOtherPlayerUnitsOfUnitTypeTwo());
+    allPlayersUnitCollection.remove(unitOtherPlayer1);
+    assertThat(allPlayersUnitCollection.getUnitCount(unitTypeTwo, otherPlayerId), is(equalTo(0)));
+    assertThat(allPlayersUnitCollection.getUnitCount(otherPlayerId), is(equalTo(unitCountOtherPlayerUnitTypeOne - 1)));
+
+    allPlayersUnitCollection.retainAll(getDefaultPlayerUnitsOfUnitTypeTwo());
+    assertThat(allPlayersUnitCollection.getPlayersWithUnits().size(), is(equalTo(1)));
+    assertThat(allPlayersUnitCollection.getUnitCount(defaultPlayerId), is(equalTo(unitCountDefaultPlayerUnitTypeTwo)));
+
+    allPlayersUnitCollection.clear();
+    assertThat(allPlayersUnitCollection.getPlayersWithUnits().size(), is(equalTo(0)));
+  }
+
+  @Test
+  public void unitCountsShouldFollowOwnerChanges() {
+    final UnitCollection allDefaultPlayerUnitCollection = addAllDefaultPlayerUnitsToUnitCollection(unitCollection);
+    assertThat(allDefaultPlayerUnitCollection.getUnitCount(otherPlayerId), is(equalTo(0)));
+
+    unitDefaultPlayer1.setOwner(otherPlayerId);
+    allDefaultPlayerUnitCollection.notifyUnitOwnersChanged();
+
+    assertThat(allDefaultPlayerUnitCollection.getUnitCount(unitTypeOne, otherPlayerId), is(equalTo(1)));
+    assertThat(allDefaultPlayerUnitCollection.getUnitCount(defaultPlayerId), is(equalTo(unitCountDefaultPlayer - 1)));
+  }
 }
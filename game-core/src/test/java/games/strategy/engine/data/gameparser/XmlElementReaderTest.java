@@ -0,0 +1,120 @@
+package games.strategy.engine.data.gameparser;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.empty;
+import static org.hamcrest.Matchers.hasSize;
+import static org.hamcrest.Matchers.is;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Predicate;
+
+import javax.xml.parsers.DocumentBuilderFactory;
+
+import org.junit.jupiter.api.Test;
+import org.xml.sax.ErrorHandler;
+import org.xml.sax.SAXException;
+import org.xml.sax.SAXParseException;
+
+public final class XmlElementReaderTest {
+  private final List<SAXParseException> errors = new ArrayList<>();
+  private final ErrorHandler errorHandler = new ErrorHandler() {
+    @Override
+    public void warning(final SAXParseException exception) {
+      errors.add(exception);
+    }
+
+    @Override
+    public void error(final SAXParseException exception) {
+      errors.add(exception);
+    }
+
+    @Override
+    public void fatalError(final SAXParseException exception) {
+      errors.add(exception);
+    }
+  };
+
+  private static final String XML = "<?xml version=\"1.0\"?>\n"
+      + "<!DOCTYPE game [\n"
+      + "  <!ELEMENT game (info, attachmentList)>\n"
+      + "  <!ELEMENT info EMPTY>\n"
+      + "  <!ATTLIST info name CDATA #REQUIRED>\n"
+      + "  <!ELEMENT attachmentList (attachment+)>\n"
+      + "  <!ELEMENT attachment (value)>\n"
+      + "  <!ATTLIST attachment name CDATA #REQUIRED type CDATA \"unitType\">\n"
+      + "  <!ELEMENT value (#PCDATA)>\n"
+      + "]>\n"
+      + "<game>\n"
+      + "  <!-- comment -->\n"
+      + "  <info name=\"Game\"/>\n"
+      + "  <attachmentList>\n"
+      + "    <attachment name=\"first\"><value>some <![CDATA[<text>]]></value></attachment>\n"
+      + "    <attachment name=\"second\" type=\"territory\"><value/></attachment>\n"
+      + "  </attachmentList>\n"
+      + "</game>\n";
+
+  private static InputStream newInputStream(final String xml) {
+    return new ByteArrayInputStream(xml.getBytes(StandardCharsets.UTF_8));
+  }
+
+  private XmlElement read(final Predicate<String> sectionFilter) throws Exception {
+    return XmlElementReader.read(newInputStream(XML), "file:/", sectionFilter, errorHandler);
+  }
+
+  private static void assertDocument(final XmlElement root) {
+    assertThat(root.getName(), is("game"));
+    assertThat(root.getChildren().size(), is(2));
+    assertThat(root.getText(), is(""));
+    assertThat(root.getChildren("info").get(0).getAttribute("name"), is("Game"));
+    final XmlElement attachmentList = root.getChildren("attachmentList").get(0);
+    final XmlElement first = attachmentList.getChildren("attachment").get(0);
+    assertThat(first.getAttribute("type"), is("unitType"));
+    assertThat(first.hasAttribute("type"), is(true));
+    assertThat(first.getAttribute("missing"), is(""));
+    assertThat(first.hasAttribute("missing"), is(false));
+    assertThat(first.getChildren("value").get(0).getText(), is("some <text>"));
+    final XmlElement second = attachmentList.getChildren("attachment").get(1);
+    assertThat(second.getAttribute("type"), is("territory"));
+    assertThat(second.getChildren("value").get(0).getText(), is(""));
+  }
+
+  @Test
+  public void read_ShouldReadElementsAttributesDefaultAttributesAndText() throws Exception {
+    assertDocument(read(section -> true));
+    assertThat(errors, is(empty()));
+  }
+
+  @Test
+  public void read_ShouldSkipSectionsRejectedByFilter() throws Exception {
+    final XmlElement root = read("info"::equals);
+
+    assertThat(root.getChildren().size(), is(1));
+    assertThat(root.getChildren("attachmentList").isEmpty(), is(true));
+  }
+
+  @Test
+  public void read_ShouldReportValidityErrorsAndReadDocument() throws Exception {
+    final XmlElement root = XmlElementReader.read(
+        newInputStream(XML.replace("<info name=\"Game\"/>", "<info/>")), "file:/", section -> true, errorHandler);
+
+    assertThat(errors, hasSize(1));
+    assertThat(root.getChildren("info").size(), is(1));
+  }
+
+  @Test
+  public void read_ShouldThrowExceptionWhenDocumentIsMalformed() {
+    assertThrows(SAXException.class,
+        () -> XmlElementReader.read(newInputStream("<game><info></game>"), "file:/", s -> true, errorHandler));
+  }
+
+  @Test
+  public void fromDom_ShouldConvertSameDocumentAsRead() throws Exception {
+    assertDocument(XmlElementReader.fromDom(
+        DocumentBuilderFactory.newInstance().newDocumentBuilder().parse(newInputStream(XML)).getDocumentElement()));
+  }
+}
@@ -2,9 +2,12 @@ package games.strategy.engine.data.properties;
 
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.not;
+import static org.hamcrest.Matchers.sameInstance;
 
 import java.util.Arrays;
 import java.util.List;
+import java.util.function.BooleanSupplier;
 
 import org.junit.jupiter.api.Test;
 
@@ -21,4 +24,47 @@ public final class GamePropertiesTest {
 
     assertThat(actual, is(expected));
   }
+
+  @Test
+  public void newBooleanReader_ShouldReadConstantEditableOrDefaultValue() {
+    final GameProperties properties = new GameProperties(null);
+    properties.set("constant", true);
+    final BooleanProperty editableProperty = new BooleanProperty("editable", "description", false);
+    properties.addEditableProperty(editableProperty);
+
+    final BooleanSupplier editableReader = properties.newBooleanReader("editable", true);
+
+    assertThat(properties.newBooleanReader("constant", false).getAsBoolean(), is(true));
+    assertThat(properties.newBooleanReader("missing", true).getAsBoolean(), is(true));
+    assertThat(editableReader.getAsBoolean(), is(false));
+    editableProperty.setValue(true);
+    assertThat(editableReader.getAsBoolean(), is(true));
+  }
+
+  @Test
+  public void newIntReader_ShouldReadConstantEditableOrDefaultValue() {
+    final GameProperties properties = new GameProperties(null);
+    properties.set("constant", 2);
+    properties.addEditableProperty(new NumberProperty("editable", "description", 10, 0, 3));
+
+    assertThat(properties.newIntReader("constant", 0).getAsInt(), is(2));
+    assertThat(properties.newIntReader("editable", 0).getAsInt(), is(3));
+    assertThat(properties.newIntReader("missing", -1).getAsInt(), is(-1));
+  }
+
+  @Test
+  public void getTypedView_ShouldRebuildViewOnlyAfterPropertiesChange() {
+    final GameProperties properties = new GameProperties(null);
+    properties.set("constant", true);
+    final BooleanSupplier view =
+        properties.getTypedView(BooleanSupplier.class, p -> p.newBooleanReader("constant", false));
+
+    assertThat(properties.getTypedView(BooleanSupplier.class, p -> () -> false), is(sameInstance(view)));
+
+    properties.set("constant", false);
+    final BooleanSupplier rebuiltView =
+        properties.getTypedView(BooleanSupplier.class, p -> p.newBooleanReader("constant", true));
+    assertThat(rebuiltView, is(not(sameInstance(view))));
+    assertThat(rebuiltView.getAsBoolean(), is(false));
+  }
 }
@@ -1,12 +1,15 @@
 package games.strategy.engine.framework;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
 
 import java.io.IOException;
 
 import org.junit.jupiter.api.Test;
 
 import games.strategy.engine.data.GameData;
+import games.strategy.engine.data.PlayerID;
+import games.strategy.engine.history.History;
 import games.strategy.io.IoUtils;
 import games.strategy.triplea.settings.AbstractClientSettingTestCase;
 
@@ -18,4 +21,25 @@ public class GameDataManagerTest extends AbstractClientSettingTestCase {
     final GameData loaded = IoUtils.readFromMemory(bytes, GameDataManager::loadGame);
     assertEquals(loaded.getProperties().get(GameData.GAME_UUID), data.getProperties().get(GameData.GAME_UUID));
   }
+
+  @Test
+  public void testSaveWithoutHistoryLeavesHistoryOfSavedGameUntouched() throws IOException {
+    final GameData data = new GameData();
+    final History history = data.getHistory();
+    history.getHistoryWriter().startNextStep("step", "step", PlayerID.NULL_PLAYERID, "step");
+    final byte[] bytes = IoUtils.writeToMemory(os -> GameDataManager.saveGame(os, data, false, false));
+    final GameData loaded = IoUtils.readFromMemory(bytes, GameDataManager::loadGame);
+    assertSame(history, data.getHistory());
+    assertEquals(1, history.getChildCount(history.getRoot()));
+    assertEquals(0, loaded.getHistory().getChildCount(loaded.getHistory().getRoot()));
+  }
+
+  @Test
+  public void testSaveWithHistoryKeepsHistory() throws IOException {
+    final GameData data = new GameData();
+    data.getHistory().getHistoryWriter().startNextStep("step", "step", PlayerID.NULL_PLAYERID, "step");
+    final byte[] bytes = IoUtils.writeToMemory(os -> GameDataManager.saveGame(os, data, false, true));
+    final GameData loaded = IoUtils.readFromMemory(bytes, GameDataManager::loadGame);
+    assertEquals(1, loaded.getHistory().getChildCount(loaded.getHistory().getRoot()));
+  }
 }
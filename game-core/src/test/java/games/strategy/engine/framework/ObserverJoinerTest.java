@@ -0,0 +1,146 @@
+package games.strategy.engine.framework;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+
+import com.example.mockito.MockitoExtension;
+
+import games.strategy.engine.data.GameData;
+import games.strategy.engine.delegate.DelegateExecutionManager;
+import games.strategy.engine.framework.startup.mc.IObserverWaitingToJoin;
+import games.strategy.net.INode;
+
+@ExtendWith(MockitoExtension.class)
+public final class ObserverJoinerTest {
+  private static final byte[] SNAPSHOT = {1, 2, 3};
+
+  private final DelegateExecutionManager delegateExecutionManager = new DelegateExecutionManager();
+  private final Map<String, INode> players = Collections.emptyMap();
+  private int timeoutSeconds = 60;
+  private final ObserverJoiner observerJoiner = new ObserverJoiner(delegateExecutionManager, os -> os.write(SNAPSHOT),
+      () -> 1L, () -> players, () -> timeoutSeconds);
+  @Mock
+  private IObserverWaitingToJoin blockingObserver;
+  @Mock
+  private IObserverWaitingToJoin nonBlockingObserver;
+  @Mock
+  private INode node;
+  @Mock
+  private IGameModifiedChannel channel;
+
+  /**
+   * Must be called in a thread other than the one that may be blocking delegate execution.
+   */
+  private boolean isDelegateExecutionBlocked() throws InterruptedException {
+    if (delegateExecutionManager.blockDelegateExecution(0)) {
+      delegateExecutionManager.resumeDelegateExecution();
+      return false;
+    }
+    return true;
+  }
+
+  @Test
+  public void addObserver_ShouldStreamSnapshotWhileGameIsRunning() throws Exception {
+    final AtomicBoolean blockedWhileStreaming = new AtomicBoolean(true);
+    final AtomicBoolean blockedWhileJoining = new AtomicBoolean(false);
+    final AtomicReference<byte[]> streamedSnapshot = new AtomicReference<>();
+    final AtomicLong streamedSnapshotId = new AtomicLong();
+    doAnswer(invocation -> {
+      blockedWhileStreaming.set(isDelegateExecutionBlocked());
+      streamedSnapshotId.set(invocation.getArgument(0));
+      streamedSnapshot.set(observerJoiner.getSnapshotChunk(invocation.getArgument(0), 0));
+      return null;
+    }).when(blockingObserver).receiveGameSnapshot(anyLong(), eq(SNAPSHOT.length));
+    doAnswer(invocation -> {
+      blockedWhileJoining.set(isDelegateExecutionBlocked());
+      return null;
+    }).when(blockingObserver).joinGame(anyLong(), any(), eq(players));
+
+    observerJoiner.addObserver(blockingObserver, nonBlockingObserver, node);
+
+    assertThat(blockedWhileStreaming.get(), is(false));
+    assertThat(streamedSnapshot.get(), is(SNAPSHOT));
+    assertThat(blockedWhileJoining.get(), is(true));
+    verify(blockingObserver).joinGame(eq(streamedSnapshotId.get()), any(), eq(players));
+    verify(nonBlockingObserver, never()).cannotJoinGame(anyString());
+    assertThat(isDelegateExecutionBlocked(), is(false));
+    assertThrows(IllegalArgumentException.class, () -> observerJoiner.getSnapshotChunk(streamedSnapshotId.get(), 0));
+  }
+
+  @Test
+  public void addObserver_ShouldForwardModificationsMadeWhileStreaming() throws Exception {
+    observerJoiner.recordModification(modifiedChannel -> modifiedChannel.startHistoryEvent("Before the snapshot"));
+    doAnswer(invocation -> {
+      observerJoiner.recordModification(modifiedChannel -> modifiedChannel.startHistoryEvent("Bombing"));
+      observerJoiner.recordModification(modifiedChannel -> modifiedChannel.addChildToEvent("Hit", null));
+      return null;
+    }).when(blockingObserver).receiveGameSnapshot(anyLong(), anyInt());
+    final AtomicReference<byte[]> gameModifications = new AtomicReference<>();
+    doAnswer(invocation -> {
+      gameModifications.set(invocation.getArgument(1));
+      return null;
+    }).when(blockingObserver).joinGame(anyLong(), any(), any());
+
+    observerJoiner.addObserver(blockingObserver, nonBlockingObserver, node);
+    GameModificationLog.replay(gameModifications.get(), new GameData(), channel);
+
+    final InOrder inOrder = inOrder(channel);
+    inOrder.verify(channel).startHistoryEvent("Bombing");
+    inOrder.verify(channel).addChildToEvent("Hit", null);
+    verify(channel, never()).startHistoryEvent("Before the snapshot");
+  }
+
+  @Test
+  public void addObserver_ShouldGiveUpOnObserverThatStallsReceivingSnapshot() throws Exception {
+    timeoutSeconds = 1;
+    final CountDownLatch stall = new CountDownLatch(1);
+    doAnswer(invocation -> {
+      stall.await();
+      return null;
+    }).when(blockingObserver).receiveGameSnapshot(anyLong(), anyInt());
+
+    try {
+      observerJoiner.addObserver(blockingObserver, nonBlockingObserver, node);
+    } finally {
+      stall.countDown();
+    }
+
+    verify(nonBlockingObserver).cannotJoinGame(anyString());
+    verify(blockingObserver, never()).joinGame(anyLong(), any(), any());
+    assertThat(isDelegateExecutionBlocked(), is(false));
+  }
+
+  @Test
+  public void addObserver_ShouldReportObserverThatFailsToJoin() throws Exception {
+    doThrow(new IllegalStateException("snapshot not received"))
+        .when(blockingObserver).joinGame(anyLong(), any(), any());
+
+    observerJoiner.addObserver(blockingObserver, nonBlockingObserver, node);
+
+    verify(nonBlockingObserver).cannotJoinGame(anyString());
+    assertThat(isDelegateExecutionBlocked(), is(false));
+  }
+}
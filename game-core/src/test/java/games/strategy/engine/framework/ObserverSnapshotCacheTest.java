@@ -0,0 +1,67 @@
+package games.strategy.engine.framework;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.not;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+
+public final class ObserverSnapshotCacheTest {
+  private final ObserverSnapshotCache cache = new ObserverSnapshotCache();
+  private final AtomicInteger encodeCount = new AtomicInteger();
+
+  private void encode(final OutputStream os, final int size) throws IOException {
+    encodeCount.incrementAndGet();
+    for (int i = 0; i < size; i++) {
+      os.write(i);
+    }
+  }
+
+  @Test
+  public void acquire_ShouldShareSnapshotOfSameGameState() throws Exception {
+    final long first = cache.acquire(1, os -> encode(os, 10));
+    final long second = cache.acquire(1, os -> encode(os, 10));
+
+    assertThat(second, is(first));
+    assertThat(encodeCount.get(), is(1));
+  }
+
+  @Test
+  public void acquire_ShouldEncodeNewSnapshotWhenGameStateChanged() throws Exception {
+    final long first = cache.acquire(1, os -> encode(os, 10));
+    final long second = cache.acquire(2, os -> encode(os, 10));
+
+    assertThat(second, is(not(first)));
+    assertThat(encodeCount.get(), is(2));
+  }
+
+  @Test
+  public void getChunk_ShouldReturnBoundedChunks() throws Exception {
+    final int size = ObserverSnapshotCache.CHUNK_SIZE + 5;
+    final long snapshotId = cache.acquire(1, os -> encode(os, size));
+
+    assertThat(cache.getSize(snapshotId), is(size));
+    assertThat(cache.getChunk(snapshotId, 0).length, is(ObserverSnapshotCache.CHUNK_SIZE));
+    final byte[] lastChunk = cache.getChunk(snapshotId, ObserverSnapshotCache.CHUNK_SIZE);
+    assertThat(lastChunk.length, is(5));
+    assertThat(lastChunk[0], is((byte) ObserverSnapshotCache.CHUNK_SIZE));
+    assertThat(cache.getChunk(snapshotId, size).length, is(0));
+  }
+
+  @Test
+  public void release_ShouldDiscardSnapshotWhenLastReferenceIsReleased() throws Exception {
+    final long snapshotId = cache.acquire(1, os -> encode(os, 10));
+    cache.acquire(1, os -> encode(os, 10));
+
+    cache.release(snapshotId);
+    assertThat(cache.getSize(snapshotId), is(10));
+
+    cache.release(snapshotId);
+    assertThrows(IllegalArgumentException.class, () -> cache.getSize(snapshotId));
+  }
+}
@@ -0,0 +1,92 @@
+package games.strategy.engine.framework.ui;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+
+import java.io.File;
+import java.net.URI;
+import java.nio.file.Files;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Optional;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import games.strategy.test.extensions.TemporaryFolder;
+import games.strategy.test.extensions.TemporaryFolderExtension;
+
+@ExtendWith(TemporaryFolderExtension.class)
+public final class GameChooserIndexTest {
+  private TemporaryFolder temporaryFolder;
+  private File indexFile;
+  private File mapFile;
+
+  @BeforeEach
+  public void setUp() throws Exception {
+    indexFile = temporaryFolder.newFile("index.dat");
+    indexFile.delete();
+    mapFile = temporaryFolder.newFile("map.zip");
+    Files.write(mapFile.toPath(), new byte[] {1, 2, 3});
+  }
+
+  private static GameChooserEntry newEntry(final String gameName) {
+    return new GameChooserEntry(
+        URI.create("file:/maps/" + gameName + ".xml"),
+        new GameChooserEntry.Metadata(gameName, "mapName", "1.0", 3, "<b>notes</b>"));
+  }
+
+  @Test
+  public void get_ShouldReturnEntriesOfUnchangedMapAfterReload() {
+    final GameChooserIndex index = GameChooserIndex.load(indexFile);
+    index.put(mapFile, Collections.singleton(newEntry("game")));
+    index.save();
+
+    final Optional<Collection<GameChooserEntry>> entries = GameChooserIndex.load(indexFile).get(mapFile);
+
+    assertThat(entries.isPresent(), is(true));
+    final GameChooserEntry entry = entries.get().iterator().next();
+    assertThat(entry.getGameName(), is("game"));
+    assertThat(entry.getUri(), is(URI.create("file:/maps/game.xml")));
+    assertThat(entry.getMetadata().playerCount, is(3));
+    assertThat(entry.getMetadata().notes, is("<b>notes</b>"));
+    assertThat(entry.isGameDataLoaded(), is(false));
+  }
+
+  @Test
+  public void get_ShouldReturnEmptyWhenMapChangedSinceIndexed() throws Exception {
+    final GameChooserIndex index = GameChooserIndex.load(indexFile);
+    index.put(mapFile, Collections.singleton(newEntry("game")));
+    index.save();
+
+    Files.write(mapFile.toPath(), new byte[] {1, 2, 3, 4});
+
+    assertThat(GameChooserIndex.load(indexFile).get(mapFile).isPresent(), is(false));
+  }
+
+  @Test
+  public void save_ShouldDropMapsThatWereNotLookedUp() throws Exception {
+    final GameChooserIndex index = GameChooserIndex.load(indexFile);
+    index.put(mapFile, Collections.singleton(newEntry("game")));
+    index.save();
+    final GameChooserIndex lookedUpIndex = GameChooserIndex.load(indexFile);
+    lookedUpIndex.get(mapFile);
+    lookedUpIndex.put(temporaryFolder.newFile("other.zip"), Collections.emptySet());
+    lookedUpIndex.save();
+    assertThat(GameChooserIndex.load(indexFile).get(mapFile).isPresent(), is(true));
+
+    final GameChooserIndex notLookedUpIndex = GameChooserIndex.load(indexFile);
+    notLookedUpIndex.put(temporaryFolder.newFile("other.zip"), Collections.emptySet());
+    notLookedUpIndex.save();
+
+    assertThat(GameChooserIndex.load(indexFile).get(mapFile).isPresent(), is(false));
+  }
+
+  @Test
+  public void load_ShouldDiscardUnreadableIndex() throws Exception {
+    Files.write(indexFile.toPath(), new byte[] {0, 0, 0, 1, 0, 0, 0, 5});
+
+    assertThat(GameChooserIndex.load(indexFile).get(mapFile).isPresent(), is(false));
+  }
+}
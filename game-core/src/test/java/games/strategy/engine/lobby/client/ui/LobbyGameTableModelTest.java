@@ -3,9 +3,12 @@ package games.strategy.engine.lobby.client.ui;
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.nullValue;
+import static org.hamcrest.Matchers.sameInstance;
 
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.TimeUnit;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -16,6 +19,7 @@ import org.mockito.Mockito;
 import com.example.mockito.MockitoExtension;
 
 import games.strategy.engine.lobby.server.GameDescription;
+import games.strategy.engine.lobby.server.GameDescriptionDelta;
 import games.strategy.engine.lobby.server.ILobbyGameController;
 import games.strategy.engine.message.IChannelMessenger;
 import games.strategy.engine.message.IRemoteMessenger;
@@ -102,6 +106,55 @@ public class LobbyGameTableModelTest {
         testObj.getRowCount(), is(1));
   }
 
+  @Test
+  public void gamesUpdatedAppliesDeltaToListedGame() {
+    final GameDescription oldDescription = new GameDescription();
+    oldDescription.setComment("old");
+    testObj.getLobbyGameBroadcaster().gameUpdated(fakeGame.getFirst(), oldDescription);
+    final GameDescription newDescription = (GameDescription) oldDescription.clone();
+    newDescription.setComment("new");
+
+    testObj.getLobbyGameBroadcaster().gamesUpdated(Collections.singletonList(
+        GameDescriptionDelta.of(fakeGame.getFirst(), oldDescription, newDescription)));
+    TestUtil.waitForSwingThreads();
+
+    assertThat(testObj.getRowCount(), is(1));
+    assertThat(testObj.getValueAt(0, testObj.getColumnIndex(LobbyGameTableModel.Column.Comments)), is("new"));
+  }
+
+  @Test
+  public void gamesUpdatedListsCompleteDescriptionWhenDeltaBaseIsNotListed() {
+    final GameDescription listedDescription = new GameDescription();
+    listedDescription.setComment("listed");
+    testObj.getLobbyGameBroadcaster().gameUpdated(fakeGame.getFirst(), listedDescription);
+    final GameDescription broadcastDescription = (GameDescription) listedDescription.clone();
+    broadcastDescription.setRound("1");
+    final GameDescription newDescription = (GameDescription) broadcastDescription.clone();
+    newDescription.setPlayerCount(3);
+    Mockito.when(mockLobbyController.listGames())
+        .thenReturn(Collections.singletonMap(fakeGame.getFirst(), newDescription));
+
+    testObj.getLobbyGameBroadcaster().gamesUpdated(Collections.singletonList(
+        GameDescriptionDelta.of(fakeGame.getFirst(), broadcastDescription, newDescription)));
+    // the complete description is listed in another thread
+    final long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+    do {
+      TestUtil.waitForSwingThreads();
+    } while (testObj.get(0) != newDescription && System.nanoTime() < deadline);
+
+    assertThat(testObj.getRowCount(), is(1));
+    assertThat(testObj.get(0), is(sameInstance(newDescription)));
+  }
+
+  @Test
+  public void gamesUpdatedAddsGameOfCompleteDelta() {
+    testObj.getLobbyGameBroadcaster().gamesUpdated(Collections.singletonList(
+        GameDescriptionDelta.of(new GUID(), null, new GameDescription())));
+    TestUtil.waitForSwingThreads();
+
+    assertThat(testObj.getRowCount(), is(2));
+  }
+
   @Test
   public void removeGame() {
     testObj.getLobbyGameBroadcaster().gameRemoved(fakeGame.getFirst());
@@ -0,0 +1,134 @@
+package games.strategy.engine.lobby.server;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import java.util.List;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+
+import com.example.mockito.MockitoExtension;
+
+import games.strategy.net.GUID;
+
+@ExtendWith(MockitoExtension.class)
+public final class CoalescingLobbyGameBroadcasterTest {
+  private final GUID gameId = new GUID();
+  private final GUID otherGameId = new GUID();
+  @Mock
+  private ILobbyGameBroadcaster broadcaster;
+  @Mock
+  private ScheduledExecutorService executor;
+  private CoalescingLobbyGameBroadcaster coalescingBroadcaster;
+
+  @BeforeEach
+  public void setUp() {
+    coalescingBroadcaster = new CoalescingLobbyGameBroadcaster(broadcaster, executor, 500);
+  }
+
+  private static GameDescription newGameDescription(final String round) {
+    final GameDescription description = new GameDescription();
+    description.setRound(round);
+    description.setComment("comment");
+    return description;
+  }
+
+  private List<GameDescriptionDelta> verifyGamesUpdated() {
+    final ArgumentCaptor<List<GameDescriptionDelta>> captor = newCaptor();
+    verify(broadcaster).gamesUpdated(captor.capture());
+    return captor.getValue();
+  }
+
+  @Test
+  public void gameUpdated_ShouldScheduleOneFlushPerWindow() {
+    coalescingBroadcaster.gameUpdated(gameId, newGameDescription("1"));
+    coalescingBroadcaster.gameUpdated(otherGameId, newGameDescription("1"));
+
+    verify(executor, times(1)).schedule(any(Runnable.class), eq(500L), eq(TimeUnit.MILLISECONDS));
+    verify(broadcaster, never()).gamesUpdated(anyList());
+
+    coalescingBroadcaster.flush();
+    coalescingBroadcaster.gameUpdated(gameId, newGameDescription("2"));
+
+    verify(executor, times(2)).schedule(any(Runnable.class), anyLong(), any(TimeUnit.class));
+  }
+
+  @Test
+  public void flush_ShouldBroadcastLatestDescriptionOfEachGameInOneMessage() {
+    coalescingBroadcaster.gameUpdated(gameId, newGameDescription("1"));
+    coalescingBroadcaster.gameUpdated(otherGameId, newGameDescription("1"));
+    coalescingBroadcaster.gameUpdated(gameId, newGameDescription("2"));
+
+    coalescingBroadcaster.flush();
+
+    final List<GameDescriptionDelta> deltas = verifyGamesUpdated();
+    assertThat(deltas.size(), is(2));
+    assertThat(deltas.get(0).getGameId(), is(gameId));
+    assertThat(deltas.get(0).isComplete(), is(true));
+    assertThat(deltas.get(0).applyTo(null).getRound(), is("2"));
+    assertThat(deltas.get(1).getGameId(), is(otherGameId));
+  }
+
+  @Test
+  public void flush_ShouldBroadcastOnlyFieldsChangedSinceLastBroadcast() {
+    final GameDescription previous = newGameDescription("1");
+    coalescingBroadcaster.gameUpdated(gameId, previous);
+    coalescingBroadcaster.flush();
+    final GameDescription current = newGameDescription("2");
+    coalescingBroadcaster.gameUpdated(gameId, current);
+
+    coalescingBroadcaster.flush();
+
+    final ArgumentCaptor<List<GameDescriptionDelta>> captor = newCaptor();
+    verify(broadcaster, times(2)).gamesUpdated(captor.capture());
+    final GameDescriptionDelta delta = captor.getAllValues().get(1).get(0);
+    assertThat(delta.isComplete(), is(false));
+    assertThat(delta.applyTo(previous).getRound(), is("2"));
+  }
+
+  @Test
+  public void flush_ShouldNotBroadcastGamesWithoutChangedFields() {
+    coalescingBroadcaster.gameUpdated(gameId, newGameDescription("1"));
+    coalescingBroadcaster.flush();
+    coalescingBroadcaster.gameUpdated(gameId, newGameDescription("1"));
+
+    coalescingBroadcaster.flush();
+
+    verify(broadcaster, times(1)).gamesUpdated(anyList());
+  }
+
+  @Test
+  public void gameRemoved_ShouldBroadcastRemovalAndDiscardPendingUpdate() {
+    coalescingBroadcaster.gameUpdated(gameId, newGameDescription("1"));
+    coalescingBroadcaster.flush();
+    coalescingBroadcaster.gameUpdated(gameId, newGameDescription("2"));
+
+    coalescingBroadcaster.gameRemoved(gameId);
+    coalescingBroadcaster.flush();
+
+    final InOrder inOrder = inOrder(broadcaster);
+    inOrder.verify(broadcaster).gamesUpdated(anyList());
+    inOrder.verify(broadcaster).gameRemoved(gameId);
+    inOrder.verifyNoMoreInteractions();
+  }
+
+  @SuppressWarnings("unchecked")
+  private static ArgumentCaptor<List<GameDescriptionDelta>> newCaptor() {
+    return ArgumentCaptor.forClass(List.class);
+  }
+}
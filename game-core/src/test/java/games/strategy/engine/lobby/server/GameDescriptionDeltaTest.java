@@ -0,0 +1,133 @@
+package games.strategy.engine.lobby.server;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.lessThan;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.net.InetAddress;
+import java.time.Instant;
+
+import org.junit.jupiter.api.Test;
+
+import games.strategy.net.GUID;
+import games.strategy.net.Node;
+
+public final class GameDescriptionDeltaTest {
+  private final GUID gameId = new GUID();
+
+  private static GameDescription newGameDescription() {
+    final GameDescription description = new GameDescription(new Node("host", InetAddress.getLoopbackAddress(), 3300),
+        3300, Instant.ofEpochMilli(1_500_000_000_000L), "Revised", 5, GameDescription.GameStatus.IN_PROGRESS, "3",
+        "host", "comment", false, "1.9.0.0", "2");
+    description.setBotSupportEmail("bot@me.com");
+    return description;
+  }
+
+  private static byte[] write(final GameDescriptionDelta delta) throws IOException {
+    final ByteArrayOutputStream os = new ByteArrayOutputStream();
+    try (ObjectOutputStream out = new ObjectOutputStream(os)) {
+      out.writeObject(delta);
+    }
+    return os.toByteArray();
+  }
+
+  private static GameDescriptionDelta roundTrip(final GameDescriptionDelta delta) throws Exception {
+    try (ObjectInputStream in = new ObjectInputStream(new ByteArrayInputStream(write(delta)))) {
+      return (GameDescriptionDelta) in.readObject();
+    }
+  }
+
+  private static void assertSameFields(final GameDescription actual, final GameDescription expected) {
+    assertThat(actual.getHostedBy(), is(expected.getHostedBy()));
+    assertThat(actual.getPort(), is(expected.getPort()));
+    assertThat(actual.getStartDateTime(), is(expected.getStartDateTime()));
+    assertThat(actual.getGameName(), is(expected.getGameName()));
+    assertThat(actual.getPlayerCount(), is(expected.getPlayerCount()));
+    assertThat(actual.getRound(), is(expected.getRound()));
+    assertThat(actual.getStatus(), is(expected.getStatus()));
+    assertThat(actual.getHostName(), is(expected.getHostName()));
+    assertThat(actual.getComment(), is(expected.getComment()));
+    assertThat(actual.getPassworded(), is(expected.getPassworded()));
+    assertThat(actual.getEngineVersion(), is(expected.getEngineVersion()));
+    assertThat(actual.getGameVersion(), is(expected.getGameVersion()));
+    assertThat(actual.getBotSupportEmail(), is(expected.getBotSupportEmail()));
+    assertThat(actual.getVersion(), is(expected.getVersion()));
+  }
+
+  @Test
+  public void applyTo_ShouldReturnDescriptionWhenDeltaIsComplete() throws Exception {
+    final GameDescription description = newGameDescription();
+
+    final GameDescriptionDelta delta = roundTrip(GameDescriptionDelta.of(gameId, null, description));
+
+    assertThat(delta.isComplete(), is(true));
+    assertThat(delta.getGameId(), is(gameId));
+    assertSameFields(delta.applyTo(null), description);
+  }
+
+  @Test
+  public void applyTo_ShouldReturnDescriptionWithChangedFields() throws Exception {
+    final GameDescription previous = newGameDescription();
+    final GameDescription current = (GameDescription) previous.clone();
+    current.setRound("4");
+    current.setPlayerCount(4);
+
+    final GameDescriptionDelta delta = roundTrip(GameDescriptionDelta.of(gameId, previous, current));
+
+    assertThat(delta.isComplete(), is(false));
+    assertThat(delta.getVersion(), is(current.getVersion()));
+    assertSameFields(delta.applyTo(previous), current);
+    assertThat(previous.getRound(), is("3"));
+  }
+
+  @Test
+  public void writeExternal_ShouldWriteOnlyChangedFields() throws Exception {
+    final GameDescription previous = newGameDescription();
+    final GameDescription current = (GameDescription) previous.clone();
+    current.setRound("4");
+
+    assertThat(write(GameDescriptionDelta.of(gameId, previous, current)).length,
+        is(lessThan(write(GameDescriptionDelta.of(gameId, null, current)).length)));
+  }
+
+  @Test
+  public void applyTo_ShouldThrowExceptionWhenIncompleteDeltaHasNoDescription() {
+    final GameDescription previous = newGameDescription();
+    final GameDescription current = (GameDescription) previous.clone();
+    current.setRound("4");
+    final GameDescriptionDelta delta = GameDescriptionDelta.of(gameId, previous, current);
+
+    assertThrows(IllegalStateException.class, () -> delta.applyTo(null));
+  }
+
+  @Test
+  public void applyTo_ShouldThrowExceptionWhenDescriptionIsNotTheBaseOfIncompleteDelta() throws Exception {
+    final GameDescription previous = newGameDescription();
+    final GameDescription intermediate = (GameDescription) previous.clone();
+    intermediate.setComment("intermediate");
+    final GameDescription current = (GameDescription) intermediate.clone();
+    current.setRound("4");
+
+    final GameDescriptionDelta delta = roundTrip(GameDescriptionDelta.of(gameId, intermediate, current));
+
+    assertThat(delta.getBaseVersion(), is(intermediate.getVersion()));
+    assertThat(delta.canApplyTo(intermediate), is(true));
+    assertThat(delta.canApplyTo(previous), is(false));
+    assertThrows(IllegalStateException.class, () -> delta.applyTo(previous));
+  }
+
+  @Test
+  public void isEmpty_ShouldReturnTrueWhenNoFieldChanged() {
+    final GameDescription previous = newGameDescription();
+    final GameDescription current = (GameDescription) previous.clone();
+    current.setRound(previous.getRound());
+
+    assertThat(GameDescriptionDelta.of(gameId, previous, current).isEmpty(), is(true));
+  }
+}
@@ -0,0 +1,193 @@
+package games.strategy.engine.message;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.hasItem;
+import static org.hamcrest.Matchers.instanceOf;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.nullValue;
+import static org.hamcrest.Matchers.sameInstance;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.io.IOException;
+import java.io.ObjectOutputStream;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import com.google.common.base.Strings;
+
+import games.strategy.engine.data.Change;
+import games.strategy.engine.data.CompositeChange;
+import games.strategy.engine.data.GameData;
+import games.strategy.engine.data.PlayerID;
+import games.strategy.engine.data.Territory;
+import games.strategy.engine.data.Unit;
+import games.strategy.engine.data.UnitType;
+import games.strategy.engine.data.changefactory.ChangeFactory;
+import games.strategy.engine.framework.GameObjectStreamFactory;
+import games.strategy.io.IoUtils;
+import games.strategy.net.DefaultObjectStreamFactory;
+import games.strategy.net.GUID;
+import games.strategy.net.IObjectStreamFactory;
+import games.strategy.triplea.Constants;
+import games.strategy.triplea.TripleAUnit;
+import games.strategy.triplea.xml.TestMapGameData;
+
+public final class ArgumentCodecTest {
+  private static Object roundTrip(final IObjectStreamFactory objectStreamFactory, final Object value)
+      throws Exception {
+    return roundTrip(objectStreamFactory, objectStreamFactory, value);
+  }
+
+  private static Object roundTrip(final IObjectStreamFactory writerStreamFactory,
+      final IObjectStreamFactory readerStreamFactory, final Object value) throws Exception {
+    final byte[] bytes = IoUtils.writeToMemory(os -> {
+      final ObjectOutputStream out = writerStreamFactory.create(os);
+      ArgumentCodec.write(out, value);
+      out.flush();
+    });
+    return IoUtils.readFromMemory(bytes, is -> {
+      try {
+        return ArgumentCodec.read(readerStreamFactory.create(is));
+      } catch (final ClassNotFoundException e) {
+        throw new IOException(e);
+      }
+    });
+  }
+
+  @Nested
+  public final class PlainStreamTest {
+    private Object roundTrip(final Object value) throws Exception {
+      return ArgumentCodecTest.roundTrip(new DefaultObjectStreamFactory(), value);
+    }
+
+    @Test
+    public void shouldRoundTripPrimitiveWrappersAndStrings() throws Exception {
+      for (final Object value : Arrays.asList(true, false, (byte) 1, (short) 2, 'c', 3, 4L, 5.5F, 6.5D, "text", "")) {
+        assertThat(roundTrip(value), is(value));
+      }
+      assertThat(roundTrip(null), is(nullValue()));
+    }
+
+    @Test
+    public void shouldRoundTripStringsTooLongForModifiedUtf8() throws Exception {
+      final String value = Strings.repeat("€", 0xFFFF);
+
+      assertThat(roundTrip(value), is(value));
+    }
+
+    @Test
+    public void shouldRoundTripCollectionsPreservingTheirTypes() throws Exception {
+      final List<Object> list = new ArrayList<>(Arrays.asList(1, "two", null, new HashSet<>(Arrays.asList(3L))));
+      final LinkedHashSet<String> linkedSet = new LinkedHashSet<>(Arrays.asList("z", "a", "m"));
+      final Map<String, Object> map = new HashMap<>();
+      map.put("key", new ArrayList<>(Arrays.asList(1, 2)));
+      map.put(null, 3);
+
+      assertThat(roundTrip(list), is(list));
+      assertThat(roundTrip(linkedSet), is(instanceOf(LinkedHashSet.class)));
+      assertThat(Arrays.asList(((LinkedHashSet<?>) roundTrip(linkedSet)).toArray()), is(Arrays.asList("z", "a", "m")));
+      assertThat(roundTrip(map), is(map));
+    }
+
+    @Test
+    public void shouldFallBackToJavaSerializationForOtherTypes() throws Exception {
+      final GUID value = new GUID();
+
+      assertThat(roundTrip(value), is(value));
+    }
+  }
+
+  @Nested
+  public final class GameObjectStreamTest {
+    private GameData gameData;
+
+    @BeforeEach
+    public void setUp() throws Exception {
+      gameData = TestMapGameData.REVISED.getGameData();
+    }
+
+    private Object roundTrip(final Object value) throws Exception {
+      return ArgumentCodecTest.roundTrip(new GameObjectStreamFactory(gameData), value);
+    }
+
+    @Test
+    public void shouldResolveGameObjectsAgainstGameData() throws Exception {
+      final PlayerID player = gameData.getPlayerList().getPlayerId("Germans");
+      final Territory territory = gameData.getMap().getTerritory("Germany");
+      final UnitType unitType = gameData.getUnitTypeList().getUnitType("infantry");
+
+      assertThat(roundTrip(player), is(sameInstance(player)));
+      assertThat(roundTrip(PlayerID.NULL_PLAYERID), is(sameInstance(PlayerID.NULL_PLAYERID)));
+      assertThat(roundTrip(territory), is(sameInstance(territory)));
+      assertThat(roundTrip(unitType), is(sameInstance(unitType)));
+    }
+
+    @Test
+    public void shouldRoundTripFrequentChanges() throws Exception {
+      final PlayerID germans = gameData.getPlayerList().getPlayerId("Germans");
+      final Territory germany = gameData.getMap().getTerritory("Germany");
+      final Unit infantry = germany.getUnits().getUnits().iterator().next();
+      final Change change = new CompositeChange(
+          ChangeFactory.changeOwner(germany, gameData.getPlayerList().getPlayerId("Russians")),
+          ChangeFactory.changeResourcesChange(germans, gameData.getResourceList().getResource(Constants.PUS), -5),
+          ChangeFactory.removeUnits(germany, Arrays.asList(infantry)),
+          ChangeFactory.addUnits(germany, Arrays.asList(infantry)),
+          ChangeFactory.unitPropertyChange(infantry, 1, TripleAUnit.ALREADY_MOVED));
+
+      final Object decoded = roundTrip(change);
+
+      assertThat(decoded, is(instanceOf(CompositeChange.class)));
+      assertThat(decoded.toString(), is(change.toString()));
+      assertThat(((CompositeChange) decoded).getChanges().stream().map(Object::getClass).collect(Collectors.toList()),
+          is(((CompositeChange) change).getChanges().stream().map(Object::getClass).collect(Collectors.toList())));
+    }
+
+    @Test
+    public void shouldRegisterUnitsOfChangeThatReceiverHasNotSeen() throws Exception {
+      final GameData receiverGameData = TestMapGameData.REVISED.getGameData();
+      final Territory germany = gameData.getMap().getTerritory("Germany");
+      final Unit unit = gameData.getUnitTypeList().getUnitType("infantry")
+          .create(gameData.getPlayerList().getPlayerId("Germans"));
+      // a property copied to a new unit is sent before the unit is added
+      final Change change = new CompositeChange(
+          ChangeFactory.unitPropertyChange(unit, 1, TripleAUnit.ALREADY_MOVED),
+          ChangeFactory.addUnits(germany, Arrays.asList(unit)));
+
+      final Change decoded = (Change) ArgumentCodecTest.roundTrip(
+          new GameObjectStreamFactory(gameData), new GameObjectStreamFactory(receiverGameData), change);
+      receiverGameData.performChange(decoded);
+
+      final Unit receivedUnit = receiverGameData.getUnits().get(unit.getId());
+      assertThat(receiverGameData.getMap().getTerritory("Germany").getUnits().getUnits(), hasItem(receivedUnit));
+      assertThat(((TripleAUnit) receivedUnit).getAlreadyMoved(), is(1));
+    }
+
+    @Test
+    public void shouldFailWhenGameObjectIsReadFromPlainStream() throws Exception {
+      final Territory territory = gameData.getMap().getTerritory("Germany");
+      final byte[] bytes = IoUtils.writeToMemory(os -> {
+        final ObjectOutputStream out = new GameObjectStreamFactory(gameData).create(os);
+        ArgumentCodec.write(out, territory);
+        out.flush();
+      });
+
+      assertThrows(IOException.class, () -> IoUtils.readFromMemory(bytes, is -> {
+        try {
+          return ArgumentCodec.read(new DefaultObjectStreamFactory().create(is));
+        } catch (final ClassNotFoundException e) {
+          throw new IOException(e);
+        }
+      }));
+    }
+  }
+}
@@ -5,8 +5,15 @@ import static org.hamcrest.Matchers.instanceOf;
 import static org.hamcrest.Matchers.is;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 
+import java.io.ByteArrayInputStream;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+
 import org.junit.jupiter.api.Test;
 
+import games.strategy.engine.chat.IChatChannel;
+import games.strategy.io.IoUtils;
+
 public final class RemoteMethodCallTest {
   @Test
   public void stringToClass_ShouldReturnClassOfArgWhenStringIsNull() {
@@ -59,4 +66,26 @@ public final class RemoteMethodCallTest {
         assertThrows(IllegalStateException.class, () -> RemoteMethodCall.stringToClass("some.unknown.Type", null));
     assertThat(e.getCause(), is(instanceOf(ClassNotFoundException.class)));
   }
+
+  @Test
+  public void externalization_ShouldRoundTripRemoteNameMethodAndArgs() throws Exception {
+    final RemoteMethodCall call = new RemoteMethodCall("remoteName", "chatOccured", new Object[] {"message"},
+        new Class<?>[] {String.class}, IChatChannel.class);
+    final byte[] bytes = IoUtils.writeToMemory(os -> {
+      try (ObjectOutputStream out = new ObjectOutputStream(os)) {
+        call.writeExternal(out);
+      }
+    });
+
+    final RemoteMethodCall copy = new RemoteMethodCall();
+    try (ObjectInputStream in = new ObjectInputStream(new ByteArrayInputStream(bytes))) {
+      copy.readExternal(in);
+    }
+    copy.resolve(IChatChannel.class);
+
+    assertThat(copy.getRemoteName(), is("remoteName"));
+    assertThat(copy.getMethodName(), is("chatOccured"));
+    assertThat(copy.getArgs(), is(new Object[] {"message"}));
+    assertThat(copy.getArgTypes(), is(new Class<?>[] {String.class}));
+  }
 }
@@ -0,0 +1,88 @@
+package games.strategy.net.nio;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.sameInstance;
+
+import java.nio.ByteBuffer;
+
+import org.junit.jupiter.api.Test;
+
+public final class BufferPoolTest {
+  private final BufferPool bufferPool = new BufferPool();
+
+  @Test
+  public void acquire_ShouldReturnDirectBufferOfNextSizeClassLimitedToSize() {
+    final ByteBuffer buffer = bufferPool.acquire(1000);
+
+    assertThat(buffer.isDirect(), is(true));
+    assertThat(buffer.capacity(), is(1024));
+    assertThat(buffer.position(), is(0));
+    assertThat(buffer.limit(), is(1000));
+    assertThat(bufferPool.acquire(4).capacity(), is(BufferPool.MIN_POOLED_CAPACITY));
+    assertThat(bufferPool.acquire(1024).capacity(), is(1024));
+  }
+
+  @Test
+  public void acquire_ShouldReuseReleasedBufferOfSameSizeClass() {
+    final ByteBuffer buffer = bufferPool.acquire(600);
+    buffer.put((byte) 1);
+    bufferPool.release(buffer);
+
+    final ByteBuffer reused = bufferPool.acquire(1000);
+
+    assertThat(reused, is(sameInstance(buffer)));
+    assertThat(reused.position(), is(0));
+    assertThat(reused.limit(), is(1000));
+    final BufferPoolStatistics statistics = bufferPool.getStatistics();
+    assertThat(statistics.getAcquireCount(), is(2L));
+    assertThat(statistics.getAllocationCount(), is(1L));
+    assertThat(statistics.getOutstandingBuffers(), is(1));
+    assertThat(statistics.getIdleBuffers(), is(0));
+  }
+
+  @Test
+  public void acquire_ShouldNotPoolBuffersLargerThanMaxPooledCapacity() {
+    final ByteBuffer buffer = bufferPool.acquire(BufferPool.MAX_POOLED_CAPACITY + 1);
+    bufferPool.release(buffer);
+
+    assertThat(buffer.isDirect(), is(false));
+    assertThat(buffer.capacity(), is(BufferPool.MAX_POOLED_CAPACITY + 1));
+    final BufferPoolStatistics statistics = bufferPool.getStatistics();
+    assertThat(statistics.getUnpooledAllocationCount(), is(1L));
+    assertThat(statistics.getOutstandingBuffers(), is(0));
+    assertThat(statistics.getIdleBuffers(), is(0));
+  }
+
+  @Test
+  public void release_ShouldRetainReleasedBuffersAsIdle() {
+    bufferPool.release(bufferPool.acquire(100));
+    bufferPool.release(bufferPool.acquire(5000));
+
+    final BufferPoolStatistics statistics = bufferPool.getStatistics();
+    assertThat(statistics.getIdleBuffers(), is(2));
+    assertThat(statistics.getIdleBytes(), is(128L + 8192L));
+    assertThat(statistics.getOutstandingBuffers(), is(0));
+  }
+
+  @Test
+  public void pooledBufferOutputStream_ShouldGrowIntoLargerBuffersKeepingReservedBytes() {
+    final PooledBufferOutputStream os = new PooledBufferOutputStream(bufferPool, SocketWriteData.HEADER_SIZE);
+    final byte[] bytes = new byte[5000];
+    for (int i = 0; i < bytes.length; i++) {
+      bytes[i] = (byte) i;
+    }
+
+    os.write(bytes[0]);
+    os.write(bytes, 1, bytes.length - 1);
+
+    final ByteBuffer buffer = os.getBuffer();
+    assertThat(buffer.position(), is(SocketWriteData.HEADER_SIZE + bytes.length));
+    final byte[] written = new byte[bytes.length];
+    buffer.flip();
+    buffer.position(SocketWriteData.HEADER_SIZE);
+    buffer.get(written);
+    assertThat(written, is(bytes));
+    assertThat(bufferPool.getStatistics().getOutstandingBuffers(), is(1));
+  }
+}
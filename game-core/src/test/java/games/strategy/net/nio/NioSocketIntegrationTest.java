@@ -0,0 +1,213 @@
+package games.strategy.net.nio;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.channels.ServerSocketChannel;
+import java.nio.channels.SocketChannel;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.google.common.base.Strings;
+
+import games.strategy.net.DefaultObjectStreamFactory;
+import games.strategy.net.INode;
+import games.strategy.net.MessageHeader;
+import games.strategy.net.Node;
+import games.strategy.test.Integration;
+import games.strategy.util.Interruptibles;
+
+/**
+ * Tests of {@link NioSocket} over local sockets, including a load test of the decode stage in which hundreds of
+ * client sockets send numbered messages concurrently to a single server socket, which must deliver the messages of
+ * each client in order.
+ */
+@Integration
+public final class NioSocketIntegrationTest {
+  private static final int CLIENT_COUNT = 200;
+  private static final int MESSAGES_PER_CLIENT = 100;
+  private static final long TIMEOUT_MILLIS = TimeUnit.SECONDS.toMillis(60);
+
+  private ServerSocketChannel serverSocketChannel;
+  private final List<SocketChannel> channels = new ArrayList<>();
+  private final ServerListener serverListener = new ServerListener();
+  private NioSocket serverSocket;
+  private NioSocket clientSocket;
+
+  @BeforeEach
+  public void setUp() throws IOException {
+    serverSocketChannel = ServerSocketChannel.open();
+    serverSocketChannel.bind(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0));
+    serverSocket = new NioSocket(new DefaultObjectStreamFactory(), serverListener, "Server");
+    clientSocket = new NioSocket(new DefaultObjectStreamFactory(), new ClientListener(), "Client");
+  }
+
+  @AfterEach
+  public void tearDown() throws IOException {
+    clientSocket.shutDown();
+    serverSocket.shutDown();
+    for (final SocketChannel channel : channels) {
+      channel.close();
+    }
+    serverSocketChannel.close();
+  }
+
+  @Test
+  public void shouldDeliverMessagesOfEachClientInOrder() throws IOException {
+    final List<SocketChannel> clientChannels = new ArrayList<>();
+    for (int i = 0; i < CLIENT_COUNT; i++) {
+      final SocketChannel clientChannel = SocketChannel.open(serverSocketChannel.getLocalAddress());
+      clientChannel.configureBlocking(false);
+      final SocketChannel serverChannel = serverSocketChannel.accept();
+      serverChannel.configureBlocking(false);
+      channels.add(clientChannel);
+      channels.add(serverChannel);
+      clientChannels.add(clientChannel);
+      serverSocket.add(serverChannel, new LoginConversation());
+    }
+
+    for (final SocketChannel clientChannel : clientChannels) {
+      clientSocket.send(clientChannel, new MessageHeader(null, ClientListener.NODE, "login"));
+    }
+    for (int i = 0; i < MESSAGES_PER_CLIENT; i++) {
+      for (final SocketChannel clientChannel : clientChannels) {
+        clientSocket.send(clientChannel, new MessageHeader(null, ClientListener.NODE, i));
+      }
+    }
+    final long deadline = System.currentTimeMillis() + TIMEOUT_MILLIS;
+    while (serverListener.receivedCount.get() < CLIENT_COUNT * MESSAGES_PER_CLIENT
+        && System.currentTimeMillis() < deadline) {
+      Interruptibles.sleep(10);
+    }
+
+    final List<Integer> expected = IntStream.range(0, MESSAGES_PER_CLIENT).boxed().collect(Collectors.toList());
+    assertThat(serverListener.messagesByChannel.size(), is(CLIENT_COUNT));
+    for (final List<Object> messages : serverListener.messagesByChannel.values()) {
+      assertThat(messages, is(expected));
+    }
+    assertThat(serverSocket.getDecodeStatistics().getDecodedMessageCount(),
+        is((long) CLIENT_COUNT * (MESSAGES_PER_CLIENT + 1)));
+    // every buffer of the packets read has been released once the packets were decoded
+    assertThat(serverSocket.getBufferPoolStatistics().getOutstandingBuffers(), is(0));
+  }
+
+  @Test
+  public void shouldCompressLargeMessages() throws IOException {
+    final SocketChannel clientChannel = SocketChannel.open(serverSocketChannel.getLocalAddress());
+    clientChannel.configureBlocking(false);
+    final SocketChannel serverChannel = serverSocketChannel.accept();
+    serverChannel.configureBlocking(false);
+    channels.add(clientChannel);
+    channels.add(serverChannel);
+    serverSocket.add(serverChannel, new LoginConversation());
+    final String largeMessage = Strings.repeat("a compressible message ", 10_000);
+
+    clientSocket.send(clientChannel, new MessageHeader(null, ClientListener.NODE, "login"));
+    clientSocket.send(clientChannel, new MessageHeader(null, ClientListener.NODE, largeMessage));
+    final long deadline = System.currentTimeMillis() + TIMEOUT_MILLIS;
+    while (serverListener.receivedCount.get() < 1 && System.currentTimeMillis() < deadline) {
+      Interruptibles.sleep(10);
+    }
+
+    assertThat(serverListener.messagesByChannel.get(serverChannel), is(Collections.singletonList(largeMessage)));
+    final CompressionStatistics written = clientSocket.getCompressionStatistics(clientChannel).get();
+    final CompressionStatistics read = serverSocket.getCompressionStatistics(serverChannel).get();
+    assertThat(written.getWireBytesWritten() < written.getRawBytesWritten() / 10, is(true));
+    assertThat(read.getRawBytesRead(), is(written.getRawBytesWritten()));
+    assertThat(read.getWireBytesRead(), is(written.getWireBytesWritten()));
+  }
+
+  @Test
+  public void shouldNotRecreateCompressionOfClosedChannel() throws IOException {
+    final SocketChannel clientChannel = SocketChannel.open(serverSocketChannel.getLocalAddress());
+    clientChannel.configureBlocking(false);
+    channels.add(clientChannel);
+    clientSocket.send(clientChannel, new MessageHeader(null, ClientListener.NODE, "login"));
+    assertThat(clientSocket.getCompressionStatistics(clientChannel).isPresent(), is(true));
+
+    clientSocket.close(clientChannel);
+    clientSocket.send(clientChannel, new MessageHeader(null, ClientListener.NODE, 1));
+
+    assertThat(clientSocket.getCompressionStatistics(clientChannel).isPresent(), is(false));
+  }
+
+  private static final class LoginConversation extends QuarantineConversation {
+    @Override
+    public Action message(final Object o) {
+      return "login".equals(o) ? Action.UNQUARANTINE : Action.TERMINATE;
+    }
+
+    @Override
+    public void close() {}
+  }
+
+  private static final class ServerListener implements NioSocketListener {
+    private static final INode NODE = new Node("server", InetAddress.getLoopbackAddress(), 0);
+
+    final Map<SocketChannel, INode> nodesByChannel = new ConcurrentHashMap<>();
+    final Map<SocketChannel, List<Object>> messagesByChannel = new ConcurrentHashMap<>();
+    final AtomicInteger receivedCount = new AtomicInteger();
+
+    @Override
+    public void socketUnqaurantined(final SocketChannel channel, final QuarantineConversation conversation) {
+      nodesByChannel.put(channel, new Node("client" + nodesByChannel.size(), InetAddress.getLoopbackAddress(), 0));
+      messagesByChannel.put(channel, Collections.synchronizedList(new ArrayList<>()));
+    }
+
+    @Override
+    public void socketError(final SocketChannel channel, final Exception error) {}
+
+    @Override
+    public void messageReceived(final MessageHeader message, final SocketChannel channel) {
+      messagesByChannel.get(channel).add(message.getMessage());
+      receivedCount.incrementAndGet();
+    }
+
+    @Override
+    public INode getRemoteNode(final SocketChannel channel) {
+      return nodesByChannel.get(channel);
+    }
+
+    @Override
+    public INode getLocalNode() {
+      return NODE;
+    }
+  }
+
+  private static final class ClientListener implements NioSocketListener {
+    private static final INode NODE = new Node("client", InetAddress.getLoopbackAddress(), 0);
+
+    @Override
+    public void socketUnqaurantined(final SocketChannel channel, final QuarantineConversation conversation) {}
+
+    @Override
+    public void socketError(final SocketChannel channel, final Exception error) {}
+
+    @Override
+    public void messageReceived(final MessageHeader message, final SocketChannel channel) {}
+
+    @Override
+    public INode getRemoteNode(final SocketChannel channel) {
+      return ServerListener.NODE;
+    }
+
+    @Override
+    public INode getLocalNode() {
+      return NODE;
+    }
+  }
+}
@@ -0,0 +1,63 @@
+package games.strategy.performance;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.allOf;
+import static org.hamcrest.Matchers.greaterThanOrEqualTo;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.lessThanOrEqualTo;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+
+public final class LatencyHistogramTest {
+  private final LatencyHistogram histogram = new LatencyHistogram();
+
+  @Test
+  public void getPercentile_ShouldReturnZeroWhenNothingRecorded() {
+    assertThat(histogram.getCount(), is(0L));
+    assertThat(histogram.getPercentile(99, TimeUnit.MICROSECONDS), is(0L));
+    assertThat(histogram.getMean(TimeUnit.MICROSECONDS), is(0L));
+  }
+
+  @Test
+  public void getPercentile_ShouldBeExactForSmallLatencies() {
+    for (int micros = 1; micros <= 60; micros++) {
+      histogram.record(micros, TimeUnit.MICROSECONDS);
+    }
+
+    assertThat(histogram.getPercentile(50, TimeUnit.MICROSECONDS), is(30L));
+    assertThat(histogram.getPercentile(100, TimeUnit.MICROSECONDS), is(60L));
+    assertThat(histogram.getMax(TimeUnit.MICROSECONDS), is(60L));
+  }
+
+  @Test
+  public void getPercentile_ShouldBeWithinBucketPrecisionForLargeLatencies() {
+    for (int millis = 1; millis <= 1000; millis++) {
+      histogram.record(millis, TimeUnit.MILLISECONDS);
+    }
+
+    assertThat(histogram.getCount(), is(1000L));
+    assertThat(histogram.getPercentile(50, TimeUnit.MICROSECONDS), is(allOf(
+        greaterThanOrEqualTo(500_000L * 31 / 32), lessThanOrEqualTo(500_000L))));
+    assertThat(histogram.getPercentile(99, TimeUnit.MICROSECONDS), is(allOf(
+        greaterThanOrEqualTo(990_000L * 31 / 32), lessThanOrEqualTo(990_000L))));
+    assertThat(histogram.getTotal(TimeUnit.MILLISECONDS), is(500_500L));
+    assertThat(histogram.getMean(TimeUnit.MILLISECONDS), is(500L));
+    assertThat(histogram.getMax(TimeUnit.MILLISECONDS), is(1000L));
+  }
+
+  @Test
+  public void record_ShouldRecordNegativeLatencyAsZero() {
+    histogram.record(-5, TimeUnit.MILLISECONDS);
+
+    assertThat(histogram.getPercentile(100, TimeUnit.MICROSECONDS), is(0L));
+  }
+
+  @Test
+  public void getPercentile_ShouldThrowExceptionWhenPercentileIsOutOfRange() {
+    assertThrows(IllegalArgumentException.class, () -> histogram.getPercentile(0, TimeUnit.MICROSECONDS));
+    assertThrows(IllegalArgumentException.class, () -> histogram.getPercentile(101, TimeUnit.MICROSECONDS));
+  }
+}
@@ -0,0 +1,147 @@
+package games.strategy.performance;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.arrayContaining;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.empty;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.not;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+public final class LockProfilerTest {
+  private long nanoTime = 1_000L;
+  private final MetricRegistry registry = new MetricRegistry();
+  private final LockProfiler profiler = new LockProfiler(registry, () -> nanoTime, 2, true);
+  private final Object lock = new Object();
+
+  private void advance(final long millis) {
+    nanoTime += TimeUnit.MILLISECONDS.toNanos(millis);
+  }
+
+  private void hold(final String site, final long millis) {
+    profiler.acquired("game_data_read", lock, 0, () -> site);
+    advance(millis);
+    profiler.released(lock);
+  }
+
+  private List<Long> getSlowestHoldMillis() {
+    return profiler.getSlowestHolds().stream()
+        .map(slowHold -> TimeUnit.NANOSECONDS.toMillis(slowHold.holdNanos))
+        .collect(Collectors.toList());
+  }
+
+  @Test
+  public void shouldRecordHoldsAndWaitsInRegistry() {
+    profiler.acquired("game_data_write", lock, TimeUnit.MILLISECONDS.toNanos(3));
+    advance(5);
+    profiler.released(lock);
+
+    assertThat(registry.histogram("triplea_lock_wait_seconds", "lock", "game_data_write").getCount(), is(1L));
+    final LatencyHistogram holds = registry.histogram("triplea_lock_hold_seconds", "lock", "game_data_write");
+    assertThat(holds.getCount(), is(1L));
+    assertThat(holds.getTotal(TimeUnit.MILLISECONDS), is(5L));
+  }
+
+  @Test
+  public void shouldRecordOneHoldFromOutermostAcquisitionToRelease() {
+    profiler.acquired("game_data_read", lock, 0, () -> "site");
+    advance(2);
+    profiler.acquired("game_data_read", lock, 0, () -> "nested");
+    advance(3);
+    profiler.released(lock);
+    advance(4);
+    profiler.released(lock);
+
+    assertThat(getSlowestHoldMillis(), contains(9L));
+    assertThat(profiler.getReport(), not(containsString("nested")));
+  }
+
+  @Test
+  public void shouldKeepSlowestHoldsSlowestFirst() {
+    hold("a", 5);
+    hold("b", 20);
+    hold("c", 1);
+    hold("d", 10);
+
+    assertThat(getSlowestHoldMillis(), contains(20L, 10L));
+  }
+
+  @Test
+  public void shouldIgnoreReleaseOfUnrecordedAcquisition() {
+    profiler.released(lock);
+
+    assertThat(profiler.getSlowestHolds(), is(empty()));
+  }
+
+  @Test
+  public void shouldRecordNothingWhenDisabled() {
+    profiler.setEnabled(false);
+
+    hold("MapPanel.paint", 5);
+
+    assertThat(profiler.getSlowestHolds(), is(empty()));
+    assertThat(profiler.getReport(), containsString("Disabled"));
+    assertThat(profiler.getReport(), not(containsString("MapPanel.paint")));
+  }
+
+  @Test
+  public void reset_ShouldDiscardProfile() {
+    hold("MapPanel.paint", 5);
+
+    profiler.reset();
+
+    assertThat(profiler.getSlowestHolds(), is(empty()));
+    assertThat(profiler.getReport(), not(containsString("MapPanel.paint")));
+  }
+
+  @Test
+  public void getReport_ShouldIncludeCallSitesAndSlowestHolds() {
+    hold("games.strategy.triplea.ui.MapPanel.paint", 15);
+
+    final String report = profiler.getReport();
+
+    assertThat(report, containsString("games.strategy.triplea.ui.MapPanel.paint"));
+    assertThat(report, containsString("game_data_read held for 15.0 ms"));
+    assertThat(report, containsString("\"" + Thread.currentThread().getName() + "\""));
+  }
+
+  @Nested
+  public final class GetCallerStackTest {
+    private StackTraceElement frame(final String className) {
+      return new StackTraceElement(className, "method", null, -1);
+    }
+
+    @Test
+    public void shouldSkipFramesOfProfilerLockOwnerAndReflection() {
+      final StackTraceElement caller = frame("games.strategy.triplea.ai.Ai");
+      final StackTraceElement next = frame("games.strategy.engine.framework.ServerGame");
+
+      final StackTraceElement[] stack = LockProfiler.getCallerStack(new StackTraceElement[] {
+          frame(LockProfiler.class.getName()),
+          frame("games.strategy.engine.delegate.DelegateExecutionManager"),
+          frame("games.strategy.engine.delegate.DelegateExecutionManager$1"),
+          frame("com.sun.proxy.$Proxy12"),
+          frame("jdk.internal.reflect.GeneratedMethodAccessor3"),
+          caller,
+          next});
+
+      assertThat(stack, is(arrayContaining(caller, next)));
+    }
+
+    @Test
+    public void shouldReturnEmptyStackWhenNoFrameIsOutsideLockOwner() {
+      final StackTraceElement[] stack = LockProfiler.getCallerStack(new StackTraceElement[] {
+          frame(LockProfiler.class.getName()),
+          frame("games.strategy.engine.data.GameData")});
+
+      assertThat(stack.length, is(0));
+    }
+  }
+}
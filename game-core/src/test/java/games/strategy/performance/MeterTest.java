@@ -0,0 +1,65 @@
+package games.strategy.performance;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.closeTo;
+import static org.hamcrest.Matchers.is;
+
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+
+public final class MeterTest {
+  private long nanoTime = 1_000L;
+  private final Meter meter = new Meter(() -> nanoTime);
+
+  private void advance(final long seconds) {
+    nanoTime += TimeUnit.SECONDS.toNanos(seconds);
+  }
+
+  @Test
+  public void getCount_ShouldReturnNumberOfEventsMarked() {
+    meter.mark();
+    meter.mark(4);
+
+    assertThat(meter.getCount(), is(5L));
+  }
+
+  @Test
+  public void getOneMinuteRate_ShouldBeZeroUntilFirstTick() {
+    meter.mark(100);
+
+    assertThat(meter.getOneMinuteRate(), is(0.0));
+  }
+
+  @Test
+  public void getOneMinuteRate_ShouldBeRateOfFirstTickAfterFirstTick() {
+    meter.mark(50);
+    advance(6);
+
+    assertThat(meter.getOneMinuteRate(), is(10.0));
+  }
+
+  @Test
+  public void getOneMinuteRate_ShouldDecayWhenNoEventsAreMarked() {
+    meter.mark(50);
+    advance(6);
+    meter.getOneMinuteRate();
+
+    advance(60);
+
+    // one minute of ticks leaves 1/e of the rate
+    assertThat(meter.getOneMinuteRate(), is(closeTo(10.0 / Math.E, 0.01)));
+  }
+
+  @Test
+  public void getOneMinuteRate_ShouldConvergeToSteadyRate() {
+    // mark between ticks
+    advance(1);
+    for (int i = 0; i < 120; i++) {
+      meter.mark(20);
+      advance(5);
+    }
+
+    assertThat(meter.getOneMinuteRate(), is(closeTo(4.0, 0.001)));
+  }
+}
@@ -0,0 +1,141 @@
+package games.strategy.performance;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.not;
+import static org.hamcrest.Matchers.sameInstance;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.jupiter.api.Test;
+
+public final class MetricRegistryTest {
+  private final MetricRegistry registry = new MetricRegistry();
+
+  @Test
+  public void counter_ShouldReturnSameCounterForSameNameAndLabels() {
+    final Counter counter = registry.counter("messages_total", "node", "bob");
+
+    assertThat(registry.counter("messages_total", "node", "bob"), is(sameInstance(counter)));
+    assertThat(registry.counter("messages_total", "node", "alice"), is(not(sameInstance(counter))));
+  }
+
+  @Test
+  public void counter_ShouldThrowExceptionWhenNameIsRegisteredAsAnotherType() {
+    registry.histogram("latency_seconds");
+
+    assertThrows(IllegalArgumentException.class, () -> registry.counter("latency_seconds"));
+  }
+
+  @Test
+  public void counter_ShouldThrowExceptionWhenNameOrLabelsAreInvalid() {
+    assertThrows(IllegalArgumentException.class, () -> registry.counter("messages total"));
+    assertThrows(IllegalArgumentException.class, () -> registry.counter("messages_total", "node"));
+    assertThrows(IllegalArgumentException.class, () -> registry.counter("messages_total", "node name", "bob"));
+  }
+
+  @Test
+  public void toText_ShouldFormatCountersAndGauges() {
+    registry.counter("messages_total", "node", "bob").add(3);
+    registry.counter("messages_total", "node", "alice").increment();
+    registry.gauge("queue_depth", () -> 2.5);
+
+    assertThat(registry.toText(), is(""
+        + "# TYPE messages_total counter\n"
+        + "messages_total{node=\"alice\"} 1\n"
+        + "messages_total{node=\"bob\"} 3\n"
+        + "# TYPE queue_depth gauge\n"
+        + "queue_depth 2.5\n"));
+  }
+
+  @Test
+  public void counter_ShouldReadCountFromSupplier() {
+    final AtomicLong bytes = new AtomicLong(7);
+    registry.counter("bytes_total", bytes::get, "node", "bob");
+    bytes.addAndGet(5);
+
+    assertThat(registry.toText(), is(""
+        + "# TYPE bytes_total counter\n"
+        + "bytes_total{node=\"bob\"} 12\n"));
+  }
+
+  @Test
+  public void counter_ShouldThrowExceptionWhenSuppliedCounterNameIsRegisteredAsAnotherType() {
+    registry.counter("messages_total");
+
+    assertThrows(IllegalArgumentException.class, () -> registry.counter("messages_total", () -> 1L));
+  }
+
+  @Test
+  public void toText_ShouldFormatHistogramAsSummaryInSeconds() {
+    final LatencyHistogram histogram = registry.histogram("login_seconds", "result", "accepted");
+    histogram.record(20, TimeUnit.MICROSECONDS);
+    histogram.record(40, TimeUnit.MICROSECONDS);
+
+    assertThat(registry.toText(), is(""
+        + "# TYPE login_seconds summary\n"
+        + "login_seconds{result=\"accepted\",quantile=\"0.5\"} 2.0E-5\n"
+        + "login_seconds{result=\"accepted\",quantile=\"0.9\"} 4.0E-5\n"
+        + "login_seconds{result=\"accepted\",quantile=\"0.99\"} 4.0E-5\n"
+        + "login_seconds{result=\"accepted\",quantile=\"1\"} 4.0E-5\n"
+        + "login_seconds_sum{result=\"accepted\"} 6.0E-5\n"
+        + "login_seconds_count{result=\"accepted\"} 2\n"));
+  }
+
+  @Test
+  public void toText_ShouldGroupSamplesOfMetersByExposedName() {
+    registry.meter("runs", "calculator", "a").mark(2);
+    registry.meter("runs", "calculator", "b").mark(5);
+
+    assertThat(registry.toText(), is(""
+        + "# TYPE runs_per_second gauge\n"
+        + "runs_per_second{calculator=\"a\"} 0\n"
+        + "runs_per_second{calculator=\"b\"} 0\n"
+        + "# TYPE runs_total counter\n"
+        + "runs_total{calculator=\"a\"} 2\n"
+        + "runs_total{calculator=\"b\"} 5\n"));
+  }
+
+  @Test
+  public void toText_ShouldNotSeparateMetricsWithSameNameByMetricWithLongerName() {
+    registry.counter("a_b");
+    registry.counter("a_b_c");
+    registry.counter("a_b", "x", "y");
+
+    assertThat(registry.toText(), is(""
+        + "# TYPE a_b counter\n"
+        + "a_b 0\n"
+        + "a_b{x=\"y\"} 0\n"
+        + "# TYPE a_b_c counter\n"
+        + "a_b_c 0\n"));
+  }
+
+  @Test
+  public void toText_ShouldEscapeLabelValues() {
+    registry.counter("messages_total", "node", "a \"b\" \\c\n");
+
+    assertThat(registry.toText(), containsString("messages_total{node=\"a \\\"b\\\" \\\\c\\n\"} 0\n"));
+  }
+
+  @Test
+  public void gauge_ShouldReplaceGaugeWithSameNameAndLabels() {
+    registry.gauge("queue_depth", () -> 1, "port", "3300");
+    registry.gauge("queue_depth", () -> 2, "port", "3300");
+
+    assertThat(registry.toText(), containsString("queue_depth{port=\"3300\"} 2\n"));
+  }
+
+  @Test
+  public void remove_ShouldRemoveMetric() {
+    registry.counter("messages_total", "node", "bob");
+    registry.gauge("queue_depth", () -> 1);
+
+    registry.remove("messages_total", "node", "bob");
+    registry.remove("queue_depth");
+
+    assertThat(registry.toText(), is(""));
+  }
+}
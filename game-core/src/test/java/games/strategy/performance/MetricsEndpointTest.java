@@ -0,0 +1,73 @@
+package games.strategy.performance;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.startsWith;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.HttpURLConnection;
+import java.net.InetAddress;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.google.common.io.ByteStreams;
+
+public final class MetricsEndpointTest {
+  private final MetricRegistry registry = new MetricRegistry();
+  private final LockProfiler lockProfiler = new LockProfiler(registry, System::nanoTime, 1, true);
+  private MetricsEndpoint endpoint;
+
+  @BeforeEach
+  public void startEndpoint() throws IOException {
+    endpoint = MetricsEndpoint.start(registry, lockProfiler, 0);
+  }
+
+  @AfterEach
+  public void closeEndpoint() {
+    endpoint.close();
+  }
+
+  private HttpURLConnection openConnection() throws IOException {
+    return openConnection(MetricsEndpoint.PATH);
+  }
+
+  private HttpURLConnection openConnection(final String path) throws IOException {
+    final URL url = new URL("http", InetAddress.getLoopbackAddress().getHostAddress(), endpoint.getPort(), path);
+    return (HttpURLConnection) url.openConnection();
+  }
+
+  @Test
+  public void shouldServeMetricsAsText() throws IOException {
+    registry.counter("messages_total").add(7);
+
+    final HttpURLConnection connection = openConnection();
+    try (InputStream is = connection.getInputStream()) {
+      assertThat(connection.getResponseCode(), is(200));
+      assertThat(connection.getContentType(), startsWith("text/plain"));
+      assertThat(new String(ByteStreams.toByteArray(is), StandardCharsets.UTF_8), is(registry.toText()));
+    }
+  }
+
+  @Test
+  public void shouldServeLockProfileAsText() throws IOException {
+    final HttpURLConnection connection = openConnection(MetricsEndpoint.LOCKS_PATH);
+    try (InputStream is = connection.getInputStream()) {
+      assertThat(connection.getResponseCode(), is(200));
+      assertThat(connection.getContentType(), startsWith("text/plain"));
+      assertThat(new String(ByteStreams.toByteArray(is), StandardCharsets.UTF_8), startsWith("LOCK PROFILE"));
+    }
+  }
+
+  @Test
+  public void shouldRejectMethodsOtherThanGet() throws IOException {
+    final HttpURLConnection connection = openConnection();
+    connection.setRequestMethod("POST");
+
+    assertThat(connection.getResponseCode(), is(405));
+  }
+}
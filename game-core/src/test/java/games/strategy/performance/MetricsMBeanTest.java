@@ -0,0 +1,45 @@
+package games.strategy.performance;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.arrayContaining;
+import static org.hamcrest.Matchers.is;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.Arrays;
+
+import javax.management.Attribute;
+import javax.management.AttributeNotFoundException;
+import javax.management.MBeanAttributeInfo;
+
+import org.junit.jupiter.api.Test;
+
+public final class MetricsMBeanTest {
+  private final MetricRegistry registry = new MetricRegistry();
+  private final MetricsMBean mbean = new MetricsMBean(registry);
+
+  @Test
+  public void getMBeanInfo_ShouldHaveAttributePerSample() {
+    registry.counter("messages_total", "node", "bob");
+    registry.gauge("queue_depth", () -> 1);
+
+    final String[] names = Arrays.stream(mbean.getMBeanInfo().getAttributes())
+        .map(MBeanAttributeInfo::getName)
+        .toArray(String[]::new);
+
+    assertThat(names, is(arrayContaining("messages_total{node=\"bob\"}", "queue_depth")));
+  }
+
+  @Test
+  public void getAttribute_ShouldReturnValueOfSample() throws Exception {
+    registry.counter("messages_total", "node", "bob").add(3);
+
+    assertThat(mbean.getAttribute("messages_total{node=\"bob\"}"), is(3.0));
+    assertThat(mbean.getAttributes(new String[] {"messages_total{node=\"bob\"}", "unknown"}).asList(),
+        is(Arrays.asList(new Attribute("messages_total{node=\"bob\"}", 3.0))));
+  }
+
+  @Test
+  public void getAttribute_ShouldThrowExceptionWhenSampleDoesNotExist() {
+    assertThrows(AttributeNotFoundException.class, () -> mbean.getAttribute("unknown"));
+  }
+}
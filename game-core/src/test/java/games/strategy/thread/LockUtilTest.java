@@ -2,8 +2,10 @@ package games.strategy.thread;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.isA;
+import static org.mockito.Mockito.atLeastOnce;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 
@@ -29,14 +31,18 @@ public final class LockUtilTest {
 
   private LockUtil.ErrorReporter oldErrorReporter;
 
+  private LockUtil.OrderChecking oldOrderChecking;
+
   @BeforeEach
   public void setUp() {
     oldErrorReporter = lockUtil.setErrorReporter(errorReporter);
+    oldOrderChecking = lockUtil.setOrderChecking(LockUtil.OrderChecking.ALWAYS);
   }
 
   @AfterEach
   public void tearDown() {
     lockUtil.setErrorReporter(oldErrorReporter);
+    lockUtil.setOrderChecking(oldOrderChecking);
   }
 
   @Test
@@ -94,6 +100,62 @@ public final class LockUtilTest {
     assertFalse(lockUtil.isLockHeld(l1));
   }
 
+  @Test
+  public void testFailNotReportedWhenOrderCheckingIsOff() {
+    lockUtil.setOrderChecking(LockUtil.OrderChecking.OFF);
+    final Lock l1 = new ReentrantLock();
+    final Lock l2 = new ReentrantLock();
+    acquireAndRelease(l1, l2);
+    acquireAndRelease(l2, l1);
+    assertNoErrorOccurred();
+  }
+
+  @Test
+  public void testFailReportedWhenOrderCheckingIsSampled() {
+    lockUtil.setOrderChecking(LockUtil.OrderChecking.SAMPLED);
+    final Lock l1 = new ReentrantLock();
+    final Lock l2 = new ReentrantLock();
+    // the chance that no acquisition of l2 after l1 is sampled is negligible
+    for (int i = 0; i < 100 * LockUtil.SAMPLE_INTERVAL; i++) {
+      acquireAndRelease(l1, l2);
+    }
+    assertNoErrorOccurred();
+    for (int i = 0; i < 100 * LockUtil.SAMPLE_INTERVAL; i++) {
+      acquireAndRelease(l2, l1);
+    }
+    verify(errorReporter, atLeastOnce()).reportError(isA(Lock.class), isA(Lock.class));
+  }
+
+  private void acquireAndRelease(final Lock first, final Lock second) {
+    lockUtil.acquireLock(first);
+    lockUtil.acquireLock(second);
+    lockUtil.releaseLock(second);
+    lockUtil.releaseLock(first);
+  }
+
+  @Test
+  public void testReleaseInAnyOrder() {
+    final Lock l1 = new ReentrantLock();
+    final Lock l2 = new ReentrantLock();
+    final Lock l3 = new ReentrantLock();
+    lockUtil.acquireLock(l1);
+    lockUtil.acquireLock(l2);
+    lockUtil.acquireLock(l3);
+    lockUtil.releaseLock(l2);
+    assertTrue(lockUtil.isLockHeld(l1));
+    assertFalse(lockUtil.isLockHeld(l2));
+    assertTrue(lockUtil.isLockHeld(l3));
+    lockUtil.releaseLock(l1);
+    lockUtil.releaseLock(l3);
+    assertFalse(lockUtil.isLockHeld(l1));
+    assertFalse(lockUtil.isLockHeld(l3));
+  }
+
+  @Test
+  public void testReleaseNotHeld() {
+    assertThrows(IllegalMonitorStateException.class, () -> lockUtil.releaseLock(new ReentrantLock()));
+  }
+
   private void assertErrorOccurred() {
     verify(errorReporter).reportError(isA(Lock.class), isA(Lock.class));
   }
@@ -0,0 +1,57 @@
+package games.strategy.triplea.ai.batch;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+
+public final class AiGameReportTest {
+  private static AiGameReport newReport() {
+    final Map<String, Integer> productionByPlayer = new LinkedHashMap<>();
+    productionByPlayer.put("Germans", 40);
+    productionByPlayer.put("Russians", 24);
+    return new AiGameReport(3, "PRO", 7, AiGameReport.Outcome.VICTORY, Arrays.asList("Germans", "Japanese"),
+        productionByPlayer, Arrays.asList(
+            new AiGameReport.Phase("purchase", 14, 1200, 3000, 20, 4000),
+            new AiGameReport.Phase("move", 28, 5400, 9000, 100, 20000)));
+  }
+
+  @Test
+  public void getTotal_ShouldSumPhases() {
+    assertThat(newReport().getTotal(), is(new AiGameReport.Phase("total", 42, 6600, 12000, 120, 24000)));
+  }
+
+  @Test
+  public void fromJson_ShouldReturnReportWrittenByToJson() {
+    final AiGameReport report = newReport();
+
+    assertThat(AiGameReport.fromJson(report.toJson()), is(report));
+  }
+
+  @Test
+  public void fromJson_ShouldReturnReportOfFailedGameWrittenByToJson() {
+    final AiGameReport report = AiGameReport.failed(2, "FAST");
+
+    assertThat(AiGameReport.fromJson(report.toJson()), is(report));
+  }
+
+  @Test
+  public void writeCsv_ShouldWriteRowForEachPhaseAndTotal() throws IOException {
+    final StringWriter writer = new StringWriter();
+
+    AiGameReport.writeCsv(Collections.singletonList(newReport()), writer);
+
+    assertThat(writer.toString().split(System.lineSeparator()), is(new String[] {
+        "game,ai,rounds,outcome,winners,phase,steps,wallMillis,allocatedBytes,oddsCalculations,simulatedBattles",
+        "3,PRO,7,VICTORY,Germans;Japanese,purchase,14,1200,3000,20,4000",
+        "3,PRO,7,VICTORY,Germans;Japanese,move,28,5400,9000,100,20000",
+        "3,PRO,7,VICTORY,Germans;Japanese,total,42,6600,12000,120,24000"}));
+  }
+}
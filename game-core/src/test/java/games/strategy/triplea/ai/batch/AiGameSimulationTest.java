@@ -0,0 +1,37 @@
+package games.strategy.triplea.ai.batch;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.greaterThan;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.isOneOf;
+
+import java.nio.file.Paths;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import games.strategy.engine.framework.GameRunner;
+import games.strategy.test.Integration;
+import games.strategy.triplea.settings.AbstractClientSettingTestCase;
+
+@Integration
+public final class AiGameSimulationTest extends AbstractClientSettingTestCase {
+  @AfterEach
+  public void clearHeadlessProperty() {
+    System.clearProperty(GameRunner.TRIPLEA_HEADLESS);
+  }
+
+  @Test
+  public void play_ShouldPlayGameUntilRoundLimit() throws Exception {
+    final AiGameSimulation simulation = new AiGameSimulation(
+        Paths.get("src", "test", "resources", "iron_blitz_test.xml").toFile(), AiGameSimulation.AiType.WEAK, 1);
+
+    final AiGameReport report = simulation.play(1);
+
+    assertThat(report.getGame(), is(1));
+    assertThat(report.getOutcome(), isOneOf(AiGameReport.Outcome.ROUND_LIMIT, AiGameReport.Outcome.VICTORY));
+    assertThat(report.getRounds(), is(1));
+    assertThat(report.getTotal().getSteps(), is(greaterThan(0)));
+    assertThat(report.getTotal().getAllocatedBytes(), is(greaterThan(0L)));
+  }
+}
@@ -0,0 +1,104 @@
+package games.strategy.triplea.ai.pro.data;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Predicate;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import games.strategy.engine.data.GameData;
+import games.strategy.engine.data.GameMap;
+import games.strategy.engine.data.PlayerID;
+import games.strategy.engine.data.Territory;
+import games.strategy.engine.data.changefactory.ChangeFactory;
+import games.strategy.triplea.ai.pro.util.ProMatches;
+import games.strategy.triplea.xml.TestMapGameData;
+
+public final class ProMapDistancesTest {
+  private final ProMapDistances mapDistances = new ProMapDistances();
+  private GameData data;
+  private PlayerID germans;
+
+  @BeforeEach
+  public void setUp() throws Exception {
+    data = TestMapGameData.REVISED.getGameData();
+    germans = data.getPlayerList().getPlayerId("Germans");
+  }
+
+  private void assertDistancesMatchMap() {
+    final ProMapDistances.Lookup distances = mapDistances.forGame(data, germans);
+    final GameMap map = data.getMap();
+    final List<Territory> territories = map.getTerritories();
+    final Predicate<Territory> canPotentiallyMoveLandUnits =
+        ProMatches.territoryCanPotentiallyMoveLandUnits(germans, data);
+    for (final Territory t : territories) {
+      assertThat(t.getName(), distances.countLandNeighbors(t, 6),
+          is(map.getNeighbors(t, 6, canPotentiallyMoveLandUnits).size()));
+      assertThat(t.getName(), distances.getLandNeighbors(t, 2),
+          is(map.getNeighbors(t, 2, canPotentiallyMoveLandUnits)));
+      assertThat(t.getName(), distances.getNeighbors(t, 3), is(map.getNeighbors(t, 3)));
+      for (int i = 0; i < territories.size(); i += 7) {
+        final Territory to = territories.get(i);
+        assertThat(t.getName() + " to " + to.getName(), distances.getLandDistance(t, to),
+            is(map.getDistance(t, to, canPotentiallyMoveLandUnits)));
+      }
+    }
+  }
+
+  private Territory findNeutralLand() {
+    return data.getMap().getTerritories().stream()
+        .filter(t -> !t.isWater() && t.getOwner().equals(PlayerID.NULL_PLAYERID))
+        .findFirst()
+        .orElseThrow(AssertionError::new);
+  }
+
+  @Test
+  public void forGame_ShouldMatchDistancesSearchedOnMap() {
+    assertDistancesMatchMap();
+  }
+
+  @Test
+  public void forGame_ShouldSearchAgainWhenTerritoriesLandUnitsMayMoveThroughChange() {
+    assertDistancesMatchMap();
+
+    // neutrals cost too much to enter on this map until they are owned
+    data.performChange(ChangeFactory.changeOwner(findNeutralLand(), germans));
+
+    assertDistancesMatchMap();
+  }
+
+  @Test
+  public void refresh_ShouldSearchDistancesUsedByLaterTurns() {
+    mapDistances.refresh(data, germans);
+    data.performChange(ChangeFactory.changeOwner(findNeutralLand(), germans));
+    mapDistances.refresh(data, germans);
+
+    assertDistancesMatchMap();
+  }
+
+  @Test
+  public void getNearest_ShouldReturnTargetsWithinMinDistanceOrNearestTargets() {
+    final GameMap map = data.getMap();
+    final Territory germany = map.getTerritory("Germany");
+    final ProMapDistances.Lookup distances = mapDistances.forGame(data, germans);
+    final Set<Territory> targets = new HashSet<>(map.getNeighbors(germany, 2));
+    targets.add(germany);
+    targets.add(map.getTerritory("Western United States"));
+
+    final Set<Territory> withinMinDistance = new HashSet<>(map.getNeighbors(germany, 2));
+    assertThat(distances.getNearest(germany, targets, 2, 30), is(withinMinDistance));
+    assertThat(distances.getNearest(germany, Collections.singleton(germany), 2, 30), is(Collections.emptySet()));
+    final Territory westernUnitedStates = map.getTerritory("Western United States");
+    final int distance = map.getDistance(germany, westernUnitedStates);
+    assertThat(distances.getNearest(germany, Collections.singleton(westernUnitedStates), 2, distance),
+        is(Collections.singleton(westernUnitedStates)));
+    assertThat(distances.getNearest(germany, Collections.singleton(westernUnitedStates), 2, distance - 1),
+        is(Collections.emptySet()));
+  }
+}
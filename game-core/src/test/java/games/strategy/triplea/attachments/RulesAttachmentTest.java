@@ -0,0 +1,92 @@
+package games.strategy.triplea.attachments;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.mockingDetails;
+import static org.mockito.Mockito.when;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import games.strategy.engine.data.GameData;
+import games.strategy.engine.data.PlayerID;
+import games.strategy.engine.data.Territory;
+import games.strategy.engine.data.changefactory.ChangeFactory;
+import games.strategy.engine.delegate.IDelegateBridge;
+import games.strategy.triplea.delegate.GameDataTestUtil;
+import games.strategy.triplea.xml.TestMapGameData;
+
+public final class RulesAttachmentTest {
+  private GameData gameData;
+  private PlayerID russians;
+  private IDelegateBridge bridge;
+  // satisfied when the russians directly own at least 3 of these territories
+  private RulesAttachment russianEasternEurope;
+  private Territory norway;
+  private Territory easternEurope;
+  private Territory eastBalkans;
+
+  @BeforeEach
+  public void setUp() throws Exception {
+    gameData = TestMapGameData.PACT_OF_STEEL_2.getGameData();
+    russians = GameDataTestUtil.russians(gameData);
+    bridge = mock(IDelegateBridge.class);
+    when(bridge.getData()).thenReturn(gameData);
+    russianEasternEurope = RulesAttachment.get(russians, "objectiveAttachmentRussians1_EasternEurope");
+    norway = gameData.getMap().getTerritory("Norway");
+    easternEurope = gameData.getMap().getTerritory("Eastern Europe");
+    eastBalkans = gameData.getMap().getTerritory("East Balkans");
+  }
+
+  private int getBridgeInvocationCount() {
+    return mockingDetails(bridge).getInvocations().size();
+  }
+
+  @Test
+  public void isSatisfied_ShouldReuseResultWhileGameDataIsUnchanged() {
+    assertThat(russianEasternEurope.isSatisfied(null, bridge), is(false));
+    final int invocationCount = getBridgeInvocationCount();
+
+    assertThat(russianEasternEurope.isSatisfied(null, bridge), is(false));
+
+    // a reused result only needs the game data to look up its change tracker; testing the condition needs more
+    assertThat(getBridgeInvocationCount(), is(invocationCount + 1));
+  }
+
+  @Test
+  public void isSatisfied_ShouldReuseResultWhenOnlyTriggerUsesChange() {
+    assertThat(russianEasternEurope.isSatisfied(null, bridge), is(false));
+    final int invocationCount = getBridgeInvocationCount();
+
+    gameData.performChange(ChangeFactory.attachmentPropertyChange(
+        russians.getAttachment("triggerAttachmentAlliesVictory1_CapitalControl"), 2, "uses"));
+
+    assertThat(russianEasternEurope.isSatisfied(null, bridge), is(false));
+    assertThat(getBridgeInvocationCount(), is(invocationCount + 1));
+  }
+
+  @Test
+  public void isSatisfied_ShouldRetestAfterChangeIsPerformed() {
+    assertThat(russianEasternEurope.isSatisfied(null, bridge), is(false));
+
+    gameData.performChange(ChangeFactory.changeOwner(norway, russians));
+    gameData.performChange(ChangeFactory.changeOwner(easternEurope, russians));
+    gameData.performChange(ChangeFactory.changeOwner(eastBalkans, russians));
+
+    assertThat(russianEasternEurope.isSatisfied(null, bridge), is(true));
+  }
+
+  @Test
+  public void isSatisfied_ShouldRetestAfterTerritoryOwnerIsSetDirectly() {
+    norway.setOwner(russians);
+    easternEurope.setOwner(russians);
+    assertThat(russianEasternEurope.isSatisfied(null, bridge), is(false));
+
+    eastBalkans.setOwner(russians);
+    assertThat(russianEasternEurope.isSatisfied(null, bridge), is(true));
+
+    eastBalkans.setOwner(GameDataTestUtil.germans(gameData));
+    assertThat(russianEasternEurope.isSatisfied(null, bridge), is(false));
+  }
+}
@@ -0,0 +1,77 @@
+package games.strategy.triplea.attachments;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.empty;
+import static org.hamcrest.Matchers.hasItem;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.not;
+import static org.hamcrest.Matchers.sameInstance;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import games.strategy.engine.data.GameData;
+import games.strategy.engine.data.PlayerID;
+import games.strategy.engine.data.changefactory.ChangeFactory;
+import games.strategy.triplea.Constants;
+import games.strategy.triplea.delegate.GameDataTestUtil;
+import games.strategy.triplea.xml.TestMapGameData;
+
+public final class TriggerIndexTest {
+  private GameData gameData;
+  private PlayerID russians;
+  private TriggerAttachment alliesVictoryTrigger;
+
+  @BeforeEach
+  public void setUp() throws Exception {
+    gameData = TestMapGameData.PACT_OF_STEEL_2.getGameData();
+    russians = GameDataTestUtil.russians(gameData);
+    alliesVictoryTrigger =
+        (TriggerAttachment) russians.getAttachment("triggerAttachmentAlliesVictory1_CapitalControl");
+  }
+
+  @Test
+  public void get_ShouldReuseIndexWhileNoAttachmentIsAddedOrRemoved() {
+    final TriggerIndex index = TriggerIndex.get(gameData);
+
+    russians.getResources().addResource(gameData.getResourceList().getResource(Constants.PUS), 5);
+    gameData.performChange(ChangeFactory.attachmentPropertyChange(alliesVictoryTrigger, 2, "uses"));
+
+    assertThat(TriggerIndex.get(gameData), is(sameInstance(index)));
+  }
+
+  @Test
+  public void getTriggers_ShouldReturnTriggersOfPlayerThatFireInStep() {
+    final TriggerIndex index = TriggerIndex.get(gameData);
+
+    assertThat(index.getTriggers(russians), hasItem(alliesVictoryTrigger));
+    assertThat(index.getTriggers(russians, AbstractTriggerAttachment.AFTER, "chineseEndTurn"),
+        contains(alliesVictoryTrigger));
+    assertThat(index.getTriggers(russians, AbstractTriggerAttachment.BEFORE, "chineseEndTurn"), is(empty()));
+  }
+
+  @Test
+  public void get_ShouldRebuildIndexWhenTriggerIsAttachedDirectly() throws Exception {
+    final TriggerIndex index = TriggerIndex.get(gameData);
+    final TriggerAttachment trigger = new TriggerAttachment("triggerAttachmentTest", russians, gameData);
+    trigger.getPropertyOrThrow("when").setValue(AbstractTriggerAttachment.BEFORE + ":russianCombatMove");
+
+    russians.addAttachment("triggerAttachmentTest", trigger);
+
+    assertThat(TriggerIndex.get(gameData), is(not(sameInstance(index))));
+    assertThat(TriggerIndex.get(gameData).getTriggers(russians, AbstractTriggerAttachment.BEFORE, "russianCombatMove"),
+        contains(trigger));
+  }
+
+  @Test
+  public void get_ShouldRebuildIndexWhenStepOfTriggerChanges() {
+    TriggerIndex.get(gameData);
+
+    gameData.performChange(ChangeFactory.attachmentPropertyChange(
+        alliesVictoryTrigger, AbstractTriggerAttachment.AFTER + ":russianEndTurn", "when"));
+
+    assertThat(TriggerIndex.get(gameData).getTriggers(russians, AbstractTriggerAttachment.AFTER, "russianEndTurn"),
+        contains(alliesVictoryTrigger));
+  }
+}
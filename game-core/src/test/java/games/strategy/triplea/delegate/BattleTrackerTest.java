@@ -35,9 +35,6 @@ public class BattleTrackerTest {
   @Mock
   private GameData mockGameData;
 
-  @Mock
-  private GameProperties mockGameProperties;
-
   @Mock
   private RelationshipTracker mockRelationshipTracker;
 
@@ -64,10 +61,12 @@ public class BattleTrackerTest {
     final Unit unit = new TripleAUnit(new UnitType("unit", mockGameData), playerId, mockGameData);
     final List<Unit> attackers = Collections.singletonList(unit);
 
+    final GameProperties gameProperties = new GameProperties(mockGameData);
+    gameProperties.set(Constants.RAIDS_MAY_BE_PRECEEDED_BY_AIR_BATTLES, true);
+
     when(mockDelegateBridge.getData()).thenReturn(mockGameData);
-    when(mockGameData.getProperties()).thenReturn(mockGameProperties);
+    when(mockGameData.getProperties()).thenReturn(gameProperties);
     when(mockGameData.getRelationshipTracker()).thenReturn(mockRelationshipTracker);
-    when(mockGameProperties.get(Constants.RAIDS_MAY_BE_PRECEEDED_BY_AIR_BATTLES, false)).thenReturn(true);
     doReturn(null).when(mockGetBattleFunction).apply(territory, IBattle.BattleType.AIR_RAID);
     doReturn(mockBattle).when(mockGetBattleFunction).apply(territory, IBattle.BattleType.BOMBING_RAID);
 
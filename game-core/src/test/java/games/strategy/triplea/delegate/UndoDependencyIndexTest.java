@@ -0,0 +1,104 @@
+package games.strategy.triplea.delegate;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.containsInAnyOrder;
+import static org.hamcrest.Matchers.empty;
+import static org.hamcrest.Matchers.is;
+
+import java.util.Arrays;
+import java.util.Collections;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+
+import com.example.mockito.MockitoExtension;
+
+import games.strategy.engine.data.GameData;
+import games.strategy.engine.data.PlayerID;
+import games.strategy.engine.data.Route;
+import games.strategy.engine.data.Territory;
+import games.strategy.engine.data.Unit;
+import games.strategy.engine.data.UnitType;
+
+@ExtendWith(MockitoExtension.class)
+public final class UndoDependencyIndexTest {
+  @Mock
+  private GameData gameData;
+  private final UndoDependencyIndex index = new UndoDependencyIndex();
+  private Territory first;
+  private Territory second;
+  private Territory third;
+  private Unit infantry;
+  private Unit tank;
+  private Unit transport;
+
+  @BeforeEach
+  public void setUp() {
+    first = new Territory("first", gameData);
+    second = new Territory("second", gameData);
+    third = new Territory("third", gameData);
+    final PlayerID player = new PlayerID("player", gameData);
+    final UnitType unitType = new UnitType("unitType", gameData);
+    infantry = new Unit(unitType, player, gameData);
+    tank = new Unit(unitType, player, gameData);
+    transport = new Unit(unitType, player, gameData);
+  }
+
+  private static UndoableMove newMove(final Route route, final Unit... units) {
+    return new UndoableMove(Arrays.asList(units), route);
+  }
+
+  @Test
+  public void getMovesDependedOnBy_ShouldFindMovesOfSameUnits() {
+    final UndoableMove infantryMove = newMove(new Route(first, second), infantry);
+    final UndoableMove tankMove = newMove(new Route(first, second), tank);
+    index.add(infantryMove);
+    index.add(tankMove);
+
+    assertThat(index.getMovesDependedOnBy(newMove(new Route(second, third), infantry)),
+        containsInAnyOrder(infantryMove));
+  }
+
+  @Test
+  public void getMovesDependedOnBy_ShouldFindMovesOfLoadedAndUnloadedTransports() {
+    final UndoableMove transportMove = newMove(new Route(first, second), transport);
+    final UndoableMove unloadMove = newMove(new Route(second, third), tank);
+    unloadMove.unload(transport);
+    index.add(transportMove);
+    index.add(unloadMove);
+
+    final UndoableMove loadMove = newMove(new Route(first, second), infantry);
+    loadMove.load(transport);
+    final UndoableMove secondUnloadMove = newMove(new Route(second, third), infantry);
+    secondUnloadMove.unload(transport);
+
+    assertThat(index.getMovesDependedOnBy(loadMove), containsInAnyOrder(transportMove));
+    assertThat(index.getMovesDependedOnBy(secondUnloadMove), containsInAnyOrder(transportMove, unloadMove));
+  }
+
+  @Test
+  public void getMovesDependedOnBy_ShouldFindMovesThatConqueredTerritoriesOnRoute() {
+    final UndoableMove conqueringMove = newMove(new Route(first, second), tank);
+    conqueringMove.addToConquered(second);
+    index.add(conqueringMove);
+
+    assertThat(index.getMovesDependedOnBy(newMove(new Route(second, third), infantry)),
+        containsInAnyOrder(conqueringMove));
+    assertThat(index.getMovesDependedOnBy(newMove(new Route(third, first), infantry)), is(empty()));
+  }
+
+  @Test
+  public void remove_ShouldRemoveMoveFromIndex() {
+    final UndoableMove infantryMove = newMove(new Route(first, second), infantry);
+    infantryMove.addToConquered(second);
+    index.add(infantryMove);
+
+    index.remove(infantryMove);
+
+    assertThat(index.getMovesDependedOnBy(newMove(new Route(second, third), infantry)), is(empty()));
+    assertThat(index.getMovesDependedOnBy(new UndoableMove(Collections.emptyList(), new Route(first, second))),
+        is(empty()));
+  }
+}
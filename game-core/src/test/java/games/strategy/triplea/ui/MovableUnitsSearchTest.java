@@ -0,0 +1,39 @@
+package games.strategy.triplea.ui;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.lessThanOrEqualTo;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+public final class MovableUnitsSearchTest {
+  @Test
+  public void indexOfLargestMovableSuffix_ShouldReturnSmallestMovableIndex() {
+    for (int size = 1; size <= 20; size++) {
+      for (int firstMovable = 1; firstMovable <= size; firstMovable++) {
+        final int expected = firstMovable;
+        final int finalSize = size;
+        final List<Integer> tested = new ArrayList<>();
+
+        final int index = MovableUnitsSearch.indexOfLargestMovableSuffix(size, i -> {
+          assertThat(0 < i && i < finalSize, is(true));
+          tested.add(i);
+          return i >= expected;
+        });
+
+        assertThat(index, is(expected));
+        assertThat(tested.size(), is(lessThanOrEqualTo(32 - Integer.numberOfLeadingZeros(size))));
+      }
+    }
+  }
+
+  @Test
+  public void indexOfLargestMovableSuffix_ShouldReturnSizeWhenNoUnitsCanMove() {
+    assertThat(MovableUnitsSearch.indexOfLargestMovableSuffix(0, i -> false), is(0));
+    assertThat(MovableUnitsSearch.indexOfLargestMovableSuffix(1, i -> false), is(1));
+    assertThat(MovableUnitsSearch.indexOfLargestMovableSuffix(100, i -> false), is(100));
+  }
+}
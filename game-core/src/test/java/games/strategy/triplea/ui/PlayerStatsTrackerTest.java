@@ -0,0 +1,99 @@
+package games.strategy.triplea.ui;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+
+import java.util.Collection;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import games.strategy.engine.data.GameData;
+import games.strategy.engine.data.PlayerID;
+import games.strategy.engine.data.Resource;
+import games.strategy.engine.data.Territory;
+import games.strategy.engine.data.Unit;
+import games.strategy.engine.data.changefactory.ChangeFactory;
+import games.strategy.triplea.Constants;
+import games.strategy.triplea.delegate.AbstractEndTurnDelegate;
+import games.strategy.triplea.xml.TestMapGameData;
+import games.strategy.util.IntegerMap;
+
+public final class PlayerStatsTrackerTest {
+  private GameData data;
+  private PlayerStatsTracker tracker;
+  private PlayerID germans;
+  private PlayerID russians;
+
+  @BeforeEach
+  public void setUp() throws Exception {
+    data = TestMapGameData.REVISED.getGameData();
+    tracker = new PlayerStatsTracker(data, true);
+    germans = data.getPlayerList().getPlayerId("Germans");
+    russians = data.getPlayerList().getPlayerId("Russians");
+  }
+
+  @AfterEach
+  public void tearDown() {
+    tracker.dispose();
+  }
+
+  private void assertTotalsMatchStats() {
+    final PlayerStatsTracker.Totals totals = tracker.update();
+    for (final PlayerID player : data.getPlayerList().getPlayers()) {
+      assertThat(player.getName(), (double) totals.getUnitCount(player),
+          is(new StatPanel.UnitsStat().getValue(player, data)));
+      assertThat(player.getName(), (double) totals.getTuv(player),
+          is(new StatPanel.TuvStat().getValue(player, data)));
+      assertThat(player.getName(), (double) totals.getProduction(player),
+          is(new StatPanel.ProductionStat().getValue(player, data)));
+      assertThat(player.getName(), (double) totals.getVictoryCities(player),
+          is(new StatPanel.VictoryCityStat().getValue(player, data)));
+      final IntegerMap<Resource> income = AbstractEndTurnDelegate.findEstimatedIncome(player, data);
+      for (final Resource resource : data.getResourceList().getResources()) {
+        assertThat(player.getName(), totals.getResourceQuantity(player, resource),
+            is(player.getResources().getQuantity(resource)));
+        assertThat(player.getName(), totals.getEstimatedIncome(player).getInt(resource), is(income.getInt(resource)));
+      }
+    }
+  }
+
+  @Test
+  public void update_ShouldMatchStatsComputedFromTerritories() {
+    assertTotalsMatchStats();
+  }
+
+  @Test
+  public void update_ShouldMatchStatsAfterUnitsChange() {
+    assertTotalsMatchStats();
+    final Territory germany = data.getMap().getTerritory("Germany");
+    final Territory russia = data.getMap().getTerritory("Russia");
+
+    data.performChange(ChangeFactory.addUnits(germany,
+        data.getUnitTypeList().getUnitType("armour").create(3, germans)));
+    final Collection<Unit> removed = russia.getUnits().getMatches(unit -> unit.getOwner().equals(russians));
+    data.performChange(ChangeFactory.removeUnits(russia, removed));
+
+    assertTotalsMatchStats();
+  }
+
+  @Test
+  public void update_ShouldMatchStatsAfterOwnerChanges() {
+    assertTotalsMatchStats();
+
+    data.performChange(ChangeFactory.changeOwner(data.getMap().getTerritory("Russia"), germans));
+
+    assertTotalsMatchStats();
+  }
+
+  @Test
+  public void update_ShouldMatchStatsAfterResourcesChange() {
+    assertTotalsMatchStats();
+
+    data.performChange(ChangeFactory.changeResourcesChange(germans,
+        data.getResourceList().getResource(Constants.PUS), 12));
+
+    assertTotalsMatchStats();
+  }
+}
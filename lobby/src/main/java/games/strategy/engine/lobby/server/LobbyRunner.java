@@ -3,6 +3,9 @@ package games.strategy.engine.lobby.server;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
+import games.strategy.engine.config.lobby.LobbyPropertyReader;
+import games.strategy.performance.MetricRegistry;
+import games.strategy.performance.MetricsEndpoint;
 import games.strategy.sound.ClipPlayer;
 
 /**
@@ -18,10 +21,16 @@ public class LobbyRunner {
   public static void main(final String[] args) {
     try {
       ClipPlayer.setBeSilentInPreferencesWithoutAffectingCurrent(true);
-      final int port = LobbyContext.lobbyPropertyReader().getPort();
+      final LobbyPropertyReader lobbyPropertyReader = LobbyContext.lobbyPropertyReader();
+      final int port = lobbyPropertyReader.getPort();
       logger.info("Trying to listen on port:" + port);
       new LobbyServer(port);
       logger.info("Lobby started");
+      final int metricsPort = lobbyPropertyReader.getMetricsPort();
+      if (metricsPort != 0) {
+        MetricsEndpoint.start(MetricRegistry.getInstance(), metricsPort);
+        logger.info("Serving metrics on port:" + metricsPort);
+      }
     } catch (final Exception ex) {
       logger.log(Level.SEVERE, ex.toString(), ex);
     }
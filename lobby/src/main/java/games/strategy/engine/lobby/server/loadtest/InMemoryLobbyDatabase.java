@@ -0,0 +1,249 @@
+package games.strategy.engine.lobby.server.loadtest;
+
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import javax.annotation.Nullable;
+import javax.annotation.concurrent.ThreadSafe;
+
+import org.mindrot.jbcrypt.BCrypt;
+
+import games.strategy.engine.lobby.server.User;
+import games.strategy.engine.lobby.server.db.AccessLogDao;
+import games.strategy.engine.lobby.server.db.BadWordDao;
+import games.strategy.engine.lobby.server.db.BannedMacDao;
+import games.strategy.engine.lobby.server.db.BannedUsernameDao;
+import games.strategy.engine.lobby.server.db.HashedPassword;
+import games.strategy.engine.lobby.server.db.LobbyDatabase;
+import games.strategy.engine.lobby.server.db.MutedMacDao;
+import games.strategy.engine.lobby.server.db.MutedUsernameDao;
+import games.strategy.engine.lobby.server.db.UserDao;
+import games.strategy.engine.lobby.server.login.RsaAuthenticator;
+import games.strategy.engine.lobby.server.login.UserType;
+import games.strategy.engine.lobby.server.userDB.DBUser;
+import games.strategy.util.Md5Crypt;
+import games.strategy.util.Tuple;
+
+/**
+ * A stand-in for the lobby database that keeps the users, bad words, bans and mutes in memory and does not record the
+ * logins.
+ *
+ * <p>
+ * The registered users all have the same password, hashed with both BCrypt and the legacy MD5 crypt, as users who
+ * logged in since the migration to BCrypt have in the database, so a login does the same hashing work as in a real
+ * lobby.
+ * </p>
+ */
+@ThreadSafe
+final class InMemoryLobbyDatabase implements UserDao, BadWordDao, BannedMacDao, BannedUsernameDao, MutedUsernameDao,
+    MutedMacDao, AccessLogDao {
+  private final Map<String, UserRecord> users = new ConcurrentHashMap<>();
+  private final Set<String> badWords = ConcurrentHashMap.newKeySet();
+  // the instant until which each ban or mute lasts, Instant.MAX if it does not expire
+  private final Map<String, Instant> bannedMacs = new ConcurrentHashMap<>();
+  private final Map<String, Instant> bannedUsernames = new ConcurrentHashMap<>();
+  private final Map<String, Instant> mutedUsernames = new ConcurrentHashMap<>();
+  private final Map<String, Instant> mutedMacs = new ConcurrentHashMap<>();
+
+  private static final class UserRecord {
+    final DBUser user;
+    final String legacyPassword;
+    final @Nullable String bcryptPassword;
+
+    UserRecord(final DBUser user, final String legacyPassword, final @Nullable String bcryptPassword) {
+      this.user = user;
+      this.legacyPassword = legacyPassword;
+      this.bcryptPassword = bcryptPassword;
+    }
+  }
+
+  /**
+   * Creates a database with the specified number of registered users, named by {@link #getUsername(int)}.
+   */
+  InMemoryLobbyDatabase(final int userCount, final String password) {
+    // the lobby stored passwords as MD5-crypt hashes before the migration to BCrypt
+    final String legacyPassword = Md5Crypt.hash(password, Md5Crypt.newSalt());
+    // the client sends a hash of the password, which is what the lobby stores with BCrypt
+    final String bcryptPassword = BCrypt.hashpw(RsaAuthenticator.hashPasswordWithSalt(password), BCrypt.gensalt());
+    for (int i = 0; i < userCount; i++) {
+      final String username = getUsername(i);
+      users.put(username.toUpperCase(), new UserRecord(
+          new DBUser(new DBUser.UserName(username), new DBUser.UserEmail(username + "@example.com")),
+          legacyPassword,
+          bcryptPassword));
+    }
+  }
+
+  static String getUsername(final int index) {
+    return "load_test_" + index;
+  }
+
+  LobbyDatabase asLobbyDatabase() {
+    return LobbyDatabase.builder()
+        .accessLogDao(this)
+        .badWordDao(this)
+        .bannedMacDao(this)
+        .bannedUsernameDao(this)
+        .mutedMacDao(this)
+        .mutedUsernameDao(this)
+        .userDao(this)
+        .build();
+  }
+
+  private @Nullable UserRecord getUser(final String username) {
+    return users.get(username.toUpperCase());
+  }
+
+  @Override
+  public @Nullable HashedPassword getPassword(final String username) {
+    final @Nullable UserRecord record = getUser(username);
+    if (record == null) {
+      return null;
+    }
+    return new HashedPassword((record.bcryptPassword != null) ? record.bcryptPassword : record.legacyPassword);
+  }
+
+  @Override
+  public @Nullable HashedPassword getLegacyPassword(final String username) {
+    final @Nullable UserRecord record = getUser(username);
+    return (record == null) ? null : new HashedPassword(record.legacyPassword);
+  }
+
+  @Override
+  public boolean doesUserExist(final String username) {
+    return getUser(username) != null;
+  }
+
+  @Override
+  public void updateUser(final DBUser user, final HashedPassword password) {
+    users.computeIfPresent(user.getName().toUpperCase(), (key, record) -> password.isBcrypted()
+        ? new UserRecord(user, record.legacyPassword, password.value)
+        : new UserRecord(user, password.value, null));
+  }
+
+  @Override
+  public void createUser(final DBUser user, final HashedPassword password) {
+    users.putIfAbsent(user.getName().toUpperCase(), password.isBcrypted()
+        ? new UserRecord(user, "", password.value)
+        : new UserRecord(user, password.value, null));
+  }
+
+  @Override
+  public boolean login(final String username, final HashedPassword password) {
+    final @Nullable UserRecord record = getUser(username);
+    if (record == null) {
+      return false;
+    }
+    if (password.isHashedWithSalt()) {
+      return record.legacyPassword.equals(password.value);
+    }
+    return record.bcryptPassword != null && BCrypt.checkpw(password.value, record.bcryptPassword);
+  }
+
+  @Override
+  public @Nullable DBUser getUserByName(final String username) {
+    final @Nullable UserRecord record = getUser(username);
+    return (record == null) ? null : record.user;
+  }
+
+  @Override
+  public void addBadWord(final String word) {
+    badWords.add(word);
+  }
+
+  @Override
+  public List<String> list() {
+    return new ArrayList<>(badWords);
+  }
+
+  /**
+   * Adds a ban or mute lasting until the specified instant, or removes it if the instant has passed, like the lobby
+   * database does.
+   */
+  private static void put(final Map<String, Instant> entries, final String key, final @Nullable Instant till) {
+    if (till != null && till.isBefore(Instant.now())) {
+      entries.remove(key);
+    } else {
+      entries.put(key, (till == null) ? Instant.MAX : till);
+    }
+  }
+
+  /**
+   * Returns the instant until which the specified ban or mute lasts, or {@code null} if there is none or it expired.
+   */
+  private static @Nullable Instant get(final Map<String, Instant> entries, final String key) {
+    final @Nullable Instant till = entries.get(key);
+    if (till != null && till.isBefore(Instant.now())) {
+      entries.remove(key, till);
+      return null;
+    }
+    return till;
+  }
+
+  private static Tuple<Boolean, Timestamp> getBan(final Map<String, Instant> bans, final String key) {
+    final @Nullable Instant banTill = get(bans, key);
+    if (banTill == null) {
+      return Tuple.of(false, null);
+    }
+    return Tuple.of(true, Instant.MAX.equals(banTill) ? null : Timestamp.from(banTill));
+  }
+
+  @Override
+  public void addBannedMac(final User bannedUser, final @Nullable Instant banTill, final User moderator) {
+    put(bannedMacs, bannedUser.getHashedMacAddress(), banTill);
+  }
+
+  @Override
+  public Tuple<Boolean, Timestamp> isMacBanned(final String mac) {
+    return getBan(bannedMacs, mac);
+  }
+
+  @Override
+  public void addBannedUsername(final User bannedUser, final @Nullable Instant banTill, final User moderator) {
+    put(bannedUsernames, bannedUser.getUsername(), banTill);
+  }
+
+  @Override
+  public Tuple<Boolean, Timestamp> isUsernameBanned(final String username) {
+    return getBan(bannedUsernames, username);
+  }
+
+  @Override
+  public void addMutedUsername(final User mutedUser, final @Nullable Instant muteTill, final User moderator) {
+    put(mutedUsernames, mutedUser.getUsername(), muteTill);
+  }
+
+  @Override
+  public boolean isUsernameMuted(final String username) {
+    return getUsernameUnmuteTime(username).isPresent();
+  }
+
+  @Override
+  public Optional<Instant> getUsernameUnmuteTime(final String username) {
+    return Optional.ofNullable(get(mutedUsernames, username));
+  }
+
+  @Override
+  public void addMutedMac(final User mutedUser, final @Nullable Instant muteTill, final User moderator) {
+    put(mutedMacs, mutedUser.getHashedMacAddress(), muteTill);
+  }
+
+  @Override
+  public boolean isMacMuted(final String mac) {
+    return getMacUnmuteTime(mac).isPresent();
+  }
+
+  @Override
+  public Optional<Instant> getMacUnmuteTime(final String mac) {
+    return Optional.ofNullable(get(mutedMacs, mac));
+  }
+
+  @Override
+  public void insert(final User user, final UserType userType) {}
+}
@@ -0,0 +1,81 @@
+package games.strategy.engine.lobby.server.loadtest;
+
+import java.util.concurrent.atomic.LongAdder;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import javax.annotation.concurrent.ThreadSafe;
+
+import games.strategy.performance.LatencyHistogram;
+
+/**
+ * The latencies and counts recorded by the simulated clients of a load test.
+ */
+@ThreadSafe
+final class LoadStatistics {
+  private static final Logger logger = Logger.getLogger(LoadStatistics.class.getName());
+
+  private final LatencyHistogram loginLatency = new LatencyHistogram();
+  private final LatencyHistogram chatFanOutLatency = new LatencyHistogram();
+  private final LatencyHistogram gameFanOutLatency = new LatencyHistogram();
+  private final LongAdder loginFailures = new LongAdder();
+  private final LongAdder chatsSent = new LongAdder();
+  private final LongAdder gameUpdatesSent = new LongAdder();
+  private final LongAdder errors = new LongAdder();
+
+  /**
+   * The time from opening a connection to the lobby until the login is accepted.
+   */
+  LatencyHistogram getLoginLatency() {
+    return loginLatency;
+  }
+
+  /**
+   * The time from a client sending a chat message until another client receives it.
+   */
+  LatencyHistogram getChatFanOutLatency() {
+    return chatFanOutLatency;
+  }
+
+  /**
+   * The time from a hosting client updating its game until another client receives the update, including the time the
+   * lobby holds the update to coalesce it with other updates.
+   */
+  LatencyHistogram getGameFanOutLatency() {
+    return gameFanOutLatency;
+  }
+
+  void loginFailed(final Exception e) {
+    loginFailures.increment();
+    logger.log(Level.FINE, "Login failed", e);
+  }
+
+  long getLoginFailures() {
+    return loginFailures.sum();
+  }
+
+  void chatSent() {
+    chatsSent.increment();
+  }
+
+  long getChatsSent() {
+    return chatsSent.sum();
+  }
+
+  void gameUpdateSent() {
+    gameUpdatesSent.increment();
+  }
+
+  long getGameUpdatesSent() {
+    return gameUpdatesSent.sum();
+  }
+
+  void failed(final Exception e) {
+    errors.increment();
+    logger.log(Level.FINE, "Simulated client failed", e);
+  }
+
+  long getErrors() {
+    return errors.sum();
+  }
+}
@@ -0,0 +1,147 @@
+package games.strategy.engine.lobby.server.loadtest;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.lang.management.ManagementFactory;
+import java.lang.management.OperatingSystemMXBean;
+import java.util.Locale;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import javax.annotation.Nullable;
+import javax.annotation.concurrent.Immutable;
+
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+
+import games.strategy.engine.config.lobby.LobbyPropertyReader;
+import games.strategy.engine.lobby.server.LobbyServer;
+import games.strategy.net.ServerMessenger;
+
+/**
+ * Runs a lobby against an {@link InMemoryLobbyDatabase} in this JVM for a load test.
+ *
+ * <p>
+ * The lobby listens on a free port, which is written to standard output, followed by a {@link Sample} of the resources
+ * used by this JVM every second. The lobby is shut down when standard input is closed.
+ * </p>
+ */
+final class LoadTestServer {
+  private static final String LISTENING = "LISTENING";
+  private static final String SAMPLE = "SAMPLE";
+
+  private LoadTestServer() {}
+
+  /**
+   * Runs the lobby until standard input is closed.
+   *
+   * @param userCount The number of registered users in the database.
+   * @param password The password of every registered user.
+   */
+  static void run(final int userCount, final String password) throws IOException {
+    final ServerMessenger messenger = start(userCount, password);
+    final PrintStream out = System.out;
+    out.println(LISTENING + " " + messenger.getLocalNode().getPort());
+    out.flush();
+    final ScheduledExecutorService sampler = Executors.newSingleThreadScheduledExecutor(
+        new ThreadFactoryBuilder().setNameFormat("Load test sampler").setDaemon(true).build());
+    sampler.scheduleAtFixedRate(() -> {
+      out.println(Sample.take(messenger).toLine());
+      out.flush();
+    }, 1, 1, TimeUnit.SECONDS);
+
+    while (System.in.read() != -1) {
+      // wait for the load test to end
+    }
+    sampler.shutdownNow();
+    messenger.shutDown();
+  }
+
+  /**
+   * Opens a lobby on a free port against a new {@link InMemoryLobbyDatabase}.
+   *
+   * @param userCount The number of registered users in the database.
+   * @param password The password of every registered user.
+   *
+   * @return The messenger of the lobby, which is shut down to close the lobby.
+   */
+  static ServerMessenger start(final int userCount, final String password) throws IOException {
+    final InMemoryLobbyDatabase database = new InMemoryLobbyDatabase(userCount, password);
+    final ServerMessenger messenger = new ServerMessenger(LobbyServer.ADMIN_USERNAME, 0);
+    new LobbyServer(messenger, LobbyPropertyReader.withDefaults(), database.asLobbyDatabase());
+    return messenger;
+  }
+
+  /**
+   * Returns the port the lobby listens on if the specified line of the output of the lobby announces it.
+   */
+  static @Nullable Integer parsePort(final String line) {
+    return line.startsWith(LISTENING + " ") ? Integer.valueOf(line.substring(LISTENING.length() + 1).trim()) : null;
+  }
+
+  /**
+   * The resources used by the lobby JVM at one instant.
+   */
+  @Immutable
+  static final class Sample {
+    final long processCpuNanos;
+    final double processCpuLoad;
+    final long heapUsedBytes;
+    final int decodeQueueDepth;
+    final int writeQueueDepth;
+    final int connectionCount;
+
+    @VisibleForTesting
+    Sample(final long processCpuNanos, final double processCpuLoad, final long heapUsedBytes,
+        final int decodeQueueDepth, final int writeQueueDepth, final int connectionCount) {
+      this.processCpuNanos = processCpuNanos;
+      this.processCpuLoad = processCpuLoad;
+      this.heapUsedBytes = heapUsedBytes;
+      this.decodeQueueDepth = decodeQueueDepth;
+      this.writeQueueDepth = writeQueueDepth;
+      this.connectionCount = connectionCount;
+    }
+
+    private static Sample take(final ServerMessenger messenger) {
+      final OperatingSystemMXBean operatingSystemMxBean = ManagementFactory.getOperatingSystemMXBean();
+      long processCpuNanos = -1;
+      double processCpuLoad = -1;
+      if (operatingSystemMxBean instanceof com.sun.management.OperatingSystemMXBean) {
+        processCpuNanos = ((com.sun.management.OperatingSystemMXBean) operatingSystemMxBean).getProcessCpuTime();
+        processCpuLoad = ((com.sun.management.OperatingSystemMXBean) operatingSystemMxBean).getProcessCpuLoad();
+      }
+      return new Sample(
+          processCpuNanos,
+          processCpuLoad,
+          ManagementFactory.getMemoryMXBean().getHeapMemoryUsage().getUsed(),
+          messenger.getDecodeStatistics().getQueueDepth(),
+          messenger.getWriteQueueDepth(),
+          messenger.getNodes().size() - 1);
+    }
+
+    @VisibleForTesting
+    String toLine() {
+      return String.format(Locale.ROOT, "%s %d %.4f %d %d %d %d", SAMPLE, processCpuNanos, processCpuLoad,
+          heapUsedBytes, decodeQueueDepth, writeQueueDepth, connectionCount);
+    }
+
+    /**
+     * Returns the sample written to the specified line of the output of the lobby, or {@code null} if the line is not
+     * a sample.
+     */
+    static @Nullable Sample parse(final String line) {
+      final String[] fields = line.split(" ");
+      if (fields.length != 7 || !SAMPLE.equals(fields[0])) {
+        return null;
+      }
+      return new Sample(
+          Long.parseLong(fields[1]),
+          Double.parseDouble(fields[2]),
+          Long.parseLong(fields[3]),
+          Integer.parseInt(fields[4]),
+          Integer.parseInt(fields[5]),
+          Integer.parseInt(fields[6]));
+    }
+  }
+}
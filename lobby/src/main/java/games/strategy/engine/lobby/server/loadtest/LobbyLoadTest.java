@@ -0,0 +1,375 @@
+package games.strategy.engine.lobby.server.loadtest;
+
+import static com.google.common.base.Preconditions.checkArgument;
+
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Random;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import javax.annotation.Nullable;
+import javax.annotation.concurrent.GuardedBy;
+
+import org.apache.commons.cli.CommandLine;
+import org.apache.commons.cli.DefaultParser;
+import org.apache.commons.cli.HelpFormatter;
+import org.apache.commons.cli.Option;
+import org.apache.commons.cli.Options;
+import org.apache.commons.cli.ParseException;
+
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+
+import games.strategy.engine.framework.ProcessRunnerUtil;
+import games.strategy.performance.LatencyHistogram;
+
+/**
+ * Measures how many users and hosted games a lobby sustains by running a lobby against an in-memory database stand-in
+ * and connecting a number of simulated clients to it.
+ *
+ * <p>
+ * The lobby runs in its own JVM, so the CPU and heap it uses are not mixed with those of the clients. The clients log
+ * in as registered users (or anonymously), join the lobby chat and list the games, then chat, update the games a share
+ * of them host, and reconnect at the requested intervals. Once the test ends, a report of the login latency, the
+ * latency of the chat messages and game updates fanned out to the other clients, and the CPU, heap and NIO queue
+ * depths of the lobby is printed.
+ * </p>
+ *
+ * <p>
+ * The clients share one JVM and thus the threads delivering remote calls to them, so the fan-out latencies include the
+ * time a message waits for such a thread; when they grow with the number of clients while the queue depths of the
+ * lobby stay low, the clients rather than the lobby are saturated.
+ * </p>
+ *
+ * <p>
+ * Example: {@code java -cp <classpath> games.strategy.engine.lobby.server.loadtest.LobbyLoadTest --clients 300
+ * --duration 120 --churn-interval 30000}
+ * </p>
+ */
+public final class LobbyLoadTest {
+  private static final Logger logger = Logger.getLogger(LobbyLoadTest.class.getName());
+
+  private static final String CLIENTS_OPTION = "clients";
+  private static final String HOSTS_OPTION = "hosts";
+  private static final String DURATION_OPTION = "duration";
+  private static final String CHAT_INTERVAL_OPTION = "chat-interval";
+  private static final String GAME_UPDATE_INTERVAL_OPTION = "game-update-interval";
+  private static final String CHURN_INTERVAL_OPTION = "churn-interval";
+  private static final String LOGIN_THREADS_OPTION = "login-threads";
+  private static final String ANONYMOUS_OPTION = "anonymous";
+  // used by the load test to have the lobby run by a new JVM
+  private static final String SERVER_OPTION = "server";
+
+  private static final String PASSWORD = "load-test-password";
+  private static final long SERVER_START_TIMEOUT_SECONDS = 60;
+  private static final long DRAIN_MILLIS = 2000;
+
+  private final int clientCount;
+  private final int hostCount;
+  private final long durationSeconds;
+  private final long chatIntervalMillis;
+  private final long gameUpdateIntervalMillis;
+  private final long churnIntervalMillis;
+  private final int loginThreads;
+  private final boolean anonymous;
+  private final LoadStatistics statistics = new LoadStatistics();
+  private final Random random = new Random();
+  @GuardedBy("samples")
+  private final List<LoadTestServer.Sample> samples = new ArrayList<>();
+
+  private LobbyLoadTest(final CommandLine commandLine) {
+    clientCount = Integer.parseInt(commandLine.getOptionValue(CLIENTS_OPTION, "200"));
+    hostCount = Integer.parseInt(commandLine.getOptionValue(HOSTS_OPTION, String.valueOf(clientCount / 10)));
+    durationSeconds = Long.parseLong(commandLine.getOptionValue(DURATION_OPTION, "60"));
+    chatIntervalMillis = Long.parseLong(commandLine.getOptionValue(CHAT_INTERVAL_OPTION, "10000"));
+    gameUpdateIntervalMillis = Long.parseLong(commandLine.getOptionValue(GAME_UPDATE_INTERVAL_OPTION, "2000"));
+    churnIntervalMillis = Long.parseLong(commandLine.getOptionValue(CHURN_INTERVAL_OPTION, "60000"));
+    loginThreads = Integer.parseInt(commandLine.getOptionValue(LOGIN_THREADS_OPTION, "16"));
+    anonymous = commandLine.hasOption(ANONYMOUS_OPTION);
+
+    checkArgument(clientCount > 0, "number of clients must be positive");
+    checkArgument(hostCount >= 0 && hostCount <= clientCount, "number of hosts must be in [0, clients]");
+    checkArgument(durationSeconds > 0, "duration must be positive");
+    checkArgument(chatIntervalMillis > 0, "chat interval must be positive");
+    checkArgument(gameUpdateIntervalMillis > 0, "game update interval must be positive");
+    checkArgument(churnIntervalMillis >= 0, "churn interval must not be negative");
+    checkArgument(loginThreads > 0, "number of login threads must be positive");
+  }
+
+  /**
+   * Runs a load test as specified by the command line arguments.
+   */
+  public static void main(final String[] args) {
+    final Options options = getOptions();
+    final CommandLine commandLine;
+    try {
+      commandLine = new DefaultParser().parse(options, args);
+    } catch (final ParseException e) {
+      System.err.println(e.getMessage());
+      new HelpFormatter().printHelp(LobbyLoadTest.class.getName(), options, true);
+      System.exit(1);
+      return;
+    }
+
+    try {
+      final LobbyLoadTest loadTest = new LobbyLoadTest(commandLine);
+      if (commandLine.hasOption(SERVER_OPTION)) {
+        LoadTestServer.run(loadTest.clientCount, PASSWORD);
+      } else {
+        loadTest.run();
+      }
+    } catch (final Exception e) {
+      logger.log(Level.SEVERE, "Lobby load test failed", e);
+      System.exit(1);
+    }
+    // the messengers leave threads running that would keep this JVM alive
+    System.exit(0);
+  }
+
+  private static Options getOptions() {
+    final Options options = new Options();
+    options.addOption(Option.builder().longOpt(CLIENTS_OPTION).hasArg().argName("count")
+        .desc("the number of simulated clients (default: 200)").build());
+    options.addOption(Option.builder().longOpt(HOSTS_OPTION).hasArg().argName("count")
+        .desc("the number of clients hosting a game (default: a tenth of the clients)").build());
+    options.addOption(Option.builder().longOpt(DURATION_OPTION).hasArg().argName("seconds")
+        .desc("how long the clients chat and update games once logged in (default: 60)").build());
+    options.addOption(Option.builder().longOpt(CHAT_INTERVAL_OPTION).hasArg().argName("millis")
+        .desc("the interval between two chat messages of a client (default: 10000)").build());
+    options.addOption(Option.builder().longOpt(GAME_UPDATE_INTERVAL_OPTION).hasArg().argName("millis")
+        .desc("the interval between two updates of a hosted game (default: 2000)").build());
+    options.addOption(Option.builder().longOpt(CHURN_INTERVAL_OPTION).hasArg().argName("millis")
+        .desc("the interval between two reconnections of a client, 0 to never reconnect (default: 60000)").build());
+    options.addOption(Option.builder().longOpt(LOGIN_THREADS_OPTION).hasArg().argName("count")
+        .desc("the number of clients logging in at once when the test starts (default: 16)").build());
+    options.addOption(Option.builder().longOpt(ANONYMOUS_OPTION)
+        .desc("log in anonymously rather than as registered users").build());
+    options.addOption(Option.builder().longOpt(SERVER_OPTION).build());
+    return options;
+  }
+
+  private void run() throws IOException, InterruptedException, TimeoutException {
+    final File logFile = Files.createTempFile("triplea-lobby-load-test", ".log").toFile();
+    System.out.println("Starting lobby, log in " + logFile);
+    final Process server = startServer(logFile);
+    try {
+      final int port = readPort(server);
+      final List<SimulatedClient> clients = newClients(port);
+
+      System.out.println("Logging in " + clientCount + " clients");
+      final long loginStart = System.nanoTime();
+      logIn(clients);
+      final long loginMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - loginStart);
+      System.out.println("Logged in " + clients.stream().filter(SimulatedClient::isConnected).count()
+          + " clients in " + loginMillis + " ms, running for " + durationSeconds + " s");
+
+      final int firstSample = getSampleCount();
+      simulate(clients);
+      final List<LoadTestServer.Sample> steadySamples = getSamples(firstSample);
+      clients.forEach(SimulatedClient::disconnect);
+
+      System.out.println(getReport(loginMillis, steadySamples));
+      System.out.println("Tested lobby log in " + logFile);
+    } finally {
+      server.getOutputStream().close();
+      if (!server.waitFor(10, TimeUnit.SECONDS)) {
+        server.destroyForcibly();
+      }
+    }
+  }
+
+  private Process startServer(final File logFile) throws IOException {
+    final List<String> commands = new ArrayList<>();
+    ProcessRunnerUtil.populateBasicJavaArgs(commands);
+    commands.add(LobbyLoadTest.class.getName());
+    commands.add("--" + SERVER_OPTION);
+    commands.add("--" + CLIENTS_OPTION);
+    commands.add(String.valueOf(clientCount));
+    return new ProcessBuilder(commands)
+        .redirectError(logFile)
+        .start();
+  }
+
+  /**
+   * Returns the port the lobby listens on and keeps reading the samples it writes in the background.
+   */
+  private int readPort(final Process server) throws InterruptedException, TimeoutException {
+    final CompletableFuture<Integer> port = new CompletableFuture<>();
+    final Thread reader = new Thread(() -> {
+      try (BufferedReader in =
+          new BufferedReader(new InputStreamReader(server.getInputStream(), StandardCharsets.UTF_8))) {
+        String line;
+        while ((line = in.readLine()) != null) {
+          final @Nullable Integer listeningPort = LoadTestServer.parsePort(line);
+          final @Nullable LoadTestServer.Sample sample = LoadTestServer.Sample.parse(line);
+          if (listeningPort != null) {
+            port.complete(listeningPort);
+          } else if (sample != null) {
+            synchronized (samples) {
+              samples.add(sample);
+            }
+          }
+        }
+      } catch (final IOException e) {
+        logger.log(Level.FINE, "Failed to read lobby output", e);
+      }
+      port.completeExceptionally(new IllegalStateException("Lobby exited before listening"));
+    }, "Load test lobby output");
+    reader.setDaemon(true);
+    reader.start();
+    try {
+      return port.get(SERVER_START_TIMEOUT_SECONDS, TimeUnit.SECONDS);
+    } catch (final ExecutionException e) {
+      throw new IllegalStateException("Failed to start lobby", e.getCause());
+    }
+  }
+
+  private int getSampleCount() {
+    synchronized (samples) {
+      return samples.size();
+    }
+  }
+
+  private List<LoadTestServer.Sample> getSamples(final int fromIndex) {
+    synchronized (samples) {
+      return new ArrayList<>(samples.subList(Math.min(fromIndex, samples.size()), samples.size()));
+    }
+  }
+
+  private List<SimulatedClient> newClients(final int port) {
+    final List<SimulatedClient> clients = new ArrayList<>(clientCount);
+    for (int i = 0; i < clientCount; i++) {
+      clients.add(new SimulatedClient("localhost", port, i,
+          anonymous ? "load_guest_" + i : InMemoryLobbyDatabase.getUsername(i),
+          anonymous ? null : PASSWORD,
+          i < hostCount,
+          statistics));
+    }
+    return clients;
+  }
+
+  private void logIn(final List<SimulatedClient> clients) throws InterruptedException {
+    final ExecutorService executor = Executors.newFixedThreadPool(loginThreads,
+        new ThreadFactoryBuilder().setNameFormat("Load test login %d").setDaemon(true).build());
+    clients.forEach(client -> executor.execute(() -> runSafely(client::connect)));
+    executor.shutdown();
+    executor.awaitTermination(Long.MAX_VALUE, TimeUnit.NANOSECONDS);
+  }
+
+  private void simulate(final List<SimulatedClient> clients) throws InterruptedException {
+    final ScheduledExecutorService executor = Executors.newScheduledThreadPool(
+        Math.max(4, 2 * Runtime.getRuntime().availableProcessors()),
+        new ThreadFactoryBuilder().setNameFormat("Load test client %d").setDaemon(true).build());
+    for (final SimulatedClient client : clients) {
+      executor.scheduleAtFixedRate(() -> runSafely(client::chat),
+          nextDelay(chatIntervalMillis), chatIntervalMillis, TimeUnit.MILLISECONDS);
+      executor.scheduleAtFixedRate(() -> runSafely(client::updateGame),
+          nextDelay(gameUpdateIntervalMillis), gameUpdateIntervalMillis, TimeUnit.MILLISECONDS);
+      if (churnIntervalMillis > 0) {
+        executor.scheduleWithFixedDelay(() -> runSafely(() -> {
+          client.disconnect();
+          client.connect();
+        }), nextDelay(churnIntervalMillis), churnIntervalMillis, TimeUnit.MILLISECONDS);
+      }
+    }
+    Thread.sleep(TimeUnit.SECONDS.toMillis(durationSeconds));
+    // cancels the periodic actions but lets those running, e.g. a login, complete
+    executor.shutdown();
+    executor.awaitTermination(30, TimeUnit.SECONDS);
+    // let the messages in flight, and the game updates held by the lobby, be delivered
+    Thread.sleep(DRAIN_MILLIS);
+  }
+
+  private long nextDelay(final long intervalMillis) {
+    return (long) (random.nextDouble() * intervalMillis);
+  }
+
+  private void runSafely(final Runnable action) {
+    try {
+      action.run();
+    } catch (final RuntimeException e) {
+      statistics.failed(e);
+    }
+  }
+
+  private String getReport(final long loginMillis, final List<LoadTestServer.Sample> steadySamples) {
+    final StringBuilder report = new StringBuilder();
+    report.append(String.format(Locale.ROOT, "%nLobby load test: %d %s clients, %d hosting a game, for %d s%n",
+        clientCount, anonymous ? "anonymous" : "registered", hostCount, durationSeconds));
+    report.append(String.format(Locale.ROOT, "Initial logins: %d ms (%.1f logins/s)%n",
+        loginMillis, clientCount * 1000.0 / Math.max(1, loginMillis)));
+    report.append(String.format(Locale.ROOT, "Logins: %d, %d failed%n",
+        statistics.getLoginLatency().getCount(), statistics.getLoginFailures()));
+    appendLatencies(report, "  login latency", statistics.getLoginLatency());
+    report.append(String.format(Locale.ROOT, "Chat: %d messages sent, %d delivered%n",
+        statistics.getChatsSent(), statistics.getChatFanOutLatency().getCount()));
+    appendLatencies(report, "  fan-out latency", statistics.getChatFanOutLatency());
+    report.append(String.format(Locale.ROOT, "Game updates: %d sent, %d delivered%n",
+        statistics.getGameUpdatesSent(), statistics.getGameFanOutLatency().getCount()));
+    appendLatencies(report, "  fan-out latency", statistics.getGameFanOutLatency());
+    report.append(String.format(Locale.ROOT, "Client errors: %d%n", statistics.getErrors()));
+    appendServerResources(report, steadySamples);
+    return report.toString();
+  }
+
+  private static void appendLatencies(final StringBuilder report, final String name,
+      final LatencyHistogram histogram) {
+    report.append(String.format(Locale.ROOT, "%s (ms): mean %.1f, p50 %.1f, p90 %.1f, p99 %.1f, max %.1f%n", name,
+        toMillis(histogram.getMean(TimeUnit.MICROSECONDS)),
+        toMillis(histogram.getPercentile(50, TimeUnit.MICROSECONDS)),
+        toMillis(histogram.getPercentile(90, TimeUnit.MICROSECONDS)),
+        toMillis(histogram.getPercentile(99, TimeUnit.MICROSECONDS)),
+        toMillis(histogram.getMax(TimeUnit.MICROSECONDS))));
+  }
+
+  private static double toMillis(final long micros) {
+    return micros / 1000.0;
+  }
+
+  private void appendServerResources(final StringBuilder report, final List<LoadTestServer.Sample> steadySamples) {
+    if (steadySamples.size() < 2) {
+      report.append(String.format(Locale.ROOT, "Lobby: no resource samples%n"));
+      return;
+    }
+    final LoadTestServer.Sample first = steadySamples.get(0);
+    final LoadTestServer.Sample last = steadySamples.get(steadySamples.size() - 1);
+    if (first.processCpuNanos >= 0) {
+      final double cpuSeconds = (last.processCpuNanos - first.processCpuNanos) / 1e9;
+      final double wallSeconds = steadySamples.size() - 1;
+      report.append(String.format(Locale.ROOT, "Lobby CPU: %.1f s over %.0f s (%.2f cores), peak %.1f%% of %d cores%n",
+          cpuSeconds, wallSeconds, cpuSeconds / wallSeconds,
+          100 * steadySamples.stream().mapToDouble(sample -> sample.processCpuLoad).max().orElse(0),
+          Runtime.getRuntime().availableProcessors()));
+    }
+    report.append(String.format(Locale.ROOT, "Lobby heap used (MB): mean %.1f, max %.1f%n",
+        toMegabytes(steadySamples.stream().mapToLong(sample -> sample.heapUsedBytes).average().orElse(0)),
+        toMegabytes(steadySamples.stream().mapToLong(sample -> sample.heapUsedBytes).max().orElse(0))));
+    report.append(String.format(Locale.ROOT, "Lobby decode queue (packets): mean %.1f, max %d%n",
+        steadySamples.stream().mapToInt(sample -> sample.decodeQueueDepth).average().orElse(0),
+        steadySamples.stream().mapToInt(sample -> sample.decodeQueueDepth).max().orElse(0)));
+    report.append(String.format(Locale.ROOT, "Lobby write queue (packets): mean %.1f, max %d%n",
+        steadySamples.stream().mapToInt(sample -> sample.writeQueueDepth).average().orElse(0),
+        steadySamples.stream().mapToInt(sample -> sample.writeQueueDepth).max().orElse(0)));
+    report.append(String.format(Locale.ROOT, "Lobby connections: min %d, max %d%n",
+        steadySamples.stream().mapToInt(sample -> sample.connectionCount).min().orElse(0),
+        steadySamples.stream().mapToInt(sample -> sample.connectionCount).max().orElse(0)));
+  }
+
+  private static double toMegabytes(final double bytes) {
+    return bytes / (1024 * 1024);
+  }
+}
@@ -0,0 +1,306 @@
+package games.strategy.engine.lobby.server.loadtest;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+
+import java.io.IOException;
+import java.time.Instant;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import javax.annotation.Nullable;
+import javax.annotation.concurrent.GuardedBy;
+import javax.annotation.concurrent.ThreadSafe;
+
+import games.strategy.engine.chat.ChatController;
+import games.strategy.engine.chat.IChatChannel;
+import games.strategy.engine.chat.IChatController;
+import games.strategy.engine.chat.IChatController.Tag;
+import games.strategy.engine.lobby.server.GameDescription;
+import games.strategy.engine.lobby.server.GameDescriptionDelta;
+import games.strategy.engine.lobby.server.ILobbyGameBroadcaster;
+import games.strategy.engine.lobby.server.ILobbyGameController;
+import games.strategy.engine.lobby.server.LobbyServer;
+import games.strategy.engine.lobby.server.login.LobbyLoginValidator;
+import games.strategy.engine.lobby.server.login.RsaAuthenticator;
+import games.strategy.engine.message.RemoteName;
+import games.strategy.net.ClientMessenger;
+import games.strategy.net.GUID;
+import games.strategy.net.INode;
+import games.strategy.net.MacFinder;
+import games.strategy.net.Messengers;
+import games.strategy.performance.LatencyHistogram;
+import games.strategy.util.Md5Crypt;
+
+/**
+ * A headless lobby client that logs in, chats and hosts a game like the lobby UI does, and records the latencies it
+ * observes.
+ *
+ * <p>
+ * The chat messages and game comments sent by the simulated clients carry the {@link System#nanoTime()} at which they
+ * were sent, so the clients, which all run in the same JVM, can tell how long the lobby took to deliver them.
+ * </p>
+ */
+@ThreadSafe
+final class SimulatedClient {
+  private static final String TIMESTAMP_PREFIX = "load test ";
+  private static final RemoteName CHAT_CHANNEL =
+      new RemoteName(ChatController.getChatChannelName(LobbyServer.LOBBY_CHAT), IChatChannel.class);
+
+  private final String host;
+  private final int port;
+  private final String username;
+  private final @Nullable String password;
+  private final String mac;
+  private final boolean hosting;
+  private final LoadStatistics statistics;
+  private final GUID gameId = new GUID();
+  @GuardedBy("this")
+  private @Nullable ClientMessenger messenger;
+  @GuardedBy("this")
+  private @Nullable Messengers messengers;
+  @GuardedBy("this")
+  private @Nullable GameDescription game;
+  @GuardedBy("this")
+  private int round;
+  @GuardedBy("games")
+  private final Map<GUID, GameDescription> games = new HashMap<>();
+
+  /**
+   * @param password The password of the registered user to log in as, or {@code null} to log in anonymously.
+   * @param hosting {@code true} if the client posts a game to the lobby and updates it.
+   */
+  SimulatedClient(final String host, final int port, final int index, final String username,
+      final @Nullable String password, final boolean hosting, final LoadStatistics statistics) {
+    checkNotNull(host);
+    checkNotNull(username);
+    checkNotNull(statistics);
+
+    this.host = host;
+    this.port = port;
+    this.username = username;
+    this.password = password;
+    this.hosting = hosting;
+    this.statistics = statistics;
+    mac = MacFinder.getHashedMacAddress(new byte[] {
+        0x02, 0x4c, 0x54, (byte) (index >>> 16), (byte) (index >>> 8), (byte) index});
+  }
+
+  synchronized boolean isConnected() {
+    return messenger != null && messenger.isConnected();
+  }
+
+  /**
+   * Logs in to the lobby, joins the lobby chat, lists the games and posts the game of a hosting client. Does nothing if
+   * the client is already connected.
+   */
+  synchronized void connect() {
+    if (isConnected()) {
+      return;
+    }
+    final long start = System.nanoTime();
+    final ClientMessenger newMessenger;
+    try {
+      newMessenger = new ClientMessenger(host, port, username, mac, this::getLoginProperties);
+    } catch (final IOException | RuntimeException e) {
+      statistics.loginFailed(e);
+      return;
+    }
+    statistics.getLoginLatency().record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+    messenger = newMessenger;
+    messengers = new Messengers(newMessenger);
+
+    messengers.getChannelMessenger().registerChannelSubscriber(chatChannel, CHAT_CHANNEL);
+    messengers.getChannelMessenger().registerChannelSubscriber(gameBroadcaster,
+        ILobbyGameBroadcaster.GAME_BROADCASTER_CHANNEL);
+    ((IChatController) messengers.getRemoteMessenger()
+        .getRemote(ChatController.getChatControlerRemoteName(LobbyServer.LOBBY_CHAT))).joinChat();
+    final Map<GUID, GameDescription> listedGames = getGameController().listGames();
+    synchronized (games) {
+      games.clear();
+      games.putAll(listedGames);
+    }
+    if (hosting) {
+      round = 0;
+      game = new GameDescription(newMessenger.getLocalNode(), 3300, Instant.now(), "Load Test",
+          8, GameDescription.GameStatus.WAITING_FOR_PLAYERS, "-", username, newTimestamp(), false, "1.9.0.0", "1");
+      getGameController().postGame(gameId, (GameDescription) game.clone());
+    }
+  }
+
+  private Map<String, String> getLoginProperties(final Map<String, String> challenge) {
+    final Map<String, String> response = new HashMap<>();
+    if (password == null) {
+      response.put(LobbyLoginValidator.ANONYMOUS_LOGIN, Boolean.TRUE.toString());
+    } else {
+      final String salt = challenge.getOrDefault(LobbyLoginValidator.SALT_KEY, Md5Crypt.newSalt());
+      // the legacy login protocol sends an MD5-crypt hash of the password
+      response.put(LobbyLoginValidator.HASHED_PASSWORD_KEY, Md5Crypt.hash(password, salt));
+      if (RsaAuthenticator.canProcessChallenge(challenge)) {
+        response.putAll(RsaAuthenticator.newResponse(challenge, password));
+      }
+    }
+    response.put(LobbyLoginValidator.LOBBY_VERSION, LobbyServer.LOBBY_VERSION.toString());
+    return response;
+  }
+
+  private ILobbyGameController getGameController() {
+    return (ILobbyGameController) messengers.getRemoteMessenger()
+        .getRemote(ILobbyGameController.GAME_CONTROLLER_REMOTE);
+  }
+
+  private static String newTimestamp() {
+    return TIMESTAMP_PREFIX + System.nanoTime();
+  }
+
+  private void recordLatency(final String message, final LatencyHistogram histogram) {
+    if (message != null && message.startsWith(TIMESTAMP_PREFIX)) {
+      final long sent = Long.parseLong(message.substring(TIMESTAMP_PREFIX.length()));
+      histogram.record(System.nanoTime() - sent, TimeUnit.NANOSECONDS);
+    }
+  }
+
+  /**
+   * Sends a message to the lobby chat. Does nothing if the client is not connected.
+   */
+  synchronized void chat() {
+    if (!isConnected()) {
+      return;
+    }
+    ((IChatChannel) messengers.getChannelMessenger().getChannelBroadcastor(CHAT_CHANNEL))
+        .chatOccured(newTimestamp());
+    statistics.chatSent();
+  }
+
+  /**
+   * Updates the game of a hosting client as a game does at each round. Does nothing if the client is not connected or
+   * does not host a game.
+   */
+  synchronized void updateGame() {
+    if (!isConnected() || game == null) {
+      return;
+    }
+    game.setStatus(GameDescription.GameStatus.IN_PROGRESS);
+    game.setRound(String.valueOf(++round));
+    game.setComment(newTimestamp());
+    getGameController().updateGame(gameId, (GameDescription) game.clone());
+    statistics.gameUpdateSent();
+  }
+
+  /**
+   * Disconnects from the lobby, which removes the game of a hosting client. Does nothing if the client is not
+   * connected.
+   */
+  synchronized void disconnect() {
+    if (messenger != null) {
+      messenger.shutDown();
+      messenger = null;
+      messengers = null;
+      game = null;
+    }
+  }
+
+  private final IChatChannel chatChannel = new IChatChannel() {
+    @Override
+    public void chatOccured(final String message) {
+      recordLatency(message, statistics.getChatFanOutLatency());
+    }
+
+    @Override
+    public void meMessageOccured(final String message) {}
+
+    @Override
+    public void slapOccured(final String playerName) {}
+
+    @Override
+    public void speakerAdded(final INode node, final Tag tag, final long version) {}
+
+    @Override
+    public void speakerRemoved(final INode node, final long version) {}
+
+    @Override
+    public void speakerTagUpdated(final INode node, final Tag tag) {}
+
+    @Override
+    public void ping() {}
+  };
+
+  private final ILobbyGameBroadcaster gameBroadcaster = new ILobbyGameBroadcaster() {
+    @Override
+    public void gameUpdated(final GUID gameId, final GameDescription description) {
+      gameReceived(gameId, description);
+    }
+
+    @Override
+    public void gamesUpdated(final List<GameDescriptionDelta> deltas) {
+      final Set<GUID> staleGames = new HashSet<>();
+      for (final GameDescriptionDelta delta : deltas) {
+        final @Nullable GameDescription base;
+        synchronized (games) {
+          base = games.get(delta.getGameId());
+        }
+        if (base != null && base.getVersion() >= delta.getVersion()) {
+          continue;
+        }
+        if (delta.canApplyTo(base)) {
+          gameReceived(delta.getGameId(), delta.applyTo(base));
+        } else {
+          staleGames.add(delta.getGameId());
+        }
+      }
+      if (!staleGames.isEmpty()) {
+        new Thread(() -> refreshGames(staleGames), "Refresh lobby games of " + username).start();
+      }
+    }
+
+    /**
+     * Gets the complete descriptions of games to whose description a delta could not be applied, like the lobby UI.
+     */
+    private void refreshGames(final Set<GUID> gameIds) {
+      final ILobbyGameController gameController;
+      synchronized (SimulatedClient.this) {
+        if (!isConnected()) {
+          return;
+        }
+        gameController = getGameController();
+      }
+      final Map<GUID, GameDescription> listedGames;
+      try {
+        listedGames = gameController.listGames();
+      } catch (final RuntimeException e) {
+        // the games are refreshed again when their next delta can not be applied either
+        return;
+      }
+      for (final GUID gameId : gameIds) {
+        final @Nullable GameDescription description = listedGames.get(gameId);
+        final @Nullable GameDescription base;
+        synchronized (games) {
+          base = games.get(gameId);
+        }
+        if (description != null && (base == null || base.getVersion() < description.getVersion())) {
+          gameReceived(gameId, description);
+        }
+      }
+    }
+
+    private void gameReceived(final GUID gameId, final GameDescription description) {
+      final @Nullable GameDescription previous;
+      synchronized (games) {
+        previous = games.put(gameId, description);
+      }
+      if (previous == null || !description.getComment().equals(previous.getComment())) {
+        recordLatency(description.getComment(), statistics.getGameFanOutLatency());
+      }
+    }
+
+    @Override
+    public void gameRemoved(final GUID gameId) {
+      synchronized (games) {
+        games.remove(gameId);
+      }
+    }
+  };
+}
@@ -0,0 +1,53 @@
+package games.strategy.engine.lobby.server.loadtest;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.nullValue;
+
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+public final class LoadTestServerTest {
+  @Nested
+  public final class ParsePortTest {
+    @Test
+    public void shouldReturnPortWhenLineAnnouncesIt() {
+      assertThat(LoadTestServer.parsePort("LISTENING 3304"), is(3304));
+    }
+
+    @Test
+    public void shouldReturnNullWhenLineDoesNotAnnounceIt() {
+      assertThat(LoadTestServer.parsePort("SAMPLE 1 0.5000 2 3 4 5"), is(nullValue()));
+    }
+  }
+
+  @Nested
+  public final class SampleTest {
+    @Test
+    public void parse_ShouldReturnSampleWrittenToLine() {
+      final LoadTestServer.Sample sample = new LoadTestServer.Sample(1_500_000_000L, 0.25, 64_000_000L, 3, 4, 300);
+
+      final LoadTestServer.Sample parsed = LoadTestServer.Sample.parse(sample.toLine());
+
+      assertThat(parsed.processCpuNanos, is(sample.processCpuNanos));
+      assertThat(parsed.processCpuLoad, is(sample.processCpuLoad));
+      assertThat(parsed.heapUsedBytes, is(sample.heapUsedBytes));
+      assertThat(parsed.decodeQueueDepth, is(sample.decodeQueueDepth));
+      assertThat(parsed.writeQueueDepth, is(sample.writeQueueDepth));
+      assertThat(parsed.connectionCount, is(sample.connectionCount));
+    }
+
+    @Test
+    public void parse_ShouldReturnNullWhenLineIsNotSample() {
+      assertThat(LoadTestServer.Sample.parse("LISTENING 3304"), is(nullValue()));
+      assertThat(LoadTestServer.Sample.parse("SAMPLE 1 2"), is(nullValue()));
+    }
+
+    @Test
+    public void toLine_ShouldNotDependOnDefaultLocale() {
+      final LoadTestServer.Sample sample = new LoadTestServer.Sample(1, 0.5, 2, 3, 4, 5);
+
+      assertThat(sample.toLine(), is("SAMPLE 1 0.5000 2 3 4 5"));
+    }
+  }
+}
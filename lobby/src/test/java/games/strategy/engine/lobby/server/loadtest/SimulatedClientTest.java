@@ -0,0 +1,76 @@
+package games.strategy.engine.lobby.server.loadtest;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.greaterThan;
+import static org.hamcrest.Matchers.is;
+
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import games.strategy.net.ServerMessenger;
+
+public final class SimulatedClientTest {
+  private static final String PASSWORD = "password";
+
+  private final LoadStatistics statistics = new LoadStatistics();
+  private ServerMessenger server;
+  private SimulatedClient host;
+  private SimulatedClient observer;
+
+  @BeforeEach
+  public void setUp() throws Exception {
+    server = LoadTestServer.start(2, PASSWORD);
+    final int port = server.getLocalNode().getPort();
+    host = new SimulatedClient("localhost", port, 0, InMemoryLobbyDatabase.getUsername(0), PASSWORD, true, statistics);
+    observer = new SimulatedClient("localhost", port, 1, "load_guest_1", null, false, statistics);
+  }
+
+  @AfterEach
+  public void tearDown() {
+    host.disconnect();
+    observer.disconnect();
+    server.shutDown();
+  }
+
+  private static void awaitPositive(final LongSupplier count) throws InterruptedException {
+    final long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+    while (count.getAsLong() == 0 && System.nanoTime() < deadline) {
+      Thread.sleep(50);
+    }
+  }
+
+  @Test
+  public void shouldLogInChatAndFanOutGameUpdates() throws Exception {
+    host.connect();
+    observer.connect();
+
+    assertThat(host.isConnected(), is(true));
+    assertThat(observer.isConnected(), is(true));
+    assertThat(statistics.getLoginFailures(), is(0L));
+    assertThat(statistics.getLoginLatency().getCount(), is(2L));
+
+    host.chat();
+    host.updateGame();
+    awaitPositive(statistics.getChatFanOutLatency()::getCount);
+    awaitPositive(statistics.getGameFanOutLatency()::getCount);
+
+    assertThat(statistics.getChatsSent(), is(1L));
+    assertThat(statistics.getGameUpdatesSent(), is(1L));
+    assertThat(statistics.getChatFanOutLatency().getCount(), is(greaterThan(0L)));
+    assertThat(statistics.getGameFanOutLatency().getCount(), is(greaterThan(0L)));
+    assertThat(statistics.getErrors(), is(0L));
+  }
+
+  @Test
+  public void disconnect_ShouldDisconnectFromLobby() {
+    host.connect();
+
+    host.disconnect();
+
+    assertThat(host.isConnected(), is(false));
+  }
+}